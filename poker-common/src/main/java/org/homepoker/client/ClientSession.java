@@ -0,0 +1,10 @@
+package org.homepoker.client;
+
+import org.homepoker.model.user.User;
+
+/**
+ * The result of logging in (or registering): the JWT used to authenticate REST calls and WebSocket connections, and
+ * the user it was issued to. Mirrors the server's authentication response.
+ */
+public record ClientSession(String token, User user) {
+}
@@ -0,0 +1,189 @@
+package org.homepoker.client;
+
+import org.homepoker.model.command.GameCommand;
+import org.homepoker.model.event.PokerEvent;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A WebSocket connection to one game ({@code /ws/games/{gameId}}), opened with {@link PokerClient#connect}.
+ * <p>
+ * Commands are pipelined: {@link #submit(GameCommand)} queues the frame behind any that are still being written and
+ * returns straight away, without waiting for the write (let alone the server's response). The server injects the
+ * authenticated user into every command, so the {@code user} a command is built with is never sent.
+ * <p>
+ * Incoming frames are reassembled, decoded into {@link PokerEvent}s and checked by a {@link SequenceTracker} before
+ * they reach the {@link GameEventHandler}. Events the stream has already moved past are dropped.
+ */
+public final class GameConnection implements AutoCloseable {
+
+  private final String gameId;
+  private final JsonMapper jsonMapper;
+  private final GameEventHandler handler;
+  private final SequenceTracker sequenceTracker = new SequenceTracker();
+  private final CompletableFuture<Void> closed = new CompletableFuture<>();
+  private final AtomicLong commandsSent = new AtomicLong();
+  private final AtomicLong eventsReceived = new AtomicLong();
+
+  private final Object sendLock = new Object();
+  private CompletableFuture<?> lastSend = CompletableFuture.completedFuture(null);
+  private volatile @Nullable WebSocket webSocket;
+
+  GameConnection(String gameId, JsonMapper jsonMapper, GameEventHandler handler) {
+    this.gameId = gameId;
+    this.jsonMapper = jsonMapper;
+    this.handler = handler;
+  }
+
+  public String gameId() {
+    return gameId;
+  }
+
+  /**
+   * Send a command to the game. The returned future completes once the frame has been written; it does not wait for
+   * the server to process the command.
+   *
+   * @throws IllegalArgumentException If the command is for another game (the server would reject it).
+   */
+  public CompletableFuture<Void> submit(GameCommand command) {
+    if (!gameId.equals(command.gameId())) {
+      throw new IllegalArgumentException("Command gameId [" + command.gameId() + "] does not match connection game [" + gameId + "]");
+    }
+    String json = jsonMapper.writeValueAsString(command);
+    synchronized (sendLock) {
+      WebSocket socket = openSocket();
+      // A WebSocket allows one outstanding write, so each frame waits for the one before it. A failed write is left
+      // for its own caller; the next one tries the socket again.
+      CompletableFuture<Void> send = lastSend
+          .handle((_, _) -> null)
+          .thenCompose(_ -> socket.sendText(json, true))
+          .thenRun(commandsSent::incrementAndGet);
+      lastSend = send;
+      return send;
+    }
+  }
+
+  /**
+   * The sequence numbers seen so far, and the gaps found in them.
+   */
+  public SequenceTracker sequenceTracker() {
+    return sequenceTracker;
+  }
+
+  public long commandsSent() {
+    return commandsSent.get();
+  }
+
+  public long eventsReceived() {
+    return eventsReceived.get();
+  }
+
+  /**
+   * Completes when the connection closes, exceptionally if it failed.
+   */
+  public CompletableFuture<Void> closed() {
+    return closed;
+  }
+
+  /**
+   * Close the connection once the commands already submitted have been written. Does not wait for the server.
+   */
+  @Override
+  public void close() {
+    synchronized (sendLock) {
+      WebSocket socket = openSocket();
+      lastSend = lastSend
+          .handle((_, _) -> null)
+          .thenCompose(_ -> socket.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+    }
+  }
+
+  /**
+   * Drop the connection without a closing handshake.
+   */
+  public void abort() {
+    openSocket().abort();
+    closed.complete(null);
+  }
+
+  WebSocket.Listener listener() {
+    return new Listener();
+  }
+
+  GameConnection opened(WebSocket socket) {
+    webSocket = socket;
+    return this;
+  }
+
+  private WebSocket openSocket() {
+    WebSocket socket = webSocket;
+    if (socket == null) {
+      throw new IllegalStateException("The connection to game [" + gameId + "] is not open.");
+    }
+    return socket;
+  }
+
+  private void dispatch(String text) {
+    eventsReceived.incrementAndGet();
+    PokerEvent event;
+    try {
+      event = jsonMapper.readValue(text, PokerEvent.class);
+    } catch (JacksonException e) {
+      handler.onError(new PokerClientException("Unable to decode an event from game [" + gameId + "]", e));
+      return;
+    }
+    try {
+      if (sequenceTracker.accept(event, handler::onGap)) {
+        handler.onEvent(event);
+      }
+    } catch (RuntimeException e) {
+      handler.onError(e);
+    }
+  }
+
+  private final class Listener implements WebSocket.Listener {
+
+    private final StringBuilder partial = new StringBuilder();
+
+    @Override
+    public void onOpen(WebSocket socket) {
+      opened(socket);
+      socket.request(1);
+    }
+
+    @Override
+    public @Nullable CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+      if (!last) {
+        partial.append(data);
+      } else if (partial.isEmpty()) {
+        dispatch(data.toString());
+      } else {
+        partial.append(data);
+        String text = partial.toString();
+        partial.setLength(0);
+        dispatch(text);
+      }
+      socket.request(1);
+      return null;
+    }
+
+    @Override
+    public @Nullable CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+      handler.onClose(statusCode, reason);
+      closed.complete(null);
+      return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+      handler.onError(error);
+      closed.completeExceptionally(error);
+    }
+  }
+}
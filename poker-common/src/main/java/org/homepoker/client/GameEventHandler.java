@@ -0,0 +1,37 @@
+package org.homepoker.client;
+
+import org.homepoker.model.event.PokerEvent;
+
+/**
+ * Receives what arrives on a {@link GameConnection}. Callbacks for one connection never overlap, but they run on the
+ * HTTP client's threads, so they should hand off anything slow rather than block.
+ */
+@FunctionalInterface
+public interface GameEventHandler {
+
+  /**
+   * A decoded event that is in sequence (or unsequenced, like a {@link org.homepoker.model.event.UserEvent}).
+   */
+  void onEvent(PokerEvent event);
+
+  /**
+   * Called before the event that skipped ahead is passed to {@link #onEvent(PokerEvent)}. A client that needs the
+   * missing state can submit a {@link org.homepoker.model.command.GetGameState} or
+   * {@link org.homepoker.model.command.GetTableState} to resynchronize.
+   */
+  default void onGap(SequenceGap gap) {
+  }
+
+  /**
+   * The server closed the connection.
+   */
+  default void onClose(int statusCode, String reason) {
+  }
+
+  /**
+   * A message could not be decoded, a callback threw, or the connection failed. Only the last of these ends the
+   * connection.
+   */
+  default void onError(Throwable error) {
+  }
+}
@@ -0,0 +1,151 @@
+package org.homepoker.client;
+
+import org.homepoker.model.command.GameCommand;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.user.RegisterUserRequest;
+import org.homepoker.model.user.UserLogin;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous client for the poker server, built on the JDK's {@link HttpClient}: it logs in over REST and opens
+ * {@link GameConnection}s to the game WebSocket. Everything returns a {@link CompletableFuture}, so one client (and one
+ * {@link HttpClient}) can drive thousands of connections.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * try (PokerClient client = new PokerClient(URI.create("http://localhost:8080"))) {
+ *   ClientSession session = client.login("alice", "secret").join();
+ *   GameConnection game = client.connect(gameId, session.token(), event -> System.out.println(event)).join();
+ *   game.submit(new GetGameState(gameId, session.user()));
+ * }
+ * }</pre>
+ */
+public class PokerClient implements AutoCloseable {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final URI baseUri;
+  private final HttpClient httpClient;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * @param baseUri The server's HTTP address, e.g. {@code http://localhost:8080}.
+   */
+  public PokerClient(URI baseUri) {
+    this(baseUri, HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build());
+  }
+
+  /**
+   * @param baseUri    The server's HTTP address, e.g. {@code http://localhost:8080}.
+   * @param httpClient The client to send requests and open WebSockets with (e.g. one with a virtual thread executor).
+   */
+  public PokerClient(URI baseUri, HttpClient httpClient) {
+    String base = baseUri.toString();
+    this.baseUri = URI.create(base.endsWith("/") ? base.substring(0, base.length() - 1) : base);
+    this.httpClient = httpClient;
+    this.jsonMapper = jsonMapper();
+  }
+
+  /**
+   * A mapper for the WebSocket protocol: it knows every command and event type, and ignores properties it does not
+   * recognize so that an older client keeps working against a newer server.
+   */
+  public static JsonMapper jsonMapper() {
+    return JsonMapper.builder()
+        .addModule(GameCommand.gameCommandsModule())
+        .addModule(PokerEvent.pokerEventModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+  }
+
+  public CompletableFuture<ClientSession> login(String loginId, String password) {
+    return post("/auth/login", new UserLogin(loginId, password));
+  }
+
+  /**
+   * Register a new user. The request must carry the server's passcode.
+   */
+  public CompletableFuture<ClientSession> register(RegisterUserRequest request) {
+    return post("/auth/register", request);
+  }
+
+  /**
+   * Open a connection to a game as a player.
+   *
+   * @param gameId  The game to connect to.
+   * @param token   The JWT from {@link #login(String, String)}.
+   * @param handler Receives the game's events.
+   * @return A future that completes when the WebSocket handshake has been accepted.
+   */
+  public CompletableFuture<GameConnection> connect(String gameId, String token, GameEventHandler handler) {
+    return open(gameId, token, false, handler);
+  }
+
+  /**
+   * Open a read-only connection to a game. The server rejects any command sent on it.
+   */
+  public CompletableFuture<GameConnection> spectate(String gameId, String token, GameEventHandler handler) {
+    return open(gameId, token, true, handler);
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+  }
+
+  private CompletableFuture<GameConnection> open(String gameId, String token, boolean spectate,
+                                                 GameEventHandler handler) {
+    GameConnection connection = new GameConnection(gameId, jsonMapper, handler);
+    URI uri = URI.create(webSocketBase() + "/ws/games/" + encode(gameId).replace("+", "%20")
+        + "?token=" + encode(token) + (spectate ? "&spectate=true" : ""));
+    return httpClient.newWebSocketBuilder()
+        .connectTimeout(CONNECT_TIMEOUT)
+        .buildAsync(uri, connection.listener())
+        .thenApply(connection::opened);
+  }
+
+  private CompletableFuture<ClientSession> post(String path, Object body) {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + path))
+        .header("Content-Type", "application/json")
+        .header("Accept", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)))
+        .build();
+    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(response -> {
+          if (response.statusCode() / 100 != 2) {
+            throw new PokerClientException("Request to [" + path + "] failed with status " + response.statusCode()
+                + ": " + response.body(), response.statusCode());
+          }
+          try {
+            return jsonMapper.readValue(response.body(), ClientSession.class);
+          } catch (JacksonException e) {
+            throw new PokerClientException("Unable to decode the response from [" + path + "]", e);
+          }
+        });
+  }
+
+  private String webSocketBase() {
+    String base = baseUri.toString();
+    if (base.startsWith("https:")) {
+      return "wss:" + base.substring("https:".length());
+    } else if (base.startsWith("http:")) {
+      return "ws:" + base.substring("http:".length());
+    }
+    return base;
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,30 @@
+package org.homepoker.client;
+
+/**
+ * Raised by the {@link PokerClient} when the server rejects a request or sends something the client cannot decode.
+ */
+public class PokerClientException extends RuntimeException {
+
+  private final int statusCode;
+
+  public PokerClientException(String message) {
+    this(message, 0);
+  }
+
+  public PokerClientException(String message, int statusCode) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+
+  public PokerClientException(String message, Throwable cause) {
+    super(message, cause);
+    this.statusCode = 0;
+  }
+
+  /**
+   * @return The HTTP status of the rejected request, or 0 if the failure did not come from an HTTP response.
+   */
+  public int statusCode() {
+    return statusCode;
+  }
+}
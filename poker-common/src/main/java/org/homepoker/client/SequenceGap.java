@@ -0,0 +1,22 @@
+package org.homepoker.client;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One or more events missing from a stream: the client expected {@code expected} and received {@code received}.
+ *
+ * @param tableId The table whose stream has the gap, or null for the game stream.
+ */
+public record SequenceGap(@Nullable String tableId, long expected, long received) {
+
+  public boolean isGameStream() {
+    return tableId == null;
+  }
+
+  /**
+   * @return The number of events that were skipped.
+   */
+  public long missed() {
+    return received - expected;
+  }
+}
@@ -0,0 +1,127 @@
+package org.homepoker.client;
+
+import org.homepoker.model.event.GameEvent;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.TableEvent;
+import org.homepoker.model.event.UserEvent;
+import org.homepoker.model.event.user.GameSnapshot;
+import org.homepoker.model.event.user.TableSnapshot;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Follows the sequence numbers the server stamps on a game connection's event streams: one stream for the game and
+ * one per table. {@link UserEvent}s carry no sequence number and are passed through, except that a
+ * {@link GameSnapshot} or {@link TableSnapshot} sets the resume point of the streams it covers, so that a gap right
+ * after a snapshot is still caught.
+ * <p>
+ * A stream that has not been seen yet (no event and no snapshot) starts at whatever arrives first. A snapshot never
+ * moves a stream backwards, because events stamped in the same tick may reach the client ahead of it.
+ * <p>
+ * Thread-safe, although a connection only ever feeds it from one thread at a time.
+ */
+public final class SequenceTracker {
+
+  private static final long UNKNOWN = -1;
+
+  private long gameStreamSeq = UNKNOWN;
+  private final Map<String, Long> tableStreamSeqs = new HashMap<>();
+
+  private long gaps;
+  private long missedEvents;
+  private long staleEvents;
+
+  /**
+   * Check an event against its stream.
+   *
+   * @param event The decoded event.
+   * @param onGap Called when the event skips ahead of the stream.
+   * @return false if the event is at or behind the stream (a duplicate, or covered by a snapshot) and should be
+   * dropped, true otherwise.
+   */
+  public synchronized boolean accept(PokerEvent event, Consumer<SequenceGap> onGap) {
+    return switch (event) {
+      case GameSnapshot snapshot -> {
+        gameStreamSeq = Math.max(gameStreamSeq, snapshot.gameStreamSeq());
+        snapshot.tableStreamSeqs().forEach((tableId, seq) -> tableStreamSeqs.merge(tableId, seq, Math::max));
+        yield true;
+      }
+      case TableSnapshot snapshot -> {
+        tableStreamSeqs.merge(snapshot.table().id(), snapshot.streamSeq(), Math::max);
+        yield true;
+      }
+      case UserEvent _ -> true;
+      case TableEvent tableEvent -> {
+        long last = tableStreamSeqs.getOrDefault(tableEvent.tableId(), UNKNOWN);
+        if (!inSequence(tableEvent.tableId(), last, tableEvent.sequenceNumber(), onGap)) {
+          yield false;
+        }
+        tableStreamSeqs.put(tableEvent.tableId(), tableEvent.sequenceNumber());
+        yield true;
+      }
+      case GameEvent gameEvent -> {
+        if (!inSequence(null, gameStreamSeq, gameEvent.sequenceNumber(), onGap)) {
+          yield false;
+        }
+        gameStreamSeq = gameEvent.sequenceNumber();
+        yield true;
+      }
+      default -> true;
+    };
+  }
+
+  private boolean inSequence(@Nullable String tableId, long last, long received, Consumer<SequenceGap> onGap) {
+    if (last == UNKNOWN) {
+      return true;
+    }
+    if (received <= last) {
+      staleEvents++;
+      return false;
+    }
+    if (received > last + 1) {
+      SequenceGap gap = new SequenceGap(tableId, last + 1, received);
+      gaps++;
+      missedEvents += gap.missed();
+      onGap.accept(gap);
+    }
+    return true;
+  }
+
+  /**
+   * @return The last sequence number seen on the game stream, or -1 if nothing has been seen yet.
+   */
+  public synchronized long gameStreamSeq() {
+    return gameStreamSeq;
+  }
+
+  /**
+   * @return The last sequence number seen on the table's stream, or -1 if nothing has been seen yet.
+   */
+  public synchronized long tableStreamSeq(String tableId) {
+    return tableStreamSeqs.getOrDefault(tableId, UNKNOWN);
+  }
+
+  /**
+   * @return The number of gaps detected so far.
+   */
+  public synchronized long gaps() {
+    return gaps;
+  }
+
+  /**
+   * @return The number of events skipped across all gaps.
+   */
+  public synchronized long missedEvents() {
+    return missedEvents;
+  }
+
+  /**
+   * @return The number of events dropped because their stream had already moved past them.
+   */
+  public synchronized long staleEvents() {
+    return staleEvents;
+  }
+}
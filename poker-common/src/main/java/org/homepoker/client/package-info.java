@@ -0,0 +1,4 @@
+@NullMarked
+package org.homepoker.client;
+
+import org.jspecify.annotations.NullMarked;
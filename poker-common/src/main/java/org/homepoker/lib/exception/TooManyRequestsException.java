@@ -0,0 +1,24 @@
+package org.homepoker.lib.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is refused because the server (or the caller's share of it) is saturated. The request can be
+ * retried after {@link #getRetryAfter()}.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  public TooManyRequestsException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * @return How long the caller should wait before retrying.
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -2,6 +2,7 @@ package org.homepoker.model.command;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.homepoker.model.user.User;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Internal command submitted by {@code ReplayController} when an admin replays a hand on a
@@ -12,11 +13,13 @@ import org.homepoker.model.user.User;
  * <p>Server-internal only — intentionally NOT annotated with {@code @GameCommandMarker} so it
  * is excluded from the polymorphic Jackson registry. An authenticated client must not be
  * able to spoof a replay-warning event.
+ *
+ * <p>{@code tableId} is null when the admin is streaming the entire game.
  */
 public record AdminViewingReplayCommand(
     String gameId,
     User user,
-    String tableId,
+    @Nullable String tableId,
     int handNumber
 ) implements GameCommand {
 
@@ -0,0 +1,26 @@
+package org.homepoker.model.command;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.homepoker.model.game.cash.CashGameDetails;
+import org.homepoker.model.user.User;
+
+/**
+ * Internal command submitted by {@code CashGameService.updateGameDetails} when the game is resident in memory. The
+ * game manager owns the game while it is loaded and checkpoints it from the game loop, so the update is applied there
+ * rather than saved behind the manager's back.
+ *
+ * <p>Server-internal only — intentionally NOT annotated with {@code @GameCommandMarker} so it is excluded from the
+ * polymorphic Jackson registry. Game details are changed through the REST API, never over the game socket.
+ */
+public record UpdateCashGameDetailsCommand(
+    String gameId,
+    User user,
+    CashGameDetails details
+) implements GameCommand {
+
+  @JsonIgnore
+  @Override
+  public User user() {
+    return user;
+  }
+}
@@ -2,6 +2,7 @@ package org.homepoker.model.event.game;
 
 import org.homepoker.model.event.EventMarker;
 import org.homepoker.model.event.GameEvent;
+import org.jspecify.annotations.Nullable;
 
 import java.time.Instant;
 
@@ -12,6 +13,9 @@ import java.time.Instant;
  * game must be informed.
  *
  * <p>For replays of {@code COMPLETED} games, no event is emitted (no audience to warn).
+ *
+ * <p>{@code tableId} is null (and {@code handNumber} is 0) when the admin is streaming the
+ * entire game rather than a single table.
  */
 @EventMarker
 public record AdminViewingReplay(
@@ -20,7 +24,7 @@ public record AdminViewingReplay(
     String gameId,
     String adminUserId,
     String adminAlias,
-    String tableId,
+    @Nullable String tableId,
     int handNumber
 ) implements GameEvent {
   @Override
@@ -0,0 +1,11 @@
+package org.homepoker.model.event.lobby;
+
+import org.homepoker.model.event.PokerEvent;
+
+/**
+ * Marker for events published on the lobby feed. Lobby events describe the list of cash games rather than a single
+ * game, so they never flow through a game manager and carry no sequence number: each update replaces the client's
+ * copy of one game.
+ */
+public interface LobbyEvent extends PokerEvent {
+}
@@ -0,0 +1,15 @@
+package org.homepoker.model.event.lobby;
+
+import org.homepoker.model.event.EventMarker;
+
+import java.time.Instant;
+
+/**
+ * A game left the lobby: it completed or was deleted.
+ */
+@EventMarker
+public record LobbyGameRemoved(
+    Instant timestamp,
+    String gameId
+) implements LobbyEvent {
+}
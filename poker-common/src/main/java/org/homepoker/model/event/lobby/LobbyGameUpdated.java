@@ -0,0 +1,17 @@
+package org.homepoker.model.event.lobby;
+
+import org.homepoker.model.event.EventMarker;
+import org.homepoker.model.game.cash.CashGameDetails;
+
+import java.time.Instant;
+
+/**
+ * A game was created or its lobby-visible details (status, counts, blinds, start time, ...) changed. Replaces the
+ * client's summary of that game.
+ */
+@EventMarker
+public record LobbyGameUpdated(
+    Instant timestamp,
+    CashGameDetails game
+) implements LobbyEvent {
+}
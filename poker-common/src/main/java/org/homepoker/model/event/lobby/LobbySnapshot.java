@@ -0,0 +1,18 @@
+package org.homepoker.model.event.lobby;
+
+import org.homepoker.model.event.EventMarker;
+import org.homepoker.model.game.cash.CashGameDetails;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Sent once when a client subscribes to the lobby: every game that has not completed. The details are summaries
+ * (player and table counts, no player list), the same shape as the cash game search.
+ */
+@EventMarker
+public record LobbySnapshot(
+    Instant timestamp,
+    List<CashGameDetails> games
+) implements LobbyEvent {
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package org.homepoker.model.event.lobby;
+
+import org.jspecify.annotations.NullMarked;
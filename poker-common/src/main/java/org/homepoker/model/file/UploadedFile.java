@@ -2,5 +2,9 @@ package org.homepoker.model.file;
 
 import org.jspecify.annotations.Nullable;
 
+/**
+ * A file stored as a single document, as uploads were before they moved to GridFS. No longer written; existing files
+ * are still served by the file service.
+ */
 public record UploadedFile(String id, String contentType, byte[] data, @Nullable String userUploadedBy) {
 }
@@ -37,4 +37,16 @@ public final class Player {
     return user.id();
   }
 
+  public Player copy() {
+    return Player.builder()
+        .user(user)
+        .status(status)
+        .chipCount(chipCount)
+        .buyInTotal(buyInTotal)
+        .reBuys(reBuys)
+        .addOns(addOns)
+        .tableId(tableId)
+        .build();
+  }
+
 }
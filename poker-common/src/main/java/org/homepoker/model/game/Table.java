@@ -61,7 +61,14 @@ public final class Table {
 
 
   public int numberOfPlayers() {
-    return (int) seats.stream().filter(seat -> seat.status() != Seat.Status.EMPTY).count();
+    // Called per table on every balancing check; a plain loop avoids the stream pipeline allocation.
+    int count = 0;
+    for (int i = 0; i < seats.size(); i++) {
+      if (seats.get(i).status() != Seat.Status.EMPTY) {
+        count++;
+      }
+    }
+    return count;
   }
 
   /**
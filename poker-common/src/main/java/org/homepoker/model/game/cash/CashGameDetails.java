@@ -13,6 +13,9 @@ import java.util.List;
 
 /**
  * The game configuration is used to set the parameters for a given poker game.
+ * <p>
+ * Search results carry {@code playerCount}/{@code tableCount} and leave {@code players} empty; the single-game
+ * lookup fills in all three. Both counts are ignored when creating or updating a game.
  *
  * @author tyler.vangorder
  */
@@ -30,6 +33,10 @@ public record CashGameDetails(
     Integer smallBlind,
     @Nullable
     Integer bigBlind,
-    List<Player> players) {
+    List<Player> players,
+    @Nullable
+    Integer playerCount,
+    @Nullable
+    Integer tableCount) {
 }
 
@@ -2,5 +2,14 @@ package org.homepoker.model.user;
 
 import org.jspecify.annotations.Nullable;
 
-public record UserCriteria(@Nullable String userId, @Nullable String userEmail) {
+/**
+ * Criteria for searching users. The login ID and email are matched as prefixes.
+ *
+ * @param userId    A prefix of the user's login ID.
+ * @param userEmail A prefix of the user's email.
+ * @param pageSize  The maximum number of users to return (defaults to 50, at most 200).
+ * @param pageToken The {@link UserPage#nextPageToken()} of the previous page, or null for the first page.
+ */
+public record UserCriteria(@Nullable String userId, @Nullable String userEmail, @Nullable Integer pageSize,
+                           @Nullable String pageToken) {
 }
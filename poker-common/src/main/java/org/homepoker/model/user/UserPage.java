@@ -0,0 +1,15 @@
+package org.homepoker.model.user;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * One page of a user search.
+ *
+ * @param users         The users on this page (passwords are never included).
+ * @param nextPageToken An opaque token to pass as {@link UserCriteria#pageToken()} to fetch the next page, or null if
+ *                      this is the last page.
+ */
+public record UserPage(List<User> users, @Nullable String nextPageToken) {
+}
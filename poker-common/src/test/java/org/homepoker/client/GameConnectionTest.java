@@ -0,0 +1,113 @@
+package org.homepoker.client;
+
+import org.homepoker.model.command.GetGameState;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.test.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.WebSocket;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameConnectionTest {
+
+  private final JsonMapper jsonMapper = PokerClient.jsonMapper();
+  private final List<PokerEvent> events = new ArrayList<>();
+  private final List<SequenceGap> gaps = new ArrayList<>();
+  private final List<Throwable> errors = new ArrayList<>();
+  private final WebSocket socket = mock(WebSocket.class);
+
+  private final GameConnection connection = new GameConnection("g1", jsonMapper, new GameEventHandler() {
+    @Override
+    public void onEvent(PokerEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void onGap(SequenceGap gap) {
+      gaps.add(gap);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      errors.add(error);
+    }
+  });
+
+  @Test
+  void commandsArePipelinedOneWriteAtATime() {
+    CompletableFuture<WebSocket> firstWrite = new CompletableFuture<>();
+    when(socket.sendText(anyString(), anyBoolean())).thenReturn(firstWrite, CompletableFuture.completedFuture(socket));
+    connection.opened(socket);
+
+    CompletableFuture<Void> first = connection.submit(new GetGameState("g1", TestUtils.testUser()));
+    CompletableFuture<Void> second = connection.submit(new GetGameState("g1", TestUtils.testUser()));
+
+    // The second frame waits for the first to be written; neither waits for the server.
+    verify(socket, times(1)).sendText(anyString(), anyBoolean());
+    assertThat(second).isNotDone();
+
+    firstWrite.complete(socket);
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    ArgumentCaptor<CharSequence> frames = ArgumentCaptor.forClass(CharSequence.class);
+    verify(socket, times(2)).sendText(frames.capture(), eq(true));
+    // The user is injected by the server from the token, so it never goes over the wire.
+    assertThat(frames.getAllValues()).allSatisfy(frame ->
+        assertThat(frame.toString()).contains("\"get-game-state\"").doesNotContain("\"user\""));
+    assertThat(connection.commandsSent()).isEqualTo(2);
+  }
+
+  @Test
+  void commandsForAnotherGameAreRefused() {
+    connection.opened(socket);
+
+    assertThatThrownBy(() -> connection.submit(new GetGameState("g2", TestUtils.testUser())))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fragmentedEventsAreReassembledAndSequenced() {
+    WebSocket.Listener listener = connection.listener();
+    listener.onOpen(socket);
+    String json = jsonMapper.writeValueAsString(new GameMessage(Instant.parse("2026-04-25T12:00:00Z"), 1, "g1", "hello"));
+
+    listener.onText(socket, json.substring(0, 10), false);
+    listener.onText(socket, json.substring(10), true);
+    listener.onText(socket, json.replace("\"sequenceNumber\":1", "\"sequenceNumber\":3"), true);
+
+    assertThat(events).hasSize(2).allSatisfy(event -> assertThat(event).isInstanceOf(GameMessage.class));
+    assertThat(((GameMessage) events.getFirst()).message()).isEqualTo("hello");
+    assertThat(gaps).containsExactly(new SequenceGap(null, 2, 3));
+    assertThat(errors).isEmpty();
+    // One frame requested on open, then one after each frame received.
+    verify(socket, times(4)).request(1);
+  }
+
+  @Test
+  void undecodableEventsAreReportedWithoutClosingTheConnection() {
+    WebSocket.Listener listener = connection.listener();
+    listener.onOpen(socket);
+
+    listener.onText(socket, "{\"eventType\":\"no-such-event\"}", true);
+
+    assertThat(events).isEmpty();
+    assertThat(errors).singleElement().isInstanceOf(PokerClientException.class);
+    assertThat(connection.closed()).isNotDone();
+  }
+}
@@ -0,0 +1,107 @@
+package org.homepoker.client;
+
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.model.event.table.BlindPosted;
+import org.homepoker.model.event.user.GameSnapshot;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.model.game.BlindType;
+import org.homepoker.model.game.GameStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceTrackerTest {
+
+  private static final Instant NOW = Instant.parse("2026-04-25T12:00:00Z");
+
+  private final SequenceTracker tracker = new SequenceTracker();
+  private final List<SequenceGap> gaps = new ArrayList<>();
+
+  @Test
+  void eachStreamIsTrackedSeparately() {
+    assertThat(accept(gameMessage(1))).isTrue();
+    assertThat(accept(blindPosted("t1", 1))).isTrue();
+    assertThat(accept(blindPosted("t2", 7))).isTrue();
+    assertThat(accept(blindPosted("t1", 2))).isTrue();
+    assertThat(accept(gameMessage(2))).isTrue();
+
+    assertThat(gaps).isEmpty();
+    assertThat(tracker.gameStreamSeq()).isEqualTo(2);
+    assertThat(tracker.tableStreamSeq("t1")).isEqualTo(2);
+    assertThat(tracker.tableStreamSeq("t2")).isEqualTo(7);
+  }
+
+  @Test
+  void skippedEventsAreReportedAndTheStreamMovesOn() {
+    accept(blindPosted("t1", 1));
+    assertThat(accept(blindPosted("t1", 5))).isTrue();
+    accept(gameMessage(3));
+    accept(gameMessage(4));
+    accept(gameMessage(6));
+
+    assertThat(gaps).containsExactly(new SequenceGap("t1", 2, 5), new SequenceGap(null, 5, 6));
+    assertThat(tracker.gaps()).isEqualTo(2);
+    assertThat(tracker.missedEvents()).isEqualTo(4);
+  }
+
+  @Test
+  void duplicatesAreDropped() {
+    accept(gameMessage(3));
+
+    assertThat(accept(gameMessage(3))).isFalse();
+    assertThat(accept(gameMessage(2))).isFalse();
+    assertThat(tracker.staleEvents()).isEqualTo(2);
+    assertThat(gaps).isEmpty();
+  }
+
+  @Test
+  void aSnapshotSetsTheResumePoint() {
+    accept(snapshot(10, Map.of("t1", 20L)));
+
+    assertThat(accept(gameMessage(10))).isFalse();
+    assertThat(accept(gameMessage(12))).isTrue();
+    assertThat(accept(blindPosted("t1", 21))).isTrue();
+    assertThat(gaps).containsExactly(new SequenceGap(null, 11, 12));
+  }
+
+  @Test
+  void aSnapshotNeverMovesAStreamBackwards() {
+    accept(gameMessage(6));
+    accept(snapshot(5, Map.of()));
+
+    assertThat(accept(gameMessage(7))).isTrue();
+    assertThat(gaps).isEmpty();
+  }
+
+  @Test
+  void userEventsAreNotSequenced() {
+    accept(gameMessage(1));
+
+    assertThat(accept(new UserMessage(NOW, "alice", MessageSeverity.INFO, "hi"))).isTrue();
+    assertThat(tracker.gameStreamSeq()).isEqualTo(1);
+  }
+
+  private boolean accept(PokerEvent event) {
+    return tracker.accept(event, gaps::add);
+  }
+
+  private static GameMessage gameMessage(long seq) {
+    return new GameMessage(NOW, seq, "g1", "message " + seq);
+  }
+
+  private static BlindPosted blindPosted(String tableId, long seq) {
+    return new BlindPosted(NOW, seq, "g1", tableId, 1, "alice", BlindType.SMALL, 25L);
+  }
+
+  private static GameSnapshot snapshot(long gameStreamSeq, Map<String, Long> tableStreamSeqs) {
+    return new GameSnapshot(NOW, "alice", "g1", "Game", GameStatus.ACTIVE, NOW, 25, 50, List.of(),
+        List.copyOf(tableStreamSeqs.keySet()), gameStreamSeq, tableStreamSeqs);
+  }
+}
@@ -8,6 +8,8 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
+import java.time.Clock;
+
 @SpringBootApplication
 @ConfigurationPropertiesScan
 @EnableMethodSecurity
@@ -22,4 +24,13 @@ public class HomePoker {
     return new VirtualThreadManager(properties);
   }
 
+  /**
+   * The clock the game loop runs on. Replace it (with a {@link org.homepoker.threading.SimulatedClock}) to run games
+   * in simulated time.
+   */
+  @Bean
+  public Clock clock() {
+    return Clock.systemUTC();
+  }
+
 }
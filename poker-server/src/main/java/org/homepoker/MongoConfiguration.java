@@ -1,6 +1,8 @@
 package org.homepoker;
 
+import org.homepoker.model.game.cash.CashGame;
 import org.homepoker.model.user.User;
+import org.homepoker.recording.HandSummary;
 import org.homepoker.recording.RecordedEvent;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -25,6 +27,13 @@ public class MongoConfiguration {
     mongoTemplate.indexOps(User.class)
         .createIndex(new Index().on("email", Sort.Direction.ASC).unique());
 
+    // Game search and the per-minute load of the day's games both filter on status + start time.
+    mongoTemplate.indexOps(CashGame.class)
+        .createIndex(new Index()
+            .on("status", Sort.Direction.ASC)
+            .on("startTime", Sort.Direction.ASC)
+            .named("cashGame_status_start_idx"));
+
     // Primary index for hand-scoped replay queries.
     mongoTemplate.indexOps(RecordedEvent.class)
         .createIndex(new Index()
@@ -32,13 +41,35 @@ public class MongoConfiguration {
             .on("tableId", Sort.Direction.ASC)
             .on("handNumber", Sort.Direction.ASC)
             .on("sequenceNumber", Sort.Direction.ASC)
-            .named("recordedEvents_replay_idx"));
+            .named(RecordedEvent.REPLAY_INDEX));
 
-    // Secondary index for whole-game queries (no v1 endpoint, but trivial to add later).
+    // Secondary index for whole-game and hand-range streaming (see ReplayController).
     mongoTemplate.indexOps(RecordedEvent.class)
         .createIndex(new Index()
             .on("gameId", Sort.Direction.ASC)
             .on("recordedAt", Sort.Direction.ASC)
-            .named("recordedEvents_game_time_idx"));
+            .named(RecordedEvent.GAME_TIME_INDEX));
+
+    // Materialized per-hand summaries: browse a game's hands, and look up a player's history.
+    mongoTemplate.indexOps(HandSummary.class)
+        .createIndex(new Index()
+            .on("gameId", Sort.Direction.ASC)
+            .on("tableId", Sort.Direction.ASC)
+            .on("handNumber", Sort.Direction.ASC)
+            .named("handSummaries_game_idx"));
+    mongoTemplate.indexOps(HandSummary.class)
+        .createIndex(new Index()
+            .on("userIds", Sort.Direction.ASC)
+            .on("completedAt", Sort.Direction.DESC)
+            .named("handSummaries_user_idx"));
+
+    // GridFS file lookup by content hash, used to deduplicate uploads (see FileService). Unique, so that concurrent
+    // uploads of the same content cannot both be kept; sparse, since only uploaded files carry a hash.
+    mongoTemplate.indexOps("fs.files")
+        .createIndex(new Index()
+            .on("metadata.sha256", Sort.Direction.ASC)
+            .unique()
+            .sparse()
+            .named("fsFiles_sha256_unique_idx"));
   }
 }
@@ -1,29 +1,222 @@
 package org.homepoker.file;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.homepoker.lib.exception.ResourceNotFound;
+import org.homepoker.lib.exception.SystemException;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.file.UploadedFile;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.data.mongodb.gridfs.GridFsUpload;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.whereMetaData;
+
+/**
+ * Stores uploaded files in GridFS. Content is streamed in and out in chunks and is never held in memory as a whole.
+ * <p>
+ * Files are deduplicated by content: an upload is hashed first and, if a file with the same SHA-256 already exists,
+ * that file's ID is returned instead of storing a second copy. The hash is uniquely indexed, so when two uploads of
+ * the same content race past the lookup, the second insert fails and its chunks are discarded in favour of the file
+ * that won. Files are immutable once stored.
+ * <p>
+ * Files uploaded before GridFS storage (whole {@link UploadedFile} documents) are still served, read-only.
+ */
+@Slf4j
 @Service
 public class FileService {
 
+  static final String META_SHA256 = "sha256";
+  static final String META_CONTENT_TYPE = "contentType";
+  static final String META_UPLOADED_BY = "uploadedBy";
+
+  /** The chunks collection of the default GridFS bucket. */
+  private static final String CHUNKS_COLLECTION = "fs.chunks";
+
+  private final GridFsOperations gridFsOperations;
+  private final MongoOperations mongoOperations;
   private final UploadedFileRepository uploadedFileRepository;
 
-  public FileService(UploadedFileRepository uploadedFileRepository) {
+  public FileService(GridFsOperations gridFsOperations, MongoOperations mongoOperations,
+      UploadedFileRepository uploadedFileRepository) {
+    this.gridFsOperations = gridFsOperations;
+    this.mongoOperations = mongoOperations;
     this.uploadedFileRepository = uploadedFileRepository;
   }
 
-  public UploadedFile saveFile(UploadedFile uploadedFile) {
-    Assert.hasText(uploadedFile.contentType(), "The file content type is required.");
-    Assert.isNull(uploadedFile.id(), "The file ID will be assigned after the file has been saved.");
+  /**
+   * Store a file, or return the existing copy of identical content.
+   *
+   * @param content     The content. It is read twice: once to hash it and, if it is new, once to store it.
+   * @param contentType The file's media type
+   * @param uploadedBy  The ID of the user uploading the file
+   * @return The stored file
+   */
+  public StoredFile storeFile(InputStreamSource content, String contentType, @Nullable String uploadedBy) {
+    Assert.hasText(contentType, "The file content type is required.");
+
+    long length;
+    String sha256;
+    try (DigestInputStream in = new DigestInputStream(content.getInputStream(), sha256Digest())) {
+      length = in.transferTo(OutputStream.nullOutputStream());
+      sha256 = HexFormat.of().formatHex(in.getMessageDigest().digest());
+    } catch (IOException e) {
+      throw new ValidationException("An error occurred while reading the file.");
+    }
+
+    GridFSFile existing = findBySha256(sha256);
+    if (existing != null) {
+      log.debug("Upload matches existing file [{}], not storing a duplicate.", existing.getObjectId());
+      return toStoredFile(existing);
+    }
+
+    Document metadata = new Document()
+        .append(META_SHA256, sha256)
+        .append(META_CONTENT_TYPE, contentType)
+        .append(META_UPLOADED_BY, uploadedBy);
+    // The ID is assigned up front so that a copy that loses the race below can be cleaned up.
+    ObjectId id = new ObjectId();
+    try (InputStream in = content.getInputStream()) {
+      gridFsOperations.store(GridFsUpload.fromStream(in).id(id).filename(sha256).metadata(metadata).build());
+    } catch (IOException e) {
+      throw new ValidationException("An error occurred while reading the file.");
+    } catch (RuntimeException e) {
+      if (!isDuplicateKey(e)) {
+        throw e;
+      }
+      // A concurrent upload of the same content stored its file first. GridFS writes the chunks before the file
+      // document, so this copy's chunks are already in the database.
+      mongoOperations.remove(query(where("files_id").is(id)), CHUNKS_COLLECTION);
+      GridFSFile winner = findBySha256(sha256);
+      if (winner == null) {
+        throw new SystemException("The file [" + sha256 + "] was stored concurrently but cannot be found.", e);
+      }
+      log.debug("Upload raced with file [{}], discarded the duplicate copy.", winner.getObjectId());
+      return toStoredFile(winner);
+    }
+    return new StoredFile(id.toHexString(), contentType, length, sha256, new GridFsFileResource(id, sha256, length));
+  }
+
+  /**
+   * The oldest file with the given content hash. Files stored before the hash index was unique may have duplicates,
+   * so the lookup is sorted and limited rather than expecting a single match.
+   */
+  private @Nullable GridFSFile findBySha256(String sha256) {
+    return gridFsOperations.findOne(query(whereMetaData(META_SHA256).is(sha256))
+        .with(Sort.by(Sort.Direction.ASC, "uploadDate"))
+        .limit(1));
+  }
 
-    return uploadedFileRepository.save(uploadedFile);
+  private static boolean isDuplicateKey(RuntimeException e) {
+    return e instanceof DuplicateKeyException
+        || (e instanceof MongoWriteException writeException
+            && writeException.getError().getCategory() == ErrorCategory.DUPLICATE_KEY);
   }
 
-  public UploadedFile getFile(String id) {
+  /**
+   * Look up a file. Only its metadata is read; the content is streamed when the returned resource is opened.
+   *
+   * @param id The file ID
+   * @return The file
+   * @throws ResourceNotFound If the file does not exist
+   */
+  public StoredFile getFile(String id) {
+    if (ObjectId.isValid(id)) {
+      GridFSFile file = gridFsOperations.findOne(query(where("_id").is(new ObjectId(id))));
+      if (file != null) {
+        return toStoredFile(file);
+      }
+    }
     return uploadedFileRepository.findById(id)
-        .orElseThrow(() -> new ValidationException("The file does not exist."));
+        .map(FileService::legacyToStoredFile)
+        .orElseThrow(() -> new ResourceNotFound("The file does not exist."));
+  }
+
+  private StoredFile toStoredFile(GridFSFile file) {
+    Document metadata = file.getMetadata() == null ? new Document() : file.getMetadata();
+    String sha256 = metadata.getString(META_SHA256);
+    String contentType = metadata.getString(META_CONTENT_TYPE);
+    return new StoredFile(file.getObjectId().toHexString(),
+        contentType == null ? "application/octet-stream" : contentType,
+        file.getLength(),
+        sha256 == null ? file.getObjectId().toHexString() : sha256,
+        new GridFsFileResource(file.getObjectId(), file.getFilename(), file.getLength()));
   }
 
+  private static StoredFile legacyToStoredFile(UploadedFile file) {
+    byte[] data = file.data();
+    String sha256 = HexFormat.of().formatHex(sha256Digest().digest(data));
+    return new StoredFile(file.id(), file.contentType(), data.length, sha256, new ByteArrayResource(data));
+  }
+
+  private static MessageDigest sha256Digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new SystemException("SHA-256 is not available.", e);
+    }
+  }
+
+  /**
+   * A GridFS file as a re-readable resource: each {@link #getInputStream()} opens a new download stream, which seeks
+   * by chunk when skipped (so range requests do not read the bytes before the range).
+   */
+  private final class GridFsFileResource extends AbstractResource {
+
+    private final ObjectId id;
+    private final String filename;
+    private final long length;
+
+    private GridFsFileResource(ObjectId id, String filename, long length) {
+      this.id = id;
+      this.filename = filename;
+      this.length = length;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      GridFSFile file = gridFsOperations.findOne(query(where("_id").is(id)));
+      if (file == null) {
+        throw new IOException("The file [" + id + "] no longer exists.");
+      }
+      return gridFsOperations.getResource(file).getInputStream();
+    }
+
+    @Override
+    public long contentLength() {
+      return length;
+    }
+
+    @Override
+    public String getFilename() {
+      return filename;
+    }
+
+    @Override
+    public String getDescription() {
+      return "GridFS file [" + id + "]";
+    }
+  }
 }
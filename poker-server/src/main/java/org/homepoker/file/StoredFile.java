@@ -0,0 +1,16 @@
+package org.homepoker.file;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * A file held by the {@link FileService}. The content is not read until the resource's stream is opened, and every
+ * call to {@link Resource#getInputStream()} opens a fresh stream (so byte ranges can be served from it).
+ *
+ * @param id          The file ID
+ * @param contentType The file's media type
+ * @param length      The content length, in bytes
+ * @param sha256      The hex-encoded SHA-256 of the content; stable for the life of the file, so it doubles as the ETag
+ * @param content     The file content
+ */
+public record StoredFile(String id, String contentType, long length, String sha256, Resource content) {
+}
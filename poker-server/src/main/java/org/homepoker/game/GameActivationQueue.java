@@ -0,0 +1,104 @@
+package org.homepoker.game;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A deadline-ordered queue of games that are waiting to be activated (materialized into a game manager and ticked).
+ * The game server schedules each game at the moment it needs to leave {@code SCHEDULED} (its start time minus the
+ * seating window) and polls for due games once per loop, which is O(1) when nothing is due.
+ * <p>
+ * Rescheduling or cancelling a game does not search the queue: the latest deadline per game is tracked separately
+ * and superseded queue entries are discarded when they come due.
+ * <p>
+ * All methods are thread-safe.
+ */
+public class GameActivationQueue {
+
+  private final DelayQueue<Activation> queue = new DelayQueue<>();
+  private final Map<String, Instant> deadlines = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  public GameActivationQueue() {
+    this(Clock.systemUTC());
+  }
+
+  /**
+   * @param clock The clock deadlines are measured against.
+   */
+  public GameActivationQueue(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Schedule (or reschedule) a game's activation.
+   *
+   * @param gameId     The game ID
+   * @param activateAt The instant the game should be activated. A deadline in the past is due immediately.
+   */
+  public void schedule(String gameId, Instant activateAt) {
+    deadlines.put(gameId, activateAt);
+    queue.add(new Activation(gameId, activateAt, clock));
+  }
+
+  /**
+   * Remove a game from the queue (e.g., it was deleted or has already been activated by other means).
+   */
+  public void cancel(String gameId) {
+    deadlines.remove(gameId);
+  }
+
+  /**
+   * Remove and return the games whose activation deadline has passed, in deadline order.
+   */
+  public List<String> pollDue() {
+    List<String> due = new ArrayList<>();
+    for (Activation activation = queue.poll(); activation != null; activation = queue.poll()) {
+      // A superseded entry (the game was rescheduled or cancelled) no longer matches its game's deadline.
+      if (deadlines.remove(activation.gameId(), activation.activateAt())) {
+        due.add(activation.gameId());
+      }
+    }
+    return due;
+  }
+
+  /**
+   * @return The pending activation deadline for the game, or null if the game is not queued.
+   */
+  public @Nullable Instant deadline(String gameId) {
+    return deadlines.get(gameId);
+  }
+
+  /**
+   * @return The number of games waiting to be activated.
+   */
+  public int size() {
+    return deadlines.size();
+  }
+
+  private record Activation(String gameId, Instant activateAt, Clock clock) implements Delayed {
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(Duration.between(clock.instant(), activateAt));
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      if (other instanceof Activation activation) {
+        return activateAt.compareTo(activation.activateAt);
+      }
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
@@ -2,22 +2,36 @@ package org.homepoker.game;
 
 import org.homepoker.model.event.PokerEvent;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 
 public class GameContext {
   private final GameSettings settings;
+  private final Clock clock;
   private final List<PokerEvent> events = new ArrayList<>();
   private boolean forceUpdate;
 
   public GameContext(GameSettings settings) {
+    this(settings, Clock.systemUTC());
+  }
+
+  public GameContext(GameSettings settings, Clock clock) {
     this.settings = settings;
+    this.clock = clock;
   }
 
   public GameSettings settings() {
     return settings;
   }
 
+  /**
+   * The game loop's clock, for timestamps and timers within the tick.
+   */
+  public Clock clock() {
+    return clock;
+  }
+
   public boolean forceUpdate() {
     return forceUpdate;
   }
@@ -1,6 +1,7 @@
 package org.homepoker.game;
 
 import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.table.TableBalancer;
 import org.homepoker.game.table.TableManager;
 import org.homepoker.game.table.TableUtils;
 import org.homepoker.game.table.TexasHoldemTableManager;
@@ -21,7 +22,9 @@ import org.homepoker.model.game.cash.CashGame;
 import org.homepoker.security.SecurityUtilities;
 import org.homepoker.user.SystemUsers;
 import org.homepoker.user.UserManager;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -66,6 +69,7 @@ public abstract class GameManager<T extends Game<T>> {
   private T game;
 
   private final GameSettings gameSettings;
+  private final Clock clock;
   private final UserManager userManager;
   private final SecurityUtilities securityUtilities;
 
@@ -74,6 +78,25 @@ public abstract class GameManager<T extends Game<T>> {
    */
   private final AtomicBoolean tickLock = new AtomicBoolean(false);
 
+  /**
+   * When a command was last submitted or a listener last added/removed. Used by the game server to decide when an
+   * idle game can be passivated.
+   */
+  private volatile Instant lastActivity;
+
+  /**
+   * Set once the game server has checkpointed and released this manager (see {@link #passivateIfIdle}). From then on
+   * the manager no longer ticks, and any command or listener that still reaches it through a stale reference is
+   * forwarded to the manager supplied here.
+   */
+  private volatile @Nullable Supplier<? extends GameManager<T>> successor;
+
+  /**
+   * The successor this passivated manager last handed user listeners over to, so that removing one of them reaches it
+   * without looking the game up again (which would rehydrate it).
+   */
+  private volatile @Nullable GameManager<T> listenersHandedOverTo;
+
   /**
    * Game-stream sequence counter. Stamps non-Table {@link GameEvent}s at fan-out so the
    * client can detect gaps in the game-level stream. Per-table events use the table's own
@@ -99,11 +122,22 @@ public abstract class GameManager<T extends Game<T>> {
   private boolean pauseGameRequested;
 
   public GameManager(T game, UserManager userManager, SecurityUtilities securityUtilities) {
+    this(game, userManager, securityUtilities, Clock.systemUTC());
+  }
+
+  /**
+   * @param clock The source of "now" for everything the game loop does: event timestamps, action deadlines, hand
+   *              review and predeal timers, seating windows and save intervals. A simulated clock lets the game run
+   *              in compressed time.
+   */
+  public GameManager(T game, UserManager userManager, SecurityUtilities securityUtilities, Clock clock) {
     this.game = game;
     this.userManager = userManager;
     this.securityUtilities = securityUtilities;
+    this.clock = clock;
+    this.lastActivity = Instant.now(clock);
     // TODO, as we add other game types, we can switch on game.type() to determine which table manager to use.
-    this.gameSettings = GameSettings.TEXAS_HOLDEM_SETTINGS;
+    this.gameSettings = GameSettings.forGameType(game.type());
 
     // Create table managers for any existing tables (handles persistence reload + deck recovery)
     for (Table table : game.tables().values()) {
@@ -130,6 +164,12 @@ public abstract class GameManager<T extends Game<T>> {
   public void removeGameListener(GameListener listener) {
     if (gameListeners.remove(listener)) {
       submitCommand(new PlayerDisconnectedCommand(game.id(), listener.userId()));
+    } else {
+      GameManager<T> target = listenersHandedOverTo;
+      if (target != null) {
+        // The listener may have been handed over when this manager was passivated.
+        target.removeGameListener(listener);
+      }
     }
   }
 
@@ -197,6 +237,111 @@ public abstract class GameManager<T extends Game<T>> {
 
   public void submitCommand(GameCommand command) {
     pendingCommands.offer(command);
+    lastActivity = Instant.now(clock);
+    if (successor != null) {
+      forwardToSuccessor();
+    }
+  }
+
+  /**
+   * Checkpoint this manager and mark it passivated if the game is idle: {@code PAUSED} or {@code SEATING}, no
+   * connected users, no pending commands and no activity since {@code idleCutoff}. Must be called from the game
+   * server's loop, never concurrently with itself. Returns false, changing nothing, if the game is not idle or a tick
+   * is in progress.
+   * <p>
+   * After this returns true the caller unregisters the manager and then calls {@link #forwardToSuccessor()} to hand
+   * over anything that raced in.
+   *
+   * @param idleCutoff The game must have had no activity since this instant.
+   * @param successor  Supplies the manager that replaces this one (typically a lookup that rehydrates the game from
+   *                   the database).
+   */
+  public boolean passivateIfIdle(Instant idleCutoff, Supplier<? extends GameManager<T>> successor) {
+    if (!tickLock.compareAndSet(false, true)) {
+      return false;
+    }
+    try {
+      if (this.successor != null || !isIdle(idleCutoff)) {
+        return false;
+      }
+      saveGame();
+      this.successor = successor;
+      return true;
+    } finally {
+      tickLock.set(false);
+    }
+  }
+
+  private boolean isIdle(Instant idleCutoff) {
+    if (game.status() != GameStatus.PAUSED && game.status() != GameStatus.SEATING) {
+      return false;
+    }
+    if (!pendingCommands.isEmpty() || !lastActivity.isBefore(idleCutoff)) {
+      return false;
+    }
+    for (GameListener listener : List.copyOf(gameListeners)) {
+      if (!SystemUsers.EVENT_RECORDER_ID.equals(listener.userId())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Hand any user listeners and pending commands of a passivated manager over to its successor. A no-op when there is
+   * nothing to hand over, so that a passivated game stays out of memory until a command or connection arrives, and
+   * while this manager is still the one registered with the game server (the successor lookup returns {@code this});
+   * the game server calls this again once it has unregistered the manager.
+   */
+  public synchronized void forwardToSuccessor() {
+    Supplier<? extends GameManager<T>> next = successor;
+    if (next == null || !hasAnythingToHandOver()) {
+      return;
+    }
+    GameManager<T> target = next.get();
+    if (target == this) {
+      return;
+    }
+    for (GameListener listener : List.copyOf(gameListeners)) {
+      // The event recorder stays behind; the successor is constructed with its own.
+      if (!SystemUsers.EVENT_RECORDER_ID.equals(listener.userId()) && gameListeners.remove(listener)) {
+        // Moved without a PlayerConnectedCommand: the one queued when the listener was added is forwarded below.
+        target.gameListeners.add(listener);
+        listenersHandedOverTo = target;
+      }
+    }
+    for (GameCommand command = pendingCommands.poll(); command != null; command = pendingCommands.poll()) {
+      target.submitCommand(command);
+    }
+  }
+
+  private boolean hasAnythingToHandOver() {
+    if (!pendingCommands.isEmpty()) {
+      return true;
+    }
+    for (GameListener listener : List.copyOf(gameListeners)) {
+      if (!SystemUsers.EVENT_RECORDER_ID.equals(listener.userId())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The instant a scheduled game opens seating (its start time minus the seating window).
+   */
+  public Instant seatingOpensAt() {
+    return game.startTime().minusSeconds(gameSettings.seatingTimeSeconds());
+  }
+
+  /**
+   * True while the game is {@code SCHEDULED}, seating has not opened and no commands are waiting. A tick would be a
+   * no-op, so the game loop can skip the game until one of those changes.
+   */
+  public boolean isAwaitingSeating() {
+    return game.status() == GameStatus.SCHEDULED
+        && pendingCommands.isEmpty()
+        && seatingOpensAt().isAfter(Instant.now(clock));
   }
 
   public void processGameTick() {
@@ -206,7 +351,11 @@ public abstract class GameManager<T extends Game<T>> {
       return;
     }
     try {
-      GameContext gameContext = new GameContext(gameSettings());
+      if (successor != null) {
+        // Passivated: the game's state lives on in the database (or in the successor manager).
+        return;
+      }
+      GameContext gameContext = new GameContext(gameSettings(), clock);
 
       // Process queued Commands. Snapshot what's currently in the queue; commands offered
       // mid-drain are picked up on the next tick.
@@ -221,7 +370,7 @@ public abstract class GameManager<T extends Game<T>> {
           applyCommand(command, game, gameContext);
         } catch (ValidationException e) {
           gameContext.queueEvent(UserMessage.builder()
-              .timestamp(Instant.now())
+              .timestamp(Instant.now(clock))
               .userId(command.user().id())
               .severity(MessageSeverity.ERROR)
               .message(e.getMessage())
@@ -229,7 +378,7 @@ public abstract class GameManager<T extends Game<T>> {
         } catch (RuntimeException e) {
           log.error("An error occurred while while processing command [{}].\n{}", command, e.getMessage(), e);
           SystemError.SystemErrorBuilder builder = SystemError.builder()
-              .timestamp(Instant.now())
+              .timestamp(Instant.now(clock))
               .gameId(command.gameId())
               .userId(command.user().id())
               .exception(e);
@@ -240,6 +389,7 @@ public abstract class GameManager<T extends Game<T>> {
         }
       }
 
+      beforeTransition(game, gameContext);
       transitionGame(game, gameContext);
 
       if (game.status() == GameStatus.ACTIVE || game.status() == GameStatus.BALANCING || game.status() == GameStatus.PAUSED) {
@@ -248,7 +398,7 @@ public abstract class GameManager<T extends Game<T>> {
 
         //noinspection DataFlowIssue
         if (gameContext.forceUpdate() || game.lastModified() == null ||
-            game.lastModified().plusSeconds(gameSettings().saveIntervalSeconds()).isBefore(Instant.now())) {
+            game.lastModified().plusSeconds(gameSettings().saveIntervalSeconds()).isBefore(Instant.now(clock))) {
           game = saveGame();
         }
       } else {
@@ -256,6 +406,10 @@ public abstract class GameManager<T extends Game<T>> {
         game = saveGame();
       }
 
+      if (!gameContext.events().isEmpty() || gameContext.forceUpdate()) {
+        onGameStateChanged(game);
+      }
+
       // Stamp every accumulated event in deterministic order, then publish.
       // Stamping happens at fan-out (rather than at construction) so all listeners observe
       // the same sequence number for the same event. We stamp regardless of whether listeners
@@ -331,12 +485,35 @@ public abstract class GameManager<T extends Game<T>> {
     return gameSettings;
   }
 
+  /**
+   * The clock the game loop reads the time from.
+   */
+  protected Clock clock() {
+    return clock;
+  }
+
   protected NavigableMap<String, TableManager<T>> tableManagers() {
     return tableManagers;
   }
 
   protected abstract T persistGameState(T game);
 
+  /**
+   * Called on the game-loop thread at the end of any tick that changed the game (it emitted events or forced an
+   * update). Subclasses use it to publish read-only views of the game for other threads. The game must not be
+   * retained or handed to another thread from here: copy what is needed.
+   */
+  protected void onGameStateChanged(T game) {
+  }
+
+  /**
+   * Called on the game-loop thread on every tick, after the queued commands have been applied and before the game
+   * transitions. Subclasses use it to apply game-specific state that is driven from outside the command queue (e.g.,
+   * a tournament's blind level timer).
+   */
+  protected void beforeTransition(T game, GameContext gameContext) {
+  }
+
   /**
    * Hook for tests to inject a deterministic deck. Default returns {@code Deck::new}
    * (production behavior — random shuffle). Overrides should return a fresh supplier
@@ -347,14 +524,14 @@ public abstract class GameManager<T extends Game<T>> {
   }
 
   protected TableManager<T> createTableManager(String tableId) {
-    return TexasHoldemTableManager.forNewTable(tableId, gameSettings, deckSupplier());
+    return TexasHoldemTableManager.forNewTable(tableId, gameSettings, deckSupplier(), clock);
   }
 
   /**
    * Creates a table manager for an existing (persisted) table, recovering transient state if mid-hand.
    */
   protected TableManager<T> createTableManagerForExistingTable(Table table) {
-    return TexasHoldemTableManager.forExistingTable(table, gameSettings, deckSupplier());
+    return TexasHoldemTableManager.forExistingTable(table, gameSettings, deckSupplier(), clock);
   }
 
   /**
@@ -375,7 +552,7 @@ public abstract class GameManager<T extends Game<T>> {
   }
 
   private void transitionFromScheduled(T game, GameContext gameContext) {
-    if (game.startTime().minusSeconds(gameSettings().seatingTimeSeconds()).isBefore(Instant.now())) {
+    if (game.startTime().minusSeconds(gameSettings().seatingTimeSeconds()).isBefore(Instant.now(clock))) {
       GameStatus oldStatus = game.status();
       game.status(GameStatus.SEATING);
 
@@ -387,14 +564,14 @@ public abstract class GameManager<T extends Game<T>> {
         table.status(Table.Status.PAUSED);
       }
 
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.SEATING));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Seating is now open."));
+      gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.SEATING));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Seating is now open."));
       gameContext.forceUpdate(true);
     }
   }
 
   private void transitionFromSeating(T game, GameContext gameContext) {
-    if (startGameRequested && countOfSeatedPlayers(game) >= 2 && !game.startTime().isAfter(Instant.now())) {
+    if (startGameRequested && countOfSeatedPlayers(game) >= 2 && !game.startTime().isAfter(Instant.now(clock))) {
       startGameRequested = false;
       GameStatus oldStatus = game.status();
       game.status(GameStatus.ACTIVE);
@@ -403,11 +580,11 @@ public abstract class GameManager<T extends Game<T>> {
       for (Table table : game.tables().values()) {
         Table.Status oldTableStatus = table.status();
         table.status(Table.Status.PLAYING);
-        gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
+        gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
       }
 
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game is now active."));
+      gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game is now active."));
       gameContext.forceUpdate(true);
     }
   }
@@ -421,19 +598,13 @@ public abstract class GameManager<T extends Game<T>> {
     // Check if all tables are paused (two-phase pause/end detection)
     if (allTablesPaused(game)) {
       if (endGameRequested) {
-        endGameRequested = false;
-        pauseGameRequested = false;
-        GameStatus oldStatus = game.status();
-        game.status(GameStatus.COMPLETED);
-        gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.COMPLETED));
-        gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game has ended."));
-        gameContext.forceUpdate(true);
+        completeGame(game, gameContext);
       } else if (pauseGameRequested) {
         pauseGameRequested = false;
         GameStatus oldStatus = game.status();
         game.status(GameStatus.PAUSED);
-        gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.PAUSED));
-        gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game is now paused."));
+        gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.PAUSED));
+        gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game is now paused."));
         gameContext.forceUpdate(true);
       }
       return;
@@ -457,12 +628,12 @@ public abstract class GameManager<T extends Game<T>> {
       for (Table table : game.tables().values()) {
         if (table.status() == Table.Status.PLAYING) {
           table.status(Table.Status.PAUSE_AFTER_HAND);
-          gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
+          gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
         }
       }
 
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.BALANCING));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Balancing tables after current hands complete."));
+      gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.BALANCING));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Balancing tables after current hands complete."));
       gameContext.forceUpdate(true);
     }
   }
@@ -479,21 +650,15 @@ public abstract class GameManager<T extends Game<T>> {
 
     // All tables are paused — check if pause/end was requested during balancing
     if (endGameRequested) {
-      endGameRequested = false;
-      pauseGameRequested = false;
-      GameStatus oldStatus = game.status();
-      game.status(GameStatus.COMPLETED);
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.COMPLETED));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game has ended."));
-      gameContext.forceUpdate(true);
+      completeGame(game, gameContext);
       return;
     }
     if (pauseGameRequested) {
       pauseGameRequested = false;
       GameStatus oldStatus = game.status();
       game.status(GameStatus.PAUSED);
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.PAUSED));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game is now paused."));
+      gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.PAUSED));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game is now paused."));
       gameContext.forceUpdate(true);
       return;
     }
@@ -508,11 +673,11 @@ public abstract class GameManager<T extends Game<T>> {
     for (Table table : game.tables().values()) {
       Table.Status oldTableStatus = table.status();
       table.status(Table.Status.PLAYING);
-      gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
+      gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
     }
 
-    gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
-    gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Tables balanced. Game resumed."));
+    gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
+    gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Tables balanced. Game resumed."));
     gameContext.forceUpdate(true);
   }
 
@@ -520,6 +685,20 @@ public abstract class GameManager<T extends Game<T>> {
     // Paused is a stable state. Transitions out of PAUSED are handled by commands (ResumeGame, EndGame).
   }
 
+  /**
+   * Move the game to COMPLETED, dropping any pending pause or end request. The caller makes sure no hand is still
+   * being played.
+   */
+  protected final void completeGame(T game, GameContext gameContext) {
+    endGameRequested = false;
+    pauseGameRequested = false;
+    GameStatus oldStatus = game.status();
+    game.status(GameStatus.COMPLETED);
+    gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.COMPLETED));
+    gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game has ended."));
+    gameContext.forceUpdate(true);
+  }
+
   protected final void applyCommand(GameCommand command, T game, GameContext gameContext) {
 
     if (command instanceof TableCommand tableCommand) {
@@ -559,7 +738,7 @@ public abstract class GameManager<T extends Game<T>> {
     int newCount = activeListenerCounts.merge(userId, 1, Integer::sum);
     if (newCount == 1 && game.players().containsKey(userId)) {
       gameContext.queueEvent(new PlayerReconnected(
-          Instant.now(), 0L, game.id(), userId));
+          Instant.now(clock), 0L, game.id(), userId));
     }
   }
 
@@ -578,7 +757,7 @@ public abstract class GameManager<T extends Game<T>> {
     if (newCount == 0) {
       activeListenerCounts.remove(userId);
       gameContext.queueEvent(new PlayerDisconnected(
-          Instant.now(), 0L, game.id(), userId));
+          Instant.now(clock), 0L, game.id(), userId));
     } else {
       activeListenerCounts.put(userId, newCount);
     }
@@ -595,7 +774,7 @@ public abstract class GameManager<T extends Game<T>> {
       return;
     }
     gameContext.queueEvent(new AdminViewingReplay(
-        Instant.now(),
+        Instant.now(clock),
         0L,
         game.id(),
         cmd.user().id(),
@@ -619,16 +798,16 @@ public abstract class GameManager<T extends Game<T>> {
       for (Table table : game.tables().values()) {
         if (table.status() == Table.Status.PLAYING) {
           table.status(Table.Status.PAUSE_AFTER_HAND);
-          gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
+          gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
         }
       }
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game ending after current hands complete."));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game ending after current hands complete."));
     } else {
       // For SCHEDULED, SEATING, PAUSED: transition immediately to COMPLETED
       GameStatus oldStatus = game.status();
       game.status(GameStatus.COMPLETED);
-      gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.COMPLETED));
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game has ended."));
+      gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.COMPLETED));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game has ended."));
     }
     gameContext.forceUpdate(true);
   }
@@ -658,10 +837,10 @@ public abstract class GameManager<T extends Game<T>> {
     for (Table table : game.tables().values()) {
       if (table.status() == Table.Status.PLAYING) {
         table.status(Table.Status.PAUSE_AFTER_HAND);
-        gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
+        gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), Table.Status.PLAYING, Table.Status.PAUSE_AFTER_HAND));
       }
     }
-    gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game pausing after current hands complete."));
+    gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game pausing after current hands complete."));
   }
 
   private void resumeGame(ResumeGame gameCommand, T game, GameContext gameContext) {
@@ -678,15 +857,19 @@ public abstract class GameManager<T extends Game<T>> {
     for (Table table : game.tables().values()) {
       Table.Status oldTableStatus = table.status();
       table.status(Table.Status.PLAYING);
-      gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
+      gameContext.queueEvent(new TableStatusChanged(Instant.now(clock), 0L, game.id(), table.id(), oldTableStatus, Table.Status.PLAYING));
     }
 
-    gameContext.queueEvent(new GameStatusChanged(Instant.now(), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
-    gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), "Game resumed."));
+    gameContext.queueEvent(new GameStatusChanged(Instant.now(clock), 0L, game.id(), oldStatus, GameStatus.ACTIVE));
+    gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), "Game resumed."));
     gameContext.forceUpdate(true);
   }
 
-  private void buyIn(BuyIn gameCommand, T game, GameContext gameContext) {
+  /**
+   * Add chips to a player's stack, up to the game's maximum buy-in, and seat them if they are not seated yet.
+   * Formats with their own buy-in rules (a tournament's rebuys and add-ons) override this.
+   */
+  protected void buyIn(BuyIn gameCommand, T game, GameContext gameContext) {
     GameStatus status = game.status();
     if (status != GameStatus.SEATING && status != GameStatus.ACTIVE && status != GameStatus.PAUSED) {
       throw new ValidationException("Buy-ins are only allowed during SEATING, ACTIVE, or PAUSED states.");
@@ -720,11 +903,12 @@ public abstract class GameManager<T extends Game<T>> {
     if (player.tableId() == null) {
       String tableId = GameUtils.assignPlayerToTableWithFewestPlayers(player, game, gameSettings().numberOfSeats());
       if (tableId != null) {
-        gameContext.queueEvent(new PlayerSeated(Instant.now(), 0L, game.id(), player.userId(), tableId));
+        seatsChanged(tableId);
+        gameContext.queueEvent(new PlayerSeated(Instant.now(clock), 0L, game.id(), player.userId(), tableId));
       }
     }
 
-    gameContext.queueEvent(new PlayerBuyIn(Instant.now(), 0L, game.id(), player.userId(), gameCommand.amount(), newChipCount));
+    gameContext.queueEvent(new PlayerBuyIn(Instant.now(clock), 0L, game.id(), player.userId(), gameCommand.amount(), newChipCount));
     gameContext.forceUpdate(true);
   }
 
@@ -742,7 +926,7 @@ public abstract class GameManager<T extends Game<T>> {
     // In SCHEDULED state, mark the player as OUT (keep record for auditing)
     if (status == GameStatus.SCHEDULED) {
       player.status(PlayerStatus.OUT);
-      gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), player.user().alias() + " has left the game."));
+      gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), player.user().alias() + " has left the game."));
       gameContext.forceUpdate(true);
       return;
     }
@@ -757,7 +941,7 @@ public abstract class GameManager<T extends Game<T>> {
             if (seat.status() == Seat.Status.ACTIVE || seat.status() == Seat.Status.FOLDED) {
               // Player is in an active hand (playing or folded), mark them for removal after the hand
               player.status(PlayerStatus.OUT);
-              gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(),
+              gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(),
                   player.user().alias() + " will leave after the current hand."));
               gameContext.forceUpdate(true);
               return;
@@ -765,6 +949,7 @@ public abstract class GameManager<T extends Game<T>> {
             // Not in an active hand, remove from seat immediately
             seat.status(Seat.Status.EMPTY);
             seat.player(null);
+            seatsChanged(table.id());
             break;
           }
         }
@@ -773,7 +958,7 @@ public abstract class GameManager<T extends Game<T>> {
     }
 
     player.status(PlayerStatus.OUT);
-    gameContext.queueEvent(new GameMessage(Instant.now(), 0L, game.id(), player.user().alias() + " has left the game."));
+    gameContext.queueEvent(new GameMessage(Instant.now(clock), 0L, game.id(), player.user().alias() + " has left the game."));
     gameContext.forceUpdate(true);
   }
 
@@ -783,7 +968,7 @@ public abstract class GameManager<T extends Game<T>> {
       tableSeqs.put(entry.getKey(), entry.getValue().currentStreamSeq());
     }
     gameContext.queueEvent(new GameSnapshot(
-        Instant.now(),
+        Instant.now(clock),
         gameCommand.user().id(),
         game.id(),
         game.name(),
@@ -858,7 +1043,7 @@ public abstract class GameManager<T extends Game<T>> {
       Table destination = null;
       for (Table candidate : game.tables().values()) {
         if (candidate == source) continue;
-        if (candidate.seats().stream().anyMatch(s -> s.status() == Seat.Status.EMPTY)) {
+        if (candidate.numberOfPlayers() < candidate.numberOfSeats()) {
           destination = candidate;
           break;
         }
@@ -866,26 +1051,23 @@ public abstract class GameManager<T extends Game<T>> {
       if (destination == null) {
         continue;
       }
-      Seat sourceSeat = source.seats().stream()
-          .filter(s -> s.status() != Seat.Status.EMPTY && s.player() != null)
-          .findFirst()
-          .orElse(null);
-      if (sourceSeat == null) {
+      Player player = unseatFirstPlayer(source);
+      if (player == null) {
         continue;
       }
-      Player player = sourceSeat.player();
       String fromTableId = source.id();
-      sourceSeat.status(Seat.Status.EMPTY);
-      sourceSeat.player(null);
       TableUtils.assignPlayerToRandomSeat(player, destination);
+      seatsChanged(fromTableId);
+      seatsChanged(destination.id());
       gameContext.queueEvent(new PlayerMovedTables(
-          Instant.now(), 0L, game.id(), player.userId(), fromTableId, destination.id()));
+          Instant.now(clock), 0L, game.id(), player.userId(), fromTableId, destination.id()));
     }
   }
 
   /**
    * Check if tables need rebalancing. Returns true if there is an imbalance of 2+ players
-   * between the largest and smallest tables, or if there are more tables than needed.
+   * between the largest and smallest tables, or if there are more tables than needed
+   * (that is, if the {@link TableBalancer} plan has any moves).
    */
   private boolean tablesNeedBalancing(T game) {
     // Remove empty tables first (from both game.tables() and tableManagers), but always keep at least one table
@@ -904,96 +1086,69 @@ public abstract class GameManager<T extends Game<T>> {
       tableManagers.remove(id);
     }
 
-    if (game.tables().size() < 2) {
-      return false;
-    }
-
-    int maxPlayers = Integer.MIN_VALUE;
-    int minPlayers = Integer.MAX_VALUE;
-    int totalPlayers = 0;
-
-    for (Table table : game.tables().values()) {
-      int count = table.numberOfPlayers();
-      maxPlayers = Math.max(maxPlayers, count);
-      minPlayers = Math.min(minPlayers, count);
-      totalPlayers += count;
-    }
-
-    // Check for player count imbalance
-    if (maxPlayers - minPlayers >= 2) {
-      return true;
-    }
-
-    // Check for excess tables (more tables than needed)
-    int minTables = (int) Math.ceil((double) totalPlayers / gameSettings.numberOfSeats());
-    return game.tables().size() > Math.max(minTables, 1);
+    return !TableBalancer.of(game.tables().values(), gameSettings.numberOfSeats()).plan().isEmpty();
   }
 
   /**
-   * Redistribute all seated players evenly across the optimal number of tables.
-   * Called during the BALANCING state when all tables are paused.
+   * Balance the tables with the fewest player moves: players move only off tables that are being broken or are over
+   * their share, and onto tables that are under it. Called during the BALANCING state when all tables are paused.
    */
   private void redistributePlayers(T game, GameContext gameContext) {
-    // Gather all seated players and remember their previous table assignments
-    Map<String, String> previousTableIds = new HashMap<>();
-    List<Player> seatedPlayers = new ArrayList<>();
-    for (Table table : game.tables().values()) {
-      for (Seat seat : table.seats()) {
-        if (seat.player() != null && seat.status() != Seat.Status.EMPTY) {
-          seatedPlayers.add(seat.player());
-          previousTableIds.put(seat.player().userId(), table.id());
-          seat.status(Seat.Status.EMPTY);
-          seat.player(null);
-        }
+    TableBalancer.Plan plan = TableBalancer.of(game.tables().values(), gameSettings.numberOfSeats()).plan();
+
+    for (TableBalancer.Move move : plan.moves()) {
+      Table source = game.tables().get(move.fromTableId());
+      Table destination = game.tables().get(move.toTableId());
+      if (source == null || destination == null) {
+        continue;
       }
+      Player player = unseatFirstPlayer(source);
+      if (player == null) {
+        continue;
+      }
+      TableUtils.assignPlayerToRandomSeat(player, destination);
+      seatsChanged(source.id());
+      seatsChanged(destination.id());
+      gameContext.queueEvent(new PlayerMovedTables(Instant.now(clock), 0L, game.id(), player.userId(), source.id(), destination.id()));
     }
 
-    if (seatedPlayers.isEmpty()) {
-      return;
+    for (String tableId : plan.tablesToBreak()) {
+      game.tables().remove(tableId);
+      tableManagers.remove(tableId);
     }
+  }
 
-    // Determine optimal number of tables
-    int optimalTableCount = (int) Math.ceil((double) seatedPlayers.size() / gameSettings.numberOfSeats());
-    optimalTableCount = Math.max(optimalTableCount, 1);
-
-    // Remove excess tables or create new ones as needed
-    while (game.tables().size() > optimalTableCount) {
-      String lastKey = game.tables().lastKey();
-      game.tables().remove(lastKey);
-      tableManagers.remove(lastKey);
-    }
-    while (game.tables().size() < optimalTableCount) {
-      String newTableId = "TABLE-" + game.tables().size();
-      TableManager<T> tm = createTableManager(newTableId);
-      tableManagers.put(newTableId, tm);
-      game.tables().put(newTableId, tm.table());
+  /**
+   * Tell a table's manager that players were seated at or removed from its table outside of the manager, so that it
+   * refreshes its view of the seats before it next uses it.
+   */
+  protected final void seatsChanged(@Nullable String tableId) {
+    TableManager<T> tableManager = tableId == null ? null : tableManagers.get(tableId);
+    if (tableManager != null) {
+      tableManager.seatsChanged();
     }
+  }
 
-    // Distribute players round-robin across tables
-    String[] tableIds = game.tables().keySet().toArray(new String[0]);
-    int tableIndex = 0;
-    for (Player player : seatedPlayers) {
-      Table table = game.tables().get(tableIds[tableIndex]);
-      TableUtils.assignPlayerToRandomSeat(player, table);
-      String fromTableId = previousTableIds.get(player.userId());
-      if (!table.id().equals(fromTableId)) {
-        gameContext.queueEvent(new PlayerMovedTables(Instant.now(), 0L, game.id(), player.userId(), fromTableId, table.id()));
+  /**
+   * Remove the first seated player from a table (tables are paused while balancing, so no hand is disturbed).
+   */
+  private static @Nullable Player unseatFirstPlayer(Table table) {
+    for (Seat seat : table.seats()) {
+      Player player = seat.player();
+      if (player != null && seat.status() != Seat.Status.EMPTY) {
+        seat.status(Seat.Status.EMPTY);
+        seat.player(null);
+        return player;
       }
-      tableIndex = (tableIndex + 1) % tableIds.length;
     }
+    return null;
   }
 
   /**
    * Check if a new table is needed (all tables are full and players are waiting).
    */
   private void checkForNewTable(T game) {
-    boolean allFull = true;
-    for (Table table : game.tables().values()) {
-      if (table.numberOfPlayers() < gameSettings.numberOfSeats()) {
-        allFull = false;
-        break;
-      }
-    }
+    boolean allFull = TableBalancer.of(game.tables().values(), gameSettings.numberOfSeats()).tableWithFewestPlayers() == null;
 
     if (allFull) {
       // Check if there are unassigned players with chips (players without chips must buy in first)
@@ -1006,7 +1161,7 @@ public abstract class GameManager<T extends Game<T>> {
       }
 
       if (hasUnassigned) {
-        String newTableId = "TABLE-" + game.tables().size();
+        String newTableId = nextTableId(game);
         TableManager<T> tm = createTableManager(newTableId);
         if (game.status() == GameStatus.ACTIVE) {
           tm.table().status(Table.Status.PLAYING);
@@ -1016,4 +1171,15 @@ public abstract class GameManager<T extends Game<T>> {
       }
     }
   }
+
+  /**
+   * The lowest "TABLE-n" ID not in use. Balancing can break any table, so the table count is not a free ID.
+   */
+  private String nextTableId(T game) {
+    int index = 0;
+    while (game.tables().containsKey("TABLE-" + index)) {
+      index++;
+    }
+    return "TABLE-" + index;
+  }
 }
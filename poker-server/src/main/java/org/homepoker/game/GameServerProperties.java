@@ -8,16 +8,25 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *
  * @param threadModel The threading model to use for the game server. Using a single thread is useful for debugging and testing.
  * @param gameLoopIntervalMilliseconds The interval at which the game loop should run. Settings this to 0 disables the scheduled game loop and is useful for testing.
+ * @param idlePassivationSeconds How long a PAUSED or SEATING game may sit with no connected users and no commands before
+ *                               its game manager is checkpointed and released from memory. 0 disables passivation.
+ * @param spectatorDelaySeconds How long public game events are held back before they are sent to spectators (a
+ *                              broadcast delay, so viewers cannot relay live action to a player). 0 sends them live.
  */
 @ConfigurationProperties(prefix = "game.server")
 public record GameServerProperties(
     ThreadModel threadModel,
-    Integer gameLoopIntervalMilliseconds
+    Integer gameLoopIntervalMilliseconds,
+    Integer idlePassivationSeconds,
+    Integer spectatorDelaySeconds
 ) {
 
-  public GameServerProperties(@Nullable ThreadModel threadModel, @Nullable Integer gameLoopIntervalMilliseconds) {
+  public GameServerProperties(@Nullable ThreadModel threadModel, @Nullable Integer gameLoopIntervalMilliseconds,
+                              @Nullable Integer idlePassivationSeconds, @Nullable Integer spectatorDelaySeconds) {
      this.threadModel = threadModel == null ? ThreadModel.VIRTUAL : threadModel;
      this.gameLoopIntervalMilliseconds = gameLoopIntervalMilliseconds == null ? 1000 : gameLoopIntervalMilliseconds;
+     this.idlePassivationSeconds = idlePassivationSeconds == null ? 900 : idlePassivationSeconds;
+     this.spectatorDelaySeconds = spectatorDelaySeconds == null ? 0 : spectatorDelaySeconds;
   }
 
   public enum ThreadModel {
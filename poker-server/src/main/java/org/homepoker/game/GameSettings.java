@@ -1,6 +1,8 @@
 package org.homepoker.game;
 
 import lombok.Builder;
+import org.homepoker.model.game.GameType;
+import org.jspecify.annotations.Nullable;
 
 /**
  * This class represents the settings for a game.
@@ -39,4 +41,15 @@ public record GameSettings(
       .requireMissedBlindPost(false)
       .build();
 
+  /**
+   * The settings a game of the given type is played with. A game without a type is played as Texas Hold'em.
+   */
+  public static GameSettings forGameType(@Nullable GameType type) {
+    if (type == null) {
+      return TEXAS_HOLDEM_SETTINGS;
+    }
+    return switch (type) {
+      case TEXAS_HOLDEM -> TEXAS_HOLDEM_SETTINGS;
+    };
+  }
 }
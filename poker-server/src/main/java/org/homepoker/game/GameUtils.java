@@ -1,5 +1,6 @@
 package org.homepoker.game;
 
+import org.homepoker.game.table.TableBalancer;
 import org.homepoker.game.table.TableUtils;
 import org.homepoker.model.game.Game;
 import org.homepoker.model.game.Player;
@@ -14,23 +15,12 @@ public class GameUtils {
 	 * @return The table ID the player was assigned to, or null if no seat was available.
 	 */
 	public static <T extends Game<T>> @Nullable String assignPlayerToTableWithFewestPlayers(Player player, T game, int numberOfSeats) {
-		if (game.tables().isEmpty()) {
+		Table targetTable = TableBalancer.of(game.tables().values(), numberOfSeats).tableWithFewestPlayers();
+		if (targetTable == null) {
 			return null;
 		}
-		Table targetTable = null;
-		int minPlayers = Integer.MAX_VALUE;
-		for (Table table : game.tables().values()) {
-			int playerCount = table.numberOfPlayers();
-			if (playerCount < minPlayers) {
-				minPlayers = playerCount;
-				targetTable = table;
-			}
-		}
-		if (targetTable != null && minPlayers < numberOfSeats) {
-			TableUtils.assignPlayerToRandomSeat(player, targetTable);
-			return targetTable.id();
-		}
-		return null;
+		TableUtils.assignPlayerToRandomSeat(player, targetTable);
+		return targetTable.id();
 	}
 
 }
@@ -0,0 +1,192 @@
+package org.homepoker.game.cash;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.GameListener;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.lobby.LobbyGameRemoved;
+import org.homepoker.model.event.lobby.LobbyGameUpdated;
+import org.homepoker.model.event.lobby.LobbySnapshot;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.cash.CashGameDetails;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * The lobby feed: keeps a summary of every cash game that has not completed and pushes a {@link LobbyGameUpdated}
+ * to subscribers whenever a summary actually changes (status, player/table counts, blinds, ...), or a
+ * {@link LobbyGameRemoved} when a game completes or is deleted. A new subscriber receives a {@link LobbySnapshot}
+ * first, so clients never need to poll the search endpoint.
+ * <p>
+ * Changes are reported by {@link CashGameService} (create/update/delete) and by each resident game's loop (after a
+ * tick changes the game). The summaries are seeded from the database on the first subscription.
+ * <p>
+ * <strong>Threading:</strong> all state is guarded by this object's monitor. Publishing is cheap when nothing
+ * changed (one record comparison), which is the common case for a game loop tick. Events are queued under the monitor
+ * (so every subscriber sees them in the same order) and delivered on the dispatch executor, outside the monitor, so a
+ * game loop never waits on a subscriber's socket.
+ */
+@Slf4j
+public class CashGameLobby {
+
+  /**
+   * An event and the subscribers it goes to, captured under the monitor.
+   */
+  private record Delivery(PokerEvent event, List<GameListener> subscribers) {
+  }
+
+  private final Supplier<List<CashGameDetails>> seedSource;
+  private final Executor dispatcher;
+  private final Map<String, CashGameDetails> games = new HashMap<>();
+  private final List<GameListener> subscribers = new ArrayList<>();
+  private final Queue<Delivery> outbox = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean delivering = new AtomicBoolean();
+  private volatile boolean seeded;
+
+  /**
+   * Create a lobby that delivers events on the publishing thread (after releasing the monitor).
+   *
+   * @param seedSource Loads the summaries of all games that have not completed; called once, outside the monitor.
+   */
+  public CashGameLobby(Supplier<List<CashGameDetails>> seedSource) {
+    this(seedSource, Runnable::run);
+  }
+
+  /**
+   * @param seedSource Loads the summaries of all games that have not completed; called once, outside the monitor.
+   * @param dispatcher Delivers queued events to subscribers. Deliveries are drained one at a time, in order.
+   */
+  public CashGameLobby(Supplier<List<CashGameDetails>> seedSource, Executor dispatcher) {
+    this.seedSource = seedSource;
+    this.dispatcher = dispatcher;
+  }
+
+  /**
+   * Register a subscriber and send it the current list of games.
+   */
+  public void subscribe(GameListener subscriber) {
+    seed();
+    synchronized (this) {
+      subscribers.add(subscriber);
+      outbox.add(new Delivery(new LobbySnapshot(Instant.now(), List.copyOf(games.values())), List.of(subscriber)));
+    }
+    dispatch();
+  }
+
+  public synchronized void unsubscribe(GameListener subscriber) {
+    subscribers.remove(subscriber);
+  }
+
+  /**
+   * Report the current details of a game. Subscribers are only notified if the game's summary changed.
+   */
+  public void gameChanged(CashGameDetails details) {
+    if (details.status() == GameStatus.COMPLETED) {
+      gameRemoved(details.id());
+      return;
+    }
+    CashGameDetails summary = toSummary(details);
+    synchronized (this) {
+      if (summary.equals(games.put(summary.id(), summary))) {
+        return;
+      }
+      broadcast(new LobbyGameUpdated(Instant.now(), summary));
+    }
+    dispatch();
+  }
+
+  /**
+   * Report that a game left the lobby (completed or deleted).
+   */
+  public void gameRemoved(String gameId) {
+    synchronized (this) {
+      if (games.remove(gameId) == null) {
+        return;
+      }
+      broadcast(new LobbyGameRemoved(Instant.now(), gameId));
+    }
+    dispatch();
+  }
+
+  synchronized int subscriberCount() {
+    return subscribers.size();
+  }
+
+  /**
+   * The lobby carries counts, not the player list (the same shape as the search results).
+   */
+  static CashGameDetails toSummary(CashGameDetails details) {
+    return details.players().isEmpty() ? details : details.withPlayers(List.of());
+  }
+
+  private void seed() {
+    if (seeded) {
+      return;
+    }
+    // Query outside the monitor so a game loop publishing a change is never blocked on the database.
+    List<CashGameDetails> persisted = seedSource.get();
+    synchronized (this) {
+      if (seeded) {
+        return;
+      }
+      for (CashGameDetails details : persisted) {
+        if (details.status() != GameStatus.COMPLETED) {
+          // Anything published while the query ran is newer than the database copy.
+          games.putIfAbsent(details.id(), toSummary(details));
+        }
+      }
+      seeded = true;
+    }
+  }
+
+  /**
+   * Queue an event for every current subscriber. Must be called holding the monitor.
+   */
+  private void broadcast(PokerEvent event) {
+    if (!subscribers.isEmpty()) {
+      outbox.add(new Delivery(event, List.copyOf(subscribers)));
+    }
+  }
+
+  private void dispatch() {
+    if (!outbox.isEmpty()) {
+      dispatcher.execute(this::deliverQueued);
+    }
+  }
+
+  /**
+   * Drain the outbox. Only one thread delivers at a time, which keeps every subscriber's events in order; a delivery
+   * queued while the drainer is finishing up is picked up by the re-check.
+   */
+  private void deliverQueued() {
+    while (!outbox.isEmpty() && delivering.compareAndSet(false, true)) {
+      try {
+        for (Delivery delivery = outbox.poll(); delivery != null; delivery = outbox.poll()) {
+          for (GameListener subscriber : delivery.subscribers()) {
+            send(subscriber, delivery.event());
+          }
+        }
+      } finally {
+        delivering.set(false);
+      }
+    }
+  }
+
+  private static void send(GameListener subscriber, PokerEvent event) {
+    try {
+      if (subscriber.acceptsEvent(event)) {
+        subscriber.onEvent(event);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Lobby subscriber [{}] failed to receive [{}]", subscriber.userId(), event.eventType(), e);
+    }
+  }
+}
@@ -5,18 +5,21 @@ import org.homepoker.game.GameManager;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.command.GameCommand;
 import org.homepoker.model.command.JoinGame;
+import org.homepoker.model.command.UpdateCashGameDetailsCommand;
 import org.homepoker.model.event.game.PlayerSeated;
 import org.homepoker.model.event.game.PlayerJoined;
 import org.homepoker.model.game.GameStatus;
 import org.homepoker.model.game.Player;
 import org.homepoker.model.game.PlayerStatus;
 import org.homepoker.model.game.cash.CashGame;
+import org.homepoker.model.game.cash.CashGameDetails;
 import org.homepoker.recording.EventRecorder;
 import org.homepoker.recording.EventRecorderService;
 import org.homepoker.security.SecurityUtilities;
 import org.homepoker.user.UserManager;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Map;
 
@@ -26,16 +29,35 @@ public class CashGameManager extends GameManager<CashGame> {
 
   private final CashGameService cashGameService;
 
+  /**
+   * Read-only view of the game, republished by the game loop whenever a tick changes the game. Lets lobby reads
+   * answer from memory without touching the mutable game state.
+   */
+  private volatile CashGameDetails gameDetails;
+
   public CashGameManager(CashGame game,
                          CashGameService cashGameService,
                          UserManager userManager,
                          SecurityUtilities securityUtilities,
-                         @Nullable EventRecorderService eventRecorderService) {
-    super(game, userManager, securityUtilities);
+                         @Nullable EventRecorderService eventRecorderService,
+                         @Nullable Map<String, Integer> latestHandByTable) {
+    this(game, cashGameService, userManager, securityUtilities, eventRecorderService, latestHandByTable,
+        Clock.systemUTC());
+  }
+
+  public CashGameManager(CashGame game,
+                         CashGameService cashGameService,
+                         UserManager userManager,
+                         SecurityUtilities securityUtilities,
+                         @Nullable EventRecorderService eventRecorderService,
+                         @Nullable Map<String, Integer> latestHandByTable,
+                         Clock clock) {
+    super(game, userManager, securityUtilities, clock);
     this.cashGameService = cashGameService;
+    this.gameDetails = CashGameService.gameToGameDetails(game);
 
     if (eventRecorderService != null) {
-      Map<String, Integer> seed = eventRecorderService.seedHandTracker();
+      Map<String, Integer> seed = eventRecorderService.seedHandTracker(game, latestHandByTable);
       addGameListener(new EventRecorder(eventRecorderService, seed));
     }
   }
@@ -44,6 +66,7 @@ public class CashGameManager extends GameManager<CashGame> {
   protected void applyGameSpecificCommand(GameCommand command, CashGame game, GameContext gameContext) {
     switch (command) {
       case JoinGame gameCommand -> joinGame(gameCommand, game, gameContext);
+      case UpdateCashGameDetailsCommand cmd -> updateGameDetails(cmd, game, gameContext);
       default -> throw new ValidationException("Unsupported command: " + command.getClass().getSimpleName());
     }
   }
@@ -71,10 +94,20 @@ public class CashGameManager extends GameManager<CashGame> {
     if (player.tableId() == null && player.chipCount() > 0 && (game.status() == GameStatus.SEATING || game.status() == GameStatus.ACTIVE)) {
       String tableId = assignPlayerToTableWithFewestPlayers(player, game, gameSettings().numberOfSeats());
       if (tableId != null) {
-        gameContext.queueEvent(new PlayerSeated(Instant.now(), 0L, game.id(), player.userId(), tableId));
+        seatsChanged(tableId);
+        gameContext.queueEvent(new PlayerSeated(Instant.now(clock()), 0L, game.id(), player.userId(), tableId));
       }
     }
-    gameContext.queueEvent(new PlayerJoined(Instant.now(), 0L, game.id(), player.userId()));
+    gameContext.queueEvent(new PlayerJoined(Instant.now(clock()), 0L, game.id(), player.userId()));
+    gameContext.forceUpdate(true);
+  }
+
+  /**
+   * Apply an update to the game's details that was made while the game is in memory. The service has already
+   * validated it against the stored game; the status is checked again here because the game may have moved on since.
+   */
+  private void updateGameDetails(UpdateCashGameDetailsCommand command, CashGame game, GameContext gameContext) {
+    cashGameService.applyDetailsToGame(game, command.details());
     gameContext.forceUpdate(true);
   }
 
@@ -86,7 +119,7 @@ public class CashGameManager extends GameManager<CashGame> {
    *
    */
   public CashGameManager copy() {
-    return new CashGameManager(game().copy(), cashGameService, userManager(), securityUtilities(), null);
+    return new CashGameManager(game().copy(), cashGameService, userManager(), securityUtilities(), null, null);
   }
 
   /**
@@ -98,6 +131,19 @@ public class CashGameManager extends GameManager<CashGame> {
     return gameForTestOnly();
   }
 
+  /**
+   * The most recent snapshot of the game's details published by the game loop.
+   */
+  public CashGameDetails gameDetails() {
+    return gameDetails;
+  }
+
+  @Override
+  protected void onGameStateChanged(CashGame game) {
+    gameDetails = CashGameService.gameToGameDetails(game);
+    cashGameService.gameDetailsChanged(gameDetails);
+  }
+
   @Override
   protected CashGame persistGameState(CashGame game) {
     return cashGameService.saveGame(game);
@@ -6,19 +6,26 @@ import org.homepoker.lib.exception.ResourceNotFound;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.game.*;
 import org.homepoker.lib.util.DateTimeUtils;
+import org.homepoker.model.command.UpdateCashGameDetailsCommand;
 import org.homepoker.model.game.*;
 import org.homepoker.model.game.cash.CashGame;
 import org.homepoker.model.game.cash.CashGameDetails;
+import org.homepoker.model.user.User;
 import org.homepoker.recording.EventRecorderService;
 import org.homepoker.security.SecurityUtilities;
 import org.homepoker.threading.VirtualThreadManager;
 import org.homepoker.user.UserManager;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ObjectOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -28,6 +35,10 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Service
@@ -50,24 +61,68 @@ public class CashGameService {
 
   private final Map<String, CashGameManager> gameManagerMap = new ConcurrentHashMap<>();
 
-  private Instant lastGameCheck = Instant.now().minusSeconds(1);
+  /**
+   * Scheduled games that are not yet in memory, keyed by the moment seating opens. Filled on create/update and by
+   * the startup load; polled once per loop.
+   */
+  private final GameActivationQueue activationQueue;
+
+  /**
+   * The startup load of persisted games runs on the first pass of the game loop.
+   */
+  private final AtomicBoolean initialLoadPending = new AtomicBoolean(true);
+
+  /**
+   * Wait before retrying a game that failed to activate (e.g., a transient database error). Doubles with each
+   * consecutive failure of the same game, up to {@link #MAX_ACTIVATION_RETRY_DELAY}.
+   */
+  private static final Duration ACTIVATION_RETRY_DELAY = Duration.ofSeconds(2);
+  private static final Duration MAX_ACTIVATION_RETRY_DELAY = Duration.ofMinutes(1);
+
+  /**
+   * Consecutive activation failures per game, cleared once the game is in memory.
+   */
+  private final Map<String, Integer> activationFailures = new ConcurrentHashMap<>();
+
+  /**
+   * How long a PAUSED/SEATING game may sit with no connected users and no commands before it is passivated. Zero
+   * disables passivation.
+   */
+  private final Duration idlePassivation;
+
+  /**
+   * Pushes incremental game summary changes to lobby subscribers.
+   */
+  private final CashGameLobby lobby;
+
+  /**
+   * The game loop's clock, shared with every game manager. The system clock in production; a simulated clock runs the
+   * whole server in compressed time.
+   */
+  private final Clock clock;
 
   public CashGameService(CashGameRepository gameRepository, UserManager userManager, SecurityUtilities securityUtilities,
                          MongoOperations mongoOperations, VirtualThreadManager threadManager, GameServerProperties gameServerProperties,
-                         EventRecorderService eventRecorderService) {
+                         EventRecorderService eventRecorderService, Clock clock) {
+    this.clock = clock;
+    this.activationQueue = new GameActivationQueue(clock);
     this.gameRepository = gameRepository;
     this.userManager = userManager;
     this.mongoOperations = mongoOperations;
     this.securityUtilities = securityUtilities;
     this.threadManager = threadManager;
     this.eventRecorderService = eventRecorderService;
+    this.idlePassivation = Duration.ofSeconds(gameServerProperties.idlePassivationSeconds());
+    this.lobby = new CashGameLobby(() -> findGames(GameCriteria.builder()
+        .statuses(List.of(GameStatus.SCHEDULED, GameStatus.SEATING, GameStatus.ACTIVE, GameStatus.PAUSED))
+        .build()), threadManager.getExecutor());
 
     // Set up a scheduled task to run a game "tick" based on the game loop interval.
     if (gameServerProperties.gameLoopIntervalMilliseconds() == 0) {
       log.info("Game loop is disabled for testing.");
       gamesScheduler = null;
     } else {
-      ZonedDateTime now = ZonedDateTime.now();
+      ZonedDateTime now = ZonedDateTime.now(clock);
       long initialDelay = Duration.between(now, now.plusSeconds(2).withNano(0)).toMillis();
       gamesScheduler = threadManager.getScheduler().scheduleAtFixedRate(
           this::processGames, initialDelay, 1000, TimeUnit.MILLISECONDS);
@@ -75,8 +130,8 @@ public class CashGameService {
   }
 
   /**
-   * Currently we have a top-level scheduler that runs every second. This method will farm out additional threads
-   * to process each game to check if new games should be loaded/started.
+   * Currently we have a top-level scheduler that runs every second. This method activates any scheduled games whose
+   * seating window has opened and farms out additional threads to tick each game in memory.
    */
   void processGames() {
 
@@ -88,16 +143,29 @@ public class CashGameService {
 
     try {
 
-      if (Instant.now().isAfter(lastGameCheck)) {
-        // Spin up a new thread to load any new games that are not yet in memory (we do this once a minute)
+      if (initialLoadPending.compareAndSet(true, false)) {
+        // Spin up a new thread to load the persisted games (this happens once, at startup)
         threadManager.getExecutor().submit(this::loadNewGames);
       }
 
-      for (GameManager<CashGame> gameManager : List.copyOf(gameManagerMap.values())) {
+      List<String> dueGameIds = activationQueue.pollDue();
+      if (!dueGameIds.isEmpty()) {
+        threadManager.getExecutor().submit(() -> activateGames(dueGameIds));
+      }
+
+      Instant idleCutoff = Instant.now(clock).minus(idlePassivation);
+      for (CashGameManager gameManager : List.copyOf(gameManagerMap.values())) {
         if (gameManager.gameStatus() == GameStatus.COMPLETED) {
           // Remove the game manager from the map if the game is completed.
           gameManagerMap.remove(gameManager.gameId());
         }
+        if (!idlePassivation.isZero() && passivateIfIdle(gameManager, idleCutoff)) {
+          continue;
+        }
+        if (gameManager.isAwaitingSeating()) {
+          // A scheduled game loaded early (e.g., a player joined ahead of time) has nothing to do until seating opens.
+          continue;
+        }
         // Spin up a new thread to process each game
         threadManager.getExecutor().submit(gameManager::processGameTick);
       }
@@ -109,24 +177,119 @@ public class CashGameService {
     }
   }
 
+  /**
+   * Checkpoint and release an idle game manager. The next {@link #getGameManger(String)} (a WebSocket connect or a
+   * REST call) rehydrates the game from the database; a stale reference to the released manager forwards to it.
+   *
+   * @return true if the manager was passivated.
+   */
+  boolean passivateIfIdle(CashGameManager gameManager, Instant idleCutoff) {
+    String gameId = gameManager.gameId();
+    if (!gameManager.passivateIfIdle(idleCutoff, () -> getGameManger(gameId))) {
+      return false;
+    }
+    gameManagerMap.remove(gameId, gameManager);
+    // Anything that reached the manager while it was being released moves to a rehydrated one.
+    gameManager.forwardToSuccessor();
+    log.info("Passivated idle game [{}] ({}).", gameId, gameManager.gameStatus());
+    return true;
+  }
+
+  /**
+   * Startup load of persisted games: in-progress games from today are loaded into memory, and scheduled games (today
+   * or later) are queued for activation when their seating window opens. Any that are already due are loaded now.
+   */
   protected void loadNewGames() {
     try {
-      lastGameCheck = DateTimeUtils.computeNextWallMinute();
-
       Instant startOfDay = DateTimeUtils.getStartOfDayInCurrentZone();
-      Instant endOfDay = startOfDay.plus(Duration.ofDays(1));
 
       GameCriteria criteria = GameCriteria.builder()
           .statuses(List.of(GameStatus.SCHEDULED, GameStatus.ACTIVE, GameStatus.PAUSED))
           .startTime(startOfDay)
-          .endTime(endOfDay)
           .build();
-      List<CashGameDetails> games = findGames(criteria);
-      for (CashGameDetails game : games) {
-        getGameManger(game.id());
+
+      // Only the id, status and start time are needed to decide what to do with each game.
+      List<String> gameIdsToLoad = new ArrayList<>();
+      for (GameSchedule game : mongoOperations.query(CashGame.class)
+          .as(GameSchedule.class)
+          .matching(query(toMongoCriteria(criteria)))
+          .all()) {
+        if (gameManagerMap.containsKey(game.id())) {
+          continue;
+        }
+        if (game.status() == GameStatus.SCHEDULED) {
+          activationQueue.schedule(game.id(), seatingOpensAt(game.type(), game.startTime()));
+        } else {
+          gameIdsToLoad.add(game.id());
+        }
+      }
+      gameIdsToLoad.addAll(activationQueue.pollDue());
+      activateGames(gameIdsToLoad);
+    } catch (Exception e) {
+      log.error("Error loading new games, retrying in {}.", ACTIVATION_RETRY_DELAY, e);
+      // Run the startup load again on a later pass of the game loop.
+      threadManager.getScheduler().schedule(() -> initialLoadPending.set(true),
+          ACTIVATION_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Materialize game managers for the given games. The full documents are fetched in one query and one aggregation
+   * seeds the event recorders of every game in the batch. A game that fails to load is queued again with a backoff
+   * (it has already been polled from the activation queue, so nothing else would pick it up).
+   */
+  void activateGames(List<String> gameIds) {
+    List<String> newGameIds = gameIds.stream()
+        .filter(gameId -> !gameManagerMap.containsKey(gameId))
+        .toList();
+    if (newGameIds.isEmpty()) {
+      return;
+    }
+    try {
+      Map<String, Map<String, Integer>> latestHands = eventRecorderService.latestHandByTable(newGameIds);
+      for (CashGame game : gameRepository.findAllById(newGameIds)) {
+        try {
+          gameManagerMap.computeIfAbsent(game.id(),
+              (_) -> createGameManager(game, latestHands.getOrDefault(game.id(), Map.of())));
+          activationFailures.remove(game.id());
+        } catch (Exception e) {
+          log.error("Error activating game [{}]", game.id(), e);
+          retryActivation(game.id());
+        }
       }
     } catch (Exception e) {
-      log.error("Error loading new games", e);
+      log.error("Error activating games {}", newGameIds, e);
+      newGameIds.forEach(this::retryActivation);
+    }
+  }
+
+  /**
+   * Queue a game whose activation failed to be tried again, unless it has been loaded or rescheduled in the meantime.
+   */
+  private void retryActivation(String gameId) {
+    if (gameManagerMap.containsKey(gameId) || activationQueue.deadline(gameId) != null) {
+      return;
+    }
+    int failures = activationFailures.merge(gameId, 1, Integer::sum);
+    Duration delay = ACTIVATION_RETRY_DELAY.multipliedBy(1L << Math.min(failures - 1, 5));
+    if (delay.compareTo(MAX_ACTIVATION_RETRY_DELAY) > 0) {
+      delay = MAX_ACTIVATION_RETRY_DELAY;
+    }
+    log.info("Retrying activation of game [{}] in {}.", gameId, delay);
+    activationQueue.schedule(gameId, Instant.now(clock).plus(delay));
+  }
+
+  /**
+   * Games open seating before their start time, by the seating window of their game type's settings (the same
+   * settings the game manager uses, see {@link GameManager#seatingOpensAt()}).
+   */
+  private static Instant seatingOpensAt(@Nullable GameType type, Instant startTime) {
+    return startTime.minusSeconds(GameSettings.forGameType(type).seatingTimeSeconds());
+  }
+
+  private void scheduleActivation(CashGame game) {
+    if (game.status() == GameStatus.SCHEDULED && !gameManagerMap.containsKey(game.id())) {
+      activationQueue.schedule(game.id(), seatingOpensAt(game.type(), game.startTime()));
     }
   }
 
@@ -138,18 +301,35 @@ public class CashGameService {
   }
 
   /**
-   * Find cash games that have been persisted.
+   * Find cash games that have been persisted. Only the summary fields are read from Mongo: the
+   * {@code players}/{@code tables} subtrees are reduced to counts server-side, so the returned details carry
+   * {@code playerCount}/{@code tableCount} and an empty {@code players} list. Use {@link #getGameDetails(String)}
+   * for a single game's full player list.
    *
    * @param criteria The search criteria
-   * @return A list of games that match the criteria.
+   * @return A list of games that match the criteria, ordered by start time.
    */
   public List<CashGameDetails> findGames(GameCriteria criteria) {
 
-    if (criteria.statuses() == null && criteria.startTime() == null && criteria.endTime() == null) {
-      //No criteria provided, return all games.
-      return gameRepository.findAll().stream().map(CashGameService::gameToGameDetails).toList();
-    }
+    TypedAggregation<CashGame> aggregation = newAggregation(CashGame.class,
+        match(toMongoCriteria(criteria)),
+        sort(Sort.Direction.ASC, "startTime", "_id"),
+        project("name", "type", "status", "startTime", "maxBuyIn", "owner", "smallBlind", "bigBlind")
+            .and(ArrayOperators.Size.lengthOfArray(ObjectOperators.ObjectToArray.valueOfToArray("players")))
+            .as("playerCount")
+            .and(ArrayOperators.Size.lengthOfArray(ObjectOperators.ObjectToArray.valueOfToArray("tables")))
+            .as("tableCount"));
+
+    return mongoOperations.aggregate(aggregation, GameListing.class).getMappedResults().stream()
+        .map(CashGameService::listingToGameDetails)
+        .toList();
+  }
 
+  /**
+   * Translate the search criteria into a Mongo query. Status and start time are covered by the
+   * {@code cashGame_status_start_idx} index (see {@code MongoConfiguration}).
+   */
+  private static Criteria toMongoCriteria(GameCriteria criteria) {
     Criteria mongoCriteria = new Criteria();
 
     if (criteria.statuses() != null) {
@@ -162,10 +342,7 @@ public class CashGameService {
     } else if (criteria.endTime() != null) {
       mongoCriteria.and("startTime").lte(criteria.endTime());
     }
-    return mongoOperations.query(CashGame.class)
-        .matching(query(mongoCriteria))
-        .all().stream()
-        .map(CashGameService::gameToGameDetails).toList();
+    return mongoCriteria;
   }
 
   /**
@@ -176,15 +353,22 @@ public class CashGameService {
    */
   public CashGameManager getGameManger(String gameId) {
 
-    return gameManagerMap.computeIfAbsent(gameId,
-        (_) -> {
-          //If the game manager is not yet in memory, we retrieve the game from
-          //the database and materialize the game manager
-          CashGame game = gameRepository.findById(gameId).orElseThrow(
-              () -> new ResourceNotFound("The cash game [" + gameId + "] does not exist.")
-          );
-          return new CashGameManager(game, this,  userManager, securityUtilities, eventRecorderService);
-        });
+    return gameManagerMap.computeIfAbsent(gameId, (_) -> {
+      //If the game manager is not yet in memory, we retrieve the game from
+      //the database and materialize the game manager
+      CashGame game = gameRepository.findById(gameId).orElseThrow(
+          () -> new ResourceNotFound("The cash game [" + gameId + "] does not exist.")
+      );
+      return createGameManager(game, null);
+    });
+  }
+
+  /**
+   * @param latestHandByTable The game's latest recorded hand per table when already fetched in bulk, or null to
+   *                          have the event recorder look it up.
+   */
+  private CashGameManager createGameManager(CashGame game, @Nullable Map<String, Integer> latestHandByTable) {
+    return new CashGameManager(game, this, userManager, securityUtilities, eventRecorderService, latestHandByTable, clock);
   }
 
   /** Test-only: drop the cached CashGameManager so the next getGameManger() reconstructs it. */
@@ -202,9 +386,11 @@ public class CashGameService {
    * @throws ValidationException If a validation error occurs
    */
   public CashGameDetails createGame(CashGameDetails gameDetails) {
-    return CashGameService.gameToGameDetails(
-        gameRepository.save(applyDetailsToGame(CashGame.builder().build(), gameDetails))
-    );
+    CashGame game = gameRepository.save(applyDetailsToGame(CashGame.builder().build(), gameDetails));
+    scheduleActivation(game);
+    CashGameDetails details = CashGameService.gameToGameDetails(game);
+    lobby.gameChanged(details);
+    return details;
   }
 
   /**
@@ -220,8 +406,29 @@ public class CashGameService {
         () -> new ResourceNotFound("The cash game [" + details.id() + "] does not exist.")
     );
 
-    //Find the game by ID
-    return CashGameService.gameToGameDetails(gameRepository.save(applyDetailsToGame(game, details)));
+    CashGameManager gameManager = gameManagerMap.get(details.id());
+    if (gameManager != null) {
+      // A resident manager checkpoints its own copy of the game from the game loop, which would overwrite a save made
+      // here. Validate against the stored copy, then hand the update to the loop (which republishes it to the lobby).
+      if (gameManager.gameDetails().status() != GameStatus.SCHEDULED) {
+        throw new ValidationException("You can only update the details of the game prior to it starting");
+      }
+      game = applyDetailsToGame(game, details);
+      gameManager.submitCommand(new UpdateCashGameDetailsCommand(game.id(), game.owner(), details));
+      return CashGameService.gameToGameDetails(game);
+    }
+
+    game = gameRepository.save(applyDetailsToGame(game, details));
+    gameManager = gameManagerMap.get(details.id());
+    if (gameManager != null) {
+      // The game was activated while the update was being saved, possibly from the copy it replaced.
+      gameManager.submitCommand(new UpdateCashGameDetailsCommand(game.id(), game.owner(), details));
+    }
+    // Re-key the activation in case the start time moved.
+    scheduleActivation(game);
+    CashGameDetails updated = CashGameService.gameToGameDetails(game);
+    lobby.gameChanged(updated);
+    return updated;
   }
 
   /**
@@ -232,6 +439,11 @@ public class CashGameService {
    * @throws ValidationException If the game does not exist or a validation error occurs
    */
   public CashGameDetails getGameDetails(String gameId) {
+    // A resident game answers from the snapshot its game loop publishes; only games not in memory are read from Mongo.
+    CashGameManager gameManager = gameManagerMap.get(gameId);
+    if (gameManager != null) {
+      return gameManager.gameDetails();
+    }
     return gameToGameDetails(
         gameRepository.findById(gameId).orElseThrow(
             () -> new ResourceNotFound("The cash game [" + gameId + "] does not exist.")
@@ -247,6 +459,28 @@ public class CashGameService {
    */
   public void deleteGame(String gameId) {
     gameRepository.deleteById(gameId);
+    activationQueue.cancel(gameId);
+    lobby.gameRemoved(gameId);
+  }
+
+  /**
+   * Subscribe to the lobby feed. The subscriber immediately receives a
+   * {@link org.homepoker.model.event.lobby.LobbySnapshot} of every game that has not completed, followed by an
+   * update each time a game's summary changes.
+   */
+  public void subscribeToLobby(GameListener subscriber) {
+    lobby.subscribe(subscriber);
+  }
+
+  public void unsubscribeFromLobby(GameListener subscriber) {
+    lobby.unsubscribe(subscriber);
+  }
+
+  /**
+   * Called by a resident game's loop after a tick changed the game.
+   */
+  void gameDetailsChanged(CashGameDetails details) {
+    lobby.gameChanged(details);
   }
 
   /**
@@ -256,7 +490,7 @@ public class CashGameService {
    * @param gameDetails The game details.
    * @return A mono of the CashGame
    */
-  private CashGame applyDetailsToGame(CashGame game, CashGameDetails gameDetails) {
+  CashGame applyDetailsToGame(CashGame game, CashGameDetails gameDetails) {
 
     if (game.status() != GameStatus.SCHEDULED) {
       throw new ValidationException("You can only update the details of the game prior to it starting");
@@ -269,7 +503,7 @@ public class CashGameService {
 
     //If the start date is not specified, we default to "now" so the game immediately transitions to SEATING
     // (where tables are created and players are seated). The admin can then start the game when ready.
-    Instant now = Instant.now();
+    Instant now = Instant.now(clock);
     Instant startTime = gameDetails.startTime();
 
     if (startTime == null) {
@@ -305,12 +539,13 @@ public class CashGameService {
   }
 
   /**
-   * Method to convert a cash game into a cash game details.
+   * Method to convert a cash game into a cash game details. Players are copied, so the details do not share mutable
+   * state with the game.
    *
    * @param game The cash game
    * @return The details for the cash game.
    */
-  private static CashGameDetails gameToGameDetails(CashGame game) {
+  static CashGameDetails gameToGameDetails(CashGame game) {
     return CashGameDetails.builder()
         .id(game.id())
         .name(game.name())
@@ -321,10 +556,38 @@ public class CashGameService {
         .owner(game.owner())
         .smallBlind(game.smallBlind())
         .bigBlind(game.bigBlind())
-        .players(List.copyOf(game.players().values()))
+        .players(game.players().values().stream().map(Player::copy).toList())
+        .playerCount(game.players().size())
+        .tableCount(game.tables().size())
         .build();
   }
 
+  private static CashGameDetails listingToGameDetails(GameListing listing) {
+    return CashGameDetails.builder()
+        .id(listing.id())
+        .name(listing.name())
+        .type(listing.type())
+        .status(listing.status())
+        .startTime(listing.startTime())
+        .maxBuyIn(listing.maxBuyIn())
+        .owner(listing.owner())
+        .smallBlind(listing.smallBlind())
+        .bigBlind(listing.bigBlind())
+        .players(List.of())
+        .playerCount(listing.playerCount())
+        .tableCount(listing.tableCount())
+        .build();
+  }
+
+  /** Projection of a cash game document for {@link #findGames(GameCriteria)}. */
+  record GameListing(String id, String name, GameType type, GameStatus status, @Nullable Instant startTime,
+                     int maxBuyIn, User owner, int smallBlind, int bigBlind, int playerCount, int tableCount) {
+  }
+
+  /** Projection used by {@link #loadNewGames()} to decide whether to load or queue each game. */
+  record GameSchedule(String id, @Nullable GameType type, GameStatus status, Instant startTime) {
+  }
+
   public CashGame saveGame(CashGame game) {
     return gameRepository.save(game);
   }
@@ -332,10 +595,10 @@ public class CashGameService {
   /**
    * Used for testing purposes only.
    *
-   * @param lastGameCheck The last game check time can be set in the past to test the game loop (and ensure it loads new games).
+   * @return The pending activation deadline for a scheduled game, or null if it is not queued.
    */
-  protected void setLastGameCheck(Instant lastGameCheck) {
-    this.lastGameCheck = lastGameCheck;
+  protected @Nullable Instant scheduledActivation(String gameId) {
+    return activationQueue.deadline(gameId);
   }
 
   /**
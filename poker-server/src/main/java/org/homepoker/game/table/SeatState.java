@@ -0,0 +1,205 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A structure-of-arrays view of a table's seats (status, all-in flag and current bet per position, plus a user ID to
+ * position index) with the counts the hand logic asks for on every action maintained incrementally.
+ * <p>
+ * The {@link Seat} objects remain the source of truth: every mutator here writes through to the seat, and
+ * {@link #sync(Table)} rebuilds the view from the seats. The table manager mutates seats only through this class, so
+ * the view and the counters stay exact from one tick to the next; it syncs only when the game manager has seated or
+ * unseated players since (see {@link TableManager#seatsChanged()}).
+ * <p>
+ * Positions are 1-indexed, matching {@link Table#seatAt(int)}. Not thread-safe; used from the game loop only.
+ */
+final class SeatState {
+
+  private Seat[] seats = new Seat[0];
+  private Seat.Status[] statuses = new Seat.Status[0];
+  private boolean[] allIn = new boolean[0];
+  private int[] bets = new int[0];
+  private final Map<String, Integer> positionsByUser = new HashMap<>();
+
+  private int size;
+  private int seated;
+  private int nonFolded;
+  private int activeNonAllIn;
+
+  /**
+   * Rebuild the view from the table's seats.
+   */
+  void sync(Table table) {
+    List<Seat> tableSeats = table.seats();
+    size = tableSeats.size();
+    if (seats.length < size) {
+      seats = new Seat[size];
+      statuses = new Seat.Status[size];
+      allIn = new boolean[size];
+      bets = new int[size];
+    }
+    positionsByUser.clear();
+    seated = 0;
+    nonFolded = 0;
+    activeNonAllIn = 0;
+    for (int i = 0; i < size; i++) {
+      Seat seat = tableSeats.get(i);
+      seats[i] = seat;
+      statuses[i] = seat.status();
+      allIn[i] = seat.isAllIn();
+      bets[i] = seat.currentBetAmount();
+      Player player = seat.player();
+      if (player != null) {
+        positionsByUser.put(player.userId(), i + 1);
+      }
+      count(i, 1);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  Seat.Status status(int position) {
+    return statuses[position - 1];
+  }
+
+  boolean isAllIn(int position) {
+    return allIn[position - 1];
+  }
+
+  int bet(int position) {
+    return bets[position - 1];
+  }
+
+  /** True if the seat is still in the hand (not folded) and can still act (not all-in). */
+  boolean canAct(int position) {
+    return statuses[position - 1] == Seat.Status.ACTIVE && !allIn[position - 1];
+  }
+
+  void status(int position, Seat.Status status) {
+    int i = position - 1;
+    count(i, -1);
+    statuses[i] = status;
+    seats[i].status(status);
+    count(i, 1);
+  }
+
+  void allIn(int position, boolean value) {
+    int i = position - 1;
+    count(i, -1);
+    allIn[i] = value;
+    seats[i].isAllIn(value);
+    count(i, 1);
+  }
+
+  void bet(int position, int amount) {
+    bets[position - 1] = amount;
+    seats[position - 1].currentBetAmount(amount);
+  }
+
+  /**
+   * Record that the seats' bets have been collected into the pots (and reset to zero on the seats).
+   */
+  void betsCollected() {
+    for (int i = 0; i < size; i++) {
+      bets[i] = 0;
+    }
+  }
+
+  /**
+   * Empty a seat, removing its player from the user index.
+   */
+  void vacate(int position) {
+    Player player = seats[position - 1].player();
+    if (player != null) {
+      positionsByUser.remove(player.userId());
+    }
+    seats[position - 1].player(null);
+    status(position, Seat.Status.EMPTY);
+  }
+
+  /** Seats that are not empty. */
+  int seatedCount() {
+    return seated;
+  }
+
+  /** Seats still in the current hand (status ACTIVE, including all-in seats). */
+  int nonFoldedCount() {
+    return nonFolded;
+  }
+
+  /** Seats still in the current hand that can act (ACTIVE and not all-in). */
+  int activeNonAllInCount() {
+    return activeNonAllIn;
+  }
+
+  /**
+   * @return The user's 1-indexed seat position, or -1 if they are not seated.
+   */
+  int positionOf(String userId) {
+    Integer position = positionsByUser.get(userId);
+    return position == null ? -1 : position;
+  }
+
+  /**
+   * @return The first ACTIVE position clockwise after {@code fromPosition} (wrapping around to it), or
+   * {@code fromPosition} if there is none.
+   */
+  int nextActive(int fromPosition) {
+    if (nonFolded > 0) {
+      for (int step = 1; step <= size; step++) {
+        int i = (fromPosition - 1 + step) % size;
+        if (statuses[i] == Seat.Status.ACTIVE) {
+          return i + 1;
+        }
+      }
+    }
+    return fromPosition;
+  }
+
+  /**
+   * @param includeFrom Whether {@code fromPosition} itself may be returned after wrapping around.
+   * @return The first ACTIVE, non-all-in position clockwise after {@code fromPosition}, or null if there is none.
+   */
+  @Nullable
+  Integer nextActiveNonAllIn(int fromPosition, boolean includeFrom) {
+    if (activeNonAllIn > 0) {
+      int steps = includeFrom ? size : size - 1;
+      for (int step = 1; step <= steps; step++) {
+        int i = (fromPosition - 1 + step) % size;
+        if (statuses[i] == Seat.Status.ACTIVE && !allIn[i]) {
+          return i + 1;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return The first ACTIVE position, or -1 if there is none.
+   */
+  int firstActive() {
+    return nonFolded == 0 ? -1 : nextActive(size);
+  }
+
+  private void count(int i, int delta) {
+    Seat.Status status = statuses[i];
+    if (status != Seat.Status.EMPTY) {
+      seated += delta;
+    }
+    if (status == Seat.Status.ACTIVE) {
+      nonFolded += delta;
+      if (!allIn[i]) {
+        activeNonAllIn += delta;
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects a table's outstanding bets into pots, splitting off side pots when players are all-in for different amounts.
+ * <p>
+ * Bets are "peeled" in ascending order: each distinct bet level forms a layer that every seat betting at least that
+ * much contributes to, and only the non-folded seats among those contributors are eligible to win it. A layer whose
+ * eligible seats are the same as the previous pot's is merged into that pot (including the last pot left over from an
+ * earlier betting round). Eligible seat positions are listed in ascending bet order, ties by seat position.
+ * <p>
+ * The work is done on primitive scratch arrays that are reused from one betting round to the next, so the only
+ * allocations are the {@link Table.Pot} records that actually change. Instances are not thread-safe; each table
+ * manager owns one and uses it from the game loop.
+ */
+final class SidePotCalculator {
+
+  /** 1-indexed seat positions of the seats with a bet, sorted by bet amount (stable by position). */
+  private int[] positions;
+  /** Bet amounts, parallel to {@link #positions}. */
+  private int[] amounts;
+  /** Whether the seat at the same index has folded, parallel to {@link #positions}. */
+  private boolean[] folded;
+
+  SidePotCalculator(int capacity) {
+    positions = new int[capacity];
+    amounts = new int[capacity];
+    folded = new boolean[capacity];
+  }
+
+  /**
+   * Move every seat's current bet into the table's pots and reset the bets to zero.
+   *
+   * @param table The table whose bets are collected.
+   */
+  void collectBets(Table table) {
+    List<Seat> seats = table.seats();
+    if (seats.size() > positions.length) {
+      positions = new int[seats.size()];
+      amounts = new int[seats.size()];
+      folded = new boolean[seats.size()];
+    }
+
+    // Gather the non-zero bets, insertion-sorted by amount. Strict comparison keeps equal bets in seat order.
+    int count = 0;
+    for (int index = 0; index < seats.size(); index++) {
+      Seat seat = seats.get(index);
+      int bet = seat.currentBetAmount();
+      if (bet <= 0) {
+        continue;
+      }
+      int insertAt = count;
+      while (insertAt > 0 && amounts[insertAt - 1] > bet) {
+        positions[insertAt] = positions[insertAt - 1];
+        amounts[insertAt] = amounts[insertAt - 1];
+        folded[insertAt] = folded[insertAt - 1];
+        insertAt--;
+      }
+      positions[insertAt] = index + 1;
+      amounts[insertAt] = bet;
+      folded[insertAt] = seat.status() == Seat.Status.FOLDED;
+      count++;
+    }
+    if (count == 0) {
+      return;
+    }
+
+    List<Table.Pot> pots = table.pots();
+    // The pot being built: its chips, and the first sorted index of its contributors. Its eligible seats are the
+    // non-folded seats from that index onward.
+    int pendingAmount = 0;
+    int pendingStart = -1;
+    boolean pendingMergesWithLast = false;
+
+    int previousLevel = 0;
+    int index = 0;
+    while (index < count) {
+      int level = amounts[index];
+      // Every seat from here on bet at least this level; every seat before bet exactly a previous level.
+      int layer = (count - index) * (level - previousLevel);
+
+      if (pendingStart < 0) {
+        pendingMergesWithLast = !pots.isEmpty() && sameEligible(pots.getLast().seatPositions(), index, count);
+        pendingStart = index;
+        pendingAmount = layer;
+      } else if (noneEligibleBetween(pendingStart, index)) {
+        // The seats that dropped out at the previous level had all folded, so the eligible seats are unchanged.
+        pendingAmount += layer;
+      } else {
+        flush(pots, pendingAmount, pendingStart, count, pendingMergesWithLast);
+        pendingStart = index;
+        pendingAmount = layer;
+        pendingMergesWithLast = false;
+      }
+
+      previousLevel = level;
+      while (index < count && amounts[index] == level) {
+        index++;
+      }
+    }
+    flush(pots, pendingAmount, pendingStart, count, pendingMergesWithLast);
+
+    for (Seat seat : seats) {
+      seat.currentBetAmount(0);
+    }
+  }
+
+  private void flush(List<Table.Pot> pots, int amount, int start, int count, boolean mergeWithLast) {
+    if (mergeWithLast) {
+      Table.Pot last = pots.getLast();
+      pots.set(pots.size() - 1, new Table.Pot(last.amount() + amount, last.seatPositions()));
+      return;
+    }
+    List<Integer> eligible = new ArrayList<>(count - start);
+    for (int i = start; i < count; i++) {
+      if (!folded[i]) {
+        eligible.add(positions[i]);
+      }
+    }
+    pots.add(new Table.Pot(amount, eligible));
+  }
+
+  private boolean noneEligibleBetween(int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (!folded[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean sameEligible(List<Integer> seatPositions, int start, int count) {
+    int matched = 0;
+    for (int i = start; i < count; i++) {
+      if (folded[i]) {
+        continue;
+      }
+      if (matched >= seatPositions.size() || seatPositions.get(matched) != positions[i]) {
+        return false;
+      }
+      matched++;
+    }
+    return matched == seatPositions.size();
+  }
+}
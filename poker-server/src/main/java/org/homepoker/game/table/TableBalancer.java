@@ -0,0 +1,163 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An index of a game's tables by player count (and so by open seats), used to seat new players and to plan table
+ * balancing for multi-table games.
+ * <p>
+ * Player counts are bounded by the seats per table, so the index is a set of buckets, one per count: building it is
+ * a single pass over the seats, and both the least-full-table lookup and the ordering used by the planner are linear
+ * in the number of tables plus the seats per table (no comparison sort).
+ * <p>
+ * The index is a snapshot: build it, use it, and discard it. It is not updated when players are seated.
+ */
+public final class TableBalancer {
+
+  /**
+   * Move one player from a table to another.
+   */
+  public record Move(String fromTableId, String toTableId) {
+  }
+
+  /**
+   * The moves that balance the tables.
+   *
+   * @param tablesToBreak Tables to remove once their players have moved (every player at them has a move).
+   * @param moves         One entry per player to move, the fewest moves that balance the tables.
+   */
+  public record Plan(List<String> tablesToBreak, List<Move> moves) {
+
+    /** True if the tables are already balanced. */
+    public boolean isEmpty() {
+      return tablesToBreak.isEmpty() && moves.isEmpty();
+    }
+  }
+
+  private final int seatsPerTable;
+  private final Table[] tables;
+  private final int[] counts;
+  private final int totalPlayers;
+  /** Table indexes ordered by player count (ascending), stable in the iteration order of the tables given. */
+  private final int[] byCount;
+
+  private TableBalancer(Collection<Table> tables, int seatsPerTable) {
+    this.seatsPerTable = seatsPerTable;
+    this.tables = tables.toArray(new Table[0]);
+    this.counts = new int[this.tables.length];
+
+    int maxCount = seatsPerTable;
+    int total = 0;
+    for (int i = 0; i < this.tables.length; i++) {
+      int count = 0;
+      for (Seat seat : this.tables[i].seats()) {
+        if (seat.status() != Seat.Status.EMPTY) {
+          count++;
+        }
+      }
+      counts[i] = count;
+      total += count;
+      maxCount = Math.max(maxCount, count);
+    }
+    this.totalPlayers = total;
+
+    // Counting sort into buckets by player count: bucketStart[c] is the first rank of a table with c players.
+    int[] bucketStart = new int[maxCount + 2];
+    for (int count : counts) {
+      bucketStart[count + 1]++;
+    }
+    for (int c = 1; c < bucketStart.length; c++) {
+      bucketStart[c] += bucketStart[c - 1];
+    }
+    this.byCount = new int[this.tables.length];
+    for (int i = 0; i < this.tables.length; i++) {
+      byCount[bucketStart[counts[i]]++] = i;
+    }
+  }
+
+  /**
+   * Index the given tables.
+   *
+   * @param tables        The game's tables. Ties between tables with the same player count go to the earlier table.
+   * @param seatsPerTable The number of seats at each table.
+   */
+  public static TableBalancer of(Collection<Table> tables, int seatsPerTable) {
+    return new TableBalancer(tables, seatsPerTable);
+  }
+
+  public int totalPlayers() {
+    return totalPlayers;
+  }
+
+  /**
+   * @return The table with the fewest players, or null if every table is full (or there are no tables).
+   */
+  @Nullable
+  public Table tableWithFewestPlayers() {
+    if (tables.length == 0) {
+      return null;
+    }
+    int index = byCount[0];
+    return counts[index] < seatsPerTable ? tables[index] : null;
+  }
+
+  /**
+   * Plan the fewest player moves that leave the players spread over as few tables as will hold them, with no two
+   * tables more than one player apart.
+   * <p>
+   * The tables needed are {@code ceil(players / seatsPerTable)}. The surplus tables with the fewest players are
+   * broken, since every player at a broken table has to move. The remaining tables each get {@code players / tables}
+   * players, and the tables that already have the most players keep the {@code players % tables} extra ones. Every
+   * player over their table's target then moves to a table under its target, and no other player moves, so the
+   * number of moves is the minimum.
+   */
+  public Plan plan() {
+    int tableCount = tables.length;
+    if (tableCount < 2) {
+      return new Plan(List.of(), List.of());
+    }
+    int keep = Math.max(1, (totalPlayers + seatsPerTable - 1) / seatsPerTable);
+    keep = Math.min(keep, tableCount);
+    int breakCount = tableCount - keep;
+    int base = totalPlayers / keep;
+    int extra = totalPlayers % keep;
+
+    // Target player count by table index; broken tables have a target of zero.
+    int[] targets = new int[tableCount];
+    for (int rank = breakCount; rank < tableCount; rank++) {
+      // byCount is ascending, so the last `extra` ranks are the fullest tables.
+      targets[byCount[rank]] = rank >= tableCount - extra ? base + 1 : base;
+    }
+
+    List<String> tablesToBreak = new ArrayList<>(breakCount);
+    for (int rank = 0; rank < breakCount; rank++) {
+      tablesToBreak.add(tables[byCount[rank]].id());
+    }
+
+    // Pair surplus players with open target slots. Walking both in count order moves players from the smallest
+    // (broken) tables first and fills the emptiest tables first.
+    List<Move> moves = new ArrayList<>();
+    int nextDestinationRank = 0;
+    int destination = -1;
+    int open = 0;
+    for (int fromRank = 0; fromRank < tableCount; fromRank++) {
+      int from = byCount[fromRank];
+      for (int surplus = counts[from] - targets[from]; surplus > 0; surplus--) {
+        // Total surplus equals total open slots, so this never runs past the last table.
+        while (open == 0) {
+          destination = byCount[nextDestinationRank++];
+          open = Math.max(0, targets[destination] - counts[destination]);
+        }
+        moves.add(new Move(tables[from].id(), tables[destination].id()));
+        open--;
+      }
+    }
+    return new Plan(tablesToBreak, moves);
+  }
+}
@@ -9,12 +9,14 @@ import org.homepoker.lib.util.ListUtils;
 import org.homepoker.model.game.Game;
 import org.homepoker.model.game.Table;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class TableManager<T extends Game<T>> {
 
   private final GameSettings gameSettings;
+  private final Clock clock;
   protected final Table table;
 
   /**
@@ -24,14 +26,26 @@ public abstract class TableManager<T extends Game<T>> {
   private final AtomicLong tableStreamSeq = new AtomicLong(0);
 
   public TableManager(GameSettings gameSettings, Table table) {
+    this(gameSettings, table, Clock.systemUTC());
+  }
+
+  public TableManager(GameSettings gameSettings, Table table, Clock clock) {
     this.gameSettings = gameSettings;
     this.table = table;
+    this.clock = clock;
   }
 
   protected GameSettings gameSettings() {
     return gameSettings;
   }
 
+  /**
+   * The clock that action deadlines, the predeal timer and the hand review period are measured against.
+   */
+  protected Clock clock() {
+    return clock;
+  }
+
   public Table table() {
     return table;
   }
@@ -56,7 +70,7 @@ public abstract class TableManager<T extends Game<T>> {
 
     switch (command) {
       case GetTableState c -> gameContext.queueEvent(new TableSnapshot(
-          Instant.now(), c.user().id(), c.gameId(), sanitizeTable(table, c.user().id()), currentStreamSeq()));
+          Instant.now(clock), c.user().id(), c.gameId(), sanitizeTable(table, c.user().id()), currentStreamSeq()));
       default ->
           // Allow the subclass to handle any commands that are specific to the game type.
           applySubcommand(command, game, gameContext);
@@ -79,6 +93,13 @@ public abstract class TableManager<T extends Game<T>> {
   protected void applySubcommand(GameCommand command, Game<T> game, GameContext gameContext) {
   }
 
+  /**
+   * Called by the game manager after it seats or unseats players at this table (joins, buy-ins, players leaving and
+   * table balancing). A manager that keeps its own view of the seats refreshes it before it next uses it.
+   */
+  public void seatsChanged() {
+  }
+
   /**
    * Creates a copy of the table with hole cards and pending intents stripped from all seats
    * except the requesting user's.
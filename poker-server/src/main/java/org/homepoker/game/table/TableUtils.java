@@ -16,19 +16,27 @@ public class TableUtils {
    * @param table The table to assign the player to.
    */
   public static void assignPlayerToRandomSeat(Player player, Table table) {
+    // Count, then pick the n-th empty seat: two passes over the seats without building a list of them.
+    List<Seat> seats = table.seats();
+    int emptySeats = 0;
+    for (int i = 0; i < seats.size(); i++) {
+      if (seats.get(i).status() == Seat.Status.EMPTY) {
+        emptySeats++;
+      }
+    }
 
-    List<Seat> emptySeats = table.seats().stream()
-        .filter(seat -> seat.status() == Seat.Status.EMPTY)
-        .toList();
-
-    if (emptySeats.isEmpty()) {
+    if (emptySeats == 0) {
       throw new IllegalArgumentException("No empty seats available");
-    } else {
-      int randomIndex = RandomUtils.randomInt(emptySeats.size());
-      Seat seat = emptySeats.get(randomIndex);
-      seat.status(Seat.Status.JOINED_WAITING);
-      seat.player(player);
-      player.tableId(table.id());
+    }
+    int remaining = RandomUtils.randomInt(emptySeats);
+    for (int i = 0; i < seats.size(); i++) {
+      Seat seat = seats.get(i);
+      if (seat.status() == Seat.Status.EMPTY && remaining-- == 0) {
+        seat.status(Seat.Status.JOINED_WAITING);
+        seat.player(player);
+        player.tableId(table.id());
+        return;
+      }
     }
   }
 }
@@ -15,6 +15,7 @@ import org.homepoker.poker.Deck;
 import org.homepoker.poker.HandResult;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Supplier;
@@ -28,9 +29,24 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
   private final Supplier<Deck> deckSupplier;
 
-  private TexasHoldemTableManager(GameSettings gameSettings, Table table, Supplier<Deck> deckSupplier) {
-    super(gameSettings, table);
+  private final SidePotCalculator sidePotCalculator;
+
+  /**
+   * Array view of the seats with maintained counts. Seat status, all-in flags and bets are only changed through it, so
+   * it stays exact across ticks; it is rebuilt from the table only after the game manager has changed the seating.
+   */
+  private final SeatState seatState = new SeatState();
+
+  /**
+   * True until the seat view is first built, and again whenever {@link #seatsChanged()} reports that players were
+   * seated or unseated from outside this manager. Game-loop thread only.
+   */
+  private boolean seatStateStale = true;
+
+  protected TexasHoldemTableManager(GameSettings gameSettings, Table table, Supplier<Deck> deckSupplier, Clock clock) {
+    super(gameSettings, table, clock);
     this.deckSupplier = deckSupplier;
+    this.sidePotCalculator = new SidePotCalculator(table.seats().size());
   }
 
   /**
@@ -42,15 +58,26 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
   public static <T extends Game<T>> TexasHoldemTableManager<T> forNewTable(
       String tableId, GameSettings settings, Supplier<Deck> deckSupplier) {
+    return forNewTable(tableId, settings, deckSupplier, Clock.systemUTC());
+  }
+
+  public static <T extends Game<T>> TexasHoldemTableManager<T> forNewTable(
+      String tableId, GameSettings settings, Supplier<Deck> deckSupplier, Clock clock) {
+    return new TexasHoldemTableManager<>(settings, emptyTable(tableId, settings), deckSupplier, clock);
+  }
+
+  /**
+   * A brand-new table with empty seats.
+   */
+  protected static Table emptyTable(String tableId, GameSettings settings) {
     List<Seat> seats = new ArrayList<>();
     for (int i = 0; i < settings.numberOfSeats(); i++) {
       seats.add(Seat.builder().build());
     }
-    Table table = Table.builder()
+    return Table.builder()
         .id(tableId)
         .seats(seats)
         .build();
-    return new TexasHoldemTableManager<>(settings, table, deckSupplier);
   }
 
   /**
@@ -63,7 +90,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
   public static <T extends Game<T>> TexasHoldemTableManager<T> forExistingTable(
       Table table, GameSettings settings, Supplier<Deck> deckSupplier) {
-    TexasHoldemTableManager<T> manager = new TexasHoldemTableManager<>(settings, table, deckSupplier);
+    return forExistingTable(table, settings, deckSupplier, Clock.systemUTC());
+  }
+
+  public static <T extends Game<T>> TexasHoldemTableManager<T> forExistingTable(
+      Table table, GameSettings settings, Supplier<Deck> deckSupplier, Clock clock) {
+    TexasHoldemTableManager<T> manager = new TexasHoldemTableManager<>(settings, table, deckSupplier, clock);
     manager.recoverDeck();
     return manager;
   }
@@ -71,7 +103,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
   /**
    * If the table is mid-hand, reconstructs the deck from dealt cards (hole cards + community cards).
    */
-  private void recoverDeck() {
+  protected final void recoverDeck() {
     if (table.handPhase() == HandPhase.WAITING_FOR_PLAYERS ||
         table.handPhase() == HandPhase.PREDEAL ||
         table.handPhase() == HandPhase.DEAL) {
@@ -94,6 +126,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     if (table.status() != Table.Status.PLAYING && table.status() != Table.Status.PAUSE_AFTER_HAND) {
       return;
     }
+    syncSeatStateIfStale();
 
     switch (table.handPhase()) {
       case WAITING_FOR_PLAYERS -> transitionFromWaitingForPlayers(game, gameContext);
@@ -113,6 +146,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
   @Override
   protected void applySubcommand(GameCommand command, Game<T> game, GameContext gameContext) {
+    syncSeatStateIfStale();
     switch (command) {
       case PlayerActionCommand pac -> applyPlayerAction(pac, game, gameContext);
       case PlayerIntent pi -> applyPlayerIntent(pi);
@@ -122,6 +156,18 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
   }
 
+  @Override
+  public void seatsChanged() {
+    seatStateStale = true;
+  }
+
+  private void syncSeatStateIfStale() {
+    if (seatStateStale) {
+      seatState.sync(table);
+      seatStateStale = false;
+    }
+  }
+
   // ========== State Transition Methods ==========
 
   private void transitionFromWaitingForPlayers(Game<T> game, GameContext gameContext) {
@@ -129,7 +175,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     if (table.status() == Table.Status.PAUSE_AFTER_HAND) {
       Table.Status oldStatus = table.status();
       table.status(Table.Status.PAUSED);
-      gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), oldStatus, Table.Status.PAUSED));
+      gameContext.queueEvent(new TableStatusChanged(Instant.now(clock()), 0L, game.id(), table.id(), oldStatus, Table.Status.PAUSED));
       return;
     }
 
@@ -144,11 +190,11 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
   private void transitionFromPredeal(Game<T> game, GameContext gameContext) {
     Instant phaseStarted = table.phaseStartedAt();
     if (phaseStarted == null) {
-      table.phaseStartedAt(Instant.now());
+      table.phaseStartedAt(Instant.now(clock()));
       return;
     }
 
-    boolean timerExpired = phaseStarted.plusSeconds(gameSettings().predealTimeSeconds()).isBefore(Instant.now());
+    boolean timerExpired = phaseStarted.plusSeconds(gameSettings().predealTimeSeconds()).isBefore(Instant.now(clock()));
     boolean noBuyingInPlayers = noBuyingInPlayers();
 
     if (timerExpired || noBuyingInPlayers) {
@@ -164,7 +210,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
         table.phaseStartedAt(null);
         setHandPhase(HandPhase.WAITING_FOR_PLAYERS, game, gameContext);
         gameContext.queueEvent(new WaitingForPlayers(
-            Instant.now(), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
+            Instant.now(clock()), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
       }
     }
   }
@@ -180,7 +226,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     if (activeCount < 2) {
       setHandPhase(HandPhase.WAITING_FOR_PLAYERS, game, gameContext);
       gameContext.queueEvent(new WaitingForPlayers(
-          Instant.now(), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
+          Instant.now(clock()), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
       return;
     }
 
@@ -219,8 +265,8 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     // Deal 2 hole cards to each ACTIVE seat
     int numberOfSeats = table.seats().size();
     for (int pos = 1; pos <= numberOfSeats; pos++) {
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE) {
+      if (seatState.status(pos) == Seat.Status.ACTIVE) {
+        Seat seat = table.seatAt(pos);
         List<Card> cards = deck.drawCards(2);
         List<SeatCard> seatCards = cards.stream()
             .map(c -> new SeatCard(c, false))
@@ -237,14 +283,14 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     table.lastRaiserPosition(bbPosition);
 
     // Set action deadline
-    table.actionDeadline(Instant.now().plusSeconds(gameSettings().actionTimeSeconds()));
+    table.actionDeadline(Instant.now(clock()).plusSeconds(gameSettings().actionTimeSeconds()));
 
     // Increment hand number
     table.handNumber(table.handNumber() + 1);
 
     // Emit events
     gameContext.queueEvent(new HandStarted(
-        Instant.now(), 0L, game.id(), table.id(),
+        Instant.now(clock()), 0L, game.id(), table.id(),
         table.handNumber(), dealerPosition,
         sbPosition, bbPosition, smallBlind, bigBlind,
         table.currentBet(), table.minimumRaise(),
@@ -255,7 +301,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     List<Integer> seatsWithCards = new ArrayList<>();
     for (int pos = 1; pos <= numberOfSeats; pos++) {
       Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE && seat.cards() != null && seat.player() != null) {
+      if (seatState.status(pos) == Seat.Status.ACTIVE && seat.cards() != null && seat.player() != null) {
         seatsWithCards.add(pos);
       }
     }
@@ -264,14 +310,14 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     for (int pos : seatsWithCards) {
       Seat seat = table.seatAt(pos);
       gameContext.queueEvent(new HoleCardsDealt(
-          Instant.now(), 0L, game.id(), table.id(),
+          Instant.now(clock()), 0L, game.id(), table.id(),
           seat.player().userId(), pos, seat.cards(), seatsWithCards
       ));
     }
 
     // Advance to PRE_FLOP_BETTING
     setHandPhase(HandPhase.PRE_FLOP_BETTING, game, gameContext);
-    table.phaseStartedAt(Instant.now());
+    table.phaseStartedAt(Instant.now(clock()));
 
     // Emit action-on event for UTG
     emitActionOnPlayer(game, gameContext);
@@ -281,21 +327,21 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
   private void transitionFromBetting(Game<T> game, GameContext gameContext, HandPhase nextPhase) {
     // Check player timeout
-    if (table.actionDeadline() != null && table.actionDeadline().isBefore(Instant.now())) {
+    if (table.actionDeadline() != null && table.actionDeadline().isBefore(Instant.now(clock()))) {
       Integer actionPos = table.actionPosition();
       if (actionPos != null) {
         Seat actionSeat = table.seatAt(actionPos);
-        if (actionSeat.status() == Seat.Status.ACTIVE && !actionSeat.isAllIn()) {
+        if (seatState.canAct(actionPos)) {
           // Auto-apply default: check if free, else fold
           PlayerAction defaultAction;
-          if (actionSeat.currentBetAmount() >= table.currentBet()) {
+          if (seatState.bet(actionPos) >= table.currentBet()) {
             defaultAction = new PlayerAction.Check();
           } else {
             defaultAction = new PlayerAction.Fold();
           }
 
           gameContext.queueEvent(new PlayerTimedOut(
-              Instant.now(), 0L, game.id(), table.id(), actionPos,
+              Instant.now(clock()), 0L, game.id(), table.id(), actionPos,
               actionSeat.player() != null ? actionSeat.player().userId() : "unknown",
               defaultAction
           ));
@@ -306,7 +352,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
 
     // Check if all but one have folded
-    int activeSeatCount = countNonFoldedPlayers();
+    int activeSeatCount = seatState.nonFoldedCount();
     if (activeSeatCount <= 1) {
       // Award pot to the last remaining player
       awardPotToLastPlayer(game, gameContext);
@@ -318,13 +364,13 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       collectBetsIntoPots();
 
       gameContext.queueEvent(new BettingRoundComplete(
-          Instant.now(), 0L, game.id(), table.id(),
+          Instant.now(clock()), 0L, game.id(), table.id(),
           table.handPhase(), table.pots(),
           HandPlayerStatuses.snapshot(table), potTotal(table)
       ));
 
       // Check for all-in shortcut: if all non-folded players are all-in, deal remaining cards
-      if (allNonFoldedAreAllIn() || countActiveNonAllInPlayers() <= 1) {
+      if (seatState.activeNonAllInCount() <= 1) {
         // Deal remaining community cards and go to showdown
         dealRemainingCommunityCards(game, gameContext);
         setHandPhase(HandPhase.SHOWDOWN, game, gameContext);
@@ -352,7 +398,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     table.communityCards().addAll(newCards);
 
     gameContext.queueEvent(new CommunityCardsDealt(
-        Instant.now(), 0L, game.id(), table.id(), newCards, phase, List.copyOf(table.communityCards())
+        Instant.now(clock()), 0L, game.id(), table.id(), newCards, phase, List.copyOf(table.communityCards())
     ));
 
     // Clear actions and intents from previous betting round
@@ -376,10 +422,10 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
     table.actionPosition(firstActor);
     table.lastRaiserPosition(firstActor); // Post-flop: first actor determines round completion
-    table.actionDeadline(Instant.now().plusSeconds(gameSettings().actionTimeSeconds()));
+    table.actionDeadline(Instant.now(clock()).plusSeconds(gameSettings().actionTimeSeconds()));
 
     setHandPhase(nextBettingPhase, game, gameContext);
-    table.phaseStartedAt(Instant.now());
+    table.phaseStartedAt(Instant.now(clock()));
 
     // Emit action-on event for the first actor in this betting round
     emitActionOnPlayer(game, gameContext);
@@ -399,37 +445,37 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
 
     gameContext.queueEvent(new ShowdownResult(
-        Instant.now(), 0L, game.id(), table.id(), potResults
+        Instant.now(clock()), 0L, game.id(), table.id(), potResults
     ));
 
     // Mark winning cards as showCard = true
     markShowdownCards(potResults);
 
     setHandPhase(HandPhase.HAND_COMPLETE, game, gameContext);
-    table.phaseStartedAt(Instant.now());
+    table.phaseStartedAt(Instant.now(clock()));
     gameContext.forceUpdate(true);
   }
 
   private void transitionFromHandComplete(Game<T> game, GameContext gameContext) {
     Instant phaseStarted = table.phaseStartedAt();
     if (phaseStarted == null) {
-      table.phaseStartedAt(Instant.now());
+      table.phaseStartedAt(Instant.now(clock()));
       return;
     }
 
     // Wait for review period
-    boolean reviewComplete = phaseStarted.plusSeconds(gameSettings().reviewHandTimeSeconds()).isBefore(Instant.now());
+    boolean reviewComplete = phaseStarted.plusSeconds(gameSettings().reviewHandTimeSeconds()).isBefore(Instant.now(clock()));
     if (!reviewComplete) {
       return;
     }
 
     // Emit hand complete event
     gameContext.queueEvent(new HandComplete(
-        Instant.now(), 0L, game.id(), table.id(), table.handNumber()
+        Instant.now(clock()), 0L, game.id(), table.id(), table.handNumber()
     ));
 
     // Remove departed players (status == OUT) and handle busted players
-    handlePostHandPlayerStatus(game);
+    handlePostHandPlayerStatus(game, gameContext);
 
     // Clear hand state
     clearHandState();
@@ -442,7 +488,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       Table.Status oldStatus = table.status();
       table.status(Table.Status.PAUSED);
       setHandPhase(HandPhase.WAITING_FOR_PLAYERS, game, gameContext);
-      gameContext.queueEvent(new TableStatusChanged(Instant.now(), 0L, game.id(), table.id(), oldStatus, Table.Status.PAUSED));
+      gameContext.queueEvent(new TableStatusChanged(Instant.now(clock()), 0L, game.id(), table.id(), oldStatus, Table.Status.PAUSED));
       gameContext.forceUpdate(true);
       return;
     }
@@ -450,7 +496,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     // Determine next phase
     if (hasBuyingInPlayers()) {
       setHandPhase(HandPhase.PREDEAL, game, gameContext);
-      table.phaseStartedAt(Instant.now());
+      table.phaseStartedAt(Instant.now(clock()));
     } else {
       int activeCount = countActivePlayers();
       if (activeCount >= 2) {
@@ -459,7 +505,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       } else {
         setHandPhase(HandPhase.WAITING_FOR_PLAYERS, game, gameContext);
         gameContext.queueEvent(new WaitingForPlayers(
-            Instant.now(), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
+            Instant.now(clock()), 0L, game.id(), table.id(), activeCount, countSeatedPlayers()));
       }
     }
     gameContext.forceUpdate(true);
@@ -474,7 +520,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
 
     // Find the player's seat
-    int seatPosition = findPlayerSeat(command.user().id());
+    int seatPosition = seatState.positionOf(command.user().id());
     if (seatPosition < 0) {
       throw new ValidationException("You are not seated at this table.");
     }
@@ -485,7 +531,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
 
     Seat seat = table.seatAt(seatPosition);
-    if (seat.status() != Seat.Status.ACTIVE || seat.isAllIn()) {
+    if (!seatState.canAct(seatPosition)) {
       throw new ValidationException("You cannot act in your current state.");
     }
 
@@ -499,13 +545,13 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       throw new ValidationException("Intents are only valid during a betting phase.");
     }
 
-    int seatPosition = findPlayerSeat(command.user().id());
+    int seatPosition = seatState.positionOf(command.user().id());
     if (seatPosition < 0) {
       throw new ValidationException("You are not seated at this table.");
     }
 
     Seat seat = table.seatAt(seatPosition);
-    if (seat.status() != Seat.Status.ACTIVE) {
+    if (seatState.status(seatPosition) != Seat.Status.ACTIVE) {
       throw new ValidationException("You cannot set an intent in your current state.");
     }
 
@@ -517,7 +563,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       throw new ValidationException("You can only show cards during the hand review period.");
     }
 
-    int seatPosition = findPlayerSeat(command.user().id());
+    int seatPosition = seatState.positionOf(command.user().id());
     if (seatPosition < 0) {
       throw new ValidationException("You are not seated at this table.");
     }
@@ -536,7 +582,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       throw new ValidationException("You can only post a blind during the predeal phase.");
     }
 
-    int seatPosition = findPlayerSeat(command.user().id());
+    int seatPosition = seatState.positionOf(command.user().id());
     if (seatPosition < 0) {
       throw new ValidationException("You are not seated at this table.");
     }
@@ -554,46 +600,46 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
     switch (action) {
       case PlayerAction.Fold fold -> {
-        seat.status(Seat.Status.FOLDED);
+        seatState.status(seatPosition, Seat.Status.FOLDED);
         seat.action(fold);
       }
       case PlayerAction.Check check -> seat.action(check);
       case PlayerAction.Call _ -> {
-        int amountToCall = table.currentBet() - seat.currentBetAmount();
+        int amountToCall = table.currentBet() - seatState.bet(seatPosition);
         int actualCall = Math.min(amountToCall, chipsBefore);
         deductChips(seat, actualCall);
-        seat.currentBetAmount(seat.currentBetAmount() + actualCall);
+        seatState.bet(seatPosition, seatState.bet(seatPosition) + actualCall);
         if (player != null && player.chipCount() <= 0) {
-          seat.isAllIn(true);
+          seatState.allIn(seatPosition, true);
         }
         seat.action(new PlayerAction.Call(actualCall));
       }
       case PlayerAction.Bet bet -> {
         int betAmount = bet.amount();
         deductChips(seat, betAmount);
-        seat.currentBetAmount(seat.currentBetAmount() + betAmount);
-        table.currentBet(seat.currentBetAmount());
+        seatState.bet(seatPosition, seatState.bet(seatPosition) + betAmount);
+        table.currentBet(seatState.bet(seatPosition));
         table.minimumRaise(betAmount);
         table.lastRaiserPosition(seatPosition);
         if (player != null && player.chipCount() <= 0) {
-          seat.isAllIn(true);
+          seatState.allIn(seatPosition, true);
         }
         seat.action(new PlayerAction.Bet(betAmount));
       }
       case PlayerAction.Raise raise -> {
         int raiseTotal = raise.amount(); // This is the new total bet amount
-        int additionalChips = raiseTotal - seat.currentBetAmount();
+        int additionalChips = raiseTotal - seatState.bet(seatPosition);
         int actualAdditional = Math.min(additionalChips, chipsBefore);
         deductChips(seat, actualAdditional);
-        int raiseIncrease = seat.currentBetAmount() + actualAdditional - table.currentBet();
-        seat.currentBetAmount(seat.currentBetAmount() + actualAdditional);
-        table.currentBet(seat.currentBetAmount());
+        int raiseIncrease = seatState.bet(seatPosition) + actualAdditional - table.currentBet();
+        seatState.bet(seatPosition, seatState.bet(seatPosition) + actualAdditional);
+        table.currentBet(seatState.bet(seatPosition));
         if (raiseIncrease > table.minimumRaise()) {
           table.minimumRaise(raiseIncrease);
         }
         table.lastRaiserPosition(seatPosition);
         if (player != null && player.chipCount() <= 0) {
-          seat.isAllIn(true);
+          seatState.allIn(seatPosition, true);
         }
         seat.action(new PlayerAction.Raise(raiseTotal));
       }
@@ -604,13 +650,10 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     // If aggressive action (bet/raise), clear other active players' actions
     // so they must act again before the round can complete
     if (action instanceof PlayerAction.Bet || action instanceof PlayerAction.Raise) {
-      int size = table.seats().size();
+      int size = seatState.size();
       for (int pos = 1; pos <= size; pos++) {
-        if (pos != seatPosition) {
-          Seat s = table.seatAt(pos);
-          if (s.status() == Seat.Status.ACTIVE && !s.isAllIn()) {
-            s.action(null);
-          }
+        if (pos != seatPosition && seatState.canAct(pos)) {
+          table.seatAt(pos).action(null);
         }
       }
     }
@@ -619,7 +662,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     int chipCount = player != null ? player.chipCount() : 0;
     HandPlayerStatus resultingStatus = HandPlayerStatuses.from(table, seat, seatPosition);
     gameContext.queueEvent(new PlayerActed(
-        Instant.now(), 0L, game.id(), table.id(), seatPosition,
+        Instant.now(clock()), 0L, game.id(), table.id(), seatPosition,
         player != null ? player.userId() : "unknown",
         action, chipCount, resultingStatus,
         table.currentBet(), table.minimumRaise(), potTotal(table)
@@ -643,12 +686,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
     Seat seat = table.seatAt(actionPos);
     String userId = seat.player() != null ? seat.player().userId() : "unknown";
-    Instant deadline = table.actionDeadline() != null ? table.actionDeadline() : Instant.now();
+    Instant deadline = table.actionDeadline() != null ? table.actionDeadline() : Instant.now(clock());
     int playerChips = seat.player() != null ? seat.player().chipCount() : 0;
     int callAmount = Math.max(0, table.currentBet() - seat.currentBetAmount());
 
     gameContext.queueEvent(new ActionOnPlayer(
-        Instant.now(), 0L, game.id(), table.id(), actionPos, userId, deadline,
+        Instant.now(clock()), 0L, game.id(), table.id(), actionPos, userId, deadline,
         table.currentBet(), table.minimumRaise(), callAmount, playerChips, potTotal(table)
     ));
   }
@@ -663,16 +706,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     }
     table.handPhase(newPhase);
     gameContext.queueEvent(new HandPhaseChanged(
-        Instant.now(), 0L, game.id(), table.id(), oldPhase, newPhase
+        Instant.now(clock()), 0L, game.id(), table.id(), oldPhase, newPhase
     ));
   }
 
   private int countSeatedPlayers() {
-    int count = 0;
-    for (Seat seat : table.seats()) {
-      if (seat.status() != Seat.Status.EMPTY) count++;
-    }
-    return count;
+    return seatState.seatedCount();
   }
 
   // ========== Betting Logic ==========
@@ -727,8 +766,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
   private boolean isBettingRoundComplete() {
     // The round is complete when every active non-all-in player has acted.
     // When a bet/raise occurs, other players' actions are cleared so they must act again.
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn() && seat.action() == null) {
+    if (seatState.activeNonAllInCount() == 0) {
+      return true;
+    }
+    int size = seatState.size();
+    for (int pos = 1; pos <= size; pos++) {
+      if (seatState.canAct(pos) && table.seatAt(pos).action() == null) {
         return false;
       }
     }
@@ -745,7 +788,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
 
     // If we've come back to the last raiser and they've already acted, round is complete
     table.actionPosition(nextPos);
-    table.actionDeadline(Instant.now().plusSeconds(gameSettings().actionTimeSeconds()));
+    table.actionDeadline(Instant.now(clock()).plusSeconds(gameSettings().actionTimeSeconds()));
 
     // Emit action-on event for the next player
     emitActionOnPlayer(game, gameContext);
@@ -756,7 +799,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     if (actionPos == null) return;
 
     Seat seat = table.seatAt(actionPos);
-    if (seat.pendingIntent() == null || seat.status() != Seat.Status.ACTIVE || seat.isAllIn()) return;
+    if (seat.pendingIntent() == null || !seatState.canAct(actionPos)) return;
 
     // Validate the pending intent is still legal
     try {
@@ -778,66 +821,8 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
    * This correctly handles side pots when players go all-in for different amounts.
    */
   private void collectBetsIntoPots() {
-    // Gather all non-zero bets with their 1-indexed seat positions
-    List<int[]> bets = new ArrayList<>(); // [seatPosition, betAmount]
-    int size = table.seats().size();
-    for (int pos = 1; pos <= size; pos++) {
-      Seat seat = table.seatAt(pos);
-      if (seat.currentBetAmount() > 0) {
-        bets.add(new int[]{pos, seat.currentBetAmount()});
-      }
-    }
-
-    if (bets.isEmpty()) return;
-
-    // Sort by bet amount ascending for peeling
-    bets.sort(Comparator.comparingInt(a -> a[1]));
-
-    int previousPeel = 0;
-    for (int[] bet : bets) {
-      int peelLevel = bet[1];
-      if (peelLevel <= previousPeel) continue;
-
-      int potAmount = 0;
-      List<Integer> eligible = new ArrayList<>();
-
-      for (int[] b : bets) {
-        if (b[1] >= peelLevel) {
-          // This seat is eligible
-          Seat seat = table.seatAt(b[0]);
-          if (seat.status() != Seat.Status.FOLDED) {
-            eligible.add(b[0]);
-          }
-          potAmount += (peelLevel - previousPeel);
-        } else if (b[1] > previousPeel) {
-          // Partially contributes
-          potAmount += (b[1] - previousPeel);
-          // Folded players still contribute chips but aren't eligible
-        }
-      }
-
-      if (potAmount > 0) {
-        // Try to merge with existing pot if same eligible seats
-        boolean merged = false;
-        if (!table.pots().isEmpty()) {
-          Table.Pot lastPot = table.pots().getLast();
-          if (lastPot.seatPositions().equals(eligible)) {
-            table.pots().set(table.pots().size() - 1,
-                new Table.Pot(lastPot.amount() + potAmount, eligible));
-            merged = true;
-          }
-        }
-        if (!merged) {
-          table.pots().add(new Table.Pot(potAmount, eligible));
-        }
-      }
-      previousPeel = peelLevel;
-    }
-
-    // Clear all bets
-    for (Seat seat : table.seats()) {
-      seat.currentBetAmount(0);
-    }
+    sidePotCalculator.collectBets(table);
+    seatState.betsCollected();
   }
 
   private void awardPotToLastPlayer(Game<T> game, GameContext gameContext) {
@@ -845,15 +830,7 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     collectBetsIntoPots();
 
     // Find the last non-folded player (1-indexed position)
-    int winnerPosition = -1;
-    int numberOfSeats = table.seats().size();
-    for (int pos = 1; pos <= numberOfSeats; pos++) {
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE) {
-        winnerPosition = pos;
-        break;
-      }
-    }
+    int winnerPosition = seatState.firstActive();
 
     if (winnerPosition < 0) return;
 
@@ -875,12 +852,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     // Emit the showdown result (even though there's no actual showdown)
     if (!potResults.isEmpty()) {
       gameContext.queueEvent(new ShowdownResult(
-          Instant.now(), 0L, game.id(), table.id(), potResults
+          Instant.now(clock()), 0L, game.id(), table.id(), potResults
       ));
     }
 
     setHandPhase(HandPhase.HAND_COMPLETE, game, gameContext);
-    table.phaseStartedAt(Instant.now());
+    table.phaseStartedAt(Instant.now(clock()));
     gameContext.forceUpdate(true);
   }
 
@@ -969,58 +946,88 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
       List<Card> flop = deck.drawCards(3);
       table.communityCards().addAll(flop);
       gameContext.queueEvent(new CommunityCardsDealt(
-          Instant.now(), 0L, game.id(), table.id(), flop, HandPhase.FLOP, List.copyOf(table.communityCards())));
+          Instant.now(clock()), 0L, game.id(), table.id(), flop, HandPhase.FLOP, List.copyOf(table.communityCards())));
       currentCount = 3;
     }
     if (currentCount < 4) {
       List<Card> turn = deck.drawCards(1);
       table.communityCards().addAll(turn);
       gameContext.queueEvent(new CommunityCardsDealt(
-          Instant.now(), 0L, game.id(), table.id(), turn, HandPhase.TURN, List.copyOf(table.communityCards())));
+          Instant.now(clock()), 0L, game.id(), table.id(), turn, HandPhase.TURN, List.copyOf(table.communityCards())));
       currentCount = 4;
     }
     if (currentCount < 5) {
       List<Card> river = deck.drawCards(1);
       table.communityCards().addAll(river);
       gameContext.queueEvent(new CommunityCardsDealt(
-          Instant.now(), 0L, game.id(), table.id(), river, HandPhase.RIVER, List.copyOf(table.communityCards())));
+          Instant.now(clock()), 0L, game.id(), table.id(), river, HandPhase.RIVER, List.copyOf(table.communityCards())));
     }
   }
 
   // ========== Hand Complete Helpers ==========
 
-  private void handlePostHandPlayerStatus(Game<T> game) {
-    for (Seat seat : table.seats()) {
-      if (seat.player() == null) continue;
-      Player player = seat.player();
+  private void handlePostHandPlayerStatus(Game<T> game, GameContext gameContext) {
+    int size = seatState.size();
+    List<Player> busted = new ArrayList<>();
+    for (int pos = 1; pos <= size; pos++) {
+      Player player = table.seatAt(pos).player();
+      if (player == null) continue;
 
       // Remove departed players
       if (player.status() == PlayerStatus.OUT) {
-        seat.status(Seat.Status.EMPTY);
-        seat.player(null);
+        seatState.vacate(pos);
         player.tableId(null);
         continue;
       }
 
-      // Handle busted players (no chips)
       if (player.chipCount() <= 0) {
-        seat.status(Seat.Status.JOINED_WAITING);
+        busted.add(player);
+      }
+    }
+    if (busted.isEmpty()) {
+      return;
+    }
+
+    // Handle busted players (no chips): eliminated players leave the table, the rest sit out until they buy in.
+    Collection<Player> eliminated = eliminateBustedPlayers(game, busted, gameContext);
+    for (int pos = 1; pos <= size; pos++) {
+      Player player = table.seatAt(pos).player();
+      if (player == null || player.chipCount() > 0) continue;
+
+      if (eliminated.contains(player)) {
+        seatState.vacate(pos);
+        player.tableId(null);
+      } else {
+        seatState.status(pos, Seat.Status.JOINED_WAITING);
         player.status(PlayerStatus.BUYING_IN);
       }
     }
   }
 
+  /**
+   * Decide which of the players left without chips by the hand just completed are out of the game. Their seats are
+   * vacated; the others stay seated, sitting out until they buy in again. A cash game never eliminates anyone.
+   *
+   * @param busted The players without chips, in seat order.
+   * @return The players that were eliminated.
+   */
+  protected Collection<Player> eliminateBustedPlayers(Game<T> game, List<Player> busted, GameContext gameContext) {
+    return List.of();
+  }
+
   private void clearHandState() {
-    for (Seat seat : table.seats()) {
+    int size = seatState.size();
+    for (int pos = 1; pos <= size; pos++) {
+      Seat seat = table.seatAt(pos);
       seat.cards(null);
       seat.action(null);
-      seat.currentBetAmount(0);
-      seat.isAllIn(false);
       seat.pendingIntent(null);
+      seatState.bet(pos, 0);
+      seatState.allIn(pos, false);
 
       // Reset active/folded seats back to ACTIVE (but not EMPTY or JOINED_WAITING)
-      if (seat.status() == Seat.Status.FOLDED) {
-        seat.status(Seat.Status.ACTIVE);
+      if (seatState.status(pos) == Seat.Status.FOLDED) {
+        seatState.status(pos, Seat.Status.ACTIVE);
       }
     }
     table.communityCards().clear();
@@ -1036,9 +1043,10 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
   }
 
   private void activateWaitingPlayers() {
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.JOINED_WAITING && isPlayerReadyToPlay(seat.player())) {
-        seat.status(Seat.Status.ACTIVE);
+    int size = seatState.size();
+    for (int pos = 1; pos <= size; pos++) {
+      if (seatState.status(pos) == Seat.Status.JOINED_WAITING && isPlayerReadyToPlay(table.seatAt(pos).player())) {
+        seatState.status(pos, Seat.Status.ACTIVE);
       }
     }
   }
@@ -1059,67 +1067,35 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
    * Finds the next ACTIVE seat position (1-indexed) clockwise from the given position.
    */
   private int nextActivePosition(int fromPosition) {
-    int size = table.seats().size();
-    for (int i = 1; i <= size; i++) {
-      int pos = ((fromPosition - 1 + i) % size) + 1;
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE) {
-        return pos;
-      }
-    }
-    return fromPosition; // Shouldn't happen with 2+ active players
+    return seatState.nextActive(fromPosition); // Returns fromPosition if none, which shouldn't happen with 2+ active players
   }
 
   /**
    * Finds the next ACTIVE, non-all-in seat position (1-indexed) clockwise from the given position.
    */
   private int nextActiveNonAllInPosition(int fromPosition) {
-    int size = table.seats().size();
-    for (int i = 1; i <= size; i++) {
-      int pos = ((fromPosition - 1 + i) % size) + 1;
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn()) {
-        return pos;
-      }
-    }
-    return fromPosition;
+    Integer position = seatState.nextActiveNonAllIn(fromPosition, true);
+    return position != null ? position : fromPosition;
   }
 
   @Nullable
   private Integer nextActiveNonAllInPositionOrNull(int fromPosition) {
-    int size = table.seats().size();
-    for (int i = 1; i <= size; i++) {
-      int pos = ((fromPosition - 1 + i) % size) + 1;
-      if (pos == fromPosition) return null; // Wrapped around
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn()) {
-        return pos;
-      }
-    }
-    return null;
+    return seatState.nextActiveNonAllIn(fromPosition, false);
   }
 
   @Nullable
   private Integer firstActiveNonAllInAfterDealer() {
     Integer dealer = table.dealerPosition();
     if (dealer == null) return null;
-    int size = table.seats().size();
-    for (int i = 1; i <= size; i++) {
-      int pos = ((dealer - 1 + i) % size) + 1;
-      Seat seat = table.seatAt(pos);
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn()) {
-        return pos;
-      }
-    }
-    return null;
+    return seatState.nextActiveNonAllIn(dealer, true);
   }
 
   /** Returns all ACTIVE seat positions (1-indexed). */
   private List<Integer> getActivePositions() {
-    List<Integer> positions = new ArrayList<>();
-    int size = table.seats().size();
+    List<Integer> positions = new ArrayList<>(seatState.nonFoldedCount());
+    int size = seatState.size();
     for (int pos = 1; pos <= size; pos++) {
-      if (table.seatAt(pos).status() == Seat.Status.ACTIVE) {
+      if (seatState.status(pos) == Seat.Status.ACTIVE) {
         positions.add(pos);
       }
     }
@@ -1134,11 +1110,12 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
    */
   private int countActivePlayers() {
     int count = 0;
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.ACTIVE || seat.status() == Seat.Status.JOINED_WAITING) {
-        if (isPlayerReadyToPlay(seat.player())) {
-          count++;
-        }
+    int size = seatState.size();
+    for (int pos = 1; pos <= size; pos++) {
+      Seat.Status status = seatState.status(pos);
+      if ((status == Seat.Status.ACTIVE || status == Seat.Status.JOINED_WAITING)
+          && isPlayerReadyToPlay(table.seatAt(pos).player())) {
+        count++;
       }
     }
     return count;
@@ -1151,35 +1128,6 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     return player.status() == PlayerStatus.ACTIVE || player.status() == PlayerStatus.AWAY;
   }
 
-  private int countNonFoldedPlayers() {
-    int count = 0;
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.ACTIVE) {
-        count++;
-      }
-    }
-    return count;
-  }
-
-  private int countActiveNonAllInPlayers() {
-    int count = 0;
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn()) {
-        count++;
-      }
-    }
-    return count;
-  }
-
-  private boolean allNonFoldedAreAllIn() {
-    for (Seat seat : table.seats()) {
-      if (seat.status() == Seat.Status.ACTIVE && !seat.isAllIn()) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   private boolean noBuyingInPlayers() {
     for (Seat seat : table.seats()) {
       if (seat.player() != null && seat.player().status() == PlayerStatus.BUYING_IN) {
@@ -1204,14 +1152,14 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
     int chips = player.chipCount();
     int actualPost = Math.min(blindAmount, chips);
     player.chipCount(chips - actualPost);
-    seat.currentBetAmount(actualPost);
+    seatState.bet(position, actualPost);
 
     if (player.chipCount() <= 0) {
-      seat.isAllIn(true);
+      seatState.allIn(position, true);
     }
 
     gameContext.queueEvent(new BlindPosted(
-        Instant.now(),
+        Instant.now(clock()),
         0L,
         game.id(),
         table.id(),
@@ -1237,16 +1185,4 @@ public class TexasHoldemTableManager<T extends Game<T>> extends TableManager<T>
            phase == HandPhase.RIVER_BETTING;
   }
 
-  /** Returns the 1-indexed seat position of the given user, or -1 if not seated. */
-  private int findPlayerSeat(String userLoginId) {
-    int size = table.seats().size();
-    for (int pos = 1; pos <= size; pos++) {
-      Seat seat = table.seatAt(pos);
-      if (seat.player() != null && seat.player().userId().equals(userLoginId)) {
-        return pos;
-      }
-    }
-    return -1;
-  }
-
 }
@@ -26,13 +26,30 @@ public class BlindSchedule {
   }
 
   public Blinds getBlinds() {
-    if (currentBlindLevel < blindLevels.size()) {
-      return blindLevels.get(currentBlindLevel);
+    return getBlinds(currentBlindLevel);
+  }
+
+  /**
+   * The blinds at a given (0-based) level.
+   */
+  public Blinds getBlinds(int level) {
+    if (level < blindLevels.size()) {
+      return blindLevels.get(level);
     } else {
-      //If the current blind level exceeds the pre-determined schedule, we fall back to calculating the level.
+      //If the blind level exceeds the pre-determined schedule, we fall back to calculating the level.
       //Note: computeBigBlindAtLevel is 1-based, that is why we add one.
-      int bigBlind = TournamentUtilities.computeBigBlindAtLevel(currentBlindLevel + 1, blindLevelFactor);
+      int bigBlind = TournamentUtilities.computeBigBlindAtLevel(level + 1, blindLevelFactor);
       return new Blinds(bigBlind / 2, bigBlind);
     }
   }
+
+  /**
+   * Move to the next blind level.
+   *
+   * @return The blinds at the new level.
+   */
+  public Blinds nextLevel() {
+    currentBlindLevel++;
+    return getBlinds();
+  }
 }
@@ -19,6 +19,11 @@ public class BlindScheduleBuilder {
   private Duration tournamentLength = Duration.ofHours(3);
   private int addOnAmount = 0;
   private int rebuyAmount = 0;
+  private int rebuysPerPlayer = 1;
+  private int cliffLevel = 4;
+  private int handsPerHour = 30;
+  private int simulations = 0;
+  private long seed = 0x5EED;
 
   public static BlindScheduleBuilder blindSchedule() {
     return new BlindScheduleBuilder();
@@ -56,7 +61,7 @@ public class BlindScheduleBuilder {
    * @return this builder
    */
   BlindScheduleBuilder blindInternalMinutes(int minutes) {
-    this.blindInterval = Duration.ofMinutes(20);
+    this.blindInterval = Duration.ofMinutes(minutes);
     return this;
   }
 
@@ -97,6 +102,73 @@ public class BlindScheduleBuilder {
     return this;
   }
 
+  /**
+   * If the tournament supports "re-buys", the most times a single player may re-buy (used by the simulation only).
+   * <p>
+   * The default for this is one.
+   *
+   * @param rebuysPerPlayer The number of re-buys allowed per player.
+   * @return this builder
+   */
+  BlindScheduleBuilder rebuysPerPlayer(int rebuysPerPlayer) {
+    this.rebuysPerPlayer = rebuysPerPlayer;
+    return this;
+  }
+
+  /**
+   * The blind level at which re-buys end and add-ons are offered (used by the simulation only).
+   * <p>
+   * The default for this is four, matching the tournament default.
+   *
+   * @param cliffLevel The cliff level.
+   * @return this builder
+   */
+  BlindScheduleBuilder cliffLevel(int cliffLevel) {
+    this.cliffLevel = cliffLevel;
+    return this;
+  }
+
+  /**
+   * The number of hands dealt per hour at a full table (used by the simulation only). Short-handed tables are
+   * modelled as dealing faster.
+   * <p>
+   * The default for this is thirty.
+   *
+   * @param handsPerHour Hands per hour at a full table.
+   * @return this builder
+   */
+  BlindScheduleBuilder handsPerHour(int handsPerHour) {
+    this.handsPerHour = handsPerHour;
+    return this;
+  }
+
+  /**
+   * Switch the builder to simulation mode: rather than estimating the blind level factor from the total chips, the
+   * builder searches for the factor whose schedule brings simulated tournaments in at the desired length. Each
+   * candidate schedule is measured by running this many simulated tournaments in parallel (see
+   * {@link TournamentSimulator}).
+   * <p>
+   * The default for this is zero which means "use the closed-form estimate".
+   *
+   * @param simulations The number of tournaments to simulate per candidate schedule.
+   * @return this builder
+   */
+  BlindScheduleBuilder simulations(int simulations) {
+    this.simulations = simulations;
+    return this;
+  }
+
+  /**
+   * The seed for the simulation's random streams. A given seed always produces the same schedule.
+   *
+   * @param seed The seed.
+   * @return this builder
+   */
+  BlindScheduleBuilder seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
   /**
    * Compute a blind schedule based on the parameters supplied to the builder.
    *
@@ -117,13 +189,30 @@ public class BlindScheduleBuilder {
     int numberofIntervals = (int) tournamentLength.dividedBy(blindInterval);
     int blindLevelFactor = TournamentUtilities.computeBlindLevelFactor(estimatedTotalChips, numberofIntervals);
 
-    //Precompute the blind levels.
+    if (simulations > 0) {
+      TournamentSimulator simulator = new TournamentSimulator(new TournamentSimulator.Field(
+          numberOfPlayers,
+          startingStack,
+          rebuyAmount > 0 ? rebuysPerPlayer : 0,
+          rebuyAmount,
+          addOnAmount,
+          cliffLevel,
+          blindInterval,
+          handsPerHour), simulations, seed);
+      return simulator.optimize(tournamentLength, factor -> schedule(factor, numberofIntervals), blindLevelFactor);
+    }
+    return schedule(blindLevelFactor, numberofIntervals);
+  }
+
+  /**
+   * Precompute the blind levels for a blind level factor.
+   */
+  private static BlindSchedule schedule(int blindLevelFactor, int numberofIntervals) {
     List<Blinds> blindLevels = new ArrayList<>(numberofIntervals + 1);
     for (int index = 0; index < (numberofIntervals + (numberofIntervals / 2)); index++) {
       int bigBlind = TournamentUtilities.computeBigBlindAtLevel(index, blindLevelFactor);
       blindLevels.add(new Blinds(bigBlind / 2, bigBlind));
     }
-
     return new BlindSchedule(blindLevels, blindLevelFactor);
   }
 }
@@ -0,0 +1,266 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.lib.exception.ValidationException;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * An Independent Chip Model (ICM) calculator: converts chip stacks into each player's expected share of the prize
+ * pool, the usual basis for a deal at a final table.
+ * <p>
+ * The model (Malmuth-Harville) has a player finish first with probability proportional to their stack; with that player
+ * removed, the next place goes the same way among the rest, and so on. Naively that is a sum over every finishing order
+ * (factorial in the number of players), but the probability of a given set of players filling the top places does not
+ * depend on the order they finished in. The exact calculation is a dynamic program over those sets, held as bitmasks:
+ * {@code O(2^n * n)} work, and only sets smaller than the number of paid places are visited. Ten players take well under
+ * a millisecond.
+ * <p>
+ * The sets of each size depend only on the sets one player smaller, so each size is evaluated in parallel once the
+ * field is large enough to be worth it. Past {@link #EXACT_PLAYER_LIMIT} players the bitmask table itself is too big, and
+ * the equities are estimated by sampling finishing orders instead.
+ */
+public final class IcmCalculator {
+
+  /**
+   * The largest field evaluated exactly; the bitmask table for it holds {@code 2^n} entries.
+   */
+  static final int EXACT_PLAYER_LIMIT = 20;
+
+  /**
+   * Fields of at least this many players evaluate each set size in parallel.
+   */
+  static final int PARALLEL_PLAYER_THRESHOLD = 14;
+
+  /**
+   * Finishing orders sampled when a field is too large to evaluate exactly.
+   */
+  static final int DEFAULT_SAMPLES = 200_000;
+
+  private static final int SAMPLE_CHUNKS = 64;
+
+  private IcmCalculator() {
+  }
+
+  /**
+   * Compute each player's equity.
+   *
+   * @param stacks  Each player's chip count. Players without chips have no equity.
+   * @param payouts The prize for each place, first place first. Places beyond the number of players are ignored.
+   * @return Each player's expected prize, in the order of {@code stacks}.
+   * @throws ValidationException If a stack is negative, no one has chips, or there are no payouts.
+   */
+  public static double[] equities(int[] stacks, double[] payouts) {
+    validate(stacks, payouts);
+    int[] inPlay = playersWithChips(stacks);
+    double[] equities;
+    if (inPlay.length <= EXACT_PLAYER_LIMIT) {
+      equities = exact(select(stacks, inPlay), payouts, inPlay.length >= PARALLEL_PLAYER_THRESHOLD);
+    } else {
+      equities = approximate(select(stacks, inPlay), payouts, DEFAULT_SAMPLES, 0x1C3L);
+    }
+    double[] result = new double[stacks.length];
+    for (int i = 0; i < inPlay.length; i++) {
+      result[inPlay[i]] = equities[i];
+    }
+    return result;
+  }
+
+  /**
+   * The exact equities by dynamic programming over the sets of players that have taken the top places.
+   * <p>
+   * {@code probability[set]} is the chance that the players in {@code set} take the top {@code |set|} places (in any
+   * order). A set is reached from each of its members {@code i} finishing last among the set, which happens with
+   * {@code probability[set - i] * stack[i] / (chips not in set - i)}; that same term is player {@code i}'s chance of
+   * taking place {@code |set|} with exactly those players ahead of them.
+   *
+   * @param stacks   Stacks, all positive.
+   * @param parallel Whether to evaluate each set size in parallel.
+   */
+  static double[] exact(int[] stacks, double[] payouts, boolean parallel) {
+    int n = stacks.length;
+    int places = Math.min(n, payouts.length);
+    int sets = 1 << n;
+
+    long totalChips = IntStream.of(stacks).asLongStream().sum();
+    // Chips held by the players in each set, built from the set without its lowest player.
+    long[] chipsIn = new long[sets];
+    for (int set = 1; set < sets; set++) {
+      chipsIn[set] = chipsIn[set & (set - 1)] + stacks[Integer.numberOfTrailingZeros(set)];
+    }
+
+    double[] probability = new double[sets];
+    probability[0] = 1.0;
+    double[] equities = new double[n];
+    for (int size = 1; size <= places; size++) {
+      double payout = payouts[size - 1];
+      int[] layer = setsOfSize(n, size);
+      IntStream masks = parallel ? IntStream.of(layer).parallel() : IntStream.of(layer);
+      double[] placed = masks.collect(() -> new double[n], (accumulator, set) -> {
+        double reached = 0;
+        for (int rest = set; rest != 0; rest &= rest - 1) {
+          int player = Integer.numberOfTrailingZeros(rest);
+          int ahead = set & ~(1 << player);
+          double term = probability[ahead] * stacks[player] / (totalChips - chipsIn[ahead]);
+          reached += term;
+          accumulator[player] += term;
+        }
+        // Each set is written by exactly one task, and the next size only starts once this one is done.
+        probability[set] = reached;
+      }, IcmCalculator::add);
+      for (int player = 0; player < n; player++) {
+        equities[player] += placed[player] * payout;
+      }
+    }
+    return equities;
+  }
+
+  /**
+   * Estimate the equities by sampling finishing orders. Under the model a finishing order is the players sorted by
+   * independent exponential draws with rates equal to their stacks, so each sample only needs the players with the
+   * smallest draws, one per paid place. The samples are split into chunks that run in parallel, each on its own
+   * random stream.
+   *
+   * @param stacks Stacks, all positive.
+   */
+  static double[] approximate(int[] stacks, double[] payouts, int samples, long seed) {
+    int n = stacks.length;
+    int places = Math.min(n, payouts.length);
+    int chunks = Math.min(SAMPLE_CHUNKS, samples);
+
+    double[] totals = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+      SplittableRandom random = new SplittableRandom(seed + chunk * 0x9E3779B97F4A7C15L);
+      int chunkSamples = samples / chunks + (chunk < samples % chunks ? 1 : 0);
+      double[] equities = new double[n];
+      double[] draws = new double[n];
+      // A max-heap (by draw) of the players with the smallest draws seen so far, one per paid place.
+      int[] heap = new int[places];
+      for (int sample = 0; sample < chunkSamples; sample++) {
+        int heapSize = 0;
+        for (int player = 0; player < n; player++) {
+          double draw = -Math.log(1.0 - random.nextDouble()) / stacks[player];
+          draws[player] = draw;
+          if (heapSize < places) {
+            heap[heapSize] = player;
+            siftUp(heap, heapSize++, draws);
+          } else if (draw < draws[heap[0]]) {
+            heap[0] = player;
+            siftDown(heap, heapSize, draws);
+          }
+        }
+        // Pop from the largest draw (the last paid place) down to the smallest (first place).
+        for (int place = heapSize - 1; place >= 0; place--) {
+          equities[heap[0]] += payouts[place];
+          heap[0] = heap[--heapSize];
+          siftDown(heap, heapSize, draws);
+        }
+      }
+      return equities;
+    }).reduce(new double[n], (a, b) -> add(a.clone(), b));
+
+    for (int player = 0; player < n; player++) {
+      totals[player] /= samples;
+    }
+    return totals;
+  }
+
+  private static void siftUp(int[] heap, int index, double[] draws) {
+    while (index > 0) {
+      int parent = (index - 1) / 2;
+      if (draws[heap[parent]] >= draws[heap[index]]) {
+        return;
+      }
+      swap(heap, parent, index);
+      index = parent;
+    }
+  }
+
+  private static void siftDown(int[] heap, int size, double[] draws) {
+    int index = 0;
+    while (true) {
+      int largest = index;
+      int left = 2 * index + 1;
+      int right = left + 1;
+      if (left < size && draws[heap[left]] > draws[heap[largest]]) {
+        largest = left;
+      }
+      if (right < size && draws[heap[right]] > draws[heap[largest]]) {
+        largest = right;
+      }
+      if (largest == index) {
+        return;
+      }
+      swap(heap, index, largest);
+      index = largest;
+    }
+  }
+
+  private static void swap(int[] heap, int a, int b) {
+    int temp = heap[a];
+    heap[a] = heap[b];
+    heap[b] = temp;
+  }
+
+  /**
+   * Every {@code n}-bit mask with {@code size} bits set, in increasing order (Gosper's hack).
+   */
+  private static int[] setsOfSize(int n, int size) {
+    int[] sets = new int[binomial(n, size)];
+    int set = (1 << size) - 1;
+    for (int i = 0; i < sets.length; i++) {
+      sets[i] = set;
+      int lowest = set & -set;
+      int ripple = set + lowest;
+      set = (((ripple ^ set) >>> 2) / lowest) | ripple;
+    }
+    return sets;
+  }
+
+  private static int binomial(int n, int k) {
+    long result = 1;
+    for (int i = 1; i <= k; i++) {
+      result = result * (n - k + i) / i;
+    }
+    return (int) result;
+  }
+
+  private static double[] add(double[] into, double[] from) {
+    for (int i = 0; i < into.length; i++) {
+      into[i] += from[i];
+    }
+    return into;
+  }
+
+  private static void validate(int[] stacks, double[] payouts) {
+    if (payouts.length == 0) {
+      throw new ValidationException("At least one payout is required.");
+    }
+    boolean anyChips = false;
+    for (int stack : stacks) {
+      if (stack < 0) {
+        throw new ValidationException("Chip counts cannot be negative.");
+      }
+      anyChips |= stack > 0;
+    }
+    if (!anyChips) {
+      throw new ValidationException("At least one player must have chips.");
+    }
+    for (double payout : payouts) {
+      if (payout < 0) {
+        throw new ValidationException("Payouts cannot be negative.");
+      }
+    }
+  }
+
+  private static int[] playersWithChips(int[] stacks) {
+    return IntStream.range(0, stacks.length).filter(i -> stacks[i] > 0).toArray();
+  }
+
+  private static int[] select(int[] stacks, int[] players) {
+    int[] selected = new int[players.length];
+    for (int i = 0; i < players.length; i++) {
+      selected[i] = stacks[players[i]];
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,11 @@
+package org.homepoker.game.tournament;
+
+/**
+ * A player's share of the prize pool under the Independent Chip Model.
+ *
+ * @param userId    The player
+ * @param chipCount The player's chips
+ * @param equity    The player's expected prize, in the units of the payout table
+ */
+public record IcmEquity(String userId, int chipCount, double equity) {
+}
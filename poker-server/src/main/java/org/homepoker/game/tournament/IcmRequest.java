@@ -0,0 +1,13 @@
+package org.homepoker.game.tournament;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A request to value the remaining players' stacks for a deal.
+ *
+ * @param payouts The prize for each remaining place, first place first.
+ */
+public record IcmRequest(@Nullable List<@Nullable Integer> payouts) {
+}
@@ -4,10 +4,14 @@ import lombok.*;
 import lombok.experimental.Accessors;
 import org.homepoker.model.game.*;
 import org.homepoker.model.user.User;
+import org.jspecify.annotations.Nullable;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.TreeMap;
 
 @Builder
 @Data
@@ -34,7 +38,14 @@ public final class TournamentGame implements Game<TournamentGame> {
   private boolean addOnAllowed;
   private Integer addOnChips;
   private Integer addOnAmount;
-  private BlindSchedule blindSchedule;
+  /**
+   * The blind levels and the current level. Built when the tournament starts if one was not configured up front.
+   */
+  private @Nullable BlindSchedule blindSchedule;
+  /**
+   * The place each eliminated player finished in (user ID to place, 1 being the winner), in elimination order.
+   */
+  private Map<String, Integer> finishingPlaces;
   private Instant lastModified;
 
   @Override
@@ -42,13 +53,27 @@ public final class TournamentGame implements Game<TournamentGame> {
     return GameFormat.TOURNAMENT;
   }
 
+  /**
+   * The small blind at the current blind level (zero until the tournament has a blind schedule).
+   */
   @Override
   public int smallBlind() {
-    return 0;
+    return blindSchedule == null ? 0 : blindSchedule.getBlinds().getSmallBlind();
   }
 
+  /**
+   * The big blind at the current blind level (zero until the tournament has a blind schedule).
+   */
   @Override
   public int bigBlind() {
-    return 0;
+    return blindSchedule == null ? 0 : blindSchedule.getBlinds().getBigBlind();
+  }
+
+  @SuppressWarnings({"FieldMayBeFinal", "MismatchedQueryAndUpdateOfCollection"})
+  public static class TournamentGameBuilder {
+    private GameStatus status = GameStatus.SCHEDULED;
+    private Map<String, Player> players = new HashMap<>();
+    private NavigableMap<String, Table> tables = new TreeMap<>();
+    private Map<String, Integer> finishingPlaces = new LinkedHashMap<>();
   }
 }
@@ -0,0 +1,433 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.game.GameContext;
+import org.homepoker.game.GameManager;
+import org.homepoker.game.table.TableManager;
+import org.homepoker.lib.exception.ValidationException;
+import org.homepoker.model.command.BuyIn;
+import org.homepoker.model.command.GameCommand;
+import org.homepoker.model.command.JoinGame;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.model.event.game.PlayerBuyIn;
+import org.homepoker.model.event.game.PlayerJoined;
+import org.homepoker.model.event.game.PlayerSeated;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.homepoker.security.SecurityUtilities;
+import org.homepoker.user.UserManager;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.homepoker.game.GameUtils.assignPlayerToTableWithFewestPlayers;
+
+public class TournamentGameManager extends GameManager<TournamentGame> {
+
+  private final TournamentGameServer gameServer;
+
+  /**
+   * Set by the game server's shared blind timer when the current level has run its course, consumed by the next tick.
+   */
+  private final AtomicBoolean blindLevelDue = new AtomicBoolean(false);
+
+  /**
+   * True while the next level-up is scheduled on the blind timer. The level clock only runs while the game is ACTIVE
+   * or BALANCING. Game-loop thread only.
+   */
+  private boolean blindClockRunning;
+
+  /**
+   * Time left in the current level when the clock was stopped (the game was paused), or null to start a full level
+   * when the clock next starts. Game-loop thread only.
+   */
+  private @Nullable Duration levelTimeRemaining;
+
+  /**
+   * Read-only snapshot of the chip count of every player still in the tournament (user ID to chips), republished by
+   * the game loop whenever a tick changes the game. Lets deal-making reads answer without touching the game state.
+   */
+  private volatile Map<String, Integer> chipCounts;
+
+  public TournamentGameManager(TournamentGame game,
+                               TournamentGameServer gameServer,
+                               UserManager userManager,
+                               SecurityUtilities securityUtilities) {
+    this(game, gameServer, userManager, securityUtilities, Clock.systemUTC());
+  }
+
+  public TournamentGameManager(TournamentGame game,
+                               TournamentGameServer gameServer,
+                               UserManager userManager,
+                               SecurityUtilities securityUtilities,
+                               Clock clock) {
+    super(game, userManager, securityUtilities, clock);
+    this.gameServer = gameServer;
+    this.chipCounts = chipCountsOf(game);
+  }
+
+  /**
+   * Called by the game server (off the game loop) when the current blind level's time is up. The level advances on
+   * the game's next tick.
+   */
+  void blindLevelDue() {
+    blindLevelDue.set(true);
+  }
+
+  @Override
+  protected void applyGameSpecificCommand(GameCommand command, TournamentGame game, GameContext gameContext) {
+    switch (command) {
+      case JoinGame gameCommand -> joinGame(gameCommand, game, gameContext);
+      default -> throw new ValidationException("Unsupported command: " + command.getClass().getSimpleName());
+    }
+  }
+
+  /**
+   * Register a player for the tournament. Registration is open until the game starts and, once it has, until the
+   * cliff level (late registration). Each entrant starts with the buy-in stack.
+   */
+  private void joinGame(JoinGame joinGame, TournamentGame game, GameContext gameContext) {
+
+    if (game.status() == GameStatus.COMPLETED) {
+      throw new ValidationException("This tournament has already completed.");
+    }
+
+    Player player = game.players().get(joinGame.user().id());
+    if (player == null) {
+      if (!registrationOpen(game)) {
+        throw new ValidationException("Registration for this tournament has closed.");
+      }
+      player = Player.builder()
+          .user(joinGame.user())
+          .status(PlayerStatus.AWAY)
+          .chipCount(game.buyInChips() == null ? 0 : game.buyInChips())
+          .build();
+      game.addPlayer(player);
+    }
+    // Otherwise the player is already registered — allow them to rejoin (reconnect)
+
+    if (player.tableId() == null && player.chipCount() > 0 && player.status() != PlayerStatus.OUT
+        && (game.status() == GameStatus.SEATING || game.status() == GameStatus.ACTIVE)) {
+      String tableId = assignPlayerToTableWithFewestPlayers(player, game, gameSettings().numberOfSeats());
+      if (tableId != null) {
+        seatsChanged(tableId);
+        gameContext.queueEvent(new PlayerSeated(Instant.now(clock()), 0L, game.id(), player.userId(), tableId));
+      }
+    }
+    gameContext.queueEvent(new PlayerJoined(Instant.now(clock()), 0L, game.id(), player.userId()));
+    gameContext.forceUpdate(true);
+  }
+
+  private static boolean registrationOpen(TournamentGame game) {
+    return switch (game.status()) {
+      case SCHEDULED, SEATING -> true;
+      case ACTIVE, BALANCING, PAUSED -> beforeCliff(game);
+      case COMPLETED -> false;
+    };
+  }
+
+  /**
+   * True until the blind schedule reaches the cliff level, which closes late registration, rebuys and add-ons. A
+   * tournament without a cliff level has none of them once it is running.
+   */
+  private static boolean beforeCliff(TournamentGame game) {
+    BlindSchedule blindSchedule = game.blindSchedule();
+    return blindSchedule != null && game.cliffLevel() != null
+        && blindSchedule.getCurrentBlindLevel() < game.cliffLevel();
+  }
+
+  /**
+   * A player can rebuy once they have run out of chips, while they have rebuys left and the rebuy period is open.
+   */
+  static boolean canRebuy(TournamentGame game, Player player) {
+    return player.chipCount() <= 0 && game.rebuyChips() != null && game.rebuyChips() > 0
+        && game.numberOfRebuys() != null && player.reBuys() < game.numberOfRebuys() && beforeCliff(game);
+  }
+
+  private static boolean canAddOn(TournamentGame game, Player player) {
+    return game.addOnAllowed() && game.addOnChips() != null && game.addOnChips() > 0 && player.addOns() == 0
+        && beforeCliff(game);
+  }
+
+  /**
+   * Chips are only sold as a configured rebuy (to a player who has run out of chips and has rebuys left) or add-on
+   * (once per player), for exactly the configured number of chips, and only before the cliff level.
+   */
+  @Override
+  protected void buyIn(BuyIn buyIn, TournamentGame game, GameContext gameContext) {
+    GameStatus status = game.status();
+    if (status != GameStatus.ACTIVE && status != GameStatus.BALANCING && status != GameStatus.PAUSED) {
+      throw new ValidationException("Rebuys and add-ons are only allowed while the tournament is running.");
+    }
+    Player player = game.players().get(buyIn.user().id());
+    if (player == null || player.status() == PlayerStatus.OUT) {
+      throw new ValidationException("You are not playing in this tournament.");
+    }
+    if (!beforeCliff(game)) {
+      throw new ValidationException("Rebuys and add-ons for this tournament have closed.");
+    }
+
+    if (canRebuy(game, player)) {
+      if (buyIn.amount() != game.rebuyChips()) {
+        throw new ValidationException("A rebuy is for " + game.rebuyChips() + " chips.");
+      }
+      player.reBuys(player.reBuys() + 1);
+    } else if (canAddOn(game, player)) {
+      if (buyIn.amount() != game.addOnChips()) {
+        throw new ValidationException("An add-on is for " + game.addOnChips() + " chips.");
+      }
+      player.addOns(player.addOns() + 1);
+    } else {
+      throw new ValidationException("You have no rebuy or add-on available.");
+    }
+
+    int newChipCount = player.chipCount() + buyIn.amount();
+    player.chipCount(newChipCount);
+    player.buyInTotal(player.buyInTotal() + buyIn.amount());
+    if (player.status() == PlayerStatus.BUYING_IN) {
+      player.status(PlayerStatus.ACTIVE);
+    }
+    gameContext.queueEvent(new PlayerBuyIn(Instant.now(clock()), 0L, game.id(), player.userId(), buyIn.amount(),
+        newChipCount));
+    gameContext.forceUpdate(true);
+  }
+
+  /**
+   * Knock players out of the tournament and record where they finished: one place below the number of players still
+   * in. Players knocked out together (by the same hand) share that place.
+   */
+  static void eliminate(TournamentGame game, List<Player> players, GameContext gameContext) {
+    if (players.isEmpty()) {
+      return;
+    }
+    for (Player player : players) {
+      player.status(PlayerStatus.OUT);
+    }
+    int place = playersRemaining(game) + 1;
+    for (Player player : players) {
+      finishingPlaces(game).put(player.userId(), place);
+      gameContext.queueEvent(new GameMessage(Instant.now(gameContext.clock()), 0L, game.id(),
+          player.user().alias() + " is out of the tournament in " + ordinal(place) + " place."));
+    }
+    gameContext.forceUpdate(true);
+  }
+
+  /**
+   * Once rebuys have closed, players still sitting out waiting to rebuy are eliminated. They are not in a hand, so
+   * their seats are vacated straight away.
+   */
+  private void eliminatePlayersWaitingToRebuy(TournamentGame game, GameContext gameContext) {
+    if (beforeCliff(game)) {
+      return;
+    }
+    List<Player> eliminated = new ArrayList<>();
+    for (Player player : game.players().values()) {
+      if (player.status() == PlayerStatus.BUYING_IN && player.chipCount() <= 0) {
+        eliminated.add(player);
+        Table table = player.tableId() == null ? null : game.tables().get(player.tableId());
+        if (table != null) {
+          for (Seat seat : table.seats()) {
+            if (seat.player() != null && seat.player().userId().equals(player.userId())) {
+              seat.status(Seat.Status.EMPTY);
+              seat.player(null);
+            }
+          }
+          seatsChanged(table.id());
+        }
+        player.tableId(null);
+      }
+    }
+    eliminate(game, eliminated, gameContext);
+  }
+
+  private static int playersRemaining(TournamentGame game) {
+    int remaining = 0;
+    for (Player player : game.players().values()) {
+      if (player.status() != PlayerStatus.OUT) {
+        remaining++;
+      }
+    }
+    return remaining;
+  }
+
+  /**
+   * The last player standing wins, and the tournament is over. No hand can be in play: everyone else is out.
+   */
+  private void finishTournament(TournamentGame game, GameContext gameContext) {
+    for (Player player : game.players().values()) {
+      if (player.status() != PlayerStatus.OUT) {
+        finishingPlaces(game).put(player.userId(), 1);
+        gameContext.queueEvent(new GameMessage(Instant.now(clock()), 0L, game.id(),
+            player.user().alias() + " has won the tournament!"));
+      }
+    }
+    completeGame(game, gameContext);
+  }
+
+  private static Map<String, Integer> finishingPlaces(TournamentGame game) {
+    if (game.finishingPlaces() == null) {
+      // Tournaments persisted before finishing places were recorded.
+      game.finishingPlaces(new LinkedHashMap<>());
+    }
+    return game.finishingPlaces();
+  }
+
+  static String ordinal(int place) {
+    int lastTwo = place % 100;
+    if (lastTwo >= 11 && lastTwo <= 13) {
+      return place + "th";
+    }
+    return switch (place % 10) {
+      case 1 -> place + "st";
+      case 2 -> place + "nd";
+      case 3 -> place + "rd";
+      default -> place + "th";
+    };
+  }
+
+  /**
+   * Eliminates the players still waiting to rebuy once rebuys close, and completes the tournament when one player is
+   * left. Then runs the blind level clock: starts it when the game becomes ACTIVE (building the blind schedule on the first
+   * start), stops it when the game is paused or completes, and advances the level when the shared blind timer has
+   * signalled that the current level is over. New blinds take effect from the next hand dealt at each table.
+   */
+  @Override
+  protected void beforeTransition(TournamentGame game, GameContext gameContext) {
+    if (game.status() == GameStatus.ACTIVE || game.status() == GameStatus.BALANCING) {
+      eliminatePlayersWaitingToRebuy(game, gameContext);
+      if (playersRemaining(game) <= 1) {
+        finishTournament(game, gameContext);
+      }
+    }
+
+    boolean clockShouldRun = game.status() == GameStatus.ACTIVE || game.status() == GameStatus.BALANCING;
+    if (clockShouldRun && !blindClockRunning) {
+      startBlindClock(game, gameContext);
+    } else if (!clockShouldRun && blindClockRunning) {
+      stopBlindClock(game);
+    }
+    if (blindClockRunning && blindLevelDue.getAndSet(false)) {
+      advanceBlindLevel(game, gameContext);
+    }
+  }
+
+  private void startBlindClock(TournamentGame game, GameContext gameContext) {
+    BlindSchedule blindSchedule = game.blindSchedule();
+    if (blindSchedule == null) {
+      blindSchedule = defaultBlindSchedule(game);
+      game.blindSchedule(blindSchedule);
+      announceBlinds(game, blindSchedule.getBlinds(), gameContext);
+    }
+    Duration untilNextLevel = levelTimeRemaining != null ? levelTimeRemaining : blindInterval(game);
+    levelTimeRemaining = null;
+    gameServer.scheduleBlindLevel(game.id(), Instant.now(clock()).plus(untilNextLevel));
+    blindClockRunning = true;
+  }
+
+  private void stopBlindClock(TournamentGame game) {
+    Instant nextLevelAt = gameServer.cancelBlindLevel(game.id());
+    // If the timer already fired, the level-up is still pending and a full level follows it when the clock restarts.
+    levelTimeRemaining = nextLevelAt == null ? null : Duration.between(Instant.now(clock()), nextLevelAt);
+    blindClockRunning = false;
+  }
+
+  private void advanceBlindLevel(TournamentGame game, GameContext gameContext) {
+    BlindSchedule blindSchedule = game.blindSchedule();
+    if (blindSchedule == null) {
+      return;
+    }
+    Blinds blinds = blindSchedule.nextLevel();
+    gameServer.scheduleBlindLevel(game.id(), Instant.now(clock()).plus(blindInterval(game)));
+    announceBlinds(game, blinds, gameContext);
+  }
+
+  private static void announceBlinds(TournamentGame game, Blinds blinds, GameContext gameContext) {
+    gameContext.queueEvent(new GameMessage(Instant.now(gameContext.clock()), 0L, game.id(),
+        "Blinds are now " + blinds.getSmallBlind() + "/" + blinds.getBigBlind() + "."));
+    gameContext.forceUpdate(true);
+  }
+
+  private static Duration blindInterval(TournamentGame game) {
+    return Duration.ofMinutes(Math.max(1, game.blindIntervalMinutes()));
+  }
+
+  /**
+   * A blind schedule computed from the field that actually showed up: the number of entrants, the starting stack, the
+   * blind interval and (when configured) the estimated length of the tournament.
+   */
+  static BlindSchedule defaultBlindSchedule(TournamentGame game) {
+    BlindScheduleBuilder builder = BlindScheduleBuilder.blindSchedule()
+        .numberOfPlayers(Math.max(2, game.players().size()))
+        .blindInternalMinutes(Math.max(1, game.blindIntervalMinutes()));
+    if (game.buyInChips() != null) {
+      builder.startingStack(game.buyInChips());
+    }
+    if (game.estimatedTournamentLengthHours() > 0) {
+      builder.tournamentLengthHours(game.estimatedTournamentLengthHours());
+    }
+    if (game.numberOfRebuys() != null && game.numberOfRebuys() > 0 && game.rebuyChips() != null) {
+      builder.rebuyAmount(game.rebuyChips());
+    }
+    if (game.addOnAllowed() && game.addOnChips() != null) {
+      builder.addOnAmount(game.addOnChips());
+    }
+    return builder.build();
+  }
+
+  @Override
+  protected TableManager<TournamentGame> createTableManager(String tableId) {
+    return TournamentTableManager.forNewTable(tableId, gameSettings(), deckSupplier(), clock());
+  }
+
+  @Override
+  protected TableManager<TournamentGame> createTableManagerForExistingTable(Table table) {
+    return TournamentTableManager.forExistingTable(table, gameSettings(), deckSupplier(), clock());
+  }
+
+  /**
+   * Test-only accessor — exposes the in-memory {@link TournamentGame}. Do not use outside test fixtures.
+   */
+  public TournamentGame getGameForTest() {
+    return gameForTestOnly();
+  }
+
+  /**
+   * The most recent chip counts published by the game loop: user ID to chips, for players that still have chips.
+   */
+  public Map<String, Integer> chipCounts() {
+    return chipCounts;
+  }
+
+  @Override
+  protected void onGameStateChanged(TournamentGame game) {
+    chipCounts = chipCountsOf(game);
+  }
+
+  /**
+   * User ID to chips for the players of the game that still have chips.
+   */
+  static Map<String, Integer> chipCountsOf(TournamentGame game) {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    for (Player player : game.players().values()) {
+      if (player.chipCount() > 0) {
+        counts.put(player.userId(), player.chipCount());
+      }
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  @Override
+  protected TournamentGame persistGameState(TournamentGame game) {
+    return gameServer.saveGame(game);
+  }
+}
@@ -1,33 +1,235 @@
 package org.homepoker.game.tournament;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.GameActivationQueue;
+import org.homepoker.game.GameServerProperties;
+import org.homepoker.game.GameSettings;
+import org.homepoker.lib.exception.ResourceNotFound;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.game.GameCriteria;
-import org.homepoker.game.GameManager;
 import org.homepoker.model.game.GameStatus;
 import org.homepoker.model.game.GameType;
+import org.homepoker.security.SecurityUtilities;
+import org.homepoker.threading.VirtualThreadManager;
 import org.homepoker.user.UserManager;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.springframework.data.mongodb.core.query.Query.query;
 
+/**
+ * Persists tournaments and runs the ones in progress. The game loop is the same as for cash games: one scheduler
+ * tick per second farms out a virtual thread per game, and scheduled games are materialized when their seating window
+ * opens.
+ * <p>
+ * Blind levels are driven by a single deadline queue shared by every tournament on the server rather than by each
+ * game checking the clock on every tick: a running tournament schedules its next level-up on the queue, the loop
+ * polls the queue once per pass (nothing to do unless a level is due) and signals the games whose level is over.
+ */
+@Service
+@Slf4j
 public class TournamentGameServer {
 
   private final TournamentGameRepository gameRepository;
   private final UserManager userManager;
+  private final SecurityUtilities securityUtilities;
   private final MongoOperations mongoOperations;
+  private final VirtualThreadManager threadManager;
 
-  public TournamentGameServer(TournamentGameRepository gameRepository, UserManager userManager, MongoOperations mongoOperations) {
+  @Nullable
+  private final ScheduledFuture<?> gamesScheduler;
+
+  /**
+   * This is an atomic boolean that is used to ensure that only one thread is processing the game loop at a time.
+   */
+  private final AtomicBoolean processLock = new AtomicBoolean(false);
+
+  private final Map<String, TournamentGameManager> gameManagerMap = new ConcurrentHashMap<>();
+
+  /**
+   * Scheduled tournaments that are not yet in memory, keyed by the moment seating opens.
+   */
+  private final GameActivationQueue activationQueue;
+
+  /**
+   * The next blind level-up of every running tournament, keyed by game ID.
+   */
+  private final GameActivationQueue blindLevelTimer;
+
+  /**
+   * The startup load of persisted games runs on the first pass of the game loop.
+   */
+  private final AtomicBoolean initialLoadPending = new AtomicBoolean(true);
+
+  /**
+   * The game loop's clock, shared with every tournament manager and both timers.
+   */
+  private final Clock clock;
+
+  public TournamentGameServer(TournamentGameRepository gameRepository, UserManager userManager,
+                              SecurityUtilities securityUtilities, MongoOperations mongoOperations,
+                              VirtualThreadManager threadManager, GameServerProperties gameServerProperties,
+                              Clock clock) {
+    this.clock = clock;
+    this.activationQueue = new GameActivationQueue(clock);
+    this.blindLevelTimer = new GameActivationQueue(clock);
     this.gameRepository = gameRepository;
     this.userManager = userManager;
+    this.securityUtilities = securityUtilities;
     this.mongoOperations = mongoOperations;
+    this.threadManager = threadManager;
+
+    // Set up a scheduled task to run a game "tick" based on the game loop interval.
+    if (gameServerProperties.gameLoopIntervalMilliseconds() == 0) {
+      log.info("Tournament game loop is disabled for testing.");
+      gamesScheduler = null;
+    } else {
+      ZonedDateTime now = ZonedDateTime.now(clock);
+      long initialDelay = Duration.between(now, now.plusSeconds(2).withNano(0)).toMillis();
+      gamesScheduler = threadManager.getScheduler().scheduleAtFixedRate(
+          this::processGames, initialDelay, 1000, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * One pass of the game loop: activate scheduled tournaments whose seating window has opened, signal the tournaments
+   * whose blind level is over, and farm out a thread to tick each tournament in memory.
+   */
+  void processGames() {
+
+    if (!processLock.compareAndSet(false, true)) {
+      // Any additional virtual threads should simply return if there is already a processing thread in progress.
+      log.warn("Tournament processing thread is already running, is it taking too long to process games?");
+      return;
+    }
+
+    try {
+      if (initialLoadPending.compareAndSet(true, false)) {
+        threadManager.getExecutor().submit(this::loadNewGames);
+      }
+
+      List<String> dueGameIds = activationQueue.pollDue();
+      if (!dueGameIds.isEmpty()) {
+        threadManager.getExecutor().submit(() -> activateGames(dueGameIds));
+      }
+
+      for (String gameId : blindLevelTimer.pollDue()) {
+        TournamentGameManager gameManager = gameManagerMap.get(gameId);
+        if (gameManager != null) {
+          gameManager.blindLevelDue();
+        }
+      }
+
+      for (TournamentGameManager gameManager : List.copyOf(gameManagerMap.values())) {
+        if (gameManager.gameStatus() == GameStatus.COMPLETED) {
+          gameManagerMap.remove(gameManager.gameId());
+          blindLevelTimer.cancel(gameManager.gameId());
+          continue;
+        }
+        if (gameManager.isAwaitingSeating()) {
+          continue;
+        }
+        threadManager.getExecutor().submit(gameManager::processGameTick);
+      }
+    } catch (Exception e) {
+      log.error("Error processing tournaments", e);
+    } finally {
+      // Release the lock
+      processLock.set(false);
+    }
+  }
+
+  /**
+   * Startup load of persisted tournaments: tournaments in progress are loaded into memory and scheduled tournaments
+   * are queued for activation when their seating window opens.
+   */
+  protected void loadNewGames() {
+    try {
+      List<String> gameIdsToLoad = new ArrayList<>();
+      for (TournamentSchedule game : mongoOperations.query(TournamentGame.class)
+          .as(TournamentSchedule.class)
+          .matching(query(Criteria.where("status").ne(GameStatus.COMPLETED)))
+          .all()) {
+        if (gameManagerMap.containsKey(game.id())) {
+          continue;
+        }
+        if (game.status() == GameStatus.SCHEDULED) {
+          activationQueue.schedule(game.id(), seatingOpensAt(game.type(), game.startTime()));
+        } else {
+          gameIdsToLoad.add(game.id());
+        }
+      }
+      gameIdsToLoad.addAll(activationQueue.pollDue());
+      activateGames(gameIdsToLoad);
+    } catch (Exception e) {
+      log.error("Error loading tournaments", e);
+    }
+  }
+
+  private void activateGames(List<String> gameIds) {
+    try {
+      for (TournamentGame game : gameRepository.findAllById(gameIds)) {
+        gameManagerMap.computeIfAbsent(game.id(), (_) -> createGameManager(game));
+      }
+    } catch (Exception e) {
+      log.error("Error activating tournaments {}", gameIds, e);
+    }
+  }
+
+  private static Instant seatingOpensAt(@Nullable GameType type, Instant startTime) {
+    return startTime.minusSeconds(GameSettings.forGameType(type).seatingTimeSeconds());
+  }
+
+  private void scheduleActivation(TournamentGame game) {
+    if (game.status() == GameStatus.SCHEDULED && !gameManagerMap.containsKey(game.id())) {
+      activationQueue.schedule(game.id(), seatingOpensAt(game.type(), game.startTime()));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (gamesScheduler != null) {
+      gamesScheduler.cancel(true);
+    }
+  }
+
+  /**
+   * Schedule (or reschedule) a tournament's next blind level-up on the shared blind timer.
+   */
+  void scheduleBlindLevel(String gameId, Instant nextLevelAt) {
+    blindLevelTimer.schedule(gameId, nextLevelAt);
+  }
+
+  /**
+   * Remove a tournament from the shared blind timer (the game was paused or has completed).
+   *
+   * @return When the next level-up was due, or null if none was pending (it may already have fired).
+   */
+  @Nullable
+  Instant cancelBlindLevel(String gameId) {
+    Instant nextLevelAt = blindLevelTimer.deadline(gameId);
+    blindLevelTimer.cancel(gameId);
+    return nextLevelAt;
   }
 
   /**
@@ -65,12 +267,76 @@ public class TournamentGameServer {
    * Get the game manager for a given gameId.
    *
    * @param gameId The game ID
-   * @return The game manager
+   * @return A game manager for the game or an error if the game does not exist.
    */
-  @Nullable
-  public GameManager<TournamentGame> getGameManger(String gameId) {
-    // TODO Auto-generated method stub
-    return null;
+  public TournamentGameManager getGameManger(String gameId) {
+    return gameManagerMap.computeIfAbsent(gameId, (_) -> {
+      //If the game manager is not yet in memory, we retrieve the game from
+      //the database and materialize the game manager
+      TournamentGame game = gameRepository.findById(gameId).orElseThrow(
+          () -> new ResourceNotFound("The tournament [" + gameId + "] does not exist.")
+      );
+      return createGameManager(game);
+    });
+  }
+
+  private TournamentGameManager createGameManager(TournamentGame game) {
+    if (game.tables() == null) {
+      // Documents written before tables were tracked for tournaments.
+      game.tables(new TreeMap<>());
+    }
+    return new TournamentGameManager(game, this, userManager, securityUtilities, clock);
+  }
+
+  /**
+   * The Independent Chip Model equity of every player still in a tournament, for deal-making at a final table. The chip
+   * counts are the ones last published by the tournament's game loop if it is in memory, otherwise the persisted ones;
+   * this never loads a game manager.
+   *
+   * @param gameId  The game ID
+   * @param payouts The prize for each remaining place, first place first.
+   * @return Each player's chips and equity, largest stack first.
+   * @throws ValidationException If a payout is missing or negative, or no player has chips.
+   * @throws ResourceNotFound    If the tournament does not exist.
+   */
+  public List<IcmEquity> icmEquities(String gameId, List<@Nullable Integer> payouts) {
+    double[] payoutTable = new double[payouts.size()];
+    for (int i = 0; i < payoutTable.length; i++) {
+      Integer payout = payouts.get(i);
+      if (payout == null || payout < 0) {
+        throw new ValidationException("The payout for place " + (i + 1) + " must be zero or more.");
+      }
+      payoutTable[i] = payout;
+    }
+
+    @Nullable TournamentGameManager gameManager = gameManagerMap.get(gameId);
+    Map<String, Integer> chipCounts = gameManager != null
+        ? gameManager.chipCounts()
+        : TournamentGameManager.chipCountsOf(gameRepository.findById(gameId).orElseThrow(
+            () -> new ResourceNotFound("The tournament [" + gameId + "] does not exist.")));
+    if (chipCounts.isEmpty()) {
+      throw new ValidationException("No player in the tournament [" + gameId + "] has chips.");
+    }
+    String[] userIds = chipCounts.keySet().toArray(new String[0]);
+    int[] stacks = new int[userIds.length];
+    for (int i = 0; i < userIds.length; i++) {
+      stacks[i] = chipCounts.get(userIds[i]);
+    }
+
+    double[] equities = IcmCalculator.equities(stacks, payoutTable);
+    List<IcmEquity> result = new ArrayList<>(userIds.length);
+    for (int i = 0; i < userIds.length; i++) {
+      result.add(new IcmEquity(userIds[i], stacks[i], equities[i]));
+    }
+    result.sort(Comparator.comparingInt(IcmEquity::chipCount).reversed());
+    return result;
+  }
+
+  /**
+   * Persist the in-memory state of a running tournament (called from the game loop).
+   */
+  public TournamentGame saveGame(TournamentGame game) {
+    return gameRepository.save(game);
   }
 
   /**
@@ -86,6 +352,7 @@ public class TournamentGameServer {
 
     //Create a new tournament game and create a pipeline to apply the game details.
     TournamentGame game = gameRepository.save(applyDetailsToGame(TournamentGame.builder().build(), gameDetails));
+    scheduleActivation(game);
     return TournamentGameServer.gameToGameDetails(game);
   }
 
@@ -101,7 +368,12 @@ public class TournamentGameServer {
     TournamentGame game = gameRepository.findById(details.getId()).orElseThrow(
         () -> new ValidationException("The game [" + details.getId() + "] does not exist.")
     );
-    return TournamentGameServer.gameToGameDetails(gameRepository.save(applyDetailsToGame(game, details)));
+    if (gameManagerMap.containsKey(game.id())) {
+      throw new ValidationException("The game [" + details.getId() + "] is already running and cannot be updated.");
+    }
+    game = gameRepository.save(applyDetailsToGame(game, details));
+    scheduleActivation(game);
+    return TournamentGameServer.gameToGameDetails(game);
   }
 
 
@@ -126,6 +398,9 @@ public class TournamentGameServer {
    * @throws ValidationException If the game cannot be deleted.
    */
   public void deleteGame(String gameId) {
+    activationQueue.cancel(gameId);
+    blindLevelTimer.cancel(gameId);
+    gameManagerMap.remove(gameId);
     gameRepository.deleteById(gameId);
   }
 
@@ -144,17 +419,14 @@ public class TournamentGameServer {
     Assert.notNull(gameDetails.getBuyInAmount(), "The buy-in amount is required when creating a game.");
     Assert.notNull(gameDetails.getOwnerLoginId(), "The game owner is required when creating a game.");
 
-    //If the a start date is not specified or is before the current date, we just default to
-    //"now" and immediately transition game to a "paused" state. The owner can then choose when they want to
-    //"un-pause" game.
-    Instant now = Instant.now();
+    //If the start date is not specified, we default to "now" so the game immediately transitions to SEATING
+    //(where tables are created and players are seated). The owner can then start the game when ready.
+    Instant now = Instant.now(clock);
     Instant startTimestamp = gameDetails.getStartTimestamp();
-
-    GameStatus status = GameStatus.SCHEDULED;
-    if (startTimestamp.isAfter(now)) {
+    if (startTimestamp == null) {
       startTimestamp = now;
-      status = GameStatus.PAUSED;
     }
+    GameStatus status = GameStatus.SCHEDULED;
 
     //Default game type to Texas Hold'em.
     GameType gameType = gameDetails.getGameType();
@@ -232,6 +504,9 @@ public class TournamentGameServer {
     if (game.players() == null) {
       game.players(new HashMap<>());
     }
+    if (game.tables() == null) {
+      game.tables(new TreeMap<>());
+    }
     return game;
   }
 
@@ -257,4 +532,19 @@ public class TournamentGameServer {
         .build();
   }
 
+  /**
+   * Used for testing purposes only.
+   *
+   * @return The pending blind level-up for a running tournament, or null if its blind clock is not running.
+   */
+  @Nullable
+  Instant blindLevelDeadlineForTest(String gameId) {
+    return blindLevelTimer.deadline(gameId);
+  }
+
+  /**
+   * The fields the startup load needs to decide what to do with each persisted tournament.
+   */
+  record TournamentSchedule(String id, @Nullable GameType type, GameStatus status, Instant startTime) {
+  }
 }
@@ -0,0 +1,210 @@
+package org.homepoker.game.tournament;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A Monte Carlo model of a tournament's length, used by {@link BlindScheduleBuilder} to pick a blind level factor that
+ * hits a target duration.
+ * <p>
+ * Each simulated tournament plays hand "rounds" (one hand at every table) until one player has all the chips. In each
+ * hand two random players contest a pot: usually the blinds, but with a probability that rises as the shorter stack
+ * shrinks relative to the big blind, the shorter stack is all-in. Busted players rebuy (while rebuys are open) with
+ * {@link #REBUY_PROBABILITY}, and at the cliff level each remaining player takes the add-on with
+ * {@link #ADD_ON_PROBABILITY}. Time advances by one hand per round, with short-handed tables dealing faster than full
+ * ones.
+ * <p>
+ * The simulations for one schedule run in parallel on the common fork/join pool. Each simulation draws from its own
+ * random stream, seeded from the simulator's seed and the simulation's index, so results are reproducible and every
+ * candidate schedule in a search is measured against the same random hands.
+ */
+final class TournamentSimulator {
+
+  static final int SEATS_PER_TABLE = 9;
+
+  /** Chance that a busted player rebuys while rebuys are open (and they have rebuys left). */
+  static final double REBUY_PROBABILITY = 0.5;
+
+  /** Chance that a player still in at the cliff level takes the add-on. */
+  static final double ADD_ON_PROBABILITY = 0.7;
+
+  /** Chance that a hand between deep stacks ends with one of them all-in (coolers). */
+  private static final double ALL_IN_BASE = 0.02;
+
+  /** All-in pressure: the chance of an all-in grows as {@code ALL_IN_PRESSURE / M}, M being the shorter stack in pots. */
+  private static final double ALL_IN_PRESSURE = 1.5;
+
+  /** A simulation that runs this many times over its target is cut off there. */
+  private static final int DURATION_CAP_FACTOR = 4;
+
+  /**
+   * The tournament being modelled.
+   *
+   * @param numberOfPlayers Entrants.
+   * @param startingStack   Chips per entrant.
+   * @param rebuysPerPlayer The most times one player may rebuy (0 when rebuys are not offered).
+   * @param rebuyChips      Chips per rebuy.
+   * @param addOnChips      Chips per add-on (0 when add-ons are not offered).
+   * @param cliffLevel      The (0-based) level at which rebuys end and the add-on is offered.
+   * @param blindInterval   How long each blind level lasts.
+   * @param handsPerHour    Hands dealt per hour at a full table.
+   */
+  record Field(int numberOfPlayers, int startingStack, int rebuysPerPlayer, int rebuyChips, int addOnChips,
+               int cliffLevel, Duration blindInterval, int handsPerHour) {
+  }
+
+  private final Field field;
+  private final int simulations;
+  private final long seed;
+
+  TournamentSimulator(Field field, int simulations, long seed) {
+    this.field = field;
+    this.simulations = simulations;
+    this.seed = seed;
+  }
+
+  /**
+   * Search for the blind level factor whose schedule's median simulated duration is closest to the target. The
+   * duration falls as the factor grows (bigger blinds), so this is a binary search over the factor.
+   *
+   * @param target             The desired tournament length.
+   * @param scheduleForFactor  Builds the candidate schedule for a blind level factor.
+   * @param closedFormEstimate A starting point for the search (the closed-form factor).
+   * @return The schedule for the best factor found.
+   */
+  BlindSchedule optimize(Duration target, IntFunction<BlindSchedule> scheduleForFactor, int closedFormEstimate) {
+    double targetHours = hours(target);
+
+    // Find a factor whose tournaments are no longer than the target, doubling from the estimate.
+    int low = 1;
+    int high = Math.max(2, closedFormEstimate);
+    while (medianDurationHours(scheduleForFactor.apply(high), target) > targetHours && high < (1 << 24)) {
+      low = high;
+      high *= 2;
+    }
+    if (low == 1 && medianDurationHours(scheduleForFactor.apply(1), target) <= targetHours) {
+      // Even the slowest schedule is too fast for the target.
+      return scheduleForFactor.apply(1);
+    }
+
+    // Invariant: tournaments at `low` run over the target, tournaments at `high` do not.
+    while (high - low > 1) {
+      int mid = low + (high - low) / 2;
+      if (medianDurationHours(scheduleForFactor.apply(mid), target) > targetHours) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    double overBy = medianDurationHours(scheduleForFactor.apply(low), target) - targetHours;
+    double underBy = targetHours - medianDurationHours(scheduleForFactor.apply(high), target);
+    return scheduleForFactor.apply(overBy < underBy ? low : high);
+  }
+
+  /**
+   * Simulate the tournament under a blind schedule.
+   *
+   * @param schedule The blind schedule.
+   * @param target   The desired tournament length (simulations are cut off at a multiple of it).
+   * @return The median duration of the simulated tournaments, in hours.
+   */
+  double medianDurationHours(BlindSchedule schedule, Duration target) {
+    double capHours = hours(target) * DURATION_CAP_FACTOR;
+    int[] bigBlinds = bigBlindsByLevel(schedule, capHours);
+    double[] durations = IntStream.range(0, simulations)
+        .parallel()
+        .mapToDouble(index -> simulate(bigBlinds, capHours, new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L)))
+        .toArray();
+    Arrays.sort(durations);
+    return durations[durations.length / 2];
+  }
+
+  /**
+   * The big blind at each level a simulation capped at {@code capHours} can reach.
+   */
+  private int[] bigBlindsByLevel(BlindSchedule schedule, double capHours) {
+    int levels = (int) Math.ceil(capHours / hours(field.blindInterval())) + 1;
+    int[] bigBlinds = new int[levels];
+    for (int level = 0; level < levels; level++) {
+      // Late levels of a steep schedule can run past any real chip count; cap them so pot arithmetic cannot overflow.
+      bigBlinds[level] = Math.min(schedule.getBlinds(level).getBigBlind(), Integer.MAX_VALUE / 4);
+    }
+    return bigBlinds;
+  }
+
+  /**
+   * Play one tournament to a single player (or to the cap).
+   *
+   * @return The tournament's duration in hours.
+   */
+  double simulate(int[] bigBlinds, double capHours, SplittableRandom random) {
+    int players = field.numberOfPlayers();
+    // Stacks of the players still in, packed into [0, alive): a busted player is replaced by the last one.
+    int[] stacks = new int[players];
+    int[] rebuysLeft = new int[players];
+    Arrays.fill(stacks, field.startingStack());
+    Arrays.fill(rebuysLeft, field.rebuysPerPlayer());
+    int alive = players;
+
+    double levelHours = hours(field.blindInterval());
+    double fullTableHandHours = 1.0 / field.handsPerHour();
+    boolean addOnsTaken = field.addOnChips() == 0;
+    double elapsed = 0;
+
+    while (alive > 1 && elapsed < capHours) {
+      int level = Math.min((int) (elapsed / levelHours), bigBlinds.length - 1);
+      if (!addOnsTaken && level >= field.cliffLevel()) {
+        for (int i = 0; i < alive; i++) {
+          if (random.nextDouble() < ADD_ON_PROBABILITY) {
+            stacks[i] += field.addOnChips();
+          }
+        }
+        addOnsTaken = true;
+      }
+      boolean rebuysOpen = level < field.cliffLevel();
+      int bigBlind = bigBlinds[level];
+      int blindsPot = bigBlind + bigBlind / 2;
+
+      int tables = (alive + SEATS_PER_TABLE - 1) / SEATS_PER_TABLE;
+      double playersPerTable = (double) alive / tables;
+      for (int table = 0; table < tables && alive > 1; table++) {
+        int first = random.nextInt(alive);
+        int second = random.nextInt(alive - 1);
+        if (second >= first) {
+          second++;
+        }
+        int winner = random.nextBoolean() ? first : second;
+        int loser = winner == first ? second : first;
+
+        int shortStack = Math.min(stacks[first], stacks[second]);
+        double stackInPots = (double) shortStack / blindsPot;
+        int amount = random.nextDouble() < ALL_IN_BASE + ALL_IN_PRESSURE / stackInPots
+            ? shortStack
+            : Math.min(stacks[loser], blindsPot);
+        stacks[winner] += amount;
+        stacks[loser] -= amount;
+
+        if (stacks[loser] == 0) {
+          if (rebuysOpen && rebuysLeft[loser] > 0 && random.nextDouble() < REBUY_PROBABILITY) {
+            rebuysLeft[loser]--;
+            stacks[loser] = field.rebuyChips();
+          } else {
+            alive--;
+            stacks[loser] = stacks[alive];
+            rebuysLeft[loser] = rebuysLeft[alive];
+          }
+        }
+      }
+      // A hand takes roughly half its time in fixed overhead (shuffle, deal) and half in per-player action.
+      elapsed += fullTableHandHours * (0.5 + 0.5 * playersPerTable / SEATS_PER_TABLE);
+    }
+    return Math.min(elapsed, capHours);
+  }
+
+  private static double hours(Duration duration) {
+    return duration.toMillis() / 3_600_000.0;
+  }
+}
@@ -0,0 +1,48 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.game.GameContext;
+import org.homepoker.game.GameSettings;
+import org.homepoker.game.table.TexasHoldemTableManager;
+import org.homepoker.model.game.Game;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.Table;
+import org.homepoker.poker.Deck;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A Texas Hold'em table in a tournament. A player who runs out of chips is eliminated and leaves the table, unless
+ * they can still rebuy, in which case they sit out until they do (or until the rebuy period closes).
+ */
+class TournamentTableManager extends TexasHoldemTableManager<TournamentGame> {
+
+  private TournamentTableManager(GameSettings gameSettings, Table table, Supplier<Deck> deckSupplier, Clock clock) {
+    super(gameSettings, table, deckSupplier, clock);
+  }
+
+  static TournamentTableManager forNewTable(String tableId, GameSettings settings, Supplier<Deck> deckSupplier,
+                                            Clock clock) {
+    return new TournamentTableManager(settings, emptyTable(tableId, settings), deckSupplier, clock);
+  }
+
+  static TournamentTableManager forExistingTable(Table table, GameSettings settings, Supplier<Deck> deckSupplier,
+                                                 Clock clock) {
+    TournamentTableManager manager = new TournamentTableManager(settings, table, deckSupplier, clock);
+    manager.recoverDeck();
+    return manager;
+  }
+
+  @Override
+  protected Collection<Player> eliminateBustedPlayers(Game<TournamentGame> game, List<Player> busted,
+                                                      GameContext gameContext) {
+    TournamentGame tournament = (TournamentGame) game;
+    List<Player> eliminated = busted.stream()
+        .filter(player -> !TournamentGameManager.canRebuy(tournament, player))
+        .toList();
+    TournamentGameManager.eliminate(tournament, eliminated, gameContext);
+    return eliminated;
+  }
+}
@@ -47,7 +47,7 @@ public class EventRecorder extends UserGameListener {
 
   /**
    * Constructor for tests — accepts a pre-seeded hand tracker (e.g., from
-   * {@link EventRecorderService#seedHandTracker()} during server restart recovery).
+   * {@link EventRecorderService#seedHandTracker} during server restart recovery).
    */
   public EventRecorder(EventRecorderService service, Map<String, Integer> initialHandByTable) {
     super(SystemUsers.EVENT_RECORDER);
@@ -71,8 +71,8 @@ public class EventRecorder extends UserGameListener {
 
       long sequenceNumber = (event instanceof GameEvent ge) ? ge.sequenceNumber() : 0L;
 
-      // Hand the raw event off to the worker thread; the heavy ObjectMapper.convertValue
-      // call happens inside writeOne(), not here on the game-loop thread.
+      // Hand the raw event off to the worker thread; payload encoding happens inside
+      // writeOne(), not here on the game-loop thread.
       PendingRecording pending = new PendingRecording(
           event,
           gameId,
@@ -1,13 +1,17 @@
 package org.homepoker.recording;
 
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Hint;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRecorderRepository extends MongoRepository<RecordedEvent, String> {
+public interface EventRecorderRepository extends MongoRepository<RecordedEvent, String>, RecordedEventWriter {
 
   /**
    * Primary replay query — events for one hand at one table on one game, ordered first by
@@ -18,9 +22,38 @@ public interface EventRecorderRepository extends MongoRepository<RecordedEvent,
       String gameId, String tableId, Integer handNumber);
 
   /**
-   * Latest hand on a table — used by {@link EventRecorder}'s startup recovery to seed
-   * {@code currentHandByTable} for tables that are still in a hand at server restart.
+   * Whole-game replay — every event captured for the game in capture order. Backed by a Mongo
+   * cursor walking {@link RecordedEvent#GAME_TIME_INDEX}; the caller must close the stream.
    */
-  Optional<RecordedEvent> findTopByGameIdAndTableIdOrderByHandNumberDesc(
-      String gameId, String tableId);
+  @Hint(RecordedEvent.GAME_TIME_INDEX)
+  Stream<RecordedEvent> streamByGameIdOrderByRecordedAtAsc(String gameId);
+
+  /**
+   * Hand-range replay — events for a range of hands on one table, in capture order. Backed by
+   * a Mongo cursor walking {@link RecordedEvent#GAME_TIME_INDEX}; the caller must close the
+   * stream. Events outside any hand window ({@code handNumber == null}) are not included.
+   */
+  @Hint(RecordedEvent.GAME_TIME_INDEX)
+  Stream<RecordedEvent> streamByGameIdAndTableIdAndHandNumberBetweenOrderByRecordedAtAsc(
+      String gameId, String tableId, Range<Integer> handNumbers);
+
+  /**
+   * Latest recorded hand on every table of the given games — used to seed
+   * {@link EventRecorder}'s {@code currentHandByTable} when game managers are (re)loaded.
+   * The {@code $sort} runs in the same direction as every key of {@link RecordedEvent#REPLAY_INDEX}
+   * ({@code gameId, tableId, handNumber}, all ascending), so it is answered by walking the index
+   * instead of a blocking in-memory sort, and the {@code $group} streams over it keeping only the
+   * {@code $last} (highest) hand number per table.
+   */
+  @Aggregation(pipeline = {
+      "{ '$match': { 'gameId': { '$in': ?0 }, 'tableId': { '$ne': null }, 'handNumber': { '$ne': null } } }",
+      "{ '$sort': { 'gameId': 1, 'tableId': 1, 'handNumber': 1 } }",
+      "{ '$group': { '_id': { 'gameId': '$gameId', 'tableId': '$tableId' }, 'handNumber': { '$last': '$handNumber' } } }",
+      "{ '$project': { '_id': 0, 'gameId': '$_id.gameId', 'tableId': '$_id.tableId', 'handNumber': 1 } }"
+  })
+  List<LatestHand> findLatestHandPerTable(Collection<String> gameIds);
+
+  /** Result row of {@link #findLatestHandPerTable(Collection)}. */
+  record LatestHand(String gameId, String tableId, int handNumber) {
+  }
 }
@@ -3,21 +3,20 @@ package org.homepoker.recording;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.homepoker.game.cash.CashGameRepository;
-import org.homepoker.game.cash.CashGameService;
-import org.homepoker.model.game.GameCriteria;
-import org.homepoker.model.game.GameStatus;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.homepoker.model.game.Game;
 import org.homepoker.model.game.Table;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -26,13 +25,22 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * Owns the async write pipeline for {@link EventRecorder} captures. The recorder calls
  * {@link #offer(PendingRecording)} on the game-loop thread; that call is non-blocking and
- * returns false on overflow. A single virtual-thread worker drains the queue, converts each
- * pending recording's payload, and writes a {@link RecordedEvent} via
- * {@link EventRecorderRepository}.
+ * returns false on overflow. A single virtual-thread worker drains the queue, encodes each
+ * pending recording's payload, and inserts a {@link RecordedEvent} document via
+ * {@link EventRecorderRepository#insertEncoded(Document)}.
  *
  * <p>The queue carries {@link PendingRecording} (metadata + raw event reference) rather than
- * fully-materialized {@link RecordedEvent} instances, so the heavy
- * {@code ObjectMapper.convertValue(...)} call stays off the game-loop thread.
+ * fully-materialized {@link RecordedEvent} instances, so payload encoding stays off the
+ * game-loop thread.
+ *
+ * <p>The payload is serialized once by Jackson and parsed straight into a
+ * {@link RawBsonDocument} (a flat BSON byte buffer). There is no intermediate
+ * {@code Map<String, Object>} tree and no second pass through Spring Data's mapping
+ * converter — previously the dominant CPU cost on the worker.
+ *
+ * <p>The worker also feeds every recording to a {@link HandSummaryProjector} and saves the
+ * resulting {@link HandSummary} when a hand completes, so the materialized summaries stay in
+ * lock-step with the raw event log without adding work to the game loop.
  *
  * <p>Per the spec: a backed-up Mongo cannot stall the game tick. On overflow the dropped
  * event is counted in {@link #droppedEventCount()} and logged once per N drops.
@@ -42,17 +50,14 @@ import java.util.concurrent.atomic.AtomicLong;
 public class EventRecorderService {
 
   private static final int LOG_DROP_EVERY_N = 100;
-  private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE_REF =
-      new TypeReference<>() {};
-
-  private static final Duration HAND_TRACKER_LOOKBACK = Duration.ofDays(7);
 
   private final EventRecorderRepository repository;
-  private final CashGameRepository cashGameRepository;
-  private final CashGameService cashGameService;
+  private final HandSummaryRepository handSummaryRepository;
   private final ObjectMapper objectMapper;
   private final LinkedBlockingQueue<PendingRecording> queue;
   private final int queueCapacity;
+  /** Worker-thread only (see {@link HandSummaryProjector}). */
+  private final HandSummaryProjector handSummaryProjector = new HandSummaryProjector();
 
   private final AtomicLong droppedEventCount = new AtomicLong();
   private final AtomicLong writtenEventCount = new AtomicLong();
@@ -64,13 +69,11 @@ public class EventRecorderService {
 
   public EventRecorderService(
       EventRecorderRepository repository,
-      CashGameRepository cashGameRepository,
-      @Lazy CashGameService cashGameService,
+      HandSummaryRepository handSummaryRepository,
       ObjectMapper webSocketObjectMapper,
       @Value("${poker.recording.queue-capacity:10000}") int queueCapacity) {
     this.repository = repository;
-    this.cashGameRepository = cashGameRepository;
-    this.cashGameService = cashGameService;
+    this.handSummaryRepository = handSummaryRepository;
     this.objectMapper = webSocketObjectMapper;
     this.queueCapacity = queueCapacity;
     this.queue = new LinkedBlockingQueue<>(queueCapacity);
@@ -109,14 +112,39 @@ public class EventRecorderService {
   }
 
   /**
-   * Convert the event to a {@code Map<String, Object>} payload using the polymorphic
-   * Jackson module configured on {@code webSocketObjectMapper}. This preserves the
-   * {@code eventType} discriminator inside the nested document.
+   * Encode the event as a BSON payload using the polymorphic Jackson module configured on
+   * {@code webSocketObjectMapper}. This preserves the {@code eventType} discriminator inside
+   * the nested document, and produces the same shape the replay endpoint has always served.
    *
    * <p>Called from the worker thread, NOT the game-loop thread.
    */
-  Map<String, Object> toPayload(Object event) {
-    return objectMapper.convertValue(event, PAYLOAD_TYPE_REF);
+  RawBsonDocument toPayload(Object event) {
+    return RawBsonDocument.parse(objectMapper.writeValueAsString(event));
+  }
+
+  /**
+   * Build the {@code recordedEvents} document for a pending recording. Field names mirror the
+   * {@link RecordedEvent} components and null columns are omitted, matching what the mapping
+   * converter would have written. The {@code _id} is assigned by the driver on insert.
+   */
+  Document toDocument(PendingRecording pending) {
+    Document document = new Document();
+    putIfNotNull(document, "gameId", pending.gameId());
+    putIfNotNull(document, "tableId", pending.tableId());
+    putIfNotNull(document, "handNumber", pending.handNumber());
+    putIfNotNull(document, "userId", pending.userId());
+    document.put("eventType", pending.event().eventType());
+    document.put("sequenceNumber", pending.sequenceNumber());
+    document.put("eventTimestamp", Date.from(pending.eventTimestamp()));
+    document.put("recordedAt", Date.from(pending.recordedAt()));
+    document.put("payload", toPayload(pending.event()));
+    return document;
+  }
+
+  private static void putIfNotNull(Document document, String key, @Nullable Object value) {
+    if (value != null) {
+      document.put(key, value);
+    }
   }
 
   /**
@@ -146,30 +174,42 @@ public class EventRecorderService {
   }
 
   /**
-   * Seed {@code currentHandByTable} for tables that were mid-hand at server restart.
-   * Intended for <strong>startup-only</strong> invocation (single-shot, before any commands
-   * flow). Limits the search to non-{@code COMPLETED} games started within
-   * {@link #HAND_TRACKER_LOOKBACK}, then for each {@code PLAYING} table looks up the most
-   * recently recorded {@code handNumber}.
+   * Latest recorded hand number for every table of the given games, keyed by gameId then
+   * tableId. One aggregation round-trip regardless of how many games or tables are involved
+   * (see {@link EventRecorderRepository#findLatestHandPerTable(Collection)}). Games with no
+   * recorded hands are absent from the result.
    */
-  public Map<String, Integer> seedHandTracker() {
+  public Map<String, Map<String, Integer>> latestHandByTable(Collection<String> gameIds) {
+    Map<String, Map<String, Integer>> latest = new HashMap<>();
+    if (gameIds.isEmpty()) {
+      return latest;
+    }
+    for (EventRecorderRepository.LatestHand hand : repository.findLatestHandPerTable(gameIds)) {
+      latest.computeIfAbsent(hand.gameId(), _ -> new HashMap<>()).put(hand.tableId(), hand.handNumber());
+    }
+    return latest;
+  }
+
+  /**
+   * Seed {@code currentHandByTable} for tables that were mid-hand when the game was last
+   * unloaded (typically a server restart). Only {@code PLAYING} tables are seeded.
+   *
+   * @param game              The game whose recorder is being constructed.
+   * @param latestHandByTable The game's entry from a batched {@link #latestHandByTable(Collection)}
+   *                          lookup, or null to look the game up on its own (a single query).
+   */
+  public Map<String, Integer> seedHandTracker(Game<?> game, @Nullable Map<String, Integer> latestHandByTable) {
+    Map<String, Integer> latest = latestHandByTable != null
+        ? latestHandByTable
+        : latestHandByTable(List.of(game.id())).getOrDefault(game.id(), Map.of());
+
     Map<String, Integer> seed = new HashMap<>();
-    GameCriteria criteria = GameCriteria.builder()
-        .startTime(Instant.now().minus(HAND_TRACKER_LOOKBACK))
-        .build();
-    cashGameService.findGames(criteria).forEach(details -> {
-      if (details.status() == GameStatus.COMPLETED) return;
-      cashGameRepository.findById(details.id()).ifPresent(game ->
-          game.tables().values().stream()
-              .filter(table -> table.status() == Table.Status.PLAYING)
-              .forEach(table -> repository
-                  .findTopByGameIdAndTableIdOrderByHandNumberDesc(game.id(), table.id())
-                  .ifPresent(rec -> {
-                    if (rec.handNumber() != null) {
-                      seed.put(table.id(), rec.handNumber());
-                    }
-                  })));
-    });
+    for (Table table : game.tables().values()) {
+      Integer handNumber = latest.get(table.id());
+      if (handNumber != null && table.status() == Table.Status.PLAYING) {
+        seed.put(table.id(), handNumber);
+      }
+    }
     return seed;
   }
 
@@ -195,21 +235,11 @@ public class EventRecorderService {
   }
 
   private void writeOne(PendingRecording pending) {
-    RecordedEvent recorded;
+    projectHandSummary(pending);
+
+    Document recorded;
     try {
-      Map<String, Object> payload = toPayload(pending.event());
-      recorded = new RecordedEvent(
-          null,
-          pending.gameId(),
-          pending.tableId(),
-          pending.handNumber(),
-          pending.userId(),
-          pending.event().eventType(),
-          pending.sequenceNumber(),
-          pending.eventTimestamp(),
-          pending.recordedAt(),
-          payload
-      );
+      recorded = toDocument(pending);
     } catch (RuntimeException e) {
       log.error("event-recorder failed to convert event to payload eventType={} gameId={} (worker continuing)",
           pending.event().eventType(), pending.gameId(), e);
@@ -217,16 +247,35 @@ public class EventRecorderService {
       return;
     }
     try {
-      repository.save(recorded);
+      repository.insertEncoded(recorded);
       writtenEventCount.incrementAndGet();
     } catch (RuntimeException e) {
       if (running) {
         log.error("event-recorder worker failed to persist event eventType={} gameId={} tableId={} (worker continuing)",
-            recorded.eventType(), recorded.gameId(), recorded.tableId(), e);
+            pending.event().eventType(), pending.gameId(), pending.tableId(), e);
       } else {
         // Shutdown — Mongo client may already be closing. Don't flood logs; aggregate.
         shutdownLossCount.incrementAndGet();
       }
     }
   }
+
+  /**
+   * Feed the recording to the hand-summary projection and persist the summary when the hand
+   * completes. Failures are logged and swallowed — the raw event log is the source of truth
+   * and a summary can always be rebuilt from it.
+   */
+  private void projectHandSummary(PendingRecording pending) {
+    try {
+      HandSummary summary = handSummaryProjector.accept(pending);
+      if (summary != null) {
+        handSummaryRepository.save(summary);
+      }
+    } catch (RuntimeException e) {
+      if (running) {
+        log.error("event-recorder failed to project hand summary gameId={} tableId={} handNumber={} (worker continuing)",
+            pending.gameId(), pending.tableId(), pending.handNumber(), e);
+      }
+    }
+  }
 }
@@ -0,0 +1,128 @@
+package org.homepoker.recording;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, size-aware LRU cache of single-hand replays, keyed by
+ * {@code (gameId, tableId, handNumber)}. Entries are the already-serialized JSON array that
+ * the replay endpoint returns, so a cache hit costs neither a Mongo round trip nor a
+ * re-serialization of the hand.
+ *
+ * <p>Only <strong>completed</strong> hands are cached. A hand is complete once its
+ * {@code hand-complete} event has been recorded: the recorder worker writes events in FIFO
+ * order on a single thread, so when the {@code HandComplete} row is visible every earlier
+ * event of that hand is too, and no later event is ever tagged with the closed hand number.
+ * From that point the cached bytes are treated as immutable and are never refreshed.
+ * In-progress hands are always read through to Mongo.
+ *
+ * <p>The bound is expressed in bytes ({@code poker.recording.replay-cache-max-bytes}); the
+ * least-recently-read entries are evicted until the total fits. A single hand larger than the
+ * bound is served but not cached.
+ */
+@Slf4j
+@Service
+public class HandReplayCache {
+
+  private static final String HAND_COMPLETE_EVENT_TYPE = "hand-complete";
+
+  private final EventRecorderRepository repository;
+  private final ObjectMapper objectMapper;
+  private final long maxBytes;
+
+  /** Access-ordered so iteration starts at the least-recently-read entry. Guarded by {@code this}. */
+  private final LinkedHashMap<HandKey, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long currentBytes;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public HandReplayCache(
+      EventRecorderRepository repository,
+      ObjectMapper webSocketObjectMapper,
+      @Value("${poker.recording.replay-cache-max-bytes:33554432}") long maxBytes) {
+    this.repository = repository;
+    this.objectMapper = webSocketObjectMapper;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Return the serialized replay (a JSON array of {@link RecordedEvent}s ordered by
+   * sequenceNumber then recordedAt) for one hand. Served from the cache when the hand has
+   * completed and was read before; otherwise loaded from Mongo and, if complete, cached.
+   */
+  public byte[] getHandReplay(String gameId, String tableId, int handNumber) {
+    HandKey key = new HandKey(gameId, tableId, handNumber);
+    synchronized (this) {
+      byte[] cached = entries.get(key);
+      if (cached != null) {
+        hitCount.incrementAndGet();
+        return cached;
+      }
+    }
+    missCount.incrementAndGet();
+
+    List<RecordedEvent> events = repository
+        .findByGameIdAndTableIdAndHandNumberOrderBySequenceNumberAscRecordedAtAsc(
+            gameId, tableId, handNumber);
+    byte[] serialized = objectMapper.writeValueAsBytes(events);
+
+    if (isComplete(events)) {
+      put(key, serialized);
+    }
+    return serialized;
+  }
+
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /** Total bytes currently held by the cache. */
+  public synchronized long currentBytes() {
+    return currentBytes;
+  }
+
+  private static boolean isComplete(List<RecordedEvent> events) {
+    for (RecordedEvent event : events) {
+      if (HAND_COMPLETE_EVENT_TYPE.equals(event.eventType())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private synchronized void put(HandKey key, byte[] serialized) {
+    if (serialized.length > maxBytes) {
+      log.debug("Replay for {} is {} bytes, larger than the cache bound of {}; not caching.",
+          key, serialized.length, maxBytes);
+      return;
+    }
+    byte[] previous = entries.put(key, serialized);
+    if (previous != null) {
+      // A concurrent miss loaded the same completed hand; the bytes are identical.
+      currentBytes -= previous.length;
+    }
+    currentBytes += serialized.length;
+
+    for (Iterator<Map.Entry<HandKey, byte[]>> it = entries.entrySet().iterator();
+         currentBytes > maxBytes && it.hasNext(); ) {
+      currentBytes -= it.next().getValue().length;
+      it.remove();
+    }
+  }
+
+  private record HandKey(String gameId, String tableId, int handNumber) {
+  }
+}
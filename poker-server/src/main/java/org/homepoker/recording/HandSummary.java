@@ -0,0 +1,80 @@
+package org.homepoker.recording;
+
+import org.homepoker.model.event.table.ShowdownResult;
+import org.homepoker.model.game.HandPhase;
+import org.homepoker.model.game.SeatSummary;
+import org.homepoker.model.poker.Card;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Materialized, compact view of one completed hand. Built by {@link HandSummaryProjector} from
+ * the recorded event stream and written to the {@code handSummaries} collection when the
+ * hand's {@code HandComplete} event is recorded. History browsing and stats queries read one
+ * of these instead of reassembling dozens of raw {@link RecordedEvent}s.
+ *
+ * <p>The id is {@code gameId:tableId:handNumber}, so re-projecting a hand overwrites the
+ * previous summary rather than duplicating it.
+ *
+ * @param userIds       Every player dealt into the hand (indexed for per-player history).
+ * @param startingSeats Seats, players and stacks of the players dealt in, as of {@code HandStarted}.
+ * @param holeCards     Each player's hole cards.
+ * @param board         The final community cards.
+ * @param actions       Blinds and player actions in the order they happened.
+ * @param pots          Final pots with their winners (from {@code ShowdownResult}).
+ */
+@Document(collection = "handSummaries")
+public record HandSummary(
+    @Id String id,
+    String gameId,
+    String tableId,
+    int handNumber,
+    Instant startedAt,
+    Instant completedAt,
+    int dealerPosition,
+    int smallBlindAmount,
+    int bigBlindAmount,
+    List<String> userIds,
+    List<SeatSummary> startingSeats,
+    List<HoleCards> holeCards,
+    List<Card> board,
+    List<Action> actions,
+    List<ShowdownResult.PotResult> pots
+) {
+
+  static String idFor(String gameId, String tableId, int handNumber) {
+    return gameId + ":" + tableId + ":" + handNumber;
+  }
+
+  public record HoleCards(int seatPosition, String userId, List<Card> cards) {
+  }
+
+  /**
+   * One blind or player action.
+   *
+   * @param amount    Chips put in by the action (0 for fold/check).
+   * @param chipCount The player's stack after the action, or null for blinds.
+   */
+  public record Action(
+      HandPhase phase,
+      int seatPosition,
+      String userId,
+      ActionType type,
+      int amount,
+      @Nullable Integer chipCount) {
+  }
+
+  public enum ActionType {
+    SMALL_BLIND,
+    BIG_BLIND,
+    FOLD,
+    CHECK,
+    CALL,
+    BET,
+    RAISE
+  }
+}
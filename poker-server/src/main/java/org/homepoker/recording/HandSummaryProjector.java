@@ -0,0 +1,151 @@
+package org.homepoker.recording;
+
+import org.homepoker.model.event.table.BlindPosted;
+import org.homepoker.model.event.table.CommunityCardsDealt;
+import org.homepoker.model.event.table.HandComplete;
+import org.homepoker.model.event.table.HandPhaseChanged;
+import org.homepoker.model.event.table.HandStarted;
+import org.homepoker.model.event.table.HoleCardsDealt;
+import org.homepoker.model.event.table.PlayerActed;
+import org.homepoker.model.event.table.ShowdownResult;
+import org.homepoker.model.game.HandPhase;
+import org.homepoker.model.game.HandPlayerStatus;
+import org.homepoker.model.game.PlayerAction;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.SeatSummary;
+import org.homepoker.model.poker.Card;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds the recorded event stream into one {@link HandSummary} per hand. Each table has at
+ * most one open hand: {@code HandStarted} opens it, the hand's table events accumulate into
+ * it, and {@code HandComplete} closes it and returns the finished summary.
+ *
+ * <p>Hands whose {@code HandStarted} was not observed (e.g., the server restarted mid-hand)
+ * are not summarized — a partial summary would be worse than none.
+ *
+ * <p><strong>Threading:</strong> driven only by the {@link EventRecorderService} worker thread,
+ * so the backing map is a plain {@link HashMap}. Package-private — never escapes the
+ * {@code recording} package.
+ */
+class HandSummaryProjector {
+
+  private final Map<String, OpenHand> openHands = new HashMap<>();
+
+  /**
+   * Apply one recorded event. Returns the finished summary when the event closes a hand,
+   * otherwise null.
+   */
+  @Nullable
+  HandSummary accept(PendingRecording pending) {
+    if (pending.gameId() == null || pending.tableId() == null || pending.handNumber() == null) {
+      return null;
+    }
+    String tableKey = pending.gameId() + ":" + pending.tableId();
+
+    if (pending.event() instanceof HandStarted handStarted) {
+      openHands.put(tableKey, new OpenHand(handStarted));
+      return null;
+    }
+
+    OpenHand hand = openHands.get(tableKey);
+    if (hand == null || hand.started.handNumber() != pending.handNumber()) {
+      return null;
+    }
+
+    switch (pending.event()) {
+      case HandPhaseChanged e -> hand.phase = e.newPhase();
+      case HoleCardsDealt e -> hand.holeCards.add(new HandSummary.HoleCards(
+          e.seatPosition(), e.userId(), e.cards().stream().map(Seat.SeatCard::card).toList()));
+      case CommunityCardsDealt e -> hand.board = List.copyOf(e.allCommunityCards());
+      case BlindPosted e -> hand.actions.add(new HandSummary.Action(
+          hand.phase, e.seatPosition(), e.userId(),
+          switch (e.blindType()) {
+            case SMALL -> HandSummary.ActionType.SMALL_BLIND;
+            case BIG -> HandSummary.ActionType.BIG_BLIND;
+          },
+          (int) e.amountPosted(), null));
+      case PlayerActed e -> hand.actions.add(toAction(hand.phase, e));
+      case ShowdownResult e -> hand.pots = List.copyOf(e.potResults());
+      case HandComplete e -> {
+        openHands.remove(tableKey);
+        return hand.toSummary(e.timestamp());
+      }
+      default -> { /* Not part of the summary. */ }
+    }
+    return null;
+  }
+
+  private static HandSummary.Action toAction(HandPhase phase, PlayerActed acted) {
+    return switch (acted.action()) {
+      case PlayerAction.Fold _ -> action(phase, acted, HandSummary.ActionType.FOLD, 0);
+      case PlayerAction.Check _ -> action(phase, acted, HandSummary.ActionType.CHECK, 0);
+      case PlayerAction.Call call -> action(phase, acted, HandSummary.ActionType.CALL, call.amount());
+      case PlayerAction.Bet bet -> action(phase, acted, HandSummary.ActionType.BET, bet.amount());
+      case PlayerAction.Raise raise -> action(phase, acted, HandSummary.ActionType.RAISE, raise.amount());
+    };
+  }
+
+  private static HandSummary.Action action(HandPhase phase, PlayerActed acted, HandSummary.ActionType type, int amount) {
+    return new HandSummary.Action(phase, acted.seatPosition(), acted.userId(), type, amount, acted.chipCount());
+  }
+
+  /** Test-only inspection. */
+  int openHandCount() {
+    return openHands.size();
+  }
+
+  private static final class OpenHand {
+    private final HandStarted started;
+    private HandPhase phase = HandPhase.DEAL;
+    private final List<HandSummary.HoleCards> holeCards = new ArrayList<>();
+    private List<Card> board = List.of();
+    private final List<HandSummary.Action> actions = new ArrayList<>();
+    private List<ShowdownResult.PotResult> pots = List.of();
+
+    private OpenHand(HandStarted started) {
+      this.started = started;
+    }
+
+    private HandSummary toSummary(Instant completedAt) {
+      List<String> userIds = new ArrayList<>();
+      List<SeatSummary> dealtInSeats = new ArrayList<>();
+      for (SeatSummary seat : started.seats()) {
+        if (seat.userId() != null && isDealtIn(seat)) {
+          userIds.add(seat.userId());
+          dealtInSeats.add(seat);
+        }
+      }
+      return new HandSummary(
+          HandSummary.idFor(started.gameId(), started.tableId(), started.handNumber()),
+          started.gameId(),
+          started.tableId(),
+          started.handNumber(),
+          started.timestamp(),
+          completedAt,
+          started.dealerPosition(),
+          started.smallBlindAmount(),
+          started.bigBlindAmount(),
+          List.copyOf(userIds),
+          List.copyOf(dealtInSeats),
+          List.copyOf(holeCards),
+          board,
+          List.copyOf(actions),
+          pots);
+    }
+
+    /**
+     * A seat that joined mid-hand (WAITING) or is sitting out was not dealt cards, so the hand is not part of that
+     * player's history.
+     */
+    private static boolean isDealtIn(SeatSummary seat) {
+      return seat.status() != HandPlayerStatus.WAITING && seat.status() != HandPlayerStatus.SITTING_OUT;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package org.homepoker.recording;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface HandSummaryRepository extends MongoRepository<HandSummary, String> {
+
+  /**
+   * All completed hands for one game, table by table in hand order.
+   */
+  List<HandSummary> findByGameIdOrderByTableIdAscHandNumberAsc(String gameId);
+
+  /**
+   * A player's hand history, most recent first.
+   */
+  List<HandSummary> findByUserIdsOrderByCompletedAtDesc(String userId);
+}
@@ -8,11 +8,11 @@ import java.time.Instant;
 /**
  * Internal queue payload for the recorder pipeline. Carries the raw event plus the
  * metadata the recorder computed on the game-loop thread (gameId, tableId, handNumber,
- * etc.). The worker thread materializes the persisted {@link RecordedEvent} from this
- * wrapper by calling {@code EventRecorderService.toPayload(event)}.
+ * etc.). The worker thread materializes the persisted {@link RecordedEvent} document from
+ * this wrapper by calling {@code EventRecorderService.toDocument(pending)}.
  *
- * <p>Splitting metadata-computation from payload-conversion keeps the heavy
- * {@code ObjectMapper.convertValue(...)} call off the game-loop thread.
+ * <p>Splitting metadata-computation from payload-encoding keeps the JSON/BSON serialization
+ * off the game-loop thread.
  *
  * <p>Package-private — never escapes the {@code recording} package.
  */
@@ -24,6 +24,14 @@ import java.util.Map;
  *       {@code (gameId, tableId, handNumber)} so this is acceptable for now.</li>
  *   <li>{@code sequenceNumber} — 0 for {@code UserEvent}s; the real per-stream seq otherwise</li>
  * </ul>
+ *
+ * <p>This record is the <em>read</em> model. Writes are performed by
+ * {@link EventRecorderService}, which encodes the payload directly to BSON and inserts the
+ * document through {@link RecordedEventWriter}; keep field names in sync with
+ * {@code EventRecorderService.toDocument}.
+ *
+ * <p>Index names are exposed as constants so repository query hints and
+ * {@code MongoConfiguration} agree on them.
  */
 @Document(collection = "recordedEvents")
 public record RecordedEvent(
@@ -38,4 +46,10 @@ public record RecordedEvent(
     Instant recordedAt,
     Map<String, Object> payload
 ) {
+
+  /** Compound {@code (gameId, tableId, handNumber, sequenceNumber)} index for single-hand replay. */
+  public static final String REPLAY_INDEX = "recordedEvents_replay_idx";
+
+  /** Compound {@code (gameId, recordedAt)} index for whole-game and hand-range streaming. */
+  public static final String GAME_TIME_INDEX = "recordedEvents_game_time_idx";
 }
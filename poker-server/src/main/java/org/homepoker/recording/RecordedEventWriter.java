@@ -0,0 +1,18 @@
+package org.homepoker.recording;
+
+import org.bson.Document;
+
+/**
+ * Custom write fragment for {@link EventRecorderRepository}. The recorder worker builds the
+ * {@code recordedEvents} document itself (metadata columns plus a pre-encoded BSON payload),
+ * so the insert goes straight to the driver instead of through Spring Data's mapping
+ * converter — which would otherwise walk the payload map a second time.
+ */
+public interface RecordedEventWriter {
+
+  /**
+   * Insert an already-encoded {@link RecordedEvent} document as-is. The document must use the
+   * same field names as {@link RecordedEvent} so the derived replay queries can read it back.
+   */
+  void insertEncoded(Document document);
+}
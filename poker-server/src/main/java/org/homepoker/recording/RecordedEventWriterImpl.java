@@ -0,0 +1,23 @@
+package org.homepoker.recording;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+/**
+ * Default {@link RecordedEventWriter} implementation, picked up by Spring Data as a
+ * repository fragment of {@link EventRecorderRepository}.
+ */
+public class RecordedEventWriterImpl implements RecordedEventWriter {
+
+  private final MongoOperations mongoOperations;
+
+  public RecordedEventWriterImpl(MongoOperations mongoOperations) {
+    this.mongoOperations = mongoOperations;
+  }
+
+  @Override
+  public void insertEncoded(Document document) {
+    mongoOperations.getCollection(mongoOperations.getCollectionName(RecordedEvent.class))
+        .insertOne(document);
+  }
+}
@@ -6,18 +6,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.homepoker.file.FileService;
+import org.homepoker.file.StoredFile;
 import org.homepoker.lib.exception.ValidationException;
-import org.homepoker.model.file.UploadedFile;
 import org.homepoker.model.user.User;
 import org.homepoker.security.SecurityUtilities;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/files")
@@ -25,6 +26,7 @@ import java.io.IOException;
 public class FileController {
 
   private static final int MAX_FILE_SIZE_BYTES = 1024 * 1024 * 2;
+  private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
   private final FileService fileService;
 
   public FileController(FileService fileService) {
@@ -32,7 +34,8 @@ public class FileController {
   }
 
   @PostMapping("")
-  @Operation(summary = "Upload a file", description = "Upload a file (max 2MB). Returns the file ID that can be used to download it later.")
+  @Operation(summary = "Upload a file", description = "Upload a file (max 2MB). Returns the file ID that can be used to download it later. "
+      + "Uploading content identical to an existing file returns the existing file's ID.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "File uploaded successfully, returns the file ID"),
       @ApiResponse(responseCode = "400", description = "File is too large or could not be read"),
@@ -43,27 +46,32 @@ public class FileController {
       throw new ValidationException("The file is too large.");
     }
     User user = SecurityUtilities.getCurrentUser();
-    try {
-      UploadedFile newFile = fileService.saveFile(new UploadedFile(null, file.getContentType(), file.getBytes(), user.id()));
-      return newFile.id();
-    } catch (IOException exception) {
-      throw new ValidationException("An error occurred while reading the file.");
-    }
+    String contentType = file.getContentType() == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : file.getContentType();
+    // The multipart file is streamed (from memory or its temp file); it is never copied into a byte array here.
+    return fileService.storeFile(file, contentType, user.id()).id();
   }
 
   @GetMapping("/{fileId}")
-  @Operation(summary = "Download a file", description = "Download a previously uploaded file by its ID.")
+  @Operation(summary = "Download a file", description = "Download a previously uploaded file by its ID. Files are immutable, so "
+      + "responses carry a strong ETag (the content hash) and may be cached indefinitely. Supports If-None-Match and byte ranges.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "File returned as an attachment"),
+      @ApiResponse(responseCode = "206", description = "The requested byte range(s) of the file"),
+      @ApiResponse(responseCode = "304", description = "The client's cached copy (If-None-Match) is current"),
       @ApiResponse(responseCode = "401", description = "Not authenticated"),
-      @ApiResponse(responseCode = "404", description = "File not found")
+      @ApiResponse(responseCode = "404", description = "File not found"),
+      @ApiResponse(responseCode = "416", description = "The requested range is not satisfiable")
   })
-  public ResponseEntity<ByteArrayResource> download(@Parameter(description = "ID of the file to download") @PathVariable String fileId) {
-    UploadedFile file = fileService.getFile(fileId);
+  public ResponseEntity<Resource> download(@Parameter(description = "ID of the file to download") @PathVariable String fileId) {
+    StoredFile file = fileService.getFile(fileId);
 
+    // Conditional (If-None-Match -> 304) and Range (206, Accept-Ranges) handling is done by Spring's
+    // HttpEntityMethodProcessor, which only opens the resource's stream when content is actually written.
     return ResponseEntity.ok()
+        .eTag("\"" + file.sha256() + "\"")
+        .cacheControl(CacheControl.maxAge(IMMUTABLE_MAX_AGE).cachePrivate().immutable())
         .contentType(MediaType.parseMediaType(file.contentType()))
         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.id() + "\"")
-        .body(new ByteArrayResource(file.data()));
+        .body(file.content());
   }
 }
@@ -1,30 +1,55 @@
 package org.homepoker.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.homepoker.game.cash.CashGameManager;
 import org.homepoker.game.cash.CashGameService;
+import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.command.AdminViewingReplayCommand;
 import org.homepoker.model.game.GameStatus;
 import org.homepoker.recording.EventRecorderRepository;
+import org.homepoker.recording.HandReplayCache;
 import org.homepoker.recording.RecordedEvent;
 import org.homepoker.security.PokerUserDetails;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Range;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
-import java.util.List;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Admin-only replay endpoint. Returns the captured event stream for a single hand on a
- * single table. If the game is not yet {@code COMPLETED}, the live {@code CashGameManager}
- * receives an {@link AdminViewingReplayCommand} that emits {@code AdminViewingReplay} to
- * connected players — see the 2026-04-25 event-store-and-replay spec.
+ * Admin-only replay endpoints. Returns the captured event stream for a single hand on a
+ * single table, or streams a whole game / a range of hands as NDJSON. If the game is not yet
+ * {@code COMPLETED}, the live {@code CashGameManager} receives an
+ * {@link AdminViewingReplayCommand} that emits {@code AdminViewingReplay} to connected
+ * players — see the 2026-04-25 event-store-and-replay spec.
+ *
+ * <p>The streaming endpoints read from a Mongo cursor and write one JSON document per line
+ * as the cursor advances, so a full night's session never has to fit in the heap. When the
+ * client sends {@code Accept-Encoding: gzip} the stream is gzip-compressed.
  */
 @Slf4j
 @RestController
@@ -32,12 +57,19 @@ import java.util.List;
 @Tag(name = "Replay", description = "Admin-only event-stream replay")
 public class ReplayController {
 
+  private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
   private final EventRecorderRepository repository;
+  private final HandReplayCache handReplayCache;
   private final CashGameService cashGameService;
+  private final ObjectMapper objectMapper;
 
-  public ReplayController(EventRecorderRepository repository, CashGameService cashGameService) {
+  public ReplayController(EventRecorderRepository repository, HandReplayCache handReplayCache,
+      CashGameService cashGameService, ObjectMapper webSocketObjectMapper) {
     this.repository = repository;
+    this.handReplayCache = handReplayCache;
     this.cashGameService = cashGameService;
+    this.objectMapper = webSocketObjectMapper;
   }
 
   @GetMapping("/games/{gameId}/tables/{tableId}/hands/{handNumber}")
@@ -45,8 +77,11 @@ public class ReplayController {
   @Operation(summary = "Replay one hand", description =
       "Returns all events captured for the given (gameId, tableId, handNumber) tuple, "
           + "ordered by sequenceNumber then recordedAt. Empty array if no events are found "
-          + "(no distinction between 'never happened' and 'no events captured').")
-  public ResponseEntity<List<RecordedEvent>> replayHand(
+          + "(no distinction between 'never happened' and 'no events captured'). Completed "
+          + "hands are served from an in-memory cache.")
+  @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+      array = @ArraySchema(schema = @Schema(implementation = RecordedEvent.class))))
+  public ResponseEntity<byte[]> replayHand(
       @PathVariable String gameId,
       @PathVariable String tableId,
       @PathVariable Integer handNumber,
@@ -54,20 +89,94 @@ public class ReplayController {
 
     notifyIfGameIsLive(gameId, tableId, handNumber, admin);
 
-    List<RecordedEvent> events = repository
-        .findByGameIdAndTableIdAndHandNumberOrderBySequenceNumberAscRecordedAtAsc(
-            gameId, tableId, handNumber);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(handReplayCache.getHandReplay(gameId, tableId, handNumber));
+  }
+
+  @GetMapping(value = "/games/{gameId}/events", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "Stream a whole game", description =
+      "Streams every event captured for the game as newline-delimited JSON, ordered by "
+          + "recordedAt. Gzip-compressed when the request accepts gzip. Empty body if no "
+          + "events are found.")
+  public ResponseEntity<StreamingResponseBody> streamGame(
+      @PathVariable String gameId,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding,
+      @AuthenticationPrincipal PokerUserDetails admin) {
+
+    notifyIfGameIsLive(gameId, null, 0, admin);
+
+    return streamEvents(acceptEncoding,
+        () -> repository.streamByGameIdOrderByRecordedAtAsc(gameId));
+  }
+
+  @GetMapping(value = "/games/{gameId}/tables/{tableId}/hands", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "Stream a range of hands", description =
+      "Streams the events captured for hands fromHand..toHand (inclusive) on one table as "
+          + "newline-delimited JSON, ordered by recordedAt. Gzip-compressed when the request "
+          + "accepts gzip. Empty body if no events are found.")
+  public ResponseEntity<StreamingResponseBody> streamHands(
+      @PathVariable String gameId,
+      @PathVariable String tableId,
+      @RequestParam int fromHand,
+      @RequestParam int toHand,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding,
+      @AuthenticationPrincipal PokerUserDetails admin) {
+
+    if (fromHand > toHand) {
+      throw new ValidationException("fromHand must be less than or equal to toHand.");
+    }
+    notifyIfGameIsLive(gameId, tableId, fromHand, admin);
+
+    return streamEvents(acceptEncoding, () -> repository
+        .streamByGameIdAndTableIdAndHandNumberBetweenOrderByRecordedAtAsc(
+            gameId, tableId, Range.closed(fromHand, toHand)));
+  }
+
+  /**
+   * Build a streaming NDJSON response. The cursor is opened lazily on the async response
+   * thread and closed when the body has been written (or the client disconnects).
+   */
+  private ResponseEntity<StreamingResponseBody> streamEvents(
+      @Nullable String acceptEncoding, Supplier<Stream<RecordedEvent>> cursor) {
+
+    boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+    StreamingResponseBody body = outputStream -> {
+      OutputStream out = gzip
+          ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE)
+          : new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+      try (Stream<RecordedEvent> events = cursor.get()) {
+        for (Iterator<RecordedEvent> it = events.iterator(); it.hasNext(); ) {
+          out.write(objectMapper.writeValueAsBytes(it.next()));
+          out.write('\n');
+        }
+      }
+      if (out instanceof GZIPOutputStream gzipOut) {
+        gzipOut.finish();
+      }
+      out.flush();
+    };
 
-    return ResponseEntity.ok(events);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
   }
 
   /**
    * Best-effort: if the game is in memory and not COMPLETED, submit the warning command.
    * The event itself is published on the next tick — the HTTP response does not wait for
    * delivery. If the {@code CashGameManager} cannot be looked up (e.g., the game does not
-   * exist), the request still succeeds with an empty array.
+   * exist), the request still succeeds with an empty array. A null {@code tableId} means the
+   * admin is streaming the entire game.
    */
-  private void notifyIfGameIsLive(String gameId, String tableId, int handNumber, PokerUserDetails admin) {
+  private void notifyIfGameIsLive(String gameId, @Nullable String tableId, int handNumber, PokerUserDetails admin) {
     CashGameManager manager;
     try {
       manager = cashGameService.getGameManger(gameId);
@@ -2,9 +2,12 @@ package org.homepoker.rest;
 
 import org.homepoker.lib.exception.ResourceNotFound;
 import org.homepoker.lib.exception.SecurityException;
+import org.homepoker.lib.exception.TooManyRequestsException;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.Message;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -50,6 +53,17 @@ public class RestExceptionHandler {
     return Message.error(e.getMessage());
   }
 
+  /**
+   * A saturated or rate-limited request is answered with 429 and a {@code Retry-After} header (in whole seconds).
+   */
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<Message> handleException(TooManyRequestsException e) {
+    long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+        .body(Message.error(e.getMessage()));
+  }
+
   /**
    * Spring Security throws {@link AccessDeniedException} (or its subclass
    * {@code AuthorizationDeniedException}) when {@code @PreAuthorize} fails. Map to 403.
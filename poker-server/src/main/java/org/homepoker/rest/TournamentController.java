@@ -0,0 +1,46 @@
+package org.homepoker.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.homepoker.game.tournament.IcmEquity;
+import org.homepoker.game.tournament.IcmRequest;
+import org.homepoker.game.tournament.TournamentGameServer;
+import org.homepoker.lib.exception.ValidationException;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tournaments")
+@Tag(name = "Tournaments", description = "Tournament management")
+public class TournamentController {
+  private final TournamentGameServer gameServer;
+
+  public TournamentController(TournamentGameServer gameServer) {
+    this.gameServer = gameServer;
+  }
+
+  @PostMapping("/{gameId}/icm")
+  @Operation(summary = "Value a deal", description = "Compute each remaining player's Independent Chip Model equity "
+      + "from their current chip count and the prizes still to be paid, as the basis for a deal at a final table.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Each remaining player's chips and equity, largest stack first"),
+      @ApiResponse(responseCode = "400", description = "Invalid payouts, or no player has chips"),
+      @ApiResponse(responseCode = "401", description = "Not authenticated"),
+      @ApiResponse(responseCode = "404", description = "Tournament not found")
+  })
+  List<IcmEquity> icmEquities(@Parameter(description = "ID of the tournament") @PathVariable String gameId,
+                              @RequestBody IcmRequest request) {
+    if (request.payouts() == null || request.payouts().isEmpty()) {
+      throw new ValidationException("At least one payout is required.");
+    }
+    return gameServer.icmEquities(gameId, request.payouts());
+  }
+}
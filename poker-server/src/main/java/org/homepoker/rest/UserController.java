@@ -12,8 +12,6 @@ import org.homepoker.user.UserManager;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/users")
 @Tag(name = "Users", description = "User management operations")
@@ -26,12 +24,14 @@ public class UserController {
   }
 
   @PostMapping("")
-  @Operation(summary = "Find users", description = "Search for users by login ID or email.")
+  @Operation(summary = "Find users", description = "Search for users by login ID or email prefix. Results are paged: "
+      + "pass the returned nextPageToken as pageToken (with the same criteria) to fetch the next page.")
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "Users matching the criteria"),
+      @ApiResponse(responseCode = "200", description = "A page of users matching the criteria"),
+      @ApiResponse(responseCode = "400", description = "Invalid page token"),
       @ApiResponse(responseCode = "401", description = "Not authenticated")
   })
-  List<User> findUsers(UserCriteria criteria) {
+  UserPage findUsers(UserCriteria criteria) {
     return userManager.findUsers(criteria);
   }
 
@@ -0,0 +1,105 @@
+package org.homepoker.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of verified JWT tokens to the user details they authenticate, shared by the REST filter and the
+ * WebSocket handshake. A hit skips both the signature verification and the user lookup, which matters when a whole
+ * table reconnects at once.
+ * <p>
+ * An entry lives for the configured TTL, but never past the token's own expiration, and the least recently used
+ * entries are evicted beyond the size limit. {@link #invalidateUser(String)} drops a user's entries when the user is
+ * updated or deleted, so changes are picked up on the next request rather than after the TTL.
+ * <p>
+ * <strong>Threading:</strong> all state is guarded by this object's monitor; verification and the user lookup run
+ * outside it.
+ */
+@Service
+public class AuthenticatedUserCache {
+
+  private record Entry(PokerUserDetails userDetails, long expiresAtMillis) {
+  }
+
+  private final JwtTokenService jwtTokenService;
+  private final UserDetailsService userDetailsService;
+  private final long ttlMillis;
+  private final Map<String, Entry> entries;
+
+  /**
+   * Bumped by every invalidation, so a lookup that raced with one does not cache the details it read before it.
+   */
+  private long invalidations;
+
+  public AuthenticatedUserCache(JwtTokenService jwtTokenService, UserDetailsService userDetailsService,
+      @Value("${poker.security.token-cache-ttl-seconds:60}") long ttlSeconds,
+      @Value("${poker.security.token-cache-max-entries:10000}") int maxEntries) {
+    this.jwtTokenService = jwtTokenService;
+    this.userDetailsService = userDetailsService;
+    this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Resolve the user a token authenticates.
+   *
+   * @param jwtToken The JWT token
+   * @return The user details of the token's subject
+   * @throws RuntimeException If the token is invalid or expired, or its user no longer exists.
+   */
+  public PokerUserDetails authenticate(String jwtToken) {
+    long now = System.currentTimeMillis();
+    long generation;
+    synchronized (this) {
+      Entry entry = entries.get(jwtToken);
+      if (entry != null) {
+        if (entry.expiresAtMillis() > now) {
+          return entry.userDetails();
+        }
+        entries.remove(jwtToken);
+      }
+      generation = invalidations;
+    }
+
+    Claims claims = jwtTokenService.extractClaims(jwtToken);
+    String loginId = claims.getSubject();
+    if (loginId == null) {
+      throw new BadCredentialsException("The token does not identify a user.");
+    }
+    PokerUserDetails userDetails = (PokerUserDetails) userDetailsService.loadUserByUsername(loginId);
+
+    if (ttlMillis > 0) {
+      long expiresAt = Math.min(now + ttlMillis, claims.getExpiration().getTime());
+      synchronized (this) {
+        if (generation == invalidations) {
+          entries.put(jwtToken, new Entry(userDetails, expiresAt));
+        }
+      }
+    }
+    return userDetails;
+  }
+
+  /**
+   * Drop every cached token of a user (e.g. the user was updated or deleted).
+   */
+  public synchronized void invalidateUser(String loginId) {
+    invalidations++;
+    entries.values().removeIf(entry -> entry.userDetails().getUsername().equals(loginId));
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+}
@@ -19,17 +19,28 @@ public class AuthenticationService {
   private final PokerSecurityProperties securityProperties;
   private final AuthenticationManager authenticationManager;
   private final JwtTokenService jwtTokenService;
+  private final PasswordHashingExecutor passwordHashingExecutor;
 
-  public AuthenticationService(UserManager userManager, PokerSecurityProperties securityProperties, AuthenticationManager authenticationManager, JwtTokenService jwtTokenService) {
+  public AuthenticationService(UserManager userManager, PokerSecurityProperties securityProperties, AuthenticationManager authenticationManager,
+      JwtTokenService jwtTokenService, PasswordHashingExecutor passwordHashingExecutor) {
     this.userManager = userManager;
     this.securityProperties = securityProperties;
     this.authenticationManager = authenticationManager;
     this.jwtTokenService = jwtTokenService;
+    this.passwordHashingExecutor = passwordHashingExecutor;
   }
 
+  /**
+   * Authenticate a user and issue a token.
+   *
+   * @throws org.homepoker.lib.exception.TooManyRequestsException If the user has made too many attempts or the
+   *                                                              password hashing pool is saturated.
+   */
   public AuthenticationResponse login(UserLogin userLogin) {
-    // Login is implemented via Spring Security's authentication manager.
-    authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(userLogin.loginId(), userLogin.password()));
+    // Login is implemented via Spring Security's authentication manager. The password check (bcrypt) runs on the
+    // bounded hashing pool, rate limited per login ID.
+    passwordHashingExecutor.execute(userLogin.loginId(), () -> authenticationManager.authenticate(
+        new UsernamePasswordAuthenticationToken(userLogin.loginId(), userLogin.password())));
     User user = userManager.getUser(userLogin.loginId());
     // If we get here, we have successfully authenticated and generate a new token for the user.
     return new AuthenticationResponse(jwtTokenService.generateToken(user), user);
@@ -6,8 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -20,12 +18,10 @@ import java.io.IOException;
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtTokenService jwtTokenService;
-  private final UserDetailsService userDetailsService;
+  private final AuthenticatedUserCache authenticatedUserCache;
 
-  public JwtAuthenticationFilter(JwtTokenService jwtTokenService, UserDetailsService userDetailsService) {
-    this.jwtTokenService = jwtTokenService;
-    this.userDetailsService = userDetailsService;
+  public JwtAuthenticationFilter(AuthenticatedUserCache authenticatedUserCache) {
+    this.authenticatedUserCache = authenticatedUserCache;
   }
 
   @Override
@@ -33,12 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String authorizationHeader = request.getHeader("Authorization");
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
       String jwtToken = authorizationHeader.substring(7);
-      // Extract the user login id from the token, this will fail with an exception if the token is expired.
-      String userLoginId = jwtTokenService.extractUserLoginId(jwtToken);
-      if (userLoginId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      // Resolve the user from the token (verified once and then cached), this will fail with an exception if the
+      // token is invalid or expired.
+      PokerUserDetails userDetails = authenticatedUserCache.authenticate(jwtToken);
+      if (SecurityContextHolder.getContext().getAuthentication() == null) {
         // If we get to this point, the token is valid and we have not previously authenticated the user.
-        // Load the user details from the userDetailsService and set the security context with the current user.
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userLoginId);
+        // Set the security context with the current user.
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             userDetails, null, userDetails.getAuthorities());
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,6 +1,7 @@
 package org.homepoker.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -21,6 +22,11 @@ public class JwtTokenService {
   private final SecretKey verificationKey;
   private final Duration expiration;
 
+  /**
+   * Parsers are immutable and thread-safe, so one is built up front rather than per request.
+   */
+  private final JwtParser parser;
+
   public JwtTokenService(PokerSecurityProperties securityProperties) {
     // If the expiration is not set via properties, default to 4 hours.
     expiration = securityProperties.getJwtExpiration() == null ? Duration.ofHours(4) : securityProperties.getJwtExpiration();
@@ -28,6 +34,9 @@ public class JwtTokenService {
     // survive a server restart and any tokens generated with this key will be invalid after a restart.
     verificationKey = securityProperties.getJwtVerificationKey() == null ?
         Jwts.SIG.HS256.key().build() : getKey(securityProperties.getJwtVerificationKey());
+    parser = Jwts.parser()
+        .verifyWith(verificationKey)
+        .build();
   }
 
   /**
@@ -63,9 +72,7 @@ public class JwtTokenService {
    * @return The claims extracted from the token
    */
   public Claims extractClaims(String jwtToken) {
-    Claims claims = Jwts.parser()
-        .verifyWith(verificationKey)
-        .build()
+    Claims claims = parser
         .parseSignedClaims(jwtToken)
         .getPayload();
 
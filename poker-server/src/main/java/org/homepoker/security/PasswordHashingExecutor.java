@@ -0,0 +1,132 @@
+package org.homepoker.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.lib.exception.SystemException;
+import org.homepoker.lib.exception.TooManyRequestsException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing (bcrypt) on a small, dedicated pool of platform threads, so a burst of logins at the start
+ * of a game cannot take every core away from the game loop.
+ * <p>
+ * The pool and its queue are bounded: when both are full a request fails fast with a
+ * {@link TooManyRequestsException} carrying a retry hint, rather than piling up behind the hashing work. Attempts
+ * keyed by a login ID are also limited per user, so one client hammering the login endpoint only slows itself down.
+ */
+@Slf4j
+@Service
+public class PasswordHashingExecutor {
+
+  /** The retry hint given when the pool is saturated. */
+  private static final Duration SATURATED_RETRY_AFTER = Duration.ofSeconds(1);
+  /** Expired rate-limit windows are purged once this many users are tracked. */
+  private static final int PURGE_THRESHOLD = 10_000;
+
+  private record Window(long startMillis, int attempts) {
+  }
+
+  private final ThreadPoolExecutor executor;
+  private final int attemptsPerWindow;
+  private final long windowMillis;
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+  /**
+   * @param threads           Hashing threads; 0 uses half of the available processors (at least one).
+   * @param queueCapacity     Hashing requests that may wait for a thread; 0 means none wait.
+   * @param attemptsPerMinute Hashing requests allowed per login ID per minute; 0 disables the per-user limit.
+   */
+  public PasswordHashingExecutor(
+      @Value("${poker.security.password-hashing.threads:0}") int threads,
+      @Value("${poker.security.password-hashing.queue-capacity:32}") int queueCapacity,
+      @Value("${poker.security.password-hashing.attempts-per-minute:10}") int attemptsPerMinute) {
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, queue, runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }, new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    this.attemptsPerWindow = attemptsPerMinute;
+    this.windowMillis = Duration.ofMinutes(1).toMillis();
+  }
+
+  /**
+   * Run a hashing task on the pool and wait for its result.
+   *
+   * @param loginId The user the work is done for, used for per-user rate limiting. Null skips the per-user limit.
+   * @param task    The hashing work.
+   * @return The task's result.
+   * @throws TooManyRequestsException If the user is over their limit or the pool is saturated.
+   */
+  public <T> T execute(@Nullable String loginId, Callable<T> task) {
+    if (loginId != null) {
+      checkRateLimit(loginId);
+    }
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      log.warn("Password hashing pool is saturated, rejecting request.");
+      throw new TooManyRequestsException("The server is busy, please try again shortly.", SATURATED_RETRY_AFTER);
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new SystemException("Interrupted while waiting for password hashing.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        // Authentication failures (e.g. bad credentials) surface unchanged.
+        throw runtimeException;
+      }
+      throw new SystemException("Password hashing failed.", e.getCause());
+    }
+  }
+
+  private void checkRateLimit(String loginId) {
+    if (attemptsPerWindow <= 0) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    if (windows.size() > PURGE_THRESHOLD) {
+      windows.values().removeIf(window -> now - window.startMillis() >= windowMillis);
+    }
+    Window window = windows.compute(loginId, (_, current) ->
+        current == null || now - current.startMillis() >= windowMillis
+            ? new Window(now, 1)
+            : new Window(current.startMillis(), current.attempts() + 1));
+    if (window.attempts() > attemptsPerWindow) {
+      Duration retryAfter = Duration.ofMillis(window.startMillis() + windowMillis - now);
+      throw new TooManyRequestsException("Too many attempts, please try again later.", retryAfter);
+    }
+  }
+
+  int queuedTasks() {
+    return executor.getQueue().size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -20,8 +20,11 @@ public class SecurityUtilities {
 
   private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
-  public SecurityUtilities(PokerSecurityProperties securitySettings) {
+  private final PasswordHashingExecutor passwordHashingExecutor;
+
+  public SecurityUtilities(PokerSecurityProperties securitySettings, PasswordHashingExecutor passwordHashingExecutor) {
     this.securitySettings = securitySettings;
+    this.passwordHashingExecutor = passwordHashingExecutor;
   }
 
   public static boolean userIsAdmin(@Nullable UserDetails user) {
@@ -54,9 +57,24 @@ public class SecurityUtilities {
     }
   }
 
+  /**
+   * Hash a password. The work runs on the bounded password hashing pool.
+   *
+   * @throws org.homepoker.lib.exception.TooManyRequestsException If the hashing pool is saturated.
+   */
   @Nullable
   public String encodePassword(String password) {
-    return passwordEncoder.encode(password);
+    return passwordHashingExecutor.execute(null, () -> passwordEncoder.encode(password));
+  }
+
+  /**
+   * Check a password against a user's stored hash. The work runs on the bounded password hashing pool and counts
+   * against the user's hashing rate limit.
+   *
+   * @throws org.homepoker.lib.exception.TooManyRequestsException If the user is over their limit or the pool is saturated.
+   */
+  public boolean passwordMatches(String loginId, String rawPassword, @Nullable String encodedPassword) {
+    return passwordHashingExecutor.execute(loginId, () -> passwordEncoder.matches(rawPassword, encodedPassword));
   }
 
   public PasswordEncoder getPasswordEncoder() {
@@ -1,5 +1,6 @@
 package org.homepoker.security;
 
+import jakarta.servlet.DispatcherType;
 import org.homepoker.user.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +28,8 @@ public class WebSecurityConfiguration {
         .csrf(AbstractHttpConfigurer::disable)
         .authorizeHttpRequests(
             (requests) -> requests
+                // Async re-dispatches (e.g. streaming replay bodies) belong to a request that was already authorized.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/auth/**", "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/ws/**", "/command-event-spec.md").permitAll()
                 .anyRequest().authenticated() // Everything else will require authentication
         )
@@ -40,13 +43,12 @@ public class WebSecurityConfiguration {
    * This bean validates the JWT token in the Authorization header of the request and sets the user on the security
    * context if the token is valid.
    *
-   * @param jwtTokenService The service used to validate the JWT token.
-   * @param userDetailsService The service used to load user details from the database.
+   * @param authenticatedUserCache Validates the JWT token and resolves its user (cached).
    * @return The filter that will validate the JWT token.
    */
   @Bean
-  JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenService jwtTokenService, UserDetailsService userDetailsService) {
-    return new JwtAuthenticationFilter(jwtTokenService, userDetailsService);
+  JwtAuthenticationFilter jwtAuthenticationFilter(AuthenticatedUserCache authenticatedUserCache) {
+    return new JwtAuthenticationFilter(authenticatedUserCache);
   }
 
   /**
@@ -0,0 +1,256 @@
+package org.homepoker.threading;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ScheduledExecutorService} that runs in simulated time. Nothing runs on its own: the owner calls
+ * {@link #advanceBy(Duration)} or {@link #advanceTo(Instant)}, and every task that comes due up to that point runs on
+ * the calling thread, in deadline order (ties in submission order), with the {@link #clock()} set to each task's
+ * deadline while it runs. An evening of play is simulated as fast as the ticks themselves can run, and two runs with
+ * the same inputs do the same thing.
+ * <p>
+ * Hand it to a {@link VirtualThreadManager} (with a {@link VirtualThreadManager.CurrentThreadExecutor} as the executor)
+ * and its clock to the game services, and the game loop ticks once per simulated second.
+ * <p>
+ * Tasks may be scheduled from any thread; advancing is meant to be done from one.
+ */
+public final class DeterministicScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+  private final SimulatedClock clock;
+  private final PriorityQueue<SimulatedTask<?>> queue = new PriorityQueue<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private volatile boolean shutdown;
+
+  public DeterministicScheduler(Instant start) {
+    this(new SimulatedClock(start));
+  }
+
+  public DeterministicScheduler(SimulatedClock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * The simulated clock that this scheduler advances.
+   */
+  public SimulatedClock clock() {
+    return clock;
+  }
+
+  /**
+   * Advance simulated time, running every task that comes due on the way (including tasks those tasks schedule).
+   *
+   * @return The number of tasks run.
+   */
+  public int advanceBy(Duration duration) {
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("Simulated time cannot go backwards.");
+    }
+    return advanceTo(clock.instant().plus(duration));
+  }
+
+  /**
+   * Advance simulated time to the given instant, running every task that comes due on the way (including tasks those
+   * tasks schedule). The clock is left at {@code target}.
+   *
+   * @return The number of tasks run.
+   */
+  public int advanceTo(Instant target) {
+    int ran = 0;
+    while (true) {
+      SimulatedTask<?> task;
+      synchronized (queue) {
+        task = queue.peek();
+        if (task == null || task.time.isAfter(target)) {
+          break;
+        }
+        queue.poll();
+      }
+      if (task.time.isAfter(clock.instant())) {
+        clock.setInstant(task.time);
+      }
+      if (!task.isCancelled()) {
+        task.run();
+        ran++;
+      }
+    }
+    if (target.isAfter(clock.instant())) {
+      clock.setInstant(target);
+    }
+    return ran;
+  }
+
+  /**
+   * Run the tasks that are already due, without moving the clock.
+   *
+   * @return The number of tasks run.
+   */
+  public int runDueTasks() {
+    return advanceTo(clock.instant());
+  }
+
+  /**
+   * @return When the next task is due, or null if nothing is scheduled.
+   */
+  public @Nullable Instant nextDeadline() {
+    synchronized (queue) {
+      SimulatedTask<?> task = queue.peek();
+      return task == null ? null : task.time;
+    }
+  }
+
+  /**
+   * @return The number of tasks waiting to run (cancelled tasks are dropped as they come due).
+   */
+  public int pendingTasks() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  @Override
+  public void execute(@NonNull Runnable command) {
+    enqueue(new SimulatedTask<>(Executors.callable(command, null), clock.instant(), 0));
+  }
+
+  @Override
+  public @NonNull ScheduledFuture<?> schedule(@NonNull Runnable command, long delay, @NonNull TimeUnit unit) {
+    return enqueue(new SimulatedTask<>(Executors.callable(command, null), deadline(delay, unit), 0));
+  }
+
+  @Override
+  public <V> @NonNull ScheduledFuture<V> schedule(@NonNull Callable<V> callable, long delay, @NonNull TimeUnit unit) {
+    return enqueue(new SimulatedTask<>(callable, deadline(delay, unit), 0));
+  }
+
+  @Override
+  public @NonNull ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable command, long initialDelay, long period,
+                                                         @NonNull TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("The period must be positive.");
+    }
+    return enqueue(new SimulatedTask<>(Executors.callable(command, null), deadline(initialDelay, unit),
+        unit.toNanos(period)));
+  }
+
+  @Override
+  public @NonNull ScheduledFuture<?> scheduleWithFixedDelay(@NonNull Runnable command, long initialDelay, long delay,
+                                                            @NonNull TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("The delay must be positive.");
+    }
+    // A negative period marks a fixed delay, as in ScheduledThreadPoolExecutor.
+    return enqueue(new SimulatedTask<>(Executors.callable(command, null), deadline(initialDelay, unit),
+        -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+  }
+
+  @Override
+  public @NonNull List<Runnable> shutdownNow() {
+    shutdown = true;
+    synchronized (queue) {
+      List<Runnable> pending = List.copyOf(queue);
+      queue.clear();
+      return pending;
+    }
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) {
+    return shutdown;
+  }
+
+  private Instant deadline(long delay, TimeUnit unit) {
+    return clock.instant().plusNanos(unit.toNanos(Math.max(0, delay)));
+  }
+
+  private <V> SimulatedTask<V> enqueue(SimulatedTask<V> task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("The scheduler has been shut down.");
+    }
+    synchronized (queue) {
+      queue.add(task);
+    }
+    return task;
+  }
+
+  private final class SimulatedTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    private Instant time;
+    private long order;
+
+    /**
+     * Nanoseconds between runs: positive for a fixed rate, negative for a fixed delay, zero for a one-shot task.
+     */
+    private final long period;
+
+    private SimulatedTask(Callable<V> callable, Instant time, long period) {
+      super(callable);
+      this.time = time;
+      this.order = sequence.getAndIncrement();
+      this.period = period;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      } else if (runAndReset() && !shutdown) {
+        time = period > 0 ? time.plusNanos(period) : clock.instant().plusNanos(-period);
+        order = sequence.getAndIncrement();
+        synchronized (queue) {
+          queue.add(this);
+        }
+      }
+    }
+
+    @Override
+    public long getDelay(@NonNull TimeUnit unit) {
+      return unit.convert(Duration.between(clock.instant(), time));
+    }
+
+    @Override
+    public int compareTo(@NonNull Delayed other) {
+      if (other instanceof SimulatedTask<?> task) {
+        int byTime = time.compareTo(task.time);
+        return byTime != 0 ? byTime : Long.compare(order, task.order);
+      }
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
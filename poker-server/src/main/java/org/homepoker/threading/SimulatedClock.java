@@ -0,0 +1,78 @@
+package org.homepoker.threading;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Clock} that only moves when it is told to. Inject it wherever the game server takes a clock (game managers,
+ * table managers, the game services) to run timers — action timeouts, hand review, seating windows, merge grace
+ * periods — in simulated time. Usually driven by a {@link DeterministicScheduler}.
+ * <p>
+ * Time never goes backwards. Reads are thread-safe.
+ */
+public final class SimulatedClock extends Clock {
+
+  private final AtomicReference<Instant> now;
+  private final ZoneId zone;
+
+  public SimulatedClock(Instant start) {
+    this(new AtomicReference<>(start), ZoneOffset.UTC);
+  }
+
+  private SimulatedClock(AtomicReference<Instant> now, ZoneId zone) {
+    this.now = now;
+    this.zone = zone;
+  }
+
+  @Override
+  public Instant instant() {
+    return now.get();
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * The same simulated time, viewed in another zone. Advancing either clock advances both.
+   */
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return new SimulatedClock(now, zone);
+  }
+
+  /**
+   * Move the clock forward.
+   *
+   * @param duration How far to move it (not negative).
+   * @return The new time.
+   */
+  public Instant advance(Duration duration) {
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("A simulated clock cannot go backwards.");
+    }
+    return now.updateAndGet(instant -> instant.plus(duration));
+  }
+
+  /**
+   * Move the clock forward to the given instant. Setting it to the current time is a no-op.
+   */
+  public void setInstant(Instant instant) {
+    now.updateAndGet(current -> {
+      if (instant.isBefore(current)) {
+        throw new IllegalArgumentException("A simulated clock cannot go backwards (from " + current + " to " + instant + ").");
+      }
+      return instant;
+    });
+  }
+
+  @Override
+  public String toString() {
+    return "SimulatedClock[" + now.get() + "," + zone + "]";
+  }
+}
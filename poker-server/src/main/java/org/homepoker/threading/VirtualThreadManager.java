@@ -22,6 +22,15 @@ public class VirtualThreadManager {
     }
   }
 
+  /**
+   * Use the given scheduler and executor, e.g. a {@link DeterministicScheduler} and a {@link CurrentThreadExecutor} to
+   * run the game loop in simulated time.
+   */
+  public VirtualThreadManager(ScheduledExecutorService scheduler, ExecutorService executor) {
+    this.scheduler = scheduler;
+    this.executor = executor;
+  }
+
   public void shutdown() {
     System.out.println("Shutting down virtual thread manager");
     scheduler.shutdown();
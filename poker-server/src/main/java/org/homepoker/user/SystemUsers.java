@@ -19,6 +19,9 @@ public final class SystemUsers {
   /** Reserved id for the EventRecorder's synthetic listener identity. */
   public static final String EVENT_RECORDER_ID = "__system_recorder__";
 
+  /** Reserved id for a game's spectator broadcast channel, which listens on behalf of all of its viewers. */
+  public static final String SPECTATOR_CHANNEL_ID = "__system_spectators__";
+
   /**
    * The synthetic user the EventRecorder runs as. No password, no real contact info, and
    * <strong>no roles</strong> — the recorder is a passive listener and never needs to be
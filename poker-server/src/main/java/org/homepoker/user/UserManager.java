@@ -5,7 +5,9 @@ import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.user.User;
 import org.homepoker.model.user.UserCriteria;
 import org.homepoker.model.user.UserInformationUpdate;
+import org.homepoker.model.user.UserPage;
 import org.homepoker.model.user.UserPasswordChangeRequest;
+import org.homepoker.security.AuthenticatedUserCache;
 import org.homepoker.security.SecurityUtilities;
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DuplicateKeyException;
@@ -13,10 +15,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Query.query;
@@ -25,15 +31,22 @@ import static org.springframework.data.mongodb.core.query.Query.query;
 @Service
 public class UserManager {
 
+  /** Default and maximum page sizes for {@link #findUsers(UserCriteria)}. */
+  static final int DEFAULT_PAGE_SIZE = 50;
+  static final int MAX_PAGE_SIZE = 200;
+
   private final UserRepository userRepository;
   private final MongoOperations mongoOperations;
 
   private final SecurityUtilities securityUtilities;
+  private final AuthenticatedUserCache authenticatedUserCache;
 
-  public UserManager(UserRepository userRepository, MongoOperations mongoOperations, SecurityUtilities securityUtilities) {
+  public UserManager(UserRepository userRepository, MongoOperations mongoOperations, SecurityUtilities securityUtilities,
+      AuthenticatedUserCache authenticatedUserCache) {
     this.userRepository = userRepository;
     this.mongoOperations = mongoOperations;
     this.securityUtilities = securityUtilities;
+    this.authenticatedUserCache = authenticatedUserCache;
   }
 
   @PostConstruct
@@ -90,11 +103,12 @@ public class UserManager {
         () -> new ValidationException("Access Denied.")
     );
 
-    if (!securityUtilities.getPasswordEncoder().matches(userPasswordChangeRequest.userChallenge(), user.password())) {
+    if (!securityUtilities.passwordMatches(user.id(), userPasswordChangeRequest.userChallenge(), user.password())) {
       throw new ValidationException("Access Denied");
     } else {
       user = user.withPassword(securityUtilities.encodePassword(userPasswordChangeRequest.newPassword()));
       userRepository.save(user);
+      authenticatedUserCache.invalidateUser(user.id());
     }
   }
 
@@ -124,7 +138,9 @@ public class UserManager {
     } else {
       user = user.withAlias(userInformation.name());
     }
-    return UserManager.filterPassword(userRepository.save(user));
+    user = userRepository.save(user);
+    authenticatedUserCache.invalidateUser(user.id());
+    return UserManager.filterPassword(user);
   }
 
   /**
@@ -141,37 +157,81 @@ public class UserManager {
   }
 
   /**
-   * Find existing users
+   * Find existing users. The login ID and email are matched as anchored prefixes, so each search is a range scan of
+   * the {@code _id} or unique email index rather than a collection scan. Results are paged with a cursor on the sort
+   * key (the email when searching by email alone, otherwise the login ID) and never include the password field.
    *
-   * @param criteria The criteria to use when searching for users.
-   * @return A list of matching users or an empty list if no users are found that match the criteria.
+   * @param criteria The criteria to use when searching for users. Blank criteria pages through all users.
+   * @return A page of matching users and, if there are more, the token for the next page.
+   * @throws ValidationException If the page token is not valid for the criteria.
    */
- public List<User> findUsers(UserCriteria criteria) {
-   if (criteria == null ||
-       (!StringUtils.hasText(criteria.userEmail()) && !StringUtils.hasText(criteria.userId()))) {
-     //No criteria, return all users.
-     return userRepository.findAll().stream().map(UserManager::filterPassword).toList();
-   }
-
-   User example = User.builder()
-       .id(criteria.userId())
-       .email(criteria.userEmail())
-       .build();
-   Criteria mongoCriteria = new Criteria();
-
-   if (StringUtils.hasText(criteria.userId())) {
-     mongoCriteria.and("id").regex(criteria.userId());
-   }
-   if (StringUtils.hasText(criteria.userEmail())) {
-     mongoCriteria.and("email").regex(criteria.userEmail());
-   }
-
-
-   return mongoOperations.query(User.class)
-       .matching(query(mongoCriteria))
-       .all().stream()
-       .map(UserManager::filterPassword).toList();
- }
+  public UserPage findUsers(@Nullable UserCriteria criteria) {
+    if (criteria == null) {
+      criteria = new UserCriteria(null, null, null, null);
+    }
+    boolean byEmail = !StringUtils.hasText(criteria.userId()) && StringUtils.hasText(criteria.userEmail());
+    String sortField = byEmail ? "email" : "id";
+    int pageSize = criteria.pageSize() == null ? DEFAULT_PAGE_SIZE : Math.clamp(criteria.pageSize(), 1, MAX_PAGE_SIZE);
+
+    List<Criteria> filters = new ArrayList<>();
+    if (StringUtils.hasText(criteria.userId())) {
+      filters.add(Criteria.where("id").regex(prefixPattern(criteria.userId())));
+    }
+    if (StringUtils.hasText(criteria.userEmail())) {
+      filters.add(Criteria.where("email").regex(prefixPattern(criteria.userEmail())));
+    }
+    if (StringUtils.hasText(criteria.pageToken())) {
+      filters.add(Criteria.where(sortField).gt(decodePageToken(criteria.pageToken(), sortField)));
+    }
+
+    Query query = query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters))
+        .with(Sort.by(Sort.Direction.ASC, sortField))
+        // One extra row tells us whether there is another page.
+        .limit(pageSize + 1);
+    query.fields().exclude("password");
+
+    List<User> users = mongoOperations.query(User.class).matching(query).all();
+    if (users.size() <= pageSize) {
+      return new UserPage(users, null);
+    }
+    users = users.subList(0, pageSize);
+    User last = users.getLast();
+    return new UserPage(List.copyOf(users), encodePageToken(sortField, byEmail ? last.email() : last.id()));
+  }
+
+  /**
+   * An anchored regex matching values that start with the given literal prefix. Metacharacters are escaped one by one
+   * (rather than with {@code \Q...\E}) so that Mongo recognizes a simple prefix and bounds the index scan.
+   */
+  static String prefixPattern(String prefix) {
+    StringBuilder pattern = new StringBuilder(prefix.length() + 8).append('^');
+    for (char c : prefix.toCharArray()) {
+      if ("\\^$.|?*+()[]{}/".indexOf(c) >= 0) {
+        pattern.append('\\');
+      }
+      pattern.append(c);
+    }
+    return pattern.toString();
+  }
+
+  static String encodePageToken(String sortField, String lastValue) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((sortField + ":" + lastValue).getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String decodePageToken(String pageToken, String sortField) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException("The page token is not valid.");
+    }
+    if (!decoded.startsWith(sortField + ":")) {
+      // A token from a search with different criteria.
+      throw new ValidationException("The page token is not valid for this search.");
+    }
+    return decoded.substring(sortField.length() + 1);
+  }
 
   /**
    * Delete a user from the server.
@@ -183,6 +243,7 @@ public class UserManager {
         () -> new ValidationException("The user does not exist.")
     );
     userRepository.deleteById(loginId);
+    authenticatedUserCache.invalidateUser(loginId);
   }
 
   /**
@@ -1,12 +1,12 @@
 package org.homepoker.websocket;
 
 import lombok.extern.slf4j.Slf4j;
-import org.homepoker.security.JwtTokenService;
+import org.homepoker.security.AuthenticatedUserCache;
 import org.homepoker.security.PokerUserDetails;
 import org.jspecify.annotations.Nullable;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -20,20 +20,22 @@ import java.util.Map;
  * The browser WebSocket API doesn't support custom headers, so the JWT is passed as
  * {@code ?token=<jwt>} in the connection URL. This interceptor validates the token,
  * loads the user, and stores both the {@link PokerUserDetails} and {@code gameId} in
- * the WebSocket session attributes for use by the handler.
+ * the WebSocket session attributes for use by the handler. The {@code gameId} is only required (and only set)
+ * for game connections ({@code /ws/games/{gameId}}); the lobby feed is not scoped to a game.
  */
 @Slf4j
 public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 
   static final String ATTR_USER_DETAILS = "pokerUserDetails";
   static final String ATTR_GAME_ID = "gameId";
+  static final String ATTR_SPECTATOR = "spectator";
 
-  private final JwtTokenService jwtTokenService;
-  private final UserDetailsService userDetailsService;
+  private static final String GAMES_PATH_PREFIX = "/ws/games/";
 
-  public JwtHandshakeInterceptor(JwtTokenService jwtTokenService, UserDetailsService userDetailsService) {
-    this.jwtTokenService = jwtTokenService;
-    this.userDetailsService = userDetailsService;
+  private final AuthenticatedUserCache authenticatedUserCache;
+
+  public JwtHandshakeInterceptor(AuthenticatedUserCache authenticatedUserCache) {
+    this.authenticatedUserCache = authenticatedUserCache;
   }
 
   @Override
@@ -43,33 +45,30 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
       URI uri = request.getURI();
 
       // Extract token from query parameter
-      String token = UriComponentsBuilder.fromUri(uri).build()
-          .getQueryParams().getFirst("token");
+      MultiValueMap<String, String> queryParams = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+      String token = queryParams.getFirst("token");
       if (token == null || token.isBlank()) {
         log.debug("WebSocket handshake rejected: missing token query parameter");
         return false;
       }
 
-      // Validate JWT and extract loginId
-      String loginId = jwtTokenService.extractUserLoginId(token);
-      if (loginId == null) {
-        log.debug("WebSocket handshake rejected: invalid JWT token");
-        return false;
-      }
+      // Validate the JWT and load the user details (cached per token); throws if the token is invalid.
+      PokerUserDetails userDetails = authenticatedUserCache.authenticate(token);
 
-      // Load the user details
-      PokerUserDetails userDetails = (PokerUserDetails) userDetailsService.loadUserByUsername(loginId);
-
-      // Extract gameId from the URI path: /ws/games/{gameId}
+      // Extract gameId from the URI path: /ws/games/{gameId}. Other endpoints (the lobby) are not scoped to a game.
       String path = uri.getPath();
       String gameId = extractGameId(path);
-      if (gameId == null) {
+      if (gameId == null && path.startsWith(GAMES_PATH_PREFIX)) {
         log.debug("WebSocket handshake rejected: could not extract gameId from path [{}]", path);
         return false;
       }
 
       attributes.put(ATTR_USER_DETAILS, userDetails);
-      attributes.put(ATTR_GAME_ID, gameId);
+      if (gameId != null) {
+        attributes.put(ATTR_GAME_ID, gameId);
+      }
+      // ?spectate=true joins the game as a read-only spectator.
+      attributes.put(ATTR_SPECTATOR, Boolean.parseBoolean(queryParams.getFirst("spectate")));
       return true;
 
     } catch (Exception e) {
@@ -90,7 +89,7 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
   @Nullable
   private static String extractGameId(String path) {
     // Expected path: /ws/games/{gameId}
-    String prefix = "/ws/games/";
+    String prefix = GAMES_PATH_PREFIX;
     if (path.startsWith(prefix) && path.length() > prefix.length()) {
       String gameId = path.substring(prefix.length());
       // Remove trailing slash if present
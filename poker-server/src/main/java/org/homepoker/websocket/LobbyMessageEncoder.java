@@ -0,0 +1,35 @@
+package org.homepoker.websocket;
+
+import org.homepoker.model.event.PokerEvent;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.socket.TextMessage;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serializes lobby events for the lobby's WebSocket subscribers. The lobby hands the same event instance to each
+ * subscriber in turn, so the last encoding is kept and a broadcast is serialized once, however many clients are
+ * watching the lobby.
+ */
+class LobbyMessageEncoder {
+
+  private record Encoded(PokerEvent event, TextMessage message) {
+  }
+
+  private final ObjectMapper objectMapper;
+  private final AtomicReference<@Nullable Encoded> last = new AtomicReference<>();
+
+  LobbyMessageEncoder(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  TextMessage encode(PokerEvent event) {
+    Encoded encoded = last.get();
+    if (encoded == null || encoded.event() != event) {
+      encoded = new Encoded(event, new TextMessage(objectMapper.writeValueAsString(event)));
+      last.set(encoded);
+    }
+    return encoded.message();
+  }
+}
@@ -0,0 +1,76 @@
+package org.homepoker.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.cash.CashGameService;
+import org.homepoker.model.user.User;
+import org.homepoker.security.PokerUserDetails;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * WebSocket handler for the lobby feed ({@code /ws/lobby}). The client receives a snapshot of the open cash games on
+ * connect and an incremental update each time one of them changes. The feed is read-only: incoming messages are
+ * ignored.
+ */
+@Slf4j
+public class LobbyWebSocketHandler extends TextWebSocketHandler {
+
+  private static final String ATTR_LISTENER = "webSocketLobbyListener";
+
+  /** Send timeout in milliseconds */
+  private static final int SEND_TIMEOUT_MS = 5_000;
+  /** Buffer size limit in bytes */
+  private static final int BUFFER_SIZE_LIMIT = 256 * 1024;
+
+  private final CashGameService cashGameService;
+  private final LobbyMessageEncoder encoder;
+
+  public LobbyWebSocketHandler(CashGameService cashGameService, ObjectMapper objectMapper) {
+    this.cashGameService = cashGameService;
+    this.encoder = new LobbyMessageEncoder(objectMapper);
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    PokerUserDetails userDetails = (PokerUserDetails) session.getAttributes().get(JwtHandshakeInterceptor.ATTR_USER_DETAILS);
+    if (userDetails == null) {
+      log.warn("Lobby WebSocket connection missing authentication attributes, closing session [{}]", session.getId());
+      session.close(CloseStatus.POLICY_VIOLATION);
+      return;
+    }
+    User user = userDetails.toUser();
+
+    // The snapshot can be large, so the buffer limit is higher than for a game connection.
+    WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, SEND_TIMEOUT_MS, BUFFER_SIZE_LIMIT);
+    WebSocketLobbyListener listener = new WebSocketLobbyListener(user, concurrentSession, encoder);
+    session.getAttributes().put(ATTR_LISTENER, listener);
+    cashGameService.subscribeToLobby(listener);
+
+    log.info("Lobby WebSocket connected: user [{}], session [{}]", user.id(), session.getId());
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    log.debug("Ignoring message on lobby WebSocket session [{}]", session.getId());
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    WebSocketLobbyListener listener = (WebSocketLobbyListener) session.getAttributes().get(ATTR_LISTENER);
+    if (listener != null) {
+      cashGameService.unsubscribeFromLobby(listener);
+      log.info("Lobby WebSocket disconnected: user [{}], session [{}], status [{}]",
+          listener.user().id(), session.getId(), status);
+    }
+  }
+
+  @Override
+  public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+    log.error("Lobby WebSocket transport error for session [{}]: {}", session.getId(), exception.getMessage());
+    session.close(CloseStatus.SERVER_ERROR);
+  }
+}
@@ -0,0 +1,14 @@
+package org.homepoker.websocket;
+
+import org.homepoker.model.event.PokerEvent;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The envelope for every event sent on a multiplexed connection ({@code /ws/multiplex}). Not every event carries its
+ * game (e.g. {@code UserMessage}), so the envelope does.
+ *
+ * @param gameId The game the event belongs to, or null for connection-level errors (e.g. a malformed message).
+ * @param event  The event, serialized exactly as it would be on a single-game connection.
+ */
+public record MultiplexedEvent(@Nullable String gameId, PokerEvent event) {
+}
@@ -0,0 +1,47 @@
+package org.homepoker.websocket;
+
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.TableEvent;
+import org.homepoker.model.user.User;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Set;
+
+/**
+ * One game's listener on a multiplexed connection. Several of these share the same (thread-safe) session; each
+ * applies the usual per-user filtering of {@link WebSocketGameListener}, optionally narrows table events to the
+ * subscribed tables, and wraps every event in a {@link MultiplexedEvent} so the client can route it by game.
+ */
+public class MultiplexedGameListener extends WebSocketGameListener {
+
+  private final String gameId;
+  private final Set<String> tableIds;
+
+  /**
+   * @param tableIds The tables whose events are forwarded. Empty means every table in the game.
+   */
+  public MultiplexedGameListener(User user, String gameId, Set<String> tableIds, WebSocketSession session,
+      ObjectMapper objectMapper) {
+    super(user, session, objectMapper);
+    this.gameId = gameId;
+    this.tableIds = Set.copyOf(tableIds);
+  }
+
+  public String gameId() {
+    return gameId;
+  }
+
+  @Override
+  public boolean acceptsEvent(PokerEvent event) {
+    if (!super.acceptsEvent(event)) {
+      return false;
+    }
+    return tableIds.isEmpty() || !(event instanceof TableEvent tableEvent) || tableIds.contains(tableEvent.tableId());
+  }
+
+  @Override
+  protected Object toPayload(PokerEvent event) {
+    return new MultiplexedEvent(gameId, event);
+  }
+}
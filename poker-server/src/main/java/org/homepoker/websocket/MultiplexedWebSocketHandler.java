@@ -0,0 +1,196 @@
+package org.homepoker.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.GameManager;
+import org.homepoker.game.cash.CashGameService;
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.command.GameCommand;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.model.user.User;
+import org.homepoker.security.PokerUserDetails;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket handler for a multiplexed connection ({@code /ws/multiplex}): one authenticated socket that subscribes to
+ * any number of games (and, optionally, only some of their tables). This replaces one {@code /ws/games/{gameId}}
+ * socket per game for admins and floor staff watching several tables.
+ * <p>
+ * Incoming messages are either subscription requests:
+ * <pre>
+ *   {"action": "subscribe", "gameId": "g1", "tableIds": ["TABLE-0"]}
+ *   {"action": "unsubscribe", "gameId": "g1"}
+ * </pre>
+ * or regular {@link GameCommand}s, which are routed by their {@code gameId} to a subscribed game. Outgoing events are
+ * wrapped in a {@link MultiplexedEvent} tagged with the game they belong to. All subscriptions share the
+ * connection's single {@link ConcurrentWebSocketSessionDecorator}.
+ */
+@Slf4j
+public class MultiplexedWebSocketHandler extends TextWebSocketHandler {
+
+  private static final String ATTR_SUBSCRIPTIONS = "multiplexedSubscriptions";
+  private static final String ATTR_CONCURRENT_SESSION = "concurrentSession";
+
+  /** Send timeout in milliseconds */
+  private static final int SEND_TIMEOUT_MS = 5_000;
+  /** Buffer size limit in bytes, shared by all of the connection's subscriptions */
+  private static final int BUFFER_SIZE_LIMIT = 256 * 1024;
+  /** The maximum number of games a single connection may subscribe to */
+  static final int MAX_SUBSCRIPTIONS = 32;
+
+  private final CashGameService cashGameService;
+  private final ObjectMapper objectMapper;
+
+  public MultiplexedWebSocketHandler(CashGameService cashGameService, ObjectMapper objectMapper) {
+    this.cashGameService = cashGameService;
+    this.objectMapper = objectMapper;
+  }
+
+  private record Subscription(GameManager<?> gameManager, MultiplexedGameListener listener) {
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    PokerUserDetails userDetails = (PokerUserDetails) session.getAttributes().get(JwtHandshakeInterceptor.ATTR_USER_DETAILS);
+    if (userDetails == null) {
+      log.warn("Multiplexed WebSocket connection missing authentication attributes, closing session [{}]", session.getId());
+      session.close(CloseStatus.POLICY_VIOLATION);
+      return;
+    }
+    session.getAttributes().put(ATTR_CONCURRENT_SESSION,
+        new ConcurrentWebSocketSessionDecorator(session, SEND_TIMEOUT_MS, BUFFER_SIZE_LIMIT));
+    session.getAttributes().put(ATTR_SUBSCRIPTIONS, new ConcurrentHashMap<String, Subscription>());
+    log.info("Multiplexed WebSocket connected: user [{}], session [{}]", userDetails.toUser().id(), session.getId());
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    PokerUserDetails userDetails = (PokerUserDetails) session.getAttributes().get(JwtHandshakeInterceptor.ATTR_USER_DETAILS);
+    Map<String, Subscription> subscriptions = subscriptions(session);
+    if (userDetails == null || subscriptions == null) {
+      return;
+    }
+
+    User user = userDetails.toUser();
+    String gameId = null;
+    try {
+      ObjectNode node = (ObjectNode) objectMapper.readTree(message.getPayload());
+      JsonNode gameIdNode = node.get("gameId");
+      gameId = gameIdNode == null || gameIdNode.isNull() ? null : gameIdNode.asString();
+      if (gameId == null) {
+        sendError(session, user, null, "A gameId is required.");
+        return;
+      }
+
+      JsonNode action = node.get("action");
+      if (action != null) {
+        switch (action.asString()) {
+          case "subscribe" -> subscribe(session, user, subscriptions, gameId, tableIds(node.get("tableIds")));
+          case "unsubscribe" -> unsubscribe(subscriptions, gameId);
+          default -> sendError(session, user, gameId, "Unknown action [" + action.asString() + "]");
+        }
+        return;
+      }
+
+      Subscription subscription = subscriptions.get(gameId);
+      if (subscription == null) {
+        sendError(session, user, gameId, "Subscribe to game [" + gameId + "] before sending it commands.");
+        return;
+      }
+      node.set("user", objectMapper.valueToTree(user));
+      subscription.gameManager().submitCommand(objectMapper.treeToValue(node, GameCommand.class));
+
+    } catch (Exception e) {
+      log.warn("Error processing multiplexed WebSocket message from user [{}]: {}", user.id(), e.getMessage());
+      sendError(session, user, gameId, "Invalid message: " + e.getMessage());
+    }
+  }
+
+  private void subscribe(WebSocketSession session, User user, Map<String, Subscription> subscriptions, String gameId,
+      Set<String> tableIds) {
+    if (!subscriptions.containsKey(gameId) && subscriptions.size() >= MAX_SUBSCRIPTIONS) {
+      sendError(session, user, gameId, "A connection may subscribe to at most " + MAX_SUBSCRIPTIONS + " games.");
+      return;
+    }
+    GameManager<?> gameManager;
+    try {
+      gameManager = cashGameService.getGameManger(gameId);
+    } catch (Exception e) {
+      sendError(session, user, gameId, "The game [" + gameId + "] does not exist.");
+      return;
+    }
+
+    WebSocketSession concurrentSession = (WebSocketSession) session.getAttributes().get(ATTR_CONCURRENT_SESSION);
+    MultiplexedGameListener listener = new MultiplexedGameListener(user, gameId, tableIds, concurrentSession, objectMapper);
+    // Re-subscribing replaces the table filter.
+    unsubscribe(subscriptions, gameId);
+    gameManager.addGameListener(listener);
+    subscriptions.put(gameId, new Subscription(gameManager, listener));
+  }
+
+  private static void unsubscribe(Map<String, Subscription> subscriptions, String gameId) {
+    Subscription subscription = subscriptions.remove(gameId);
+    if (subscription != null) {
+      subscription.gameManager().removeGameListener(subscription.listener());
+    }
+  }
+
+  private static Set<String> tableIds(@Nullable JsonNode node) {
+    Set<String> tableIds = new HashSet<>();
+    if (node != null && node.isArray()) {
+      node.forEach(tableId -> tableIds.add(tableId.asString()));
+    }
+    return tableIds;
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    Map<String, Subscription> subscriptions = subscriptions(session);
+    if (subscriptions == null) {
+      return;
+    }
+    for (String gameId : Set.copyOf(subscriptions.keySet())) {
+      unsubscribe(subscriptions, gameId);
+    }
+    log.info("Multiplexed WebSocket disconnected: session [{}], status [{}]", session.getId(), status);
+  }
+
+  @Override
+  public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+    log.error("Multiplexed WebSocket transport error for session [{}]: {}", session.getId(), exception.getMessage());
+    session.close(CloseStatus.SERVER_ERROR);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable Map<String, Subscription> subscriptions(WebSocketSession session) {
+    return (Map<String, Subscription>) session.getAttributes().get(ATTR_SUBSCRIPTIONS);
+  }
+
+  private void sendError(WebSocketSession session, User user, @Nullable String gameId, String message) {
+    try {
+      UserMessage errorEvent = UserMessage.builder()
+          .timestamp(Instant.now())
+          .userId(user.id())
+          .severity(MessageSeverity.ERROR)
+          .message(message)
+          .build();
+      WebSocketSession target = (WebSocketSession) session.getAttributes().getOrDefault(ATTR_CONCURRENT_SESSION, session);
+      target.sendMessage(new TextMessage(objectMapper.writeValueAsString(new MultiplexedEvent(gameId, errorEvent))));
+    } catch (Exception e) {
+      log.debug("Failed to send error message to session [{}]", session.getId(), e);
+    }
+  }
+}
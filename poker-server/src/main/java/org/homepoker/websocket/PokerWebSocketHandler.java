@@ -24,12 +24,18 @@ import java.time.Instant;
  * On connection, a {@link WebSocketGameListener} is created and registered with the game manager
  * so the client receives real-time game events. Incoming text messages are deserialized as
  * {@link GameCommand}s, have the authenticated user injected, and are submitted to the game loop.
+ * <p>
+ * A connection opened with {@code ?spectate=true} is a read-only spectator: instead of its own listener (and the
+ * connect/disconnect ref-counting that comes with it), the session joins the game's shared {@link SpectatorChannel}
+ * and any message it sends is rejected.
  */
 @Slf4j
 public class PokerWebSocketHandler extends TextWebSocketHandler {
 
   private static final String ATTR_LISTENER = "webSocketGameListener";
   private static final String ATTR_GAME_MANAGER = "gameManager";
+  private static final String ATTR_SPECTATOR_CHANNEL = "spectatorChannel";
+  private static final String ATTR_SPECTATOR_SESSION = "spectatorSession";
 
   /** Send timeout in milliseconds */
   private static final int SEND_TIMEOUT_MS = 5_000;
@@ -38,10 +44,13 @@ public class PokerWebSocketHandler extends TextWebSocketHandler {
 
   private final CashGameService cashGameService;
   private final ObjectMapper objectMapper;
+  private final SpectatorChannels spectatorChannels;
 
-  public PokerWebSocketHandler(CashGameService cashGameService, ObjectMapper objectMapper) {
+  public PokerWebSocketHandler(CashGameService cashGameService, ObjectMapper objectMapper,
+      SpectatorChannels spectatorChannels) {
     this.cashGameService = cashGameService;
     this.objectMapper = objectMapper;
+    this.spectatorChannels = spectatorChannels;
   }
 
   @Override
@@ -70,6 +79,14 @@ public class PokerWebSocketHandler extends TextWebSocketHandler {
     // Wrap the session for thread safety with backpressure
     WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, SEND_TIMEOUT_MS, BUFFER_SIZE_LIMIT);
 
+    if (Boolean.TRUE.equals(session.getAttributes().get(JwtHandshakeInterceptor.ATTR_SPECTATOR))) {
+      session.getAttributes().put(ATTR_SPECTATOR_CHANNEL, spectatorChannels.join(gameManager, concurrentSession));
+      session.getAttributes().put(ATTR_SPECTATOR_SESSION, concurrentSession);
+      session.getAttributes().put(ATTR_GAME_MANAGER, gameManager);
+      log.info("WebSocket spectator connected: user [{}], game [{}], session [{}]", user.id(), gameId, session.getId());
+      return;
+    }
+
     // Create and register the game listener
     WebSocketGameListener listener = new WebSocketGameListener(user, concurrentSession, objectMapper);
     gameManager.addGameListener(listener);
@@ -93,6 +110,11 @@ public class PokerWebSocketHandler extends TextWebSocketHandler {
 
     User user = userDetails.toUser();
 
+    if (session.getAttributes().containsKey(ATTR_SPECTATOR_CHANNEL)) {
+      sendError(session, user, "Spectators cannot send commands.");
+      return;
+    }
+
     try {
       // Deserialize into a tree, inject the authenticated user, then convert to the concrete command type.
       ObjectNode node = (ObjectNode) objectMapper.readTree(message.getPayload());
@@ -115,6 +137,13 @@ public class PokerWebSocketHandler extends TextWebSocketHandler {
 
   @Override
   public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    SpectatorChannel channel = (SpectatorChannel) session.getAttributes().get(ATTR_SPECTATOR_CHANNEL);
+    if (channel != null) {
+      spectatorChannels.leave(channel, (WebSocketSession) session.getAttributes().get(ATTR_SPECTATOR_SESSION));
+      log.info("WebSocket spectator disconnected: game [{}], session [{}], status [{}]",
+          channel.gameId(), session.getId(), status);
+      return;
+    }
     WebSocketGameListener listener = (WebSocketGameListener) session.getAttributes().get(ATTR_LISTENER);
     GameManager<?> gameManager = (GameManager<?>) session.getAttributes().get(ATTR_GAME_MANAGER);
 
@@ -0,0 +1,145 @@
+package org.homepoker.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.GameListener;
+import org.homepoker.game.GameManager;
+import org.homepoker.model.event.GameEvent;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.UserEvent;
+import org.homepoker.user.SystemUsers;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * A per-game broadcast channel for spectators. The channel is registered with the game manager as a single listener
+ * on behalf of all of its viewers, so a hundred viewers cost the game loop one listener, one JSON serialization per
+ * event and no connection ref-counting.
+ * <p>
+ * Only public game events are broadcast ({@link GameEvent}s that are not {@link UserEvent}s), so hole cards and
+ * per-user messages never reach a spectator. With a non-zero delay, each serialized event is held in a buffer until
+ * its release time and sent by {@link #flushDue(Instant)}.
+ * <p>
+ * <strong>Threading:</strong> {@link #onEvent} runs on the game loop thread, {@link #flushDue} on the spectator
+ * flusher, and viewers are added/removed from WebSocket threads; viewer sessions are thread-safe decorators.
+ */
+@Slf4j
+public class SpectatorChannel implements GameListener {
+
+  private record Pending(Instant releaseAt, TextMessage message) {
+  }
+
+  private final String gameId;
+  private final ObjectMapper objectMapper;
+  private final Duration delay;
+  private final Set<WebSocketSession> viewers = new CopyOnWriteArraySet<>();
+  private final Queue<Pending> buffer = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The game manager the channel is currently registered with. Guarded by the owning {@link SpectatorChannels}.
+   */
+  private GameManager<?> gameManager;
+
+  SpectatorChannel(String gameId, GameManager<?> gameManager, ObjectMapper objectMapper, Duration delay) {
+    this.gameId = gameId;
+    this.gameManager = gameManager;
+    this.objectMapper = objectMapper;
+    this.delay = delay;
+  }
+
+  public String gameId() {
+    return gameId;
+  }
+
+  @Override
+  public String userId() {
+    return SystemUsers.SPECTATOR_CHANNEL_ID;
+  }
+
+  @Override
+  public boolean acceptsEvent(PokerEvent event) {
+    return event instanceof GameEvent && !(event instanceof UserEvent);
+  }
+
+  @Override
+  public void onEvent(PokerEvent event) {
+    if (viewers.isEmpty()) {
+      return;
+    }
+    TextMessage message;
+    try {
+      message = new TextMessage(objectMapper.writeValueAsString(event));
+    } catch (RuntimeException e) {
+      log.error("Failed to serialize event [{}] for the spectators of game [{}]", event.eventType(), gameId, e);
+      return;
+    }
+    if (delay.isZero()) {
+      send(message);
+    } else {
+      buffer.add(new Pending(event.timestamp().plus(delay), message));
+    }
+  }
+
+  /**
+   * Send every buffered event whose delay has elapsed. Buffered events are in release order, because the game loop
+   * appends them in timestamp order and the delay is fixed.
+   */
+  void flushDue(Instant now) {
+    for (Pending pending = buffer.peek(); pending != null && !pending.releaseAt().isAfter(now); pending = buffer.peek()) {
+      buffer.poll();
+      send(pending.message());
+    }
+  }
+
+  void addViewer(WebSocketSession viewer) {
+    viewers.add(viewer);
+  }
+
+  /**
+   * @return The number of viewers left on the channel.
+   */
+  int removeViewer(WebSocketSession viewer) {
+    viewers.remove(viewer);
+    if (viewers.isEmpty()) {
+      buffer.clear();
+    }
+    return viewers.size();
+  }
+
+  int viewerCount() {
+    return viewers.size();
+  }
+
+  GameManager<?> gameManager() {
+    return gameManager;
+  }
+
+  void gameManager(GameManager<?> gameManager) {
+    this.gameManager = gameManager;
+  }
+
+  private void send(TextMessage message) {
+    for (WebSocketSession viewer : viewers) {
+      try {
+        viewer.sendMessage(message);
+      } catch (IOException | RuntimeException e) {
+        // A slow or broken viewer is dropped rather than allowed to hold up the broadcast.
+        log.debug("Dropping spectator session [{}] of game [{}]: {}", viewer.getId(), gameId, e.getMessage());
+        viewers.remove(viewer);
+        try {
+          viewer.close();
+        } catch (IOException ex) {
+          log.debug("Error closing WebSocket session [{}]", viewer.getId(), ex);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.homepoker.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.GameManager;
+import org.homepoker.game.GameServerProperties;
+import org.homepoker.threading.VirtualThreadManager;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The spectator broadcast channels, one per watched game. A channel is created (and registered with the game
+ * manager) when the first viewer joins and is removed when the last viewer leaves. When a broadcast delay is
+ * configured, a single task flushes the due events of every channel.
+ */
+@Slf4j
+public class SpectatorChannels {
+
+  /** How often delayed events are flushed to viewers. */
+  private static final long FLUSH_INTERVAL_MS = 200;
+
+  private final ObjectMapper objectMapper;
+  private final Duration delay;
+  private final Clock clock;
+  private final Map<String, SpectatorChannel> channels = new HashMap<>();
+
+  @Nullable
+  private final ScheduledFuture<?> flusher;
+
+  public SpectatorChannels(ObjectMapper objectMapper, GameServerProperties gameServerProperties,
+      VirtualThreadManager threadManager, Clock clock) {
+    this.objectMapper = objectMapper;
+    this.delay = Duration.ofSeconds(gameServerProperties.spectatorDelaySeconds());
+    this.clock = clock;
+    this.flusher = delay.isZero() ? null : threadManager.getScheduler().scheduleWithFixedDelay(
+        this::flushDue, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Add a viewer to the game's channel, creating the channel on first use.
+   *
+   * @param gameManager The game's current manager.
+   * @param viewer      A thread-safe session for the viewer.
+   * @return The channel the viewer joined.
+   */
+  public synchronized SpectatorChannel join(GameManager<?> gameManager, WebSocketSession viewer) {
+    String gameId = gameManager.gameId();
+    SpectatorChannel channel = channels.get(gameId);
+    if (channel == null) {
+      channel = new SpectatorChannel(gameId, gameManager, objectMapper, delay);
+      channels.put(gameId, channel);
+      gameManager.addGameListener(channel);
+    } else if (channel.gameManager() != gameManager) {
+      // The game was reloaded (e.g. it completed and was looked up again): follow the current manager.
+      channel.gameManager().removeGameListener(channel);
+      channel.gameManager(gameManager);
+      gameManager.addGameListener(channel);
+    }
+    channel.addViewer(viewer);
+    return channel;
+  }
+
+  /**
+   * Remove a viewer. The last viewer to leave unregisters the channel from its game.
+   */
+  public synchronized void leave(SpectatorChannel channel, WebSocketSession viewer) {
+    if (channel.removeViewer(viewer) == 0 && channels.remove(channel.gameId(), channel)) {
+      channel.gameManager().removeGameListener(channel);
+    }
+  }
+
+  synchronized @Nullable SpectatorChannel channel(String gameId) {
+    return channels.get(gameId);
+  }
+
+  private void flushDue() {
+    try {
+      List<SpectatorChannel> snapshot;
+      synchronized (this) {
+        snapshot = List.copyOf(channels.values());
+      }
+      Instant now = clock.instant();
+      for (SpectatorChannel channel : snapshot) {
+        channel.flushDue(now);
+      }
+    } catch (Exception e) {
+      log.error("Error flushing spectator channels", e);
+    }
+  }
+
+  public void shutdown() {
+    if (flusher != null) {
+      flusher.cancel(true);
+    }
+  }
+}
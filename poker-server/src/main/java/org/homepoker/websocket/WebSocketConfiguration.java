@@ -1,12 +1,13 @@
 package org.homepoker.websocket;
 
+import org.homepoker.game.GameServerProperties;
 import org.homepoker.game.cash.CashGameService;
 import org.homepoker.model.command.GameCommand;
 import org.homepoker.model.event.PokerEvent;
-import org.homepoker.security.JwtTokenService;
+import org.homepoker.security.AuthenticatedUserCache;
+import org.homepoker.threading.VirtualThreadManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
@@ -14,19 +15,25 @@ import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Clock;
+
 @Configuration
 @EnableWebSocket
 public class WebSocketConfiguration implements WebSocketConfigurer {
 
   private final CashGameService cashGameService;
-  private final JwtTokenService jwtTokenService;
-  private final UserDetailsService userDetailsService;
+  private final AuthenticatedUserCache authenticatedUserCache;
+  private final GameServerProperties gameServerProperties;
+  private final VirtualThreadManager threadManager;
+  private final Clock clock;
 
-  public WebSocketConfiguration(CashGameService cashGameService, JwtTokenService jwtTokenService,
-      UserDetailsService userDetailsService) {
+  public WebSocketConfiguration(CashGameService cashGameService, AuthenticatedUserCache authenticatedUserCache,
+      GameServerProperties gameServerProperties, VirtualThreadManager threadManager, Clock clock) {
     this.cashGameService = cashGameService;
-    this.jwtTokenService = jwtTokenService;
-    this.userDetailsService = userDetailsService;
+    this.authenticatedUserCache = authenticatedUserCache;
+    this.gameServerProperties = gameServerProperties;
+    this.threadManager = threadManager;
+    this.clock = clock;
   }
 
   @Override
@@ -34,16 +41,37 @@ public class WebSocketConfiguration implements WebSocketConfigurer {
     registry.addHandler(pokerWebSocketHandler(), "/ws/games/{gameId}")
         .addInterceptors(jwtHandshakeInterceptor())
         .setAllowedOriginPatterns("*");
+    registry.addHandler(multiplexedWebSocketHandler(), "/ws/multiplex")
+        .addInterceptors(jwtHandshakeInterceptor())
+        .setAllowedOriginPatterns("*");
+    registry.addHandler(lobbyWebSocketHandler(), "/ws/lobby")
+        .addInterceptors(jwtHandshakeInterceptor())
+        .setAllowedOriginPatterns("*");
   }
 
   @Bean
   JwtHandshakeInterceptor jwtHandshakeInterceptor() {
-    return new JwtHandshakeInterceptor(jwtTokenService, userDetailsService);
+    return new JwtHandshakeInterceptor(authenticatedUserCache);
   }
 
   @Bean
   PokerWebSocketHandler pokerWebSocketHandler() {
-    return new PokerWebSocketHandler(cashGameService, webSocketObjectMapper());
+    return new PokerWebSocketHandler(cashGameService, webSocketObjectMapper(), spectatorChannels());
+  }
+
+  @Bean
+  SpectatorChannels spectatorChannels() {
+    return new SpectatorChannels(webSocketObjectMapper(), gameServerProperties, threadManager, clock);
+  }
+
+  @Bean
+  MultiplexedWebSocketHandler multiplexedWebSocketHandler() {
+    return new MultiplexedWebSocketHandler(cashGameService, webSocketObjectMapper());
+  }
+
+  @Bean
+  LobbyWebSocketHandler lobbyWebSocketHandler() {
+    return new LobbyWebSocketHandler(cashGameService, webSocketObjectMapper());
   }
 
   /**
@@ -54,7 +54,7 @@ public class WebSocketGameListener extends UserGameListener {
   @Override
   public void onEvent(PokerEvent event) {
     try {
-      String json = objectMapper.writeValueAsString(event);
+      String json = objectMapper.writeValueAsString(toPayload(event));
       session.sendMessage(new TextMessage(json));
     } catch (IOException e) {
       log.error("Failed to send event to WebSocket session [{}], closing session.", session.getId(), e);
@@ -65,4 +65,11 @@ public class WebSocketGameListener extends UserGameListener {
       }
     }
   }
+
+  /**
+   * The object written to the socket for an accepted event. A single-game connection sends the event itself.
+   */
+  protected Object toPayload(PokerEvent event) {
+    return event;
+  }
 }
@@ -0,0 +1,45 @@
+package org.homepoker.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.homepoker.game.UserGameListener;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.lobby.LobbyEvent;
+import org.homepoker.model.user.User;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+/**
+ * A lobby subscriber that forwards {@link LobbyEvent}s to a WebSocket client.
+ */
+@Slf4j
+public class WebSocketLobbyListener extends UserGameListener {
+
+  private final WebSocketSession session;
+  private final LobbyMessageEncoder encoder;
+
+  WebSocketLobbyListener(User user, WebSocketSession session, LobbyMessageEncoder encoder) {
+    super(user);
+    this.session = session;
+    this.encoder = encoder;
+  }
+
+  @Override
+  public boolean acceptsEvent(PokerEvent event) {
+    return event instanceof LobbyEvent;
+  }
+
+  @Override
+  public void onEvent(PokerEvent event) {
+    try {
+      session.sendMessage(encoder.encode(event));
+    } catch (IOException e) {
+      log.error("Failed to send lobby event to WebSocket session [{}], closing session.", session.getId(), e);
+      try {
+        session.close();
+      } catch (IOException ex) {
+        log.debug("Error closing WebSocket session [{}]", session.getId(), ex);
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.homepoker.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameActivationQueueTest {
+
+  @Test
+  public void pollDueReturnsOnlyGamesPastTheirDeadlineInOrder() {
+    GameActivationQueue queue = new GameActivationQueue();
+    Instant now = Instant.now();
+
+    queue.schedule("later", now.plus(1, HOURS));
+    queue.schedule("second", now.minus(1, MINUTES));
+    queue.schedule("first", now.minus(2, MINUTES));
+
+    assertThat(queue.pollDue()).containsExactly("first", "second");
+    assertThat(queue.pollDue()).isEmpty();
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.deadline("later")).isEqualTo(now.plus(1, HOURS));
+  }
+
+  @Test
+  public void rescheduleAndCancelSupersedeEarlierEntries() {
+    GameActivationQueue queue = new GameActivationQueue();
+    Instant now = Instant.now();
+
+    // Moved out: the stale (due) entry must not activate the game.
+    queue.schedule("moved", now.minus(1, MINUTES));
+    queue.schedule("moved", now.plus(1, HOURS));
+
+    // Cancelled: deleted games never come due.
+    queue.schedule("deleted", now.minus(1, MINUTES));
+    queue.cancel("deleted");
+
+    // Scheduled twice for the same deadline: activated once.
+    queue.schedule("duplicate", now.minus(1, MINUTES));
+    queue.schedule("duplicate", now.minus(1, MINUTES));
+
+    assertThat(queue.pollDue()).containsExactly("duplicate");
+    assertThat(queue.deadline("moved")).isEqualTo(now.plus(1, HOURS));
+    assertThat(queue.deadline("deleted")).isNull();
+  }
+}
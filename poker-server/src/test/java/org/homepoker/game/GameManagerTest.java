@@ -475,6 +475,41 @@ public class GameManagerTest {
     assertThat(newPlayer.tableId()).isNotNull();
   }
 
+  @Test
+  void buyIn_duringHand_isDealtIntoTheNextHand() {
+    CashGame game = buildGameInActive(2);
+    User newUser = TestDataHelper.user("newPlayer", "password", "New Player");
+
+    TestableGameManager manager = createManager(game);
+    Table table = manager.getGame().tables().values().iterator().next();
+    for (int tick = 0; tick < 5 && table.handPhase() != HandPhase.PRE_FLOP_BETTING; tick++) {
+      manager.processGameTick();
+    }
+    assertThat(table.handPhase()).isEqualTo(HandPhase.PRE_FLOP_BETTING);
+    int firstHand = table.handNumber();
+
+    // Seated by the game manager while the table manager is mid-hand.
+    manager.submitCommand(new JoinGame(game.id(), newUser));
+    manager.submitCommand(new BuyIn(game.id(), newUser, 1000));
+    manager.processGameTick();
+    Seat newSeat = table.seats().stream()
+        .filter(seat -> seat.player() != null && seat.player().userId().equals("newPlayer"))
+        .findFirst().orElseThrow();
+    assertThat(newSeat.status()).isEqualTo(Seat.Status.JOINED_WAITING);
+
+    // Fold the hand out, skip the review and deal the next one.
+    Seat actor = table.seatAt(table.actionPosition());
+    manager.submitCommand(new PlayerActionCommand(game.id(), table.id(), actor.player().user(), new PlayerAction.Fold()));
+    manager.processGameTick();
+    assertThat(table.handPhase()).isEqualTo(HandPhase.HAND_COMPLETE);
+    table.phaseStartedAt(Instant.now().minusSeconds(20));
+    manager.processGameTick();
+
+    assertThat(table.handNumber()).isEqualTo(firstHand + 1);
+    assertThat(newSeat.status()).isEqualTo(Seat.Status.ACTIVE);
+    assertThat(newSeat.cards()).hasSize(2);
+  }
+
   @Test
   void joinGame_duringScheduled_doesNotAssignSeat() {
     CashGame game = buildGame(GameStatus.SCHEDULED, Instant.now().plus(1, ChronoUnit.HOURS), 2);
@@ -729,7 +764,7 @@ public class GameManagerTest {
     private final List<PokerEvent> savedEvents = new ArrayList<>();
 
     TestableGameManager(CashGame game, CashGameService cashGameService, UserManager userManager, SecurityUtilities securityUtilities) {
-      super(game, cashGameService, userManager, securityUtilities, null);
+      super(game, cashGameService, userManager, securityUtilities, null, null);
       // Add a listener that captures all events
       addGameListener(new GameListener() {
         public String userId() {
@@ -0,0 +1,52 @@
+package org.homepoker.game.cash;
+
+import org.homepoker.game.GameServerProperties;
+import org.homepoker.recording.EventRecorderService;
+import org.homepoker.security.SecurityUtilities;
+import org.homepoker.threading.SimulatedClock;
+import org.homepoker.threading.VirtualThreadManager;
+import org.homepoker.user.UserManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A game polled from the activation queue is gone from it, so a failed activation must put it back.
+ */
+class CashGameActivationRetryTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T19:00:00Z");
+
+  private final SimulatedClock clock = new SimulatedClock(NOW);
+  private final CashGameRepository repository = mock(CashGameRepository.class);
+  private final EventRecorderService eventRecorderService = mock(EventRecorderService.class);
+  private final GameServerProperties properties =
+      new GameServerProperties(GameServerProperties.ThreadModel.SINGLE_THREAD, 0, 0, 0);
+  private final CashGameService service = new CashGameService(repository, mock(UserManager.class),
+      mock(SecurityUtilities.class), mock(MongoOperations.class), new VirtualThreadManager(properties), properties,
+      eventRecorderService, clock);
+
+  @Test
+  void failedActivationIsRetriedWithBackoff() {
+    when(eventRecorderService.latestHandByTable(anyCollection())).thenReturn(new HashMap<>());
+    when(repository.findAllById(anyIterable())).thenThrow(new DataAccessResourceFailureException("Mongo is down"));
+
+    service.activateGames(List.of("game-1"));
+    assertThat(service.scheduledActivation("game-1")).isEqualTo(NOW.plusSeconds(2));
+
+    // Still queued: a second failure for the same batch does not push the retry back.
+    service.activateGames(List.of("game-1"));
+    assertThat(service.scheduledActivation("game-1")).isEqualTo(NOW.plusSeconds(2));
+    assertThat(service.getGameManagerMap()).isEmpty();
+  }
+}
@@ -0,0 +1,155 @@
+package org.homepoker.game.cash;
+
+import org.homepoker.game.GameListener;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.lobby.LobbyGameRemoved;
+import org.homepoker.model.event.lobby.LobbyGameUpdated;
+import org.homepoker.model.event.lobby.LobbySnapshot;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.GameType;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.game.cash.CashGameDetails;
+import org.homepoker.model.user.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CashGameLobbyTest {
+
+  private static final User OWNER = User.builder().id("owner").name("Owner").email("owner@test.com").build();
+
+  @Test
+  void subscriberReceivesSnapshotThenOnlyActualChanges() {
+    AtomicInteger seedCalls = new AtomicInteger();
+    CashGameLobby lobby = new CashGameLobby(() -> {
+      seedCalls.incrementAndGet();
+      return List.of(game("g1", GameStatus.SCHEDULED, 1), game("done", GameStatus.COMPLETED, 0));
+    });
+
+    RecordingListener first = new RecordingListener();
+    lobby.subscribe(first);
+    lobby.subscribe(new RecordingListener());
+
+    assertThat(seedCalls).hasValue(1);
+    assertThat(first.events).singleElement().isInstanceOfSatisfying(LobbySnapshot.class, snapshot ->
+        assertThat(snapshot.games()).extracting(CashGameDetails::id).containsExactly("g1"));
+
+    // Same summary (a tick that changed nothing the lobby shows): no update.
+    lobby.gameChanged(game("g1", GameStatus.SCHEDULED, 1));
+    assertThat(first.events).hasSize(1);
+
+    lobby.gameChanged(game("g1", GameStatus.SEATING, 2));
+    assertThat(first.events.getLast()).isInstanceOfSatisfying(LobbyGameUpdated.class, update -> {
+      assertThat(update.game().status()).isEqualTo(GameStatus.SEATING);
+      assertThat(update.game().playerCount()).isEqualTo(2);
+      assertThat(update.game().players()).isEmpty();
+    });
+
+    lobby.gameChanged(game("g1", GameStatus.COMPLETED, 2));
+    assertThat(first.events.getLast()).isInstanceOfSatisfying(LobbyGameRemoved.class,
+        removed -> assertThat(removed.gameId()).isEqualTo("g1"));
+
+    // Removing a game the lobby no longer holds is silent.
+    lobby.gameRemoved("g1");
+    assertThat(first.events).hasSize(3);
+  }
+
+  @Test
+  void unsubscribedAndFailingListenersDoNotAffectOthers() {
+    CashGameLobby lobby = new CashGameLobby(List::of);
+    RecordingListener kept = new RecordingListener();
+    RecordingListener dropped = new RecordingListener();
+    GameListener failing = new RecordingListener() {
+      @Override
+      public void onEvent(PokerEvent event) {
+        throw new IllegalStateException("session closed");
+      }
+    };
+
+    lobby.subscribe(failing);
+    lobby.subscribe(kept);
+    lobby.subscribe(dropped);
+    lobby.unsubscribe(dropped);
+    assertThat(lobby.subscriberCount()).isEqualTo(2);
+
+    lobby.gameChanged(game("g2", GameStatus.SCHEDULED, 1));
+
+    assertThat(kept.events).hasSize(2).last().isInstanceOf(LobbyGameUpdated.class);
+    assertThat(dropped.events).hasSize(1);
+  }
+
+  @Test
+  void eventsAreDeliveredInOrderOnTheDispatcherOutsideTheMonitor() {
+    List<Runnable> dispatched = new ArrayList<>();
+    CashGameLobby lobby = new CashGameLobby(List::of, dispatched::add);
+    List<Boolean> heldMonitor = new ArrayList<>();
+    RecordingListener subscriber = new RecordingListener() {
+      @Override
+      public void onEvent(PokerEvent event) {
+        heldMonitor.add(Thread.holdsLock(lobby));
+        super.onEvent(event);
+      }
+    };
+
+    lobby.subscribe(subscriber);
+    lobby.gameChanged(game("g3", GameStatus.SCHEDULED, 1));
+    lobby.gameRemoved("g3");
+
+    // Publishing only queues: nothing reaches the subscriber until the dispatcher runs.
+    assertThat(subscriber.events).isEmpty();
+    dispatched.forEach(Runnable::run);
+
+    assertThat(subscriber.events).hasExactlyElementsOfTypes(
+        LobbySnapshot.class, LobbyGameUpdated.class, LobbyGameRemoved.class);
+    assertThat(heldMonitor).containsOnly(false);
+  }
+
+  private static CashGameDetails game(String id, GameStatus status, int playerCount) {
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < playerCount; i++) {
+      players.add(Player.builder()
+          .user(User.builder().id("user" + i).name("User " + i).email("user" + i + "@test.com").build())
+          .status(PlayerStatus.AWAY)
+          .build());
+    }
+    return CashGameDetails.builder()
+        .id(id)
+        .name("Game " + id)
+        .type(GameType.TEXAS_HOLDEM)
+        .status(status)
+        .startTime(Instant.parse("2026-01-01T20:00:00Z"))
+        .maxBuyIn(10000)
+        .owner(OWNER)
+        .smallBlind(25)
+        .bigBlind(50)
+        .players(players)
+        .playerCount(playerCount)
+        .tableCount(1)
+        .build();
+  }
+
+  private static class RecordingListener implements GameListener {
+    final List<PokerEvent> events = new ArrayList<>();
+
+    @Override
+    public String userId() {
+      return "lobby-user";
+    }
+
+    @Override
+    public void onEvent(PokerEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public boolean acceptsEvent(PokerEvent event) {
+      return true;
+    }
+  }
+}
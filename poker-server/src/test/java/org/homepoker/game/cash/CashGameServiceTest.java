@@ -1,5 +1,7 @@
 package org.homepoker.game.cash;
 
+import org.homepoker.game.GameListener;
+import org.homepoker.game.GameSettings;
 import org.homepoker.lib.util.DateTimeUtils;
 import org.homepoker.model.game.Table;
 import org.homepoker.lib.exception.ResourceNotFound;
@@ -24,6 +26,7 @@ import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 
 public class CashGameServiceTest extends BaseIntegrationTest {
 
@@ -111,6 +114,13 @@ public class CashGameServiceTest extends BaseIntegrationTest {
           .extracting(CashGameDetails::startTime)
           .containsExactly(game2Start, game3Start);
 
+      // Search results are projections: the owner is counted, but the player subtree is not loaded.
+      assertThat(results).allSatisfy(details -> {
+        assertThat(details.players()).isEmpty();
+        assertThat(details.playerCount()).isEqualTo(1);
+        assertThat(details.owner().id()).isEqualTo(user.id());
+      });
+
     } finally {
       // Clean up afterward.
       cashGameService.getGameManagerMap().clear();
@@ -179,6 +189,36 @@ public class CashGameServiceTest extends BaseIntegrationTest {
     }
   }
 
+  @Test
+  public void updateResidentGameIsAppliedByTheGameLoop() {
+    User user = createUser(TestDataHelper.fred());
+
+    Instant gameStart = DateTimeUtils.computeNextWallMinute().plus(1, DAYS);
+    try {
+      CashGameDetails details = cashGameService.createGame(TestDataHelper
+          .cashGameDetails("Test Game 1", user)
+          .withStartTime(gameStart)
+      );
+      CashGameManager manager = cashGameService.getGameManger(details.id());
+
+      CashGameDetails updatedDetails = cashGameService.updateGameDetails(details.withSmallBlind(100).withBigBlind(200));
+      assertThat(updatedDetails.smallBlind()).isEqualTo(100);
+
+      // The resident manager checkpoints the game on every tick; the update must survive it.
+      manager.processGameTick();
+      manager.processGameTick();
+
+      assertThat(manager.gameDetails().smallBlind()).isEqualTo(100);
+      assertThat(manager.gameDetails().bigBlind()).isEqualTo(200);
+      CashGame stored = cashGameRepository.findById(details.id()).orElseThrow();
+      assertThat(stored.smallBlind()).isEqualTo(100);
+      assertThat(stored.bigBlind()).isEqualTo(200);
+    } finally {
+      cashGameService.getGameManagerMap().clear();
+      cashGameRepository.deleteAll();
+    }
+  }
+
   @Test
   public void updateNonexistentGame() {
     User user = createUser(TestDataHelper.fred());
@@ -218,11 +258,15 @@ public class CashGameServiceTest extends BaseIntegrationTest {
 
       cashGameService.loadNewGames();
 
+      // Games whose seating window has opened are loaded; game 2 opens seating at the next wall minute and stays
+      // queued until then.
       Map<String, CashGameManager> gameManagerMap = cashGameService.getGameManagerMap();
-      assertThat(gameManagerMap).hasSize(3);
+      assertThat(gameManagerMap).hasSize(2);
       assertThat(gameManagerMap.get(details1.id())).isNotNull();
-      assertThat(gameManagerMap.get(details2.id())).isNotNull();
+      assertThat(gameManagerMap.get(details2.id())).isNull();
       assertThat(gameManagerMap.get(details3.id())).isNotNull();
+      assertThat(cashGameService.scheduledActivation(details2.id()))
+          .isEqualTo(game2Start.minusSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.seatingTimeSeconds()));
 
     } finally {
 
@@ -314,7 +358,6 @@ public class CashGameServiceTest extends BaseIntegrationTest {
     Instant game3Start = game1Start.plus(-2, MINUTES);
 
     try {
-      cashGameService.setLastGameCheck(Instant.now().minus(1, MINUTES));
       CashGameDetails details1 = cashGameService.createGame(TestDataHelper.cashGameDetails("Test Game 1", user)
           .withStartTime(game1Start)
       );
@@ -327,11 +370,63 @@ public class CashGameServiceTest extends BaseIntegrationTest {
 
       cashGameService.processGames();
 
+      // Creating a game queues its activation; the loop materializes the games whose seating window has opened.
       Map<String, CashGameManager> gameManagerMap = cashGameService.getGameManagerMap();
-      assertThat(gameManagerMap).hasSize(3);
+      assertThat(gameManagerMap).hasSize(2);
       assertThat(gameManagerMap.get(details1.id())).isNotNull();
-      assertThat(gameManagerMap.get(details2.id())).isNotNull();
+      assertThat(gameManagerMap.get(details2.id())).isNull();
       assertThat(gameManagerMap.get(details3.id())).isNotNull();
+      assertThat(cashGameService.scheduledActivation(details2.id())).isNotNull();
+
+    } finally {
+
+      // Clean up afterward.
+      cashGameService.getGameManagerMap().clear();
+      cashGameRepository.deleteAll();
+    }
+  }
+
+  @Test
+  public void idleGameIsPassivatedAndRehydratedOnDemand() {
+    User user = createUser(TestDataHelper.adminUser());
+
+    try {
+      cashGameRepository.save(
+          CashGame.builder()
+              .id("idle-game")
+              .name("Idle Game")
+              .type(GameType.TEXAS_HOLDEM)
+              .startTime(Instant.now())
+              .status(GameStatus.PAUSED)
+              .maxBuyIn(10000)
+              .smallBlind(25)
+              .bigBlind(50)
+              .player(Player.builder().user(user).build())
+              .table(Table.builder().id("1").build())
+              .owner(user)
+              .build());
+      CashGameManager manager = cashGameService.getGameManger("idle-game");
+      // Drain the event recorder's connect command.
+      manager.processGameTick();
+
+      // Recently active: not passivated.
+      assertThat(cashGameService.passivateIfIdle(manager, Instant.now().minus(1, MINUTES))).isFalse();
+      assertThat(cashGameService.getGameManagerMap()).containsKey("idle-game");
+
+      assertThat(cashGameService.passivateIfIdle(manager, Instant.now().plusSeconds(1))).isTrue();
+      assertThat(cashGameService.getGameManagerMap()).doesNotContainKey("idle-game");
+
+      // Nothing to hand over: the released game stays out of memory.
+      manager.forwardToSuccessor();
+      manager.removeGameListener(mock(GameListener.class));
+      assertThat(cashGameService.getGameManagerMap()).doesNotContainKey("idle-game");
+
+      // A command sent through a stale reference rehydrates the game and is applied there.
+      manager.submitCommand(new EndGame("idle-game", user));
+      CashGameManager rehydrated = cashGameService.getGameManagerMap().get("idle-game");
+      assertThat(rehydrated).isNotNull().isNotSameAs(manager);
+      rehydrated.processGameTick();
+      assertThat(rehydrated.gameStatus()).isEqualTo(GameStatus.COMPLETED);
 
     } finally {
 
@@ -340,4 +435,27 @@ public class CashGameServiceTest extends BaseIntegrationTest {
       cashGameRepository.deleteAll();
     }
   }
+
+  @Test
+  public void residentGameDetailsAreServedFromMemory() {
+    User user = createUser(TestDataHelper.fred());
+
+    try {
+      CashGameDetails details = cashGameService.createGame(TestDataHelper.cashGameDetails("Test Game 1", user));
+      cashGameService.getGameManger(details.id());
+
+      // Change the persisted document behind the loaded game's back: reads must not go to Mongo.
+      CashGame persisted = cashGameRepository.findById(details.id()).orElseThrow();
+      cashGameRepository.save(persisted.name("Renamed In Mongo"));
+      assertThat(cashGameService.getGameDetails(details.id()).name()).isEqualTo("Test Game 1");
+
+      // Once the game is no longer resident, the persisted document is read.
+      cashGameService.getGameManagerMap().remove(details.id());
+      assertThat(cashGameService.getGameDetails(details.id()).name()).isEqualTo("Renamed In Mongo");
+    } finally {
+      // Clean up afterward.
+      cashGameService.getGameManagerMap().clear();
+      cashGameRepository.deleteAll();
+    }
+  }
 }
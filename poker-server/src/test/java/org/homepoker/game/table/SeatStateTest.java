@@ -0,0 +1,91 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.homepoker.test.TestDataHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatStateTest {
+
+  @Test
+  void syncIndexesSeatsAndUsers() {
+    Table table = Table.builder().id("TABLE-0").emptySeats(6).build();
+    seat(table, 2, "fred", Seat.Status.ACTIVE);
+    seat(table, 4, "wilma", Seat.Status.FOLDED);
+    seat(table, 5, "barney", Seat.Status.ACTIVE);
+    table.seatAt(5).isAllIn(true);
+
+    SeatState state = new SeatState();
+    state.sync(table);
+
+    assertThat(state.seatedCount()).isEqualTo(3);
+    assertThat(state.nonFoldedCount()).isEqualTo(2);
+    assertThat(state.activeNonAllInCount()).isEqualTo(1);
+    assertThat(state.positionOf("wilma")).isEqualTo(4);
+    assertThat(state.positionOf("pebbles")).isEqualTo(-1);
+    assertThat(state.nextActive(2)).isEqualTo(5);
+    assertThat(state.nextActive(5)).isEqualTo(2);
+    assertThat(state.nextActiveNonAllIn(2, false)).isNull();
+    assertThat(state.nextActiveNonAllIn(2, true)).isEqualTo(2);
+    assertThat(state.firstActive()).isEqualTo(2);
+  }
+
+  @Test
+  void countersMatchRecountAfterRandomMutations() {
+    Random random = new Random(7);
+    Seat.Status[] statuses = Seat.Status.values();
+    for (int round = 0; round < 500; round++) {
+      int size = 2 + random.nextInt(9);
+      Table table = Table.builder().id("TABLE-0").emptySeats(size).build();
+      for (int pos = 1; pos <= size; pos++) {
+        if (random.nextBoolean()) {
+          seat(table, pos, "user-" + pos, statuses[random.nextInt(statuses.length)]);
+        }
+      }
+      SeatState state = new SeatState();
+      state.sync(table);
+
+      for (int step = 0; step < 50; step++) {
+        int pos = 1 + random.nextInt(size);
+        switch (random.nextInt(3)) {
+          case 0 -> state.status(pos, statuses[random.nextInt(statuses.length)]);
+          case 1 -> state.allIn(pos, random.nextBoolean());
+          default -> state.bet(pos, random.nextInt(500));
+        }
+        assertMatchesSeats(state, table);
+      }
+    }
+  }
+
+  private static void assertMatchesSeats(SeatState state, Table table) {
+    int seated = 0;
+    int nonFolded = 0;
+    int activeNonAllIn = 0;
+    for (int pos = 1; pos <= table.numberOfSeats(); pos++) {
+      Seat seat = table.seatAt(pos);
+      assertThat(state.status(pos)).isEqualTo(seat.status());
+      assertThat(state.isAllIn(pos)).isEqualTo(seat.isAllIn());
+      assertThat(state.bet(pos)).isEqualTo(seat.currentBetAmount());
+      if (seat.status() != Seat.Status.EMPTY) seated++;
+      if (seat.status() == Seat.Status.ACTIVE) {
+        nonFolded++;
+        if (!seat.isAllIn()) activeNonAllIn++;
+      }
+    }
+    assertThat(state.seatedCount()).isEqualTo(seated).isEqualTo(table.numberOfPlayers());
+    assertThat(state.nonFoldedCount()).isEqualTo(nonFolded);
+    assertThat(state.activeNonAllInCount()).isEqualTo(activeNonAllIn);
+  }
+
+  private static void seat(Table table, int position, String userId, Seat.Status status) {
+    Seat seat = table.seatAt(position);
+    seat.player(Player.builder().user(TestDataHelper.user(userId, "password", userId)).status(PlayerStatus.ACTIVE).chipCount(1000).build());
+    seat.status(status);
+  }
+}
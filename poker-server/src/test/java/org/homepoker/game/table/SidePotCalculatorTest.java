@@ -0,0 +1,153 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SidePotCalculatorTest {
+
+  @Test
+  void allInsForDifferentAmountsFormSidePots() {
+    // Seats 1..4 all-in for 100, 300, 500 and 1000 (the SplitPotScenariosTest A1 hand).
+    Table table = table(new int[]{100, 300, 500, 1000}, new boolean[4]);
+
+    new SidePotCalculator(4).collectBets(table);
+
+    assertThat(table.pots()).containsExactly(
+        new Table.Pot(400, List.of(1, 2, 3, 4)),
+        new Table.Pot(600, List.of(2, 3, 4)),
+        new Table.Pot(400, List.of(3, 4)),
+        new Table.Pot(500, List.of(4)));
+    assertThat(table.seats()).allSatisfy(seat -> assertThat(seat.currentBetAmount()).isZero());
+  }
+
+  @Test
+  void layerWithUnchangedEligibilityMergesIntoLastPot() {
+    // Seat 2 folded after putting in 50, so the 50 and 200 layers have the same eligible seats.
+    Table table = table(new int[]{200, 50, 200}, new boolean[]{false, true, false});
+    table.pots().add(new Table.Pot(90, List.of(1, 3)));
+
+    new SidePotCalculator(3).collectBets(table);
+
+    assertThat(table.pots()).containsExactly(new Table.Pot(90 + 450, List.of(1, 3)));
+  }
+
+  @Test
+  void matchesReferenceImplementationForRandomAllIns() {
+    Random random = new Random(42);
+    SidePotCalculator calculator = new SidePotCalculator(2);
+    for (int scenario = 0; scenario < 20_000; scenario++) {
+      int seats = 2 + random.nextInt(9);
+      int[] bets = new int[seats];
+      boolean[] folded = new boolean[seats];
+      // Draw bets from a few levels so ties (and equal all-ins) are common.
+      int[] levels = {0, 25, 50, 100, 100, 250, 400, 1000};
+      for (int i = 0; i < seats; i++) {
+        bets[i] = levels[random.nextInt(levels.length)];
+        folded[i] = random.nextInt(4) == 0;
+      }
+
+      Table expected = table(bets, folded);
+      Table actual = table(bets, folded);
+      // Sometimes carry a pot over from an earlier street, sometimes one that the first layer should merge into.
+      if (random.nextBoolean()) {
+        List<Integer> eligible = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+          if (!folded[i] && (bets[i] > 0 || random.nextBoolean())) {
+            eligible.add(i + 1);
+          }
+        }
+        eligible.sort(Comparator.comparingInt(position -> bets[position - 1]));
+        expected.pots().add(new Table.Pot(75, new ArrayList<>(eligible)));
+        actual.pots().add(new Table.Pot(75, new ArrayList<>(eligible)));
+      }
+
+      collectBetsReference(expected);
+      calculator.collectBets(actual);
+
+      assertThat(actual.pots())
+          .as("scenario %d: bets %s, folded %s", scenario, Arrays.toString(bets),
+              Arrays.toString(folded))
+          .isEqualTo(expected.pots());
+      assertThat(actual.seats()).allSatisfy(seat -> assertThat(seat.currentBetAmount()).isZero());
+    }
+  }
+
+  private static Table table(int[] bets, boolean[] folded) {
+    Table table = Table.builder().id("TABLE-0").emptySeats(bets.length).build();
+    for (int i = 0; i < bets.length; i++) {
+      Seat seat = table.seats().get(i);
+      seat.status(folded[i] ? Seat.Status.FOLDED : Seat.Status.ACTIVE);
+      seat.currentBetAmount(bets[i]);
+    }
+    return table;
+  }
+
+  /**
+   * The list-based implementation that {@link SidePotCalculator} replaced in {@link TexasHoldemTableManager}, kept
+   * verbatim as the reference the calculator must agree with.
+   */
+  private static void collectBetsReference(Table table) {
+    List<int[]> bets = new ArrayList<>(); // [seatPosition, betAmount]
+    int size = table.seats().size();
+    for (int pos = 1; pos <= size; pos++) {
+      Seat seat = table.seatAt(pos);
+      if (seat.currentBetAmount() > 0) {
+        bets.add(new int[]{pos, seat.currentBetAmount()});
+      }
+    }
+
+    if (bets.isEmpty()) return;
+
+    bets.sort(Comparator.comparingInt(a -> a[1]));
+
+    int previousPeel = 0;
+    for (int[] bet : bets) {
+      int peelLevel = bet[1];
+      if (peelLevel <= previousPeel) continue;
+
+      int potAmount = 0;
+      List<Integer> eligible = new ArrayList<>();
+
+      for (int[] b : bets) {
+        if (b[1] >= peelLevel) {
+          Seat seat = table.seatAt(b[0]);
+          if (seat.status() != Seat.Status.FOLDED) {
+            eligible.add(b[0]);
+          }
+          potAmount += (peelLevel - previousPeel);
+        } else if (b[1] > previousPeel) {
+          potAmount += (b[1] - previousPeel);
+        }
+      }
+
+      if (potAmount > 0) {
+        boolean merged = false;
+        if (!table.pots().isEmpty()) {
+          Table.Pot lastPot = table.pots().getLast();
+          if (lastPot.seatPositions().equals(eligible)) {
+            table.pots().set(table.pots().size() - 1,
+                new Table.Pot(lastPot.amount() + potAmount, eligible));
+            merged = true;
+          }
+        }
+        if (!merged) {
+          table.pots().add(new Table.Pot(potAmount, eligible));
+        }
+      }
+      previousPeel = peelLevel;
+    }
+
+    for (Seat seat : table.seats()) {
+      seat.currentBetAmount(0);
+    }
+  }
+}
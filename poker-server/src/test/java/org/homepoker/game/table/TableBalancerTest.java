@@ -0,0 +1,152 @@
+package org.homepoker.game.table;
+
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.homepoker.test.TestDataHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableBalancerTest {
+
+  private static final int SEATS = 9;
+
+  @Test
+  void balancedTablesNeedNoMoves() {
+    TableBalancer balancer = TableBalancer.of(tables(8, 7, 8), SEATS);
+
+    assertThat(balancer.plan().isEmpty()).isTrue();
+    assertThat(balancer.totalPlayers()).isEqualTo(23);
+  }
+
+  @Test
+  void smallestTableIsBrokenWhenFewerTablesWillDo() {
+    // 14 players fit on two tables; breaking the 3-player table costs 3 moves.
+    TableBalancer.Plan plan = TableBalancer.of(tables(6, 3, 5), SEATS).plan();
+
+    assertThat(plan.tablesToBreak()).containsExactly("TABLE-1");
+    assertThat(plan.moves()).hasSize(3).allSatisfy(move -> assertThat(move.fromTableId()).isEqualTo("TABLE-1"));
+    assertThat(applied(tables(6, 3, 5), plan)).containsOnlyKeys("TABLE-0", "TABLE-2").containsValues(7, 7);
+  }
+
+  @Test
+  void fewestPlayersLookupSkipsFullTables() {
+    assertThat(TableBalancer.of(tables(9, 4, 4, 9), SEATS).tableWithFewestPlayers().id()).isEqualTo("TABLE-1");
+    assertThat(TableBalancer.of(tables(9, 9), SEATS).tableWithFewestPlayers()).isNull();
+    assertThat(TableBalancer.of(List.of(), SEATS).tableWithFewestPlayers()).isNull();
+  }
+
+  @Test
+  void planIsBalancedAndMinimalForRandomFields() {
+    Random random = new Random(11);
+    for (int scenario = 0; scenario < 2_000; scenario++) {
+      int[] counts = new int[2 + random.nextInt(5)];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = random.nextInt(SEATS + 1);
+      }
+      TableBalancer.Plan plan = TableBalancer.of(tables(counts), SEATS).plan();
+      Map<String, Integer> after = applied(tables(counts), plan);
+
+      int total = 0;
+      for (int count : counts) {
+        total += count;
+      }
+      int spread = after.values().stream().mapToInt(Integer::intValue).max().orElse(0)
+          - after.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+      assertThat(spread).as("counts %s", Arrays.toString(counts)).isLessThanOrEqualTo(1);
+      assertThat(after).hasSize(Math.max(1, (total + SEATS - 1) / SEATS));
+      assertThat(after.values()).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(SEATS));
+      assertThat(plan.moves()).hasSize(bruteForceMinimumMoves(counts));
+    }
+  }
+
+  @Test
+  void largeFieldIsPlannedOntoTheFewestTables() {
+    // 150 tables, 1000 players: 112 tables needed.
+    int[] counts = new int[150];
+    Random random = new Random(3);
+    int total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = 4 + random.nextInt(6);
+      total += counts[i];
+    }
+    TableBalancer.Plan plan = TableBalancer.of(tables(counts), SEATS).plan();
+    Map<String, Integer> after = applied(tables(counts), plan);
+
+    assertThat(after).hasSize((total + SEATS - 1) / SEATS);
+    assertThat(after.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(total);
+  }
+
+  /**
+   * Tries every choice of tables to keep and of which kept tables take the extra players.
+   */
+  private static int bruteForceMinimumMoves(int[] counts) {
+    int n = counts.length;
+    int total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    int keep = Math.max(1, (total + SEATS - 1) / SEATS);
+    int base = total / keep;
+    int extra = total % keep;
+    int best = Integer.MAX_VALUE;
+    for (int kept = 0; kept < (1 << n); kept++) {
+      if (Integer.bitCount(kept) != keep) continue;
+      for (int plusOne = kept; ; plusOne = (plusOne - 1) & kept) {
+        if (Integer.bitCount(plusOne) == extra) {
+          int moves = 0;
+          for (int i = 0; i < n; i++) {
+            boolean isKept = (kept & (1 << i)) != 0;
+            int target = !isKept ? 0 : (plusOne & (1 << i)) != 0 ? base + 1 : base;
+            moves += Math.max(0, counts[i] - target);
+          }
+          best = Math.min(best, moves);
+        }
+        if (plusOne == 0) break;
+      }
+    }
+    return best;
+  }
+
+  private static Map<String, Integer> applied(List<Table> tables, TableBalancer.Plan plan) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (Table table : tables) {
+      counts.put(table.id(), table.numberOfPlayers());
+    }
+    for (TableBalancer.Move move : plan.moves()) {
+      counts.merge(move.fromTableId(), -1, Integer::sum);
+      counts.merge(move.toTableId(), 1, Integer::sum);
+    }
+    for (String tableId : plan.tablesToBreak()) {
+      assertThat(counts.remove(tableId)).isZero();
+    }
+    return counts;
+  }
+
+  private static List<Table> tables(int... counts) {
+    List<Table> tables = new ArrayList<>();
+    int user = 0;
+    for (int t = 0; t < counts.length; t++) {
+      Table table = Table.builder().id("TABLE-" + t).emptySeats(SEATS).build();
+      for (int pos = 1; pos <= counts[t]; pos++) {
+        Seat seat = table.seatAt(pos);
+        seat.status(Seat.Status.ACTIVE);
+        seat.player(Player.builder()
+            .user(TestDataHelper.user("user-" + user++, "password", "User"))
+            .status(PlayerStatus.ACTIVE)
+            .build());
+      }
+      tables.add(table);
+    }
+    return tables;
+  }
+}
@@ -10,9 +10,12 @@ import org.homepoker.model.game.*;
 import org.homepoker.model.game.cash.CashGame;
 import org.homepoker.model.user.User;
 import org.homepoker.test.TestDataHelper;
+import org.homepoker.threading.SimulatedClock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -374,6 +377,28 @@ class TexasHoldemTableManagerTest {
     assertThat(manager.savedEvents()).anyMatch(e -> e instanceof PlayerTimedOut);
   }
 
+  @Test
+  void timeout_firesWhenTheSimulatedClockPassesTheDeadline() {
+    SimulatedClock clock = new SimulatedClock(Instant.parse("2026-01-01T19:00:00Z"));
+    TestableGameManager manager = new TestableGameManager(buildActiveGame(3), clock);
+    manager.processGameTick(); // Deal
+
+    int actionTimeSeconds = GameSettings.TEXAS_HOLDEM_SETTINGS.actionTimeSeconds();
+    Table table = getTable(manager);
+    Integer actionPos = table.actionPosition();
+    assertThat(table.actionDeadline()).isEqualTo(clock.instant().plusSeconds(actionTimeSeconds));
+
+    clock.advance(Duration.ofSeconds(actionTimeSeconds - 1));
+    manager.processGameTick();
+    assertThat(manager.savedEvents()).noneMatch(e -> e instanceof PlayerTimedOut);
+
+    clock.advance(Duration.ofSeconds(2));
+    manager.processGameTick();
+    assertThat(getTable(manager).seatAt(actionPos).status()).isEqualTo(Seat.Status.FOLDED);
+    assertThat(manager.savedEvents()).anyMatch(e -> e instanceof PlayerTimedOut pto &&
+        pto.seatPosition() == actionPos && pto.timestamp().equals(clock.instant()));
+  }
+
   // ============================================================
   // Hand Complete Tests
   // ============================================================
@@ -426,6 +451,29 @@ class TexasHoldemTableManagerTest {
     assertThat(table.handNumber()).isEqualTo(2);
   }
 
+  @Test
+  void handComplete_reviewPeriodRunsOnTheSimulatedClock() {
+    SimulatedClock clock = new SimulatedClock(Instant.parse("2026-01-01T19:00:00Z"));
+    TestableGameManager manager = new TestableGameManager(buildActiveGame(3), clock);
+    manager.processGameTick(); // Deal
+
+    submitActionAndTick(manager, new PlayerAction.Fold());
+    submitActionAndTick(manager, new PlayerAction.Fold());
+    assertThat(getTable(manager).handPhase()).isEqualTo(HandPhase.HAND_COMPLETE);
+
+    // However many ticks run, the review period only ends when the clock moves.
+    for (int i = 0; i < 10; i++) {
+      manager.processGameTick();
+    }
+    assertThat(getTable(manager).handPhase()).isEqualTo(HandPhase.HAND_COMPLETE);
+
+    clock.advance(Duration.ofSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.reviewHandTimeSeconds() + 1));
+    manager.processGameTick();
+
+    assertThat(getTable(manager).handPhase()).isEqualTo(HandPhase.PRE_FLOP_BETTING);
+    assertThat(getTable(manager).handNumber()).isEqualTo(2);
+  }
+
   @Test
   void handComplete_bustedPlayerMarkedAsBuyingIn() {
     // Create 3 players: one with very few chips that will bust after posting blind
@@ -829,7 +877,11 @@ class TexasHoldemTableManagerTest {
     private final List<PokerEvent> savedEvents = new ArrayList<>();
 
     TestableGameManager(CashGame game) {
-      super(game, null, null);
+      this(game, Clock.systemUTC());
+    }
+
+    TestableGameManager(CashGame game, Clock clock) {
+      super(game, null, null, clock);
       addGameListener(new GameListener() {
         @Override
         public String userId() {
@@ -3,6 +3,10 @@ package org.homepoker.game.tournament;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.homepoker.game.tournament.BlindScheduleBuilder.blindSchedule;
 
 class BlindScheduleBuilderTest {
@@ -21,4 +25,54 @@ class BlindScheduleBuilderTest {
       index++;
     }
   }
+
+  @Test
+  @DisplayName("A simulated schedule brings simulated tournaments in at the target length.")
+  void testSimulatedScheduleHitsTargetLength() {
+    BlindSchedule schedule = blindSchedule()
+        .numberOfPlayers(24)
+        .tournamentLengthHours(3)
+        .simulations(400)
+        .seed(1)
+        .build();
+
+    // Measure the chosen schedule against hands the search never saw.
+    TournamentSimulator verifier = new TournamentSimulator(
+        new TournamentSimulator.Field(24, 5000, 0, 0, 0, 4, Duration.ofMinutes(20), 30), 400, 12345);
+    assertThat(verifier.medianDurationHours(schedule, Duration.ofHours(3))).isCloseTo(3.0, within(0.3));
+  }
+
+  @Test
+  @DisplayName("Re-buys and add-ons put more chips in play, so the simulated schedule climbs faster.")
+  void testSimulatedScheduleForRebuyEvent() {
+    BlindSchedule freezeOut = blindSchedule()
+        .numberOfPlayers(24)
+        .tournamentLengthHours(3)
+        .simulations(200)
+        .build();
+    BlindSchedule rebuyEvent = blindSchedule()
+        .numberOfPlayers(24)
+        .tournamentLengthHours(3)
+        .rebuyAmount(5000)
+        .addOnAmount(5000)
+        .simulations(200)
+        .build();
+
+    assertThat(rebuyEvent.getBlindLevelFactor()).isGreaterThan(freezeOut.getBlindLevelFactor());
+    assertThat(rebuyEvent.getBlindLevels()).hasSameSizeAs(freezeOut.getBlindLevels());
+  }
+
+  @Test
+  @DisplayName("The simulation is reproducible for a given seed.")
+  void testSimulatedScheduleIsDeterministic() {
+    BlindScheduleBuilder builder = blindSchedule()
+        .numberOfPlayers(60)
+        .tournamentLengthHours(4)
+        .rebuyAmount(5000)
+        .rebuysPerPlayer(2)
+        .simulations(200)
+        .seed(7);
+
+    assertThat(builder.build().getBlindLevelFactor()).isEqualTo(builder.build().getBlindLevelFactor());
+  }
 }
@@ -0,0 +1,146 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.lib.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class IcmCalculatorTest {
+
+  @Test
+  void knownThreeWayDeal() {
+    double[] equities = IcmCalculator.equities(new int[]{5000, 3000, 2000}, new double[]{50, 30, 20});
+
+    assertThat(equities[0]).isCloseTo(38.392857, within(1e-6));
+    assertThat(equities[1]).isCloseTo(32.75, within(1e-6));
+    assertThat(equities[2]).isCloseTo(28.857143, within(1e-6));
+  }
+
+  @Test
+  void playersWithoutChipsHaveNoEquity() {
+    double[] equities = IcmCalculator.equities(new int[]{0, 4000, 4000}, new double[]{70, 30, 10});
+
+    assertThat(equities[0]).isZero();
+    assertThat(equities[1]).isCloseTo(50, within(1e-9));
+    assertThat(equities[2]).isCloseTo(50, within(1e-9));
+  }
+
+  @Test
+  void exactMatchesEveryFinishingOrder() {
+    Random random = new Random(5);
+    for (int scenario = 0; scenario < 500; scenario++) {
+      int[] stacks = new int[1 + random.nextInt(7)];
+      for (int i = 0; i < stacks.length; i++) {
+        stacks[i] = 1 + random.nextInt(10_000);
+      }
+      double[] payouts = new double[1 + random.nextInt(8)];
+      for (int i = 0; i < payouts.length; i++) {
+        payouts[i] = random.nextInt(1_000);
+      }
+
+      double[] expected = bruteForce(stacks, payouts);
+      assertThat(IcmCalculator.exact(stacks, payouts, false))
+          .as("stacks %s, payouts %s", Arrays.toString(stacks), Arrays.toString(payouts))
+          .containsExactly(expected, within(1e-6));
+      assertThat(IcmCalculator.exact(stacks, payouts, true)).containsExactly(expected, within(1e-6));
+    }
+  }
+
+  @Test
+  void equitiesAddUpToThePrizePool() {
+    int[] stacks = new int[18];
+    Random random = new Random(9);
+    for (int i = 0; i < stacks.length; i++) {
+      stacks[i] = 1_000 + random.nextInt(50_000);
+    }
+    double[] payouts = {4000, 2500, 1500, 1000, 750, 500, 400, 300, 250};
+
+    double[] equities = IcmCalculator.equities(stacks, payouts);
+
+    assertThat(Arrays.stream(equities).sum()).isCloseTo(Arrays.stream(payouts).sum(), within(1e-6));
+  }
+
+  @Test
+  void approximationConvergesToExact() {
+    int[] stacks = {12_000, 9_500, 7_000, 4_000, 2_500, 1_500, 900, 600};
+    double[] payouts = {500, 300, 150, 50};
+
+    double[] exact = IcmCalculator.exact(stacks, payouts, false);
+    double[] approximate = IcmCalculator.approximate(stacks, payouts, 400_000, 17);
+
+    assertThat(approximate).containsExactly(exact, within(2.0));
+    assertThat(Arrays.stream(approximate).sum()).isCloseTo(1000, within(1e-6));
+  }
+
+  @Test
+  void largeFieldsAreEstimated() {
+    int[] stacks = new int[200];
+    Arrays.fill(stacks, 10_000);
+    double[] payouts = {1000, 600, 400};
+
+    double[] equities = IcmCalculator.equities(stacks, payouts);
+
+    // Equal stacks: everyone holds an equal share.
+    assertThat(equities).allSatisfy(equity -> assertThat(equity).isCloseTo(10.0, within(1.0)));
+  }
+
+  @Test
+  void tenHandedFinalTableEquityFollowsTheStacks() {
+    int[] stacks = {42_000, 31_000, 27_500, 19_000, 15_500, 12_000, 9_000, 6_500, 4_000, 2_500};
+    double[] payouts = {3000, 1800, 1200, 900, 700, 550, 450, 350, 300, 250};
+
+    double[] equities = IcmCalculator.equities(stacks, payouts);
+
+    assertThat(Arrays.stream(equities).sum()).isCloseTo(Arrays.stream(payouts).sum(), within(1e-6));
+    for (int i = 0; i < equities.length; i++) {
+      assertThat(equities[i]).isBetween(payouts[payouts.length - 1], payouts[0]);
+      if (i > 0) {
+        assertThat(equities[i]).isLessThan(equities[i - 1]);
+      }
+    }
+  }
+
+  @Test
+  void invalidInputIsRejected() {
+    assertThatThrownBy(() -> IcmCalculator.equities(new int[]{100, 200}, new double[0]))
+        .isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> IcmCalculator.equities(new int[]{100, -1}, new double[]{10}))
+        .isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> IcmCalculator.equities(new int[]{0, 0}, new double[]{10}))
+        .isInstanceOf(ValidationException.class);
+  }
+
+  /**
+   * Sum over every finishing order (the factorial definition of the model).
+   */
+  private static double[] bruteForce(int[] stacks, double[] payouts) {
+    double[] equities = new double[stacks.length];
+    long total = Arrays.stream(stacks).asLongStream().sum();
+    permute(stacks, payouts, new int[stacks.length], new boolean[stacks.length], 0, 1.0, total, equities);
+    return equities;
+  }
+
+  private static void permute(int[] stacks, double[] payouts, int[] order, boolean[] used, int place,
+                              double probability, long remaining, double[] equities) {
+    if (place == stacks.length) {
+      for (int p = 0; p < Math.min(stacks.length, payouts.length); p++) {
+        equities[order[p]] += probability * payouts[p];
+      }
+      return;
+    }
+    for (int player = 0; player < stacks.length; player++) {
+      if (!used[player]) {
+        used[player] = true;
+        order[place] = player;
+        permute(stacks, payouts, order, used, place + 1, probability * stacks[player] / remaining,
+            remaining - stacks[player], equities);
+        used[player] = false;
+      }
+    }
+  }
+}
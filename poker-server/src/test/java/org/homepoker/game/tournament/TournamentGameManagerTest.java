@@ -0,0 +1,480 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.game.GameListener;
+import org.homepoker.model.command.BuyIn;
+import org.homepoker.model.command.PauseGame;
+import org.homepoker.model.command.PlayerActionCommand;
+import org.homepoker.model.command.ResumeGame;
+import org.homepoker.model.command.StartGame;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.model.event.table.ActionOnPlayer;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.GameType;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerAction;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.user.User;
+import org.homepoker.security.SecurityUtilities;
+import org.homepoker.test.BotPlayers;
+import org.homepoker.test.LoadSimulator;
+import org.homepoker.test.TestDataHelper;
+import org.homepoker.threading.DeterministicScheduler;
+import org.homepoker.threading.SimulatedClock;
+import org.homepoker.user.UserManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TournamentGameManagerTest {
+
+  private static final Logger log = LoggerFactory.getLogger(TournamentGameManagerTest.class);
+
+  /**
+   * The game loop ticks every game once a second; a single tournament's tick has to leave room for every other game
+   * on the node.
+   */
+  private static final Duration TICK_BUDGET_P99 = Duration.ofMillis(50);
+  private static final Duration TICK_BUDGET_MAX = Duration.ofMillis(250);
+
+  @Mock
+  private TournamentGameServer gameServer;
+
+  @Mock
+  private UserManager userManager;
+
+  @Mock
+  private SecurityUtilities securityUtilities;
+
+  private User adminUser;
+
+  @BeforeEach
+  void setUp() {
+    adminUser = TestDataHelper.adminUser();
+  }
+
+  @Test
+  void blindsReportTheCurrentLevel() {
+    TournamentGame game = buildTournament(2);
+    assertThat(game.smallBlind()).isZero();
+    assertThat(game.bigBlind()).isZero();
+
+    game.blindSchedule(new BlindSchedule(List.of(new Blinds(25, 50), new Blinds(50, 100)), 10));
+    assertThat(game.smallBlind()).isEqualTo(25);
+    assertThat(game.bigBlind()).isEqualTo(50);
+
+    game.blindSchedule().nextLevel();
+    assertThat(game.smallBlind()).isEqualTo(50);
+    assertThat(game.bigBlind()).isEqualTo(100);
+  }
+
+  @Test
+  void blindClockStartsWithTheGameAndAdvancesWhenTheTimerFires() {
+    TestableTournamentGameManager manager = startTournament(buildTournament(6), true);
+    TournamentGame game = manager.getGameForTest();
+
+    // The first active tick builds the schedule and puts the first level-up on the shared timer.
+    manager.processGameTick();
+    assertThat(game.blindSchedule()).isNotNull();
+    assertThat(game.blindSchedule().getCurrentBlindLevel()).isZero();
+    assertThat(game.bigBlind()).isPositive();
+    verify(gameServer).scheduleBlindLevel(eq(game.id()), any());
+
+    // Nothing happens until the timer says the level is over.
+    manager.processGameTick();
+    assertThat(game.blindSchedule().getCurrentBlindLevel()).isZero();
+
+    int bigBlindBefore = game.bigBlind();
+    manager.blindLevelDue();
+    manager.processGameTick();
+
+    assertThat(game.blindSchedule().getCurrentBlindLevel()).isEqualTo(1);
+    assertThat(game.bigBlind()).isGreaterThan(bigBlindBefore);
+    assertThat(manager.savedEvents()).anyMatch(e -> e instanceof GameMessage message
+        && message.message().equals("Blinds are now " + game.smallBlind() + "/" + game.bigBlind() + "."));
+    verify(gameServer, times(2)).scheduleBlindLevel(eq(game.id()), any());
+  }
+
+  @Test
+  void pausingStopsTheBlindClockAndResumingKeepsTheRemainingTime() {
+    TestableTournamentGameManager manager = startTournament(buildTournament(4), true);
+    TournamentGame game = manager.getGameForTest();
+
+    // Pause before the first hand is dealt so the tables pause immediately; the clock starts on the same tick.
+    manager.submitCommand(new PauseGame(game.id(), adminUser));
+    manager.processGameTick();
+    assertThat(game.status()).isEqualTo(GameStatus.PAUSED);
+
+    when(gameServer.cancelBlindLevel(game.id())).thenReturn(Instant.now().plus(Duration.ofMinutes(5)));
+    manager.processGameTick();
+    verify(gameServer).cancelBlindLevel(game.id());
+
+    manager.submitCommand(new ResumeGame(game.id(), adminUser));
+    manager.processGameTick();
+    manager.processGameTick();
+
+    ArgumentCaptor<Instant> nextLevelAt = ArgumentCaptor.forClass(Instant.class);
+    verify(gameServer, times(2)).scheduleBlindLevel(eq(game.id()), nextLevelAt.capture());
+    // A full level is 15 minutes; after the pause only the remaining five are left.
+    assertThat(Duration.between(Instant.now(), nextLevelAt.getAllValues().get(1)))
+        .isLessThanOrEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void rebuysAreForTheConfiguredChipsAndLimitedToTheConfiguredNumber() {
+    TournamentGame game = buildTournament(4);
+    game.rebuyChips(5000);
+    game.numberOfRebuys(1);
+    TestableTournamentGameManager manager = startTournament(game, false);
+    manager.processGameTick();
+
+    Player busted = addPlayer(game, "busted", PlayerStatus.BUYING_IN, 0);
+    manager.submitCommand(new BuyIn(game.id(), busted.user(), 1000));
+    manager.processGameTick();
+    assertThat(busted.chipCount()).isZero();
+    assertThat(busted.reBuys()).isZero();
+
+    manager.submitCommand(new BuyIn(game.id(), busted.user(), 5000));
+    manager.processGameTick();
+    assertThat(busted.chipCount()).isEqualTo(5000);
+    assertThat(busted.reBuys()).isEqualTo(1);
+    assertThat(busted.buyInTotal()).isEqualTo(5000);
+    assertThat(busted.status()).isEqualTo(PlayerStatus.ACTIVE);
+
+    // The only rebuy has been used.
+    busted.chipCount(0);
+    busted.status(PlayerStatus.BUYING_IN);
+    manager.submitCommand(new BuyIn(game.id(), busted.user(), 5000));
+    manager.processGameTick();
+    assertThat(busted.chipCount()).isZero();
+    assertThat(busted.reBuys()).isEqualTo(1);
+
+    // A player who still has chips has nothing to rebuy.
+    Player covered = addPlayer(game, "covered", PlayerStatus.ACTIVE, 2000);
+    manager.submitCommand(new BuyIn(game.id(), covered.user(), 5000));
+    manager.processGameTick();
+    assertThat(covered.chipCount()).isEqualTo(2000);
+    assertThat(covered.buyInTotal()).isZero();
+  }
+
+  @Test
+  void addOnIsTakenOnceAndOnlyBeforeTheCliff() {
+    TournamentGame game = buildTournament(4);
+    game.addOnAllowed(true);
+    game.addOnChips(3000);
+    TestableTournamentGameManager manager = startTournament(game, false);
+    manager.processGameTick();
+
+    Player early = addPlayer(game, "early", PlayerStatus.ACTIVE, 5000);
+    manager.submitCommand(new BuyIn(game.id(), early.user(), 5000));
+    manager.processGameTick();
+    assertThat(early.chipCount()).isEqualTo(5000);
+
+    manager.submitCommand(new BuyIn(game.id(), early.user(), 3000));
+    manager.processGameTick();
+    assertThat(early.chipCount()).isEqualTo(8000);
+    assertThat(early.addOns()).isEqualTo(1);
+
+    manager.submitCommand(new BuyIn(game.id(), early.user(), 3000));
+    manager.processGameTick();
+    assertThat(early.chipCount()).isEqualTo(8000);
+    assertThat(early.addOns()).isEqualTo(1);
+
+    advanceToCliff(manager, game);
+    Player late = addPlayer(game, "late", PlayerStatus.ACTIVE, 5000);
+    manager.submitCommand(new BuyIn(game.id(), late.user(), 3000));
+    manager.processGameTick();
+    assertThat(late.chipCount()).isEqualTo(5000);
+    assertThat(late.addOns()).isZero();
+  }
+
+  @Test
+  void playersWaitingToRebuyAreOutWhenRebuysClose() {
+    TournamentGame game = buildTournament(4);
+    game.rebuyChips(5000);
+    game.numberOfRebuys(1);
+    TestableTournamentGameManager manager = startTournament(game, true);
+    manager.processGameTick();
+
+    Player waiting = addPlayer(game, "waiting", PlayerStatus.BUYING_IN, 0);
+    manager.processGameTick();
+    assertThat(waiting.status()).isEqualTo(PlayerStatus.BUYING_IN);
+
+    // The level reaches the cliff at the end of a tick; the next tick closes rebuys.
+    advanceToCliff(manager, game);
+    manager.processGameTick();
+    assertThat(waiting.status()).isEqualTo(PlayerStatus.OUT);
+    assertThat(game.finishingPlaces()).containsEntry(waiting.userId(), 5);
+    assertThat(manager.savedEvents()).anyMatch(e -> e instanceof GameMessage message
+        && message.message().equals("Waiting is out of the tournament in 5th place."));
+    assertThat(game.status()).isEqualTo(GameStatus.ACTIVE);
+  }
+
+  @Test
+  void bustedPlayersAreRankedAndTheLastOneStandingWins() {
+    TournamentGame game = buildTournament(3);
+    SimulatedClock clock = new SimulatedClock(Instant.now());
+    TestableTournamentGameManager manager = startTournament(game, true, clock);
+    AllInBots bots = new AllInBots();
+    manager.addGameListener(bots);
+
+    for (int tick = 0; tick < 10_000 && game.status() != GameStatus.COMPLETED; tick++) {
+      clock.advance(Duration.ofSeconds(1));
+      manager.processGameTick();
+      bots.respond(manager, game);
+    }
+
+    assertThat(game.status()).isEqualTo(GameStatus.COMPLETED);
+    List<Player> standing = game.players().values().stream()
+        .filter(player -> player.status() != PlayerStatus.OUT)
+        .toList();
+    assertThat(standing).hasSize(1);
+    Player winner = standing.getFirst();
+    assertThat(winner.chipCount()).isEqualTo(3 * 5000);
+    assertThat(game.finishingPlaces()).hasSize(3).containsEntry(winner.userId(), 1);
+    for (Player player : game.players().values()) {
+      if (player != winner) {
+        assertThat(game.finishingPlaces().get(player.userId())).isIn(2, 3);
+        assertThat(player.tableId()).isNull();
+      }
+    }
+    assertThat(manager.savedEvents()).anyMatch(e -> e instanceof GameMessage message
+        && message.message().equals(winner.user().alias() + " has won the tournament!"));
+  }
+
+  /**
+   * A thousand entrants playing real hands: bots bet, call and fold, busted players are knocked out and the tables are
+   * balanced as they go, and the game loop and the blind timer run on a deterministic scheduler. After ten simulated
+   * minutes of warm-up, an hour of ticks is timed and held to the tick budget. Slow, so it only runs with the
+   * {@code slowTest} task.
+   */
+  @Test
+  @Tag("slow")
+  void thousandEntrantTournamentTicksWithinBudget() {
+    TournamentGame game = buildTournament(1_000);
+    DeterministicScheduler scheduler = new DeterministicScheduler(Instant.now());
+    TestableTournamentGameManager manager = startTournament(game, false, scheduler.clock());
+    int startingTables = game.tables().size();
+    assertThat(startingTables).isEqualTo((1_000 + 8) / 9);
+
+    // The shared blind timer, on simulated time.
+    doAnswer(invocation -> {
+      Instant nextLevelAt = invocation.getArgument(1);
+      scheduler.schedule(manager::blindLevelDue,
+          Duration.between(scheduler.clock().instant(), nextLevelAt).toMillis(), TimeUnit.MILLISECONDS);
+      return null;
+    }).when(gameServer).scheduleBlindLevel(eq(game.id()), any());
+
+    BotPlayers bots = new BotPlayers(manager, game, 0, 42L);
+    manager.addGameListener(bots);
+    AtomicReference<LoadSimulator.LatencyHistogram> tickLatency =
+        new AtomicReference<>(new LoadSimulator.LatencyHistogram());
+    scheduler.scheduleAtFixedRate(() -> {
+      long start = System.nanoTime();
+      manager.processGameTick();
+      tickLatency.get().record(System.nanoTime() - start);
+      bots.respond();
+    }, 1, 1, TimeUnit.SECONDS);
+
+    scheduler.advanceBy(Duration.ofMinutes(10));
+    tickLatency.set(new LoadSimulator.LatencyHistogram());
+    scheduler.advanceBy(Duration.ofHours(1));
+
+    LoadSimulator.LatencyHistogram latency = tickLatency.get();
+    log.info("1,000 entrants, {} tables left after {} hands - tick p50: {}us, p99: {}us, max: {}us",
+        game.tables().size(), bots.hands(), latency.percentile(50) / 1_000, latency.percentile(99) / 1_000,
+        latency.max() / 1_000);
+    assertThat(Duration.ofNanos(latency.percentile(99))).isLessThan(TICK_BUDGET_P99);
+    assertThat(Duration.ofNanos(latency.max())).isLessThan(TICK_BUDGET_MAX);
+
+    assertThat(game.status()).isIn(GameStatus.ACTIVE, GameStatus.BALANCING);
+    assertThat(game.blindSchedule().getCurrentBlindLevel()).isGreaterThanOrEqualTo(3);
+    assertThat(bots.hands()).isPositive();
+    // Every bot decision is legal, so nothing should stall on an action timeout.
+    assertThat(bots.rejectedCommands()).isZero();
+
+    List<Player> out = game.players().values().stream()
+        .filter(player -> player.status() == PlayerStatus.OUT)
+        .toList();
+    assertThat(out).isNotEmpty().allMatch(player -> player.tableId() == null);
+    assertThat(game.finishingPlaces()).hasSize(out.size());
+    assertThat(game.tables()).hasSizeLessThan(startingTables);
+  }
+
+  /**
+   * Signal blind level-ups until the tournament reaches its cliff level, closing rebuys and add-ons.
+   */
+  private static void advanceToCliff(TestableTournamentGameManager manager, TournamentGame game) {
+    while (game.blindSchedule().getCurrentBlindLevel() < game.cliffLevel()) {
+      manager.blindLevelDue();
+      manager.processGameTick();
+    }
+  }
+
+  /**
+   * Add a player straight to the tournament's field, without a seat.
+   */
+  private static Player addPlayer(TournamentGame game, String userId, PlayerStatus status, int chipCount) {
+    Player player = Player.builder()
+        .user(TestDataHelper.user(userId, "password", userId.substring(0, 1).toUpperCase() + userId.substring(1)))
+        .status(status)
+        .chipCount(chipCount)
+        .build();
+    game.addPlayer(player);
+    return player;
+  }
+
+  private TestableTournamentGameManager startTournament(TournamentGame game, boolean captureEvents) {
+    return startTournament(game, captureEvents, Clock.systemUTC());
+  }
+
+  /**
+   * Tick a scheduled tournament through SEATING and start it. The returned manager's game is ACTIVE; its blind clock
+   * starts on the next tick.
+   */
+  private TestableTournamentGameManager startTournament(TournamentGame game, boolean captureEvents, Clock clock) {
+    TestableTournamentGameManager manager = new TestableTournamentGameManager(game, gameServer, userManager,
+        securityUtilities, captureEvents, clock);
+    manager.processGameTick();
+    assertThat(game.status()).isEqualTo(GameStatus.SEATING);
+
+    manager.submitCommand(new StartGame(game.id(), adminUser));
+    manager.processGameTick();
+    assertThat(game.status()).isEqualTo(GameStatus.ACTIVE);
+    return manager;
+  }
+
+  private TournamentGame buildTournament(int entrants) {
+    TournamentGame game = TournamentGame.builder()
+        .id("test-tournament")
+        .name("Test Tournament")
+        .type(GameType.TEXAS_HOLDEM)
+        .startTime(Instant.now())
+        .owner(adminUser)
+        .buyInChips(5000)
+        .buyInAmount(20)
+        .blindIntervalMinutes(15)
+        .cliffLevel(4)
+        .build();
+    for (int i = 0; i < entrants; i++) {
+      game.addPlayer(Player.builder()
+          .user(TestDataHelper.user("user" + i, "password", "User" + i))
+          .status(PlayerStatus.AWAY)
+          .chipCount(5000)
+          .build());
+    }
+    return game;
+  }
+
+  /**
+   * A tournament manager that does not require Spring or a database. Persistence is a no-op, and events are
+   * optionally captured for assertion.
+   */
+  static class TestableTournamentGameManager extends TournamentGameManager {
+
+    private final List<PokerEvent> savedEvents = new ArrayList<>();
+
+    TestableTournamentGameManager(TournamentGame game, TournamentGameServer gameServer, UserManager userManager,
+                                  SecurityUtilities securityUtilities, boolean captureEvents, Clock clock) {
+      super(game, gameServer, userManager, securityUtilities, clock);
+      if (captureEvents) {
+        addGameListener(new GameListener() {
+          @Override
+          public String userId() {
+            return "test-listener";
+          }
+
+          @Override
+          public boolean acceptsEvent(PokerEvent event) {
+            return true;
+          }
+
+          @Override
+          public void onEvent(PokerEvent event) {
+            savedEvents.add(event);
+          }
+        });
+      }
+    }
+
+    @Override
+    protected TournamentGame persistGameState(TournamentGame game) {
+      // No-op for unit tests, just return the game as-is
+      return game;
+    }
+
+    List<PokerEvent> savedEvents() {
+      return savedEvents;
+    }
+  }
+
+  /**
+   * Players that move all-in at every decision (calling when that already takes all their chips), so each hand busts
+   * someone or doubles them up. The answers are submitted after the tick, the way a client's reply arrives after the
+   * event that prompted it.
+   */
+  private static final class AllInBots implements GameListener {
+
+    private final List<ActionOnPlayer> pendingActions = new ArrayList<>();
+
+    @Override
+    public String userId() {
+      return "all-in-bots";
+    }
+
+    @Override
+    public boolean acceptsEvent(PokerEvent event) {
+      return true;
+    }
+
+    @Override
+    public void onEvent(PokerEvent event) {
+      if (event instanceof ActionOnPlayer actionOnPlayer) {
+        pendingActions.add(actionOnPlayer);
+      }
+    }
+
+    void respond(TournamentGameManager manager, TournamentGame game) {
+      for (ActionOnPlayer action : pendingActions) {
+        User user = game.players().get(action.userId()).user();
+        manager.submitCommand(new PlayerActionCommand(game.id(), action.tableId(), user, allIn(action)));
+      }
+      pendingActions.clear();
+    }
+
+    private static PlayerAction allIn(ActionOnPlayer action) {
+      if (action.callAmount() >= action.playerChipCount()) {
+        return new PlayerAction.Call(action.callAmount());
+      }
+      if (action.currentBet() == 0) {
+        // Only reached after the flop by a player who covered everyone else's all-in: there is no one left to bet at.
+        return new PlayerAction.Check();
+      }
+      int alreadyIn = action.currentBet() - action.callAmount();
+      return new PlayerAction.Raise(alreadyIn + action.playerChipCount());
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.homepoker.game.tournament;
+
+import org.homepoker.game.GameServerProperties;
+import org.homepoker.lib.exception.ResourceNotFound;
+import org.homepoker.lib.exception.ValidationException;
+import org.homepoker.model.game.GameType;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.security.SecurityUtilities;
+import org.homepoker.test.TestDataHelper;
+import org.homepoker.threading.VirtualThreadManager;
+import org.homepoker.user.UserManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TournamentGameServerTest {
+
+  @Mock
+  private TournamentGameRepository gameRepository;
+
+  @Mock
+  private UserManager userManager;
+
+  @Mock
+  private SecurityUtilities securityUtilities;
+
+  @Mock
+  private MongoOperations mongoOperations;
+
+  @Mock
+  private VirtualThreadManager threadManager;
+
+  private TournamentGameServer gameServer;
+
+  @BeforeEach
+  void setUp() {
+    // A zero loop interval keeps the game loop from being scheduled.
+    gameServer = new TournamentGameServer(gameRepository, userManager, securityUtilities, mongoOperations,
+        threadManager, new GameServerProperties(GameServerProperties.ThreadModel.SINGLE_THREAD, 0, 0, 0),
+        Clock.systemUTC());
+  }
+
+  @Test
+  void icmEquitiesOfAGameNotInMemoryAreReadFromThePersistedGame() {
+    when(gameRepository.findById("final-table")).thenReturn(Optional.of(tournament("final-table", 3000, 1000, 0)));
+
+    List<IcmEquity> equities = gameServer.icmEquities("final-table", List.of(70, 30));
+
+    assertThat(equities).extracting(IcmEquity::userId).containsExactly("user0", "user1");
+    assertThat(equities.get(0).equity()).isGreaterThan(equities.get(1).equity());
+    assertThat(equities.stream().mapToDouble(IcmEquity::equity).sum()).isCloseTo(100.0, within(1e-6));
+
+    // A read does not load the game: the next one goes back to the persisted game.
+    gameServer.icmEquities("final-table", List.of(70, 30));
+    verify(gameRepository, times(2)).findById("final-table");
+  }
+
+  @Test
+  void icmEquitiesOfAnUnknownGameAreNotFound() {
+    when(gameRepository.findById("missing")).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> gameServer.icmEquities("missing", List.of(100)))
+        .isInstanceOf(ResourceNotFound.class);
+  }
+
+  @Test
+  void icmEquitiesRejectMissingAndNegativePayouts() {
+    assertThatThrownBy(() -> gameServer.icmEquities("final-table", Arrays.asList(70, null)))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("place 2");
+    assertThatThrownBy(() -> gameServer.icmEquities("final-table", List.of(-10)))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("place 1");
+    verify(gameRepository, never()).findById(any());
+  }
+
+  private TournamentGame tournament(String id, int... stacks) {
+    TournamentGame game = TournamentGame.builder()
+        .id(id)
+        .name("Final Table")
+        .type(GameType.TEXAS_HOLDEM)
+        .startTime(Instant.now())
+        .owner(TestDataHelper.adminUser())
+        .buyInChips(2000)
+        .buyInAmount(50)
+        .build();
+    for (int i = 0; i < stacks.length; i++) {
+      game.addPlayer(Player.builder()
+          .user(TestDataHelper.user("user" + i, "password", "User" + i))
+          .status(stacks[i] > 0 ? PlayerStatus.ACTIVE : PlayerStatus.OUT)
+          .chipCount(stacks[i])
+          .build());
+    }
+    return game;
+  }
+}
@@ -16,12 +16,14 @@ import org.homepoker.model.game.cash.CashGame;
 import org.homepoker.model.user.User;
 import org.homepoker.test.BaseIntegrationTest;
 import org.homepoker.test.TestDataHelper;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -133,7 +135,7 @@ class EventRecorderIntegrationTest extends BaseIntegrationTest {
   /**
    * Simulates a server restart while a hand is in progress: drive a game to mid-hand, persist
    * its state, drop the cached {@code CashGameManager}, then re-acquire it. The reconstructed
-   * manager's {@code EventRecorder} runs {@code seedHandTracker()} during construction. After
+   * manager's {@code EventRecorder} runs {@code seedHandTracker} during construction. After
    * the restart, the next event captured for that table must carry {@code handNumber = 1} —
    * proving the seed correctly recovered the open hand from Mongo.
    */
@@ -183,7 +185,7 @@ class EventRecorderIntegrationTest extends BaseIntegrationTest {
     manager.processGameTick();
     manager.processGameTick();
 
-    // Persist the post-tick state explicitly so seedHandTracker() observes Table.Status.PLAYING
+    // Persist the post-tick state explicitly so seedHandTracker observes Table.Status.PLAYING
     // when the simulated restart occurs.
     cashGameRepository.save(manager.getGameForTest());
 
@@ -202,7 +204,7 @@ class EventRecorderIntegrationTest extends BaseIntegrationTest {
         .count();
 
     // Phase 2: simulate restart by dropping the cached manager and re-acquiring it. The
-    // reconstructed manager's constructor runs seedHandTracker() before any tick.
+    // reconstructed manager's constructor runs seedHandTracker before any tick.
     cashGameService.invalidateGameManagerForTest(gameId);
     CashGameManager fresh = cashGameService.getGameManger(gameId);
 
@@ -236,4 +238,29 @@ class EventRecorderIntegrationTest extends BaseIntegrationTest {
             .as("event %s should be tagged with handNumber=1", r.eventType())
             .isEqualTo(1));
   }
+
+  @Test
+  void latestHandByTableGroupsEveryGameInOneLookup() {
+    String gameA = "recording-seed-a-" + System.nanoTime();
+    String gameB = "recording-seed-b-" + System.nanoTime();
+    eventRecorderRepository.saveAll(List.of(
+        recorded(gameA, "TABLE-0", 1),
+        recorded(gameA, "TABLE-0", 3),
+        recorded(gameA, "TABLE-0", 2),
+        recorded(gameA, "TABLE-1", 7),
+        recorded(gameA, null, null),
+        recorded(gameB, "TABLE-0", 4)));
+
+    Map<String, Map<String, Integer>> latest =
+        eventRecorderService.latestHandByTable(List.of(gameA, gameB, "recording-seed-missing"));
+
+    assertThat(latest).containsOnlyKeys(gameA, gameB);
+    assertThat(latest.get(gameA)).containsExactlyInAnyOrderEntriesOf(Map.of("TABLE-0", 3, "TABLE-1", 7));
+    assertThat(latest.get(gameB)).containsExactlyInAnyOrderEntriesOf(Map.of("TABLE-0", 4));
+  }
+
+  private static RecordedEvent recorded(String gameId, @Nullable String tableId, @Nullable Integer handNumber) {
+    Instant now = Instant.now();
+    return new RecordedEvent(null, gameId, tableId, handNumber, null, "test-event", 0L, now, now, Map.of());
+  }
 }
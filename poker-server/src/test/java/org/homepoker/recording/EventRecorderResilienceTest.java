@@ -1,22 +1,20 @@
 package org.homepoker.recording;
 
-import org.homepoker.game.cash.CashGameRepository;
-import org.homepoker.game.cash.CashGameService;
+import org.bson.Document;
 import org.homepoker.model.event.PokerEvent;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 /**
  * Pure unit test (no Spring, no Mongo) for the bounded-queue + worker-error contract on
@@ -30,12 +28,9 @@ class EventRecorderResilienceTest {
   @Test
   void offerReturnsFalseOnOverflowAndIncrementsCounter() {
     EventRecorderRepository repo = mock(EventRecorderRepository.class);
-    CashGameRepository gameRepo = mock(CashGameRepository.class);
-    when(gameRepo.findAll()).thenReturn(Collections.emptyList());
-    CashGameService gameService = mock(CashGameService.class);
 
     // Capacity 2, no worker started — the queue will fill up.
-    EventRecorderService service = new EventRecorderService(repo, gameRepo, gameService, objectMapper, 2);
+    EventRecorderService service = new EventRecorderService(repo, mock(HandSummaryRepository.class), objectMapper, 2);
     // NOTE: do not call start(); we want offers to accumulate.
 
     assertThat(service.offer(pendingFor("e1"))).isTrue();
@@ -51,18 +46,15 @@ class EventRecorderResilienceTest {
   void workerSurvivesPerEventRepositoryFailures() {
     AtomicInteger callCount = new AtomicInteger();
     EventRecorderRepository repo = mock(EventRecorderRepository.class);
-    when(repo.save(any(RecordedEvent.class))).thenAnswer(invocation -> {
+    doAnswer(invocation -> {
       int n = callCount.incrementAndGet();
       if (n == 2) {
         throw new RuntimeException("simulated mongo failure on event 2");
       }
-      return invocation.getArgument(0);
-    });
-    CashGameRepository gameRepo = mock(CashGameRepository.class);
-    when(gameRepo.findAll()).thenReturn(Collections.emptyList());
-    CashGameService gameService = mock(CashGameService.class);
+      return null;
+    }).when(repo).insertEncoded(any(Document.class));
 
-    EventRecorderService service = new EventRecorderService(repo, gameRepo, gameService, objectMapper, 100);
+    EventRecorderService service = new EventRecorderService(repo, mock(HandSummaryRepository.class), objectMapper, 100);
     service.start();
     try {
       service.offer(pendingFor("e1"));
@@ -0,0 +1,87 @@
+package org.homepoker.recording;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pure unit test (no Spring, no Mongo) for the completed-hand rule and the byte bound on
+ * {@link HandReplayCache}.
+ */
+class HandReplayCacheTest {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private final EventRecorderRepository repo = mock(EventRecorderRepository.class);
+
+  @Test
+  void completedHandIsServedFromCacheAfterFirstRead() {
+    stubHand("g1", "t1", 1, List.of(recorded(1, "hand-started"), recorded(1, "hand-complete")));
+    HandReplayCache cache = new HandReplayCache(repo, objectMapper, 1024 * 1024);
+
+    byte[] first = cache.getHandReplay("g1", "t1", 1);
+    byte[] second = cache.getHandReplay("g1", "t1", 1);
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.hitCount()).isEqualTo(1L);
+    assertThat(cache.missCount()).isEqualTo(1L);
+    verify(repo, times(1))
+        .findByGameIdAndTableIdAndHandNumberOrderBySequenceNumberAscRecordedAtAsc("g1", "t1", 1);
+  }
+
+  @Test
+  void inProgressHandIsAlwaysReadThrough() {
+    stubHand("g1", "t1", 2, List.of(recorded(2, "hand-started"), recorded(2, "player-acted")));
+    HandReplayCache cache = new HandReplayCache(repo, objectMapper, 1024 * 1024);
+
+    cache.getHandReplay("g1", "t1", 2);
+    cache.getHandReplay("g1", "t1", 2);
+
+    assertThat(cache.hitCount()).isZero();
+    assertThat(cache.currentBytes()).isZero();
+    verify(repo, times(2))
+        .findByGameIdAndTableIdAndHandNumberOrderBySequenceNumberAscRecordedAtAsc("g1", "t1", 2);
+  }
+
+  @Test
+  void leastRecentlyReadHandIsEvictedWhenOverTheByteBound() {
+    for (int hand = 1; hand <= 3; hand++) {
+      stubHand("g1", "t1", hand, List.of(recorded(hand, "hand-started"), recorded(hand, "hand-complete")));
+    }
+    int entrySize = new HandReplayCache(repo, objectMapper, 1024 * 1024).getHandReplay("g1", "t1", 1).length;
+
+    // Room for exactly two hands.
+    HandReplayCache cache = new HandReplayCache(repo, objectMapper, entrySize * 2L);
+    cache.getHandReplay("g1", "t1", 1);
+    cache.getHandReplay("g1", "t1", 2);
+    cache.getHandReplay("g1", "t1", 1);  // Hand 1 is now the most recently read.
+    cache.getHandReplay("g1", "t1", 3);  // Evicts hand 2.
+
+    assertThat(cache.currentBytes()).isLessThanOrEqualTo(entrySize * 2L);
+    long missesBefore = cache.missCount();
+    cache.getHandReplay("g1", "t1", 1);
+    assertThat(cache.missCount()).isEqualTo(missesBefore);
+    cache.getHandReplay("g1", "t1", 2);
+    assertThat(cache.missCount()).isEqualTo(missesBefore + 1);
+  }
+
+  private void stubHand(String gameId, String tableId, int handNumber, List<RecordedEvent> events) {
+    when(repo.findByGameIdAndTableIdAndHandNumberOrderBySequenceNumberAscRecordedAtAsc(gameId, tableId, handNumber))
+        .thenReturn(events);
+  }
+
+  private static RecordedEvent recorded(int handNumber, String eventType) {
+    Instant now = Instant.parse("2026-05-01T00:00:00Z");
+    return new RecordedEvent("id-" + handNumber + "-" + eventType, "g1", "t1", handNumber, null,
+        eventType, 1L, now, now, Map.of("eventType", eventType));
+  }
+}
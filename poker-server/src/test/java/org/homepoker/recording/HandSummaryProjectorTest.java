@@ -0,0 +1,116 @@
+package org.homepoker.recording;
+
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.table.BlindPosted;
+import org.homepoker.model.event.table.HandComplete;
+import org.homepoker.model.event.table.HandPhaseChanged;
+import org.homepoker.model.event.table.HandStarted;
+import org.homepoker.model.event.table.HoleCardsDealt;
+import org.homepoker.model.event.table.PlayerActed;
+import org.homepoker.model.game.BlindType;
+import org.homepoker.model.game.HandPhase;
+import org.homepoker.model.game.HandPlayerStatus;
+import org.homepoker.model.game.PlayerAction;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.SeatSummary;
+import org.homepoker.model.poker.Card;
+import org.homepoker.model.poker.CardSuit;
+import org.homepoker.model.poker.CardValue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pure unit test for {@link HandSummaryProjector}: feeds a hand's events in recording order
+ * and checks the summary produced on {@code HandComplete}.
+ */
+class HandSummaryProjectorTest {
+
+  private static final String GAME_ID = "game-1";
+  private static final String TABLE_ID = "TABLE-0";
+  private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+  @Test
+  void completedHandProducesSummary() {
+    HandSummaryProjector projector = new HandSummaryProjector();
+
+    assertThat(projector.accept(pending(handStarted(1), 1))).isNull();
+    projector.accept(pending(new BlindPosted(START, 0, GAME_ID, TABLE_ID, 2, "bob", BlindType.SMALL, 5), 1));
+    projector.accept(pending(new BlindPosted(START, 0, GAME_ID, TABLE_ID, 1, "alice", BlindType.BIG, 10), 1));
+    projector.accept(pending(new HoleCardsDealt(START, 0, GAME_ID, TABLE_ID, "alice", 1,
+        List.of(new Seat.SeatCard(ace(), false), new Seat.SeatCard(king(), false)), List.of(1, 2)), 1));
+    projector.accept(pending(new HandPhaseChanged(START, 0, GAME_ID, TABLE_ID, HandPhase.DEAL, HandPhase.PRE_FLOP_BETTING), 1));
+    projector.accept(pending(new PlayerActed(START, 0, GAME_ID, TABLE_ID, 2, "bob", new PlayerAction.Fold(),
+        995, HandPlayerStatus.FOLDED, 10, 10, 15), 1));
+
+    assertThat(projector.openHandCount()).isEqualTo(1);
+    HandSummary summary = projector.accept(pending(new HandComplete(START.plusSeconds(30), 0, GAME_ID, TABLE_ID, 1), 1));
+
+    assertThat(summary).isNotNull();
+    assertThat(summary.id()).isEqualTo(GAME_ID + ":" + TABLE_ID + ":1");
+    assertThat(summary.completedAt()).isEqualTo(START.plusSeconds(30));
+    assertThat(summary.userIds()).containsExactly("alice", "bob");
+    assertThat(summary.startingSeats()).hasSize(2);
+    assertThat(summary.holeCards()).singleElement()
+        .satisfies(h -> assertThat(h.cards()).containsExactly(ace(), king()));
+    assertThat(summary.actions()).extracting(HandSummary.Action::type).containsExactly(
+        HandSummary.ActionType.SMALL_BLIND, HandSummary.ActionType.BIG_BLIND, HandSummary.ActionType.FOLD);
+    assertThat(summary.actions()).extracting(HandSummary.Action::phase).containsExactly(
+        HandPhase.DEAL, HandPhase.DEAL, HandPhase.PRE_FLOP_BETTING);
+    assertThat(projector.openHandCount()).isZero();
+  }
+
+  @Test
+  void eventsWithoutObservedHandStartAreIgnored() {
+    HandSummaryProjector projector = new HandSummaryProjector();
+
+    // Mid-hand restart: no HandStarted was seen for hand 7.
+    projector.accept(pending(new BlindPosted(START, 0, GAME_ID, TABLE_ID, 1, "alice", BlindType.BIG, 10), 7));
+    assertThat(projector.accept(pending(new HandComplete(START, 0, GAME_ID, TABLE_ID, 7), 7))).isNull();
+
+    // A stale event for a previous hand does not leak into the open one.
+    projector.accept(pending(handStarted(8), 8));
+    projector.accept(pending(new BlindPosted(START, 0, GAME_ID, TABLE_ID, 1, "alice", BlindType.BIG, 10), 7));
+    HandSummary summary = projector.accept(pending(new HandComplete(START, 0, GAME_ID, TABLE_ID, 8), 8));
+    assertThat(summary).isNotNull();
+    assertThat(summary.actions()).isEmpty();
+  }
+
+  @Test
+  void onlyPlayersDealtInAreInTheSummary() {
+    HandSummaryProjector projector = new HandSummaryProjector();
+
+    projector.accept(pending(new HandStarted(START, 0, GAME_ID, TABLE_ID, 3, 1, 2, 1, 5, 10, 10, 10, List.of(
+        new SeatSummary(1, "alice", HandPlayerStatus.ACTIVE, 1000, 0),
+        new SeatSummary(2, "bob", HandPlayerStatus.ALL_IN, 5, 5),
+        new SeatSummary(3, "carol", HandPlayerStatus.SITTING_OUT, 1000, 0),
+        new SeatSummary(4, "dave", HandPlayerStatus.WAITING, 1000, 0))), 3));
+    HandSummary summary = projector.accept(pending(new HandComplete(START, 0, GAME_ID, TABLE_ID, 3), 3));
+
+    assertThat(summary).isNotNull();
+    assertThat(summary.userIds()).containsExactly("alice", "bob");
+    assertThat(summary.startingSeats()).extracting(SeatSummary::seatPosition).containsExactly(1, 2);
+  }
+
+  private static HandStarted handStarted(int handNumber) {
+    return new HandStarted(START, 0, GAME_ID, TABLE_ID, handNumber, 1, 2, 1, 5, 10, 10, 10, List.of(
+        new SeatSummary(1, "alice", HandPlayerStatus.ACTIVE, 1000, 0),
+        new SeatSummary(2, "bob", HandPlayerStatus.ACTIVE, 1000, 0),
+        new SeatSummary(3, null, HandPlayerStatus.WAITING, 0, 0)));
+  }
+
+  private static PendingRecording pending(PokerEvent event, int handNumber) {
+    return new PendingRecording(event, GAME_ID, TABLE_ID, handNumber, null, 0L, START, START);
+  }
+
+  private static Card ace() {
+    return new Card(CardValue.ACE, CardSuit.SPADE);
+  }
+
+  private static Card king() {
+    return new Card(CardValue.KING, CardSuit.HEART);
+  }
+}
@@ -0,0 +1,147 @@
+package org.homepoker.rest;
+
+import org.bson.types.ObjectId;
+import org.homepoker.file.FileService;
+import org.homepoker.file.StoredFile;
+import org.homepoker.model.user.User;
+import org.homepoker.security.JwtTokenService;
+import org.homepoker.test.BaseIntegrationTest;
+import org.homepoker.test.TestDataHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.client.RestTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+class FileControllerIntegrationTest extends BaseIntegrationTest {
+
+  private static final String FILE_PATH = "/files/{fileId}";
+
+  @Autowired FileService fileService;
+  @Autowired JwtTokenService jwtTokenService;
+  @Autowired MongoTemplate mongoTemplate;
+
+  private RestTestClient client;
+  private String token;
+
+  @BeforeEach
+  void setUpClient() {
+    client = RestTestClient.bindToServer()
+        .baseUrl("http://localhost:" + serverPort)
+        .build();
+    User user = createUser(TestDataHelper.user("fileuser", "password", "File User"));
+    token = jwtTokenService.generateToken(user);
+  }
+
+  @Test
+  void identicalUploadsAreStoredOnce() {
+    byte[] content = ("avatar-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+
+    StoredFile first = fileService.storeFile(new ByteArrayResource(content), "image/png", "fileuser");
+    StoredFile second = fileService.storeFile(new ByteArrayResource(content.clone()), "image/png", "someoneelse");
+
+    assertThat(second.id()).isEqualTo(first.id());
+    assertThat(second.sha256()).isEqualTo(first.sha256());
+    assertThat(first.length()).isEqualTo(content.length);
+  }
+
+  @Test
+  void concurrentIdenticalUploadsKeepOneCopy() throws Exception {
+    byte[] content = ("race-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    int uploads = 8;
+
+    List<StoredFile> stored;
+    try (ExecutorService executor = Executors.newFixedThreadPool(uploads)) {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<StoredFile>> futures = new ArrayList<>();
+      for (int i = 0; i < uploads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return fileService.storeFile(new ByteArrayResource(content.clone()), "image/png", "fileuser");
+        }));
+      }
+      start.countDown();
+      stored = new ArrayList<>();
+      for (Future<StoredFile> future : futures) {
+        stored.add(future.get(30, TimeUnit.SECONDS));
+      }
+    }
+
+    String id = stored.getFirst().id();
+    assertThat(stored).extracting(StoredFile::id).containsOnly(id);
+    assertThat(mongoTemplate.count(query(where("metadata.sha256").is(stored.getFirst().sha256())), "fs.files"))
+        .isEqualTo(1);
+    // The copies that lost the race leave no chunks behind.
+    assertThat(mongoTemplate.findDistinct(new Query(), "files_id", "fs.chunks", ObjectId.class))
+        .filteredOn(filesId -> mongoTemplate.count(query(where("_id").is(filesId)), "fs.files") == 0)
+        .isEmpty();
+  }
+
+  @Test
+  void downloadCarriesCacheHeadersAndHonoursIfNoneMatch() {
+    byte[] content = ("download-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    StoredFile file = fileService.storeFile(new ByteArrayResource(content), "text/plain", "fileuser");
+
+    client.get()
+        .uri(FILE_PATH, file.id())
+        .headers(h -> h.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + file.sha256() + "\"")
+        .expectHeader().valueMatches(HttpHeaders.CACHE_CONTROL, ".*immutable.*")
+        .expectBody(byte[].class)
+        .value(body -> assertThat(body).isEqualTo(content));
+
+    client.get()
+        .uri(FILE_PATH, file.id())
+        .headers(h -> {
+          h.setBearerAuth(token);
+          h.setIfNoneMatch("\"" + file.sha256() + "\"");
+        })
+        .exchange()
+        .expectStatus().isNotModified();
+  }
+
+  @Test
+  void rangeRequestReturnsPartialContent() {
+    byte[] content = ("0123456789-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    StoredFile file = fileService.storeFile(new ByteArrayResource(content), "text/plain", "fileuser");
+
+    client.get()
+        .uri(FILE_PATH, file.id())
+        .headers(h -> {
+          h.setBearerAuth(token);
+          h.set(HttpHeaders.RANGE, "bytes=2-5");
+        })
+        .exchange()
+        .expectStatus().isEqualTo(206)
+        .expectBody(String.class)
+        .value(body -> assertThat(body).isEqualTo("2345"));
+  }
+
+  @Test
+  void unknownFileIsNotFound() {
+    client.get()
+        .uri(FILE_PATH, "0123456789abcdef01234567")
+        .headers(h -> h.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+}
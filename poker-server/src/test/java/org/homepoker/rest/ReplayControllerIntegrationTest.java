@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.client.RestTestClient;
 
 import java.time.Duration;
@@ -40,6 +41,8 @@ class ReplayControllerIntegrationTest extends BaseIntegrationTest {
       new ParameterizedTypeReference<>() {};
   private static final String REPLAY_PATH =
       "/admin/replay/games/{gameId}/tables/{tableId}/hands/{handNumber}";
+  private static final String GAME_STREAM_PATH = "/admin/replay/games/{gameId}/events";
+  private static final String HAND_RANGE_PATH = "/admin/replay/games/{gameId}/tables/{tableId}/hands";
 
   @Autowired CashGameService cashGameService;
   @Autowired EventRecorderRepository eventRecorderRepository;
@@ -77,6 +80,64 @@ class ReplayControllerIntegrationTest extends BaseIntegrationTest {
         });
   }
 
+  @Test
+  void adminStreamOfWholeGameReturnsNdjsonForThatGameOnly() {
+    String gameId = setupOneHandPlayed();
+    String adminToken = adminToken();
+
+    client.get()
+        .uri(GAME_STREAM_PATH, gameId)
+        .headers(h -> h.setBearerAuth(adminToken))
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBody(String.class)
+        .value(body -> {
+          assertThat(body).isNotBlank();
+          List<String> lines = body.lines().toList();
+          assertThat(lines).isNotEmpty().allSatisfy(line -> assertThat(line).contains("\"gameId\":\"" + gameId + "\""));
+          // Game-level and table-level events are both present in a whole-game stream.
+          assertThat(lines).anyMatch(line -> line.contains("\"eventType\":\"game-status-changed\""));
+          assertThat(lines).anyMatch(line -> line.contains("\"eventType\":\"hand-started\""));
+        });
+  }
+
+  @Test
+  void adminStreamOfHandRangeOnlyIncludesHandsInRange() {
+    String gameId = setupOneHandPlayed();
+    String adminToken = adminToken();
+
+    client.get()
+        .uri(HAND_RANGE_PATH + "?fromHand=1&toHand=1", gameId, "TABLE-0")
+        .headers(h -> h.setBearerAuth(adminToken))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class)
+        .value(body -> assertThat(body.lines().toList())
+            .isNotEmpty()
+            .allSatisfy(line -> assertThat(line).contains("\"handNumber\":1")));
+
+    client.get()
+        .uri(HAND_RANGE_PATH + "?fromHand=2&toHand=5", gameId, "TABLE-0")
+        .headers(h -> h.setBearerAuth(adminToken))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class)
+        .value(body -> assertThat(body).isNullOrEmpty());
+  }
+
+  @Test
+  void nonAdminStreamIsForbidden() {
+    String gameId = setupOneHandPlayed();
+    String userToken = nonAdminToken();
+
+    client.get()
+        .uri(GAME_STREAM_PATH, gameId)
+        .headers(h -> h.setBearerAuth(userToken))
+        .exchange()
+        .expectStatus().isForbidden();
+  }
+
   @Test
   void nonAdminGetIsForbidden() {
     String gameId = setupOneHandPlayed();
@@ -0,0 +1,72 @@
+package org.homepoker.security;
+
+import org.homepoker.model.user.User;
+import org.homepoker.model.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthenticatedUserCacheTest {
+
+  private static final User FRED = User.builder()
+      .id("fred")
+      .email("fred@test.com")
+      .name("Fred")
+      .phone("555-0001")
+      .roles(Set.of(UserRole.USER))
+      .build();
+
+  private final JwtTokenService jwtTokenService =
+      new JwtTokenService(new PokerSecurityProperties(List.of("admin"), "1234", null, null));
+  private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+
+  @Test
+  void verifiedTokenIsServedFromTheCache() {
+    when(userDetailsService.loadUserByUsername("fred")).thenReturn(new PokerUserDetails(FRED));
+    AuthenticatedUserCache cache = new AuthenticatedUserCache(jwtTokenService, userDetailsService, 60, 100);
+    String token = jwtTokenService.generateToken(FRED);
+
+    assertThat(cache.authenticate(token).getUsername()).isEqualTo("fred");
+    assertThat(cache.authenticate(token).getUsername()).isEqualTo("fred");
+
+    verify(userDetailsService, times(1)).loadUserByUsername("fred");
+  }
+
+  @Test
+  void invalidatedUserIsReloaded() {
+    when(userDetailsService.loadUserByUsername("fred")).thenReturn(new PokerUserDetails(FRED));
+    AuthenticatedUserCache cache = new AuthenticatedUserCache(jwtTokenService, userDetailsService, 60, 100);
+    String token = jwtTokenService.generateToken(FRED);
+
+    cache.authenticate(token);
+    cache.invalidateUser("fred");
+    assertThat(cache.size()).isZero();
+    cache.authenticate(token);
+
+    verify(userDetailsService, times(2)).loadUserByUsername("fred");
+  }
+
+  @Test
+  void cacheIsBoundedAndNeverCachesInvalidTokens() {
+    User barney = FRED.withId("barney");
+    when(userDetailsService.loadUserByUsername("fred")).thenReturn(new PokerUserDetails(FRED));
+    when(userDetailsService.loadUserByUsername("barney")).thenReturn(new PokerUserDetails(barney));
+    AuthenticatedUserCache cache = new AuthenticatedUserCache(jwtTokenService, userDetailsService, 60, 1);
+
+    cache.authenticate(jwtTokenService.generateToken(FRED));
+    cache.authenticate(jwtTokenService.generateToken(barney));
+    assertThat(cache.size()).isEqualTo(1);
+
+    assertThatThrownBy(() -> cache.authenticate("not-a-token")).isInstanceOf(RuntimeException.class);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,75 @@
+package org.homepoker.security;
+
+import org.homepoker.lib.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PasswordHashingExecutorTest {
+
+  @Test
+  void perUserLimitFailsFastWithRetryHint() {
+    PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 4, 2);
+    try {
+      assertThat(executor.execute("fred", () -> "hash")).isEqualTo("hash");
+      assertThat(executor.execute("fred", () -> "hash")).isEqualTo("hash");
+
+      assertThatThrownBy(() -> executor.execute("fred", () -> "hash"))
+          .isInstanceOfSatisfying(TooManyRequestsException.class, e ->
+              assertThat(e.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1)));
+
+      // Other users and unkeyed work are unaffected.
+      assertThat(executor.execute("barney", () -> "hash")).isEqualTo("hash");
+      assertThat(executor.execute(null, () -> "hash")).isEqualTo("hash");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void saturatedPoolRejectsInsteadOfQueueingUnbounded() throws Exception {
+    PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 0);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.execute(null, () -> {
+        started.countDown();
+        assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+        return "first";
+      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(null, () -> "second"));
+
+      // Once the second task occupies the single queue slot, the third must fail fast.
+      await().atMost(Duration.ofSeconds(5)).until(() -> executor.queuedTasks() == 1);
+      assertThatThrownBy(() -> executor.execute(null, () -> "third")).isInstanceOf(TooManyRequestsException.class);
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void taskFailuresSurfaceUnchanged() {
+    PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 0);
+    try {
+      assertThatThrownBy(() -> executor.execute("fred", () -> {
+        throw new BadCredentialsException("Bad credentials");
+      })).isInstanceOf(BadCredentialsException.class);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package org.homepoker.test;
+
+import org.homepoker.game.GameListener;
+import org.homepoker.game.GameManager;
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.command.BuyIn;
+import org.homepoker.model.command.PlayerActionCommand;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.table.ActionOnPlayer;
+import org.homepoker.model.event.table.HandComplete;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.model.game.Game;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerAction;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Scripted players for every seat of one game, answering the events a real client would see. Each bot reacts to its
+ * {@code ActionOnPlayer} with a {@link PlayerActionCommand} (check, bet, call, raise or fold, chosen at random) and,
+ * when the game sells chips to busted players, buys back in — all through {@link GameManager#submitCommand}.
+ * <p>
+ * Register it as a listener on the game's manager. The listener only collects what the bots need to answer; the
+ * answers are submitted by {@link #respond()} after the tick, the way a client's reply arrives after the event that
+ * prompted it. Not thread-safe: call it from the thread that ticks the game.
+ */
+public final class BotPlayers implements GameListener {
+
+  private final GameManager<?> manager;
+  private final Game<?> game;
+  private final int rebuyChips;
+  private final SplittableRandom random;
+  private final List<ActionOnPlayer> pendingActions = new ArrayList<>();
+  private boolean handCompleted;
+
+  private long hands;
+  private long commands;
+  private long rejectedCommands;
+
+  /**
+   * @param manager    The manager ticking the game.
+   * @param game       The game the manager is running (read for the players and the current big blind).
+   * @param rebuyChips The chips a busted bot buys back in for, or zero if the bots never rebuy.
+   * @param seed       Seed for the bots' decisions.
+   */
+  public BotPlayers(GameManager<?> manager, Game<?> game, int rebuyChips, long seed) {
+    this.manager = manager;
+    this.game = game;
+    this.rebuyChips = rebuyChips;
+    this.random = new SplittableRandom(seed);
+  }
+
+  @Override
+  public String userId() {
+    return "bot-players";
+  }
+
+  @Override
+  public boolean acceptsEvent(PokerEvent event) {
+    return true;
+  }
+
+  @Override
+  public void onEvent(PokerEvent event) {
+    switch (event) {
+      case ActionOnPlayer actionOnPlayer -> pendingActions.add(actionOnPlayer);
+      case HandComplete _ -> {
+        hands++;
+        handCompleted = true;
+      }
+      case UserMessage message when message.severity() == MessageSeverity.ERROR -> rejectedCommands++;
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Submit the bots' answers to the events of the last tick.
+   */
+  public void respond() {
+    for (ActionOnPlayer action : pendingActions) {
+      User user = game.players().get(action.userId()).user();
+      manager.submitCommand(new PlayerActionCommand(game.id(), action.tableId(), user, decide(action)));
+      commands++;
+    }
+    pendingActions.clear();
+
+    if (handCompleted) {
+      handCompleted = false;
+      if (rebuyChips > 0) {
+        for (Player player : game.players().values()) {
+          if (player.status() == PlayerStatus.BUYING_IN && player.chipCount() == 0) {
+            manager.submitCommand(new BuyIn(game.id(), player.user(), rebuyChips));
+            commands++;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Hands played to completion since the last {@link #resetCounters()}.
+   */
+  public long hands() {
+    return hands;
+  }
+
+  /**
+   * Commands the bots submitted since the last {@link #resetCounters()}.
+   */
+  public long commands() {
+    return commands;
+  }
+
+  /**
+   * Bot commands the engine rejected (a bot bug, or an engine one) since the last {@link #resetCounters()}.
+   */
+  public long rejectedCommands() {
+    return rejectedCommands;
+  }
+
+  public void resetCounters() {
+    hands = 0;
+    commands = 0;
+    rejectedCommands = 0;
+  }
+
+  /**
+   * A loose-passive bot: mostly checks and calls, sometimes bets or raises (up to a cap, so pots stay bounded),
+   * and folds some of the time when facing a bet.
+   */
+  private PlayerAction decide(ActionOnPlayer action) {
+    int bigBlind = game.bigBlind();
+    int roll = random.nextInt(100);
+    if (action.callAmount() == 0) {
+      if (roll < 25 && action.currentBet() == 0 && action.playerChipCount() >= 2 * bigBlind) {
+        return new PlayerAction.Bet(2 * bigBlind);
+      }
+      return new PlayerAction.Check();
+    }
+    if (roll < 30) {
+      return new PlayerAction.Fold();
+    }
+    int raiseTo = action.currentBet() + Math.max(action.minimumRaise(), bigBlind);
+    int alreadyIn = action.currentBet() - action.callAmount();
+    if (roll < 40 && action.currentBet() < 8 * bigBlind && raiseTo - alreadyIn < action.playerChipCount()) {
+      return new PlayerAction.Raise(raiseTo);
+    }
+    return new PlayerAction.Call(action.callAmount());
+  }
+}
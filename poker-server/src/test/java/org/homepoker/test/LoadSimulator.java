@@ -0,0 +1,429 @@
+package org.homepoker.test;
+
+import lombok.Builder;
+import org.homepoker.game.GameManager;
+import org.homepoker.game.GameSettings;
+import org.homepoker.game.cash.CashGameManager;
+import org.homepoker.game.table.TableManager;
+import org.homepoker.game.table.TexasHoldemTableManager;
+import org.homepoker.model.command.StartGame;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.GameType;
+import org.homepoker.model.game.Player;
+import org.homepoker.model.game.PlayerStatus;
+import org.homepoker.model.game.Seat;
+import org.homepoker.model.game.Table;
+import org.homepoker.model.game.cash.CashGame;
+import org.homepoker.model.user.User;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless load simulator for the game engine: runs many {@link CashGameManager}s at once, each table full of scripted
+ * bot players, and reports how much the node can take (hands per second, tick latency percentiles and allocation rate).
+ * <p>
+ * Like {@link GameManagerTestFixture} there is no Spring, no database and no websocket: persistence is in memory and
+ * the {@link BotPlayers} answer the events a real client would see, rebuying when they bust. The hand timers (predeal and hand review) are zeroed so a table deals its
+ * next hand as soon as the last one is over: the simulator measures the engine, not the pacing of a live game.
+ * <p>
+ * The games are split across a fixed set of worker threads. Each worker owns its games outright and ticks them
+ * round-robin, timing every {@link GameManager#processGameTick()}, so a game is only ever touched by one thread — the
+ * same guarantee the game server's tick lock gives. A warm-up phase runs first and is not measured.
+ * <p>
+ * Run {@link #main} for a capacity run (arguments: games, tables per game, seconds to measure, worker threads), or
+ * build {@link Options} and call {@link #run} from a test.
+ */
+public final class LoadSimulator {
+
+  /**
+   * The engine's own settings with the predeal and hand review timers removed.
+   */
+  static final GameSettings LOAD_SETTINGS = GameSettings.builder()
+      .isTwoBoardGame(GameSettings.TEXAS_HOLDEM_SETTINGS.isTwoBoardGame())
+      .numberOfSeats(GameSettings.TEXAS_HOLDEM_SETTINGS.numberOfSeats())
+      .saveIntervalSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.saveIntervalSeconds())
+      .seatingTimeSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.seatingTimeSeconds())
+      .actionTimeSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.actionTimeSeconds())
+      .reviewHandTimeSeconds(0)
+      .predealTimeSeconds(0)
+      .tableMergeGraceSeconds(GameSettings.TEXAS_HOLDEM_SETTINGS.tableMergeGraceSeconds())
+      .allowPostToPlay(GameSettings.TEXAS_HOLDEM_SETTINGS.allowPostToPlay())
+      .requireMissedBlindPost(GameSettings.TEXAS_HOLDEM_SETTINGS.requireMissedBlindPost())
+      .build();
+
+  /**
+   * What to simulate.
+   *
+   * @param games           Concurrent cash games.
+   * @param tablesPerGame   Tables in each game.
+   * @param playersPerTable Bots seated at each table (at most the number of seats).
+   * @param workers         Threads ticking the games.
+   * @param warmup          How long to run before measuring.
+   * @param duration        How long to measure.
+   * @param seed            Seed for the bots' decisions.
+   */
+  @Builder
+  public record Options(int games, int tablesPerGame, int playersPerTable, int workers, Duration warmup,
+                        Duration duration, long seed) {
+
+    public static class OptionsBuilder {
+      private int games = 1_000;
+      private int tablesPerGame = 1;
+      private int playersPerTable = 9;
+      private int workers = Runtime.getRuntime().availableProcessors();
+      private Duration warmup = Duration.ofSeconds(5);
+      private Duration duration = Duration.ofSeconds(30);
+      private long seed = 42L;
+    }
+  }
+
+  /**
+   * What the measured phase achieved.
+   *
+   * @param elapsed          Wall-clock length of the measured phase.
+   * @param ticks            Game ticks processed.
+   * @param hands            Hands played to completion.
+   * @param commands         Commands the bots submitted.
+   * @param rejectedCommands Bot commands the engine rejected (a bot bug, or an engine one).
+   * @param saves            Game saves (to the in-memory store).
+   * @param tickLatency      Tick latency distribution, in nanoseconds.
+   * @param allocatedBytes   Bytes allocated by the worker threads, or -1 if the JVM cannot measure it.
+   */
+  public record Report(Duration elapsed, long ticks, long hands, long commands, long rejectedCommands, long saves,
+                       LatencyHistogram tickLatency, long allocatedBytes) {
+
+    public double handsPerSecond() {
+      return hands / seconds();
+    }
+
+    public double ticksPerSecond() {
+      return ticks / seconds();
+    }
+
+    public double allocatedBytesPerSecond() {
+      return allocatedBytes < 0 ? -1 : allocatedBytes / seconds();
+    }
+
+    private double seconds() {
+      return Math.max(1, elapsed.toNanos()) / 1e9;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("""
+              Measured %.1fs: %,d hands (%,.0f/s), %,d ticks (%,.0f/s), %,d commands (%,d rejected), %,d saves
+              Tick latency: p50=%,dus p90=%,dus p99=%,dus p99.9=%,dus max=%,dus
+              Allocation: %,.1f MB/s""",
+          seconds(), hands, handsPerSecond(), ticks, ticksPerSecond(), commands, rejectedCommands, saves,
+          tickLatency.percentile(50) / 1_000, tickLatency.percentile(90) / 1_000, tickLatency.percentile(99) / 1_000,
+          tickLatency.percentile(99.9) / 1_000, tickLatency.max() / 1_000,
+          allocatedBytesPerSecond() / (1024 * 1024));
+    }
+  }
+
+  private final Options options;
+
+  public LoadSimulator(Options options) {
+    if (options.games() < 1 || options.tablesPerGame() < 1 || options.workers() < 1) {
+      throw new IllegalArgumentException("At least one game, one table per game and one worker are required.");
+    }
+    if (options.playersPerTable() < 2 || options.playersPerTable() > LOAD_SETTINGS.numberOfSeats()) {
+      throw new IllegalArgumentException("Players per table must be between 2 and " + LOAD_SETTINGS.numberOfSeats() + ".");
+    }
+    this.options = options;
+  }
+
+  public static void main(String[] args) {
+    Options.OptionsBuilder builder = Options.builder();
+    if (args.length > 0) builder.games(Integer.parseInt(args[0]));
+    if (args.length > 1) builder.tablesPerGame(Integer.parseInt(args[1]));
+    if (args.length > 2) builder.duration(Duration.ofSeconds(Integer.parseInt(args[2])));
+    if (args.length > 3) builder.workers(Integer.parseInt(args[3]));
+    Options options = builder.build();
+    System.out.printf("Simulating %,d games x %d tables x %d players on %d workers%n",
+        options.games(), options.tablesPerGame(), options.playersPerTable(), options.workers());
+    System.out.println(new LoadSimulator(options).run());
+  }
+
+  /**
+   * Build the games, start them, run the warm-up and then the measured phase.
+   */
+  public Report run() {
+    List<List<BotGame>> partitions = new ArrayList<>();
+    for (int worker = 0; worker < options.workers(); worker++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (int index = 0; index < options.games(); index++) {
+      partitions.get(index % options.workers()).add(new BotGame(index, options, options.seed() + index));
+    }
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(options.workers())) {
+      runPhase(executor, partitions, options.warmup());
+      return runPhase(executor, partitions, options.duration());
+    }
+  }
+
+  private Report runPhase(ExecutorService executor, List<List<BotGame>> partitions, Duration duration) {
+    for (List<BotGame> games : partitions) {
+      for (BotGame game : games) {
+        game.resetCounters();
+      }
+    }
+    List<Callable<Worker>> tasks = new ArrayList<>();
+    long deadline = System.nanoTime() + duration.toNanos();
+    for (List<BotGame> games : partitions) {
+      tasks.add(() -> new Worker(games).runUntil(deadline));
+    }
+
+    long start = System.nanoTime();
+    List<Worker> workers = new ArrayList<>();
+    try {
+      for (Future<Worker> future : executor.invokeAll(tasks)) {
+        workers.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running the load simulation.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A load simulation worker failed.", e.getCause());
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    LatencyHistogram tickLatency = new LatencyHistogram();
+    long ticks = 0;
+    long allocatedBytes = 0;
+    for (Worker worker : workers) {
+      tickLatency.add(worker.tickLatency);
+      ticks += worker.ticks;
+      allocatedBytes = worker.allocatedBytes < 0 || allocatedBytes < 0 ? -1 : allocatedBytes + worker.allocatedBytes;
+    }
+    long hands = 0;
+    long commands = 0;
+    long rejected = 0;
+    long saves = 0;
+    for (List<BotGame> games : partitions) {
+      for (BotGame game : games) {
+        hands += game.bots.hands();
+        commands += game.bots.commands();
+        rejected += game.bots.rejectedCommands();
+        saves += game.saves;
+      }
+    }
+    return new Report(elapsed, ticks, hands, commands, rejected, saves, tickLatency, allocatedBytes);
+  }
+
+  /**
+   * Ticks one partition of the games round-robin until the deadline. Runs on a single thread.
+   */
+  private static final class Worker {
+    private final List<BotGame> games;
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+    private long ticks;
+    private long allocatedBytes = -1;
+
+    private Worker(List<BotGame> games) {
+      this.games = games;
+    }
+
+    private Worker runUntil(long deadline) {
+      long allocatedBefore = currentThreadAllocatedBytes();
+      while (System.nanoTime() < deadline) {
+        for (BotGame game : games) {
+          long start = System.nanoTime();
+          game.manager.processGameTick();
+          tickLatency.record(System.nanoTime() - start);
+          ticks++;
+          game.bots.respond();
+        }
+      }
+      long allocatedAfter = currentThreadAllocatedBytes();
+      if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+        allocatedBytes = allocatedAfter - allocatedBefore;
+      }
+      return this;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+      if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+          && threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+        return threadBean.getCurrentThreadAllocatedBytes();
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * One cash game and its bots.
+   */
+  private static final class BotGame {
+    private final CashGame game;
+    private final BotGameManager manager;
+    private final BotPlayers bots;
+    private final int buyIn;
+
+    private long saves;
+
+    private BotGame(int index, Options options, long seed) {
+      User owner = TestDataHelper.adminUser();
+      int bigBlind = 50;
+      this.buyIn = 5_000;
+      this.game = CashGame.builder()
+          .id("load-game-" + index)
+          .name("Load Game " + index)
+          .type(GameType.TEXAS_HOLDEM)
+          .status(GameStatus.SEATING)
+          .startTime(Instant.now())
+          .maxBuyIn(buyIn)
+          .smallBlind(bigBlind / 2)
+          .bigBlind(bigBlind)
+          .owner(owner)
+          .build();
+      for (int table = 0; table < options.tablesPerGame(); table++) {
+        seatTable(game, "TABLE-" + table, options.playersPerTable());
+      }
+      this.manager = new BotGameManager(game, this);
+      // Busted bots buy back in for a full stack.
+      this.bots = new BotPlayers(manager, game, buyIn, seed);
+      manager.addGameListener(bots);
+      manager.submitCommand(new StartGame(game.id(), owner));
+    }
+
+    private void seatTable(CashGame game, String tableId, int playerCount) {
+      Table table = Table.builder()
+          .id(tableId)
+          .emptySeats(LOAD_SETTINGS.numberOfSeats())
+          .status(Table.Status.PAUSED)
+          .build();
+      game.tables().put(table.id(), table);
+      for (int i = 0; i < playerCount; i++) {
+        String userId = game.id() + "-" + tableId + "-bot-" + i;
+        Player player = Player.builder()
+            .user(TestDataHelper.user(userId, "password", "Bot " + i))
+            .status(PlayerStatus.ACTIVE)
+            .chipCount(buyIn)
+            .buyInTotal(buyIn)
+            .reBuys(0)
+            .addOns(0)
+            .build();
+        game.addPlayer(player);
+        Seat seat = table.seats().get(i);
+        seat.status(Seat.Status.JOINED_WAITING);
+        seat.player(player);
+        player.tableId(tableId);
+      }
+    }
+
+    private void resetCounters() {
+      bots.resetCounters();
+      saves = 0;
+    }
+  }
+
+  /**
+   * A {@link CashGameManager} with in-memory persistence and the load settings on every table.
+   */
+  private static final class BotGameManager extends CashGameManager {
+    private final BotGame botGame;
+
+    private BotGameManager(CashGame game, BotGame botGame) {
+      super(game, null, null, null, null, null);
+      this.botGame = botGame;
+    }
+
+    @Override
+    protected CashGame persistGameState(CashGame game) {
+      botGame.saves++;
+      // Stand in for the repository's auditing, which the save interval relies on.
+      game.lastModified(Instant.now());
+      return game;
+    }
+
+    @Override
+    protected TableManager<CashGame> createTableManager(String tableId) {
+      return TexasHoldemTableManager.forNewTable(tableId, LOAD_SETTINGS, deckSupplier());
+    }
+
+    @Override
+    protected TableManager<CashGame> createTableManagerForExistingTable(Table table) {
+      return TexasHoldemTableManager.forExistingTable(table, LOAD_SETTINGS, deckSupplier());
+    }
+  }
+
+  /**
+   * Latencies at a fixed resolution (one microsecond up to 100ms by default); slower samples land in the last bucket
+   * (the true maximum is kept separately). Not thread-safe: each worker records into its own and they are merged.
+   */
+  public static final class LatencyHistogram {
+    private final long bucketNanos;
+    private final int range;
+    private final long[] counts;
+    private long total;
+    private long max;
+
+    public LatencyHistogram() {
+      this(Duration.ofNanos(1_000), Duration.ofMillis(100));
+    }
+
+    /**
+     * @param resolution The width of each bucket.
+     * @param range      The latency above which samples all share the last bucket.
+     */
+    public LatencyHistogram(Duration resolution, Duration range) {
+      this.bucketNanos = resolution.toNanos();
+      this.range = Math.toIntExact(range.toNanos() / bucketNanos);
+      this.counts = new long[this.range + 1];
+    }
+
+    public void record(long nanos) {
+      counts[(int) Math.min(nanos / bucketNanos, range)]++;
+      total++;
+      max = Math.max(max, nanos);
+    }
+
+    void add(LatencyHistogram other) {
+      if (other.bucketNanos != bucketNanos || other.range != range) {
+        throw new IllegalArgumentException("Only histograms with the same buckets can be merged.");
+      }
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] += other.counts[i];
+      }
+      total += other.total;
+      max = Math.max(max, other.max);
+    }
+
+    /**
+     * The latency (in nanoseconds, to bucket resolution) below which {@code percentile} percent of samples fell.
+     */
+    public long percentile(double percentile) {
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(total * percentile / 100.0);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return i == range ? max : (i + 1) * bucketNanos;
+        }
+      }
+      return max;
+    }
+
+    public long max() {
+      return max;
+    }
+
+    public long count() {
+      return total;
+    }
+  }
+}
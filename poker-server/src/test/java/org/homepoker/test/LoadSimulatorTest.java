@@ -0,0 +1,53 @@
+package org.homepoker.test;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadSimulatorTest {
+
+  @Test
+  @Tag("slow")
+  void botsPlayHandsAcrossManyGames() {
+    LoadSimulator.Report report = new LoadSimulator(LoadSimulator.Options.builder()
+        .games(50)
+        .tablesPerGame(2)
+        .workers(2)
+        .warmup(Duration.ofMillis(250))
+        .duration(Duration.ofSeconds(1))
+        .build()).run();
+
+    assertThat(report.hands()).isPositive();
+    assertThat(report.commands()).isPositive();
+    // Every bot decision is legal, so nothing should stall on an action timeout.
+    assertThat(report.rejectedCommands()).isZero();
+    assertThat(report.tickLatency().count()).isEqualTo(report.ticks());
+  }
+
+  @Test
+  void latencyPercentilesUseMicrosecondBuckets() {
+    LoadSimulator.LatencyHistogram histogram = new LoadSimulator.LatencyHistogram();
+    for (int micros = 0; micros < 100; micros++) {
+      histogram.record(micros * 1_000L + 500);
+    }
+    LoadSimulator.LatencyHistogram slow = new LoadSimulator.LatencyHistogram();
+    slow.record(Duration.ofSeconds(2).toNanos());
+    histogram.add(slow);
+
+    assertThat(histogram.count()).isEqualTo(101);
+    assertThat(histogram.percentile(50)).isEqualTo(51_000);
+    assertThat(histogram.percentile(99)).isEqualTo(100_000);
+    assertThat(histogram.percentile(100)).isEqualTo(Duration.ofSeconds(2).toNanos());
+    assertThat(histogram.max()).isEqualTo(Duration.ofSeconds(2).toNanos());
+  }
+
+  @Test
+  void tablesCannotBeOverfilled() {
+    assertThatThrownBy(() -> new LoadSimulator(LoadSimulator.Options.builder().playersPerTable(10).build()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -1,5 +1,6 @@
 package org.homepoker.test;
 
+import org.homepoker.security.PasswordHashingExecutor;
 import org.homepoker.security.PokerSecurityProperties;
 import org.homepoker.security.SecurityUtilities;
 
@@ -12,6 +13,6 @@ public class TestUtils {
       adminUsers = new String[]{"admin"};
     }
     return new SecurityUtilities(new PokerSecurityProperties(Arrays.asList(adminUsers), "1234",
-        null, null));
+        null, null), new PasswordHashingExecutor(2, 32, 0));
   }
 }
@@ -0,0 +1,345 @@
+package org.homepoker.test;
+
+import lombok.Builder;
+import org.homepoker.client.ClientSession;
+import org.homepoker.client.GameConnection;
+import org.homepoker.client.GameEventHandler;
+import org.homepoker.client.PokerClient;
+import org.homepoker.client.PokerClientException;
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.command.GetGameState;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.user.GameSnapshot;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.model.user.RegisterUserRequest;
+import org.homepoker.model.user.User;
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load driver for the game WebSocket: opens many {@link GameConnection}s to one game on a running server
+ * (one user per socket) and measures command-to-event latency, from {@link GameConnection#submit} to the decoded
+ * response arriving back on the socket.
+ * <p>
+ * Each connection keeps {@code pipelineDepth} {@link GetGameState} commands in flight and submits the next one as
+ * each {@link GameSnapshot} comes back. The server answers a connection's commands in order, so the oldest
+ * outstanding command is the one being answered. The latency therefore covers the whole path: the JSON frame, the
+ * handler, the command queue, the wait for the next game loop tick and the fan-out back to the socket. With the
+ * default one second game loop most of it is the wait for the tick, so compare percentiles across runs with the same
+ * loop interval.
+ * <p>
+ * Users are named {@code <userPrefix><n>}. The driver logs each one in and, if that fails and a server passcode is
+ * set, registers it. Logins run on the server's bounded password hashing pool, so they are throttled here and
+ * retried when the server answers 429.
+ * <p>
+ * Unlike {@link LoadSimulator}, which drives the engine in-process, this needs a server: start one locally, create a
+ * game, then run {@link #main} (arguments: server URI, game ID, connections, seconds to measure, pipeline depth), or
+ * build {@link Options} and call {@link #run} from a test.
+ */
+public final class WebSocketLoadDriver {
+
+  private static final int MAX_LOGIN_ATTEMPTS = 20;
+
+  /**
+   * What to drive.
+   *
+   * @param serverUri          The server's HTTP address.
+   * @param gameId             An existing cash game to connect to.
+   * @param connections        Sockets to open, one user each.
+   * @param pipelineDepth      Commands each socket keeps in flight.
+   * @param userPrefix         Prefix of the load users' login IDs.
+   * @param password           The load users' password.
+   * @param serverPasscode     The passcode to register missing users with, or null to only log in.
+   * @param connectConcurrency Logins and handshakes allowed in flight at once.
+   * @param warmup             How long to run before measuring.
+   * @param duration           How long to measure.
+   */
+  @Builder
+  public record Options(URI serverUri, String gameId, int connections, int pipelineDepth, String userPrefix,
+                        String password, @Nullable String serverPasscode, int connectConcurrency, Duration warmup,
+                        Duration duration) {
+
+    public static class OptionsBuilder {
+      private URI serverUri = URI.create("http://localhost:8080");
+      private int connections = 1_000;
+      private int pipelineDepth = 4;
+      private String userPrefix = "load-client-";
+      private String password = "load-password";
+      private int connectConcurrency = 64;
+      private Duration warmup = Duration.ofSeconds(5);
+      private Duration duration = Duration.ofSeconds(30);
+    }
+  }
+
+  /**
+   * What the measured phase achieved.
+   *
+   * @param elapsed        Wall-clock length of the measured phase.
+   * @param connections    Sockets that were open for it.
+   * @param commands       Commands submitted.
+   * @param responses      Responses received (each one a latency sample).
+   * @param rejected       Commands the server answered with an error.
+   * @param eventsReceived Frames received, including broadcast game events.
+   * @param gaps           Sequence gaps detected on any stream.
+   * @param missedEvents   Events skipped across those gaps.
+   * @param latency        Command-to-event latency distribution, in nanoseconds.
+   */
+  public record Report(Duration elapsed, int connections, long commands, long responses, long rejected,
+                       long eventsReceived, long gaps, long missedEvents, LoadSimulator.LatencyHistogram latency) {
+
+    public double responsesPerSecond() {
+      return responses / (Math.max(1, elapsed.toNanos()) / 1e9);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("""
+              Measured %.1fs on %,d sockets: %,d commands, %,d responses (%,.0f/s), %,d rejected, %,d frames received
+              Sequence gaps: %,d (%,d events missed)
+              Command-to-event latency: p50=%,dms p90=%,dms p99=%,dms p99.9=%,dms max=%,dms""",
+          elapsed.toNanos() / 1e9, connections, commands, responses, responsesPerSecond(), rejected, eventsReceived,
+          gaps, missedEvents, latency.percentile(50) / 1_000_000, latency.percentile(90) / 1_000_000,
+          latency.percentile(99) / 1_000_000, latency.percentile(99.9) / 1_000_000, latency.max() / 1_000_000);
+    }
+  }
+
+  private final Options options;
+  private final LoadSimulator.LatencyHistogram latency =
+      new LoadSimulator.LatencyHistogram(Duration.ofMillis(1), Duration.ofSeconds(30));
+  private final LongAdder commands = new LongAdder();
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private volatile boolean running;
+  private volatile boolean measuring;
+
+  public WebSocketLoadDriver(Options options) {
+    if (options.connections() < 1 || options.pipelineDepth() < 1 || options.connectConcurrency() < 1) {
+      throw new IllegalArgumentException("At least one connection, one command in flight and one concurrent connect are required.");
+    }
+    if (options.gameId() == null) {
+      throw new IllegalArgumentException("A game ID is required.");
+    }
+    this.options = options;
+  }
+
+  public static void main(String[] args) {
+    Options.OptionsBuilder builder = Options.builder().serverPasscode("1234");
+    if (args.length > 0) builder.serverUri(URI.create(args[0]));
+    if (args.length > 1) builder.gameId(args[1]);
+    if (args.length > 2) builder.connections(Integer.parseInt(args[2]));
+    if (args.length > 3) builder.duration(Duration.ofSeconds(Integer.parseInt(args[3])));
+    if (args.length > 4) builder.pipelineDepth(Integer.parseInt(args[4]));
+    Options options = builder.build();
+    System.out.printf("Driving %,d sockets (%d commands in flight each) against game [%s] on %s%n",
+        options.connections(), options.pipelineDepth(), options.gameId(), options.serverUri());
+    System.out.println(new WebSocketLoadDriver(options).run());
+  }
+
+  /**
+   * Log in the users, open the sockets, run the warm-up and then the measured phase, and close everything.
+   */
+  public Report run() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+         PokerClient client = new PokerClient(options.serverUri(), HttpClient.newBuilder()
+             .executor(executor)
+             .connectTimeout(Duration.ofSeconds(10))
+             .build())) {
+      List<LoadConnection> connections = connect(client);
+      try {
+        running = true;
+        connections.forEach(LoadConnection::start);
+        sleep(options.warmup());
+
+        measuring = true;
+        long start = System.nanoTime();
+        sleep(options.duration());
+        measuring = false;
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        running = false;
+
+        long events = 0;
+        long gaps = 0;
+        long missed = 0;
+        for (LoadConnection connection : connections) {
+          events += connection.connection().eventsReceived();
+          gaps += connection.connection().sequenceTracker().gaps();
+          missed += connection.connection().sequenceTracker().missedEvents();
+        }
+        synchronized (latency) {
+          return new Report(elapsed, connections.size(), commands.sum(), responses.sum(), rejected.sum(), events,
+              gaps, missed, latency);
+        }
+      } finally {
+        running = false;
+        disconnect(connections);
+      }
+    }
+  }
+
+  private List<LoadConnection> connect(PokerClient client) {
+    Semaphore permits = new Semaphore(options.connectConcurrency());
+    List<CompletableFuture<LoadConnection>> pending = new ArrayList<>();
+    for (int index = 0; index < options.connections(); index++) {
+      String loginId = options.userPrefix() + index;
+      acquire(permits);
+      pending.add(authenticate(client, loginId, 1)
+          .thenCompose(session -> {
+            LoadConnection loadConnection = new LoadConnection(session.user());
+            return client.connect(options.gameId(), session.token(), loadConnection)
+                .thenApply(loadConnection::opened);
+          })
+          .whenComplete((_, _) -> permits.release()));
+    }
+    List<LoadConnection> connections = new ArrayList<>();
+    for (CompletableFuture<LoadConnection> future : pending) {
+      try {
+        connections.add(future.join());
+      } catch (CompletionException e) {
+        disconnect(connections);
+        throw new IllegalStateException("Unable to open a load connection.", e.getCause());
+      }
+    }
+    return connections;
+  }
+
+  private CompletableFuture<ClientSession> authenticate(PokerClient client, String loginId, int attempt) {
+    return client.login(loginId, options.password())
+        .exceptionallyCompose(error -> {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+          if (!(cause instanceof PokerClientException rejection)) {
+            return CompletableFuture.failedFuture(cause);
+          }
+          if (rejection.statusCode() == 429 && attempt < MAX_LOGIN_ATTEMPTS) {
+            return CompletableFuture.supplyAsync(() -> null,
+                    CompletableFuture.delayedExecutor(100L * attempt, TimeUnit.MILLISECONDS))
+                .thenCompose(_ -> authenticate(client, loginId, attempt + 1));
+          }
+          if (options.serverPasscode() == null || rejection.statusCode() / 100 != 4) {
+            return CompletableFuture.failedFuture(rejection);
+          }
+          return client.register(RegisterUserRequest.builder()
+              .serverPasscode(options.serverPasscode())
+              .loginId(loginId)
+              .password(options.password())
+              .email(loginId + "@example.com")
+              .name("Load Client " + loginId)
+              .alias(loginId)
+              .phone("555-555-5555")
+              .build());
+        });
+  }
+
+  private static void disconnect(List<LoadConnection> connections) {
+    List<CompletableFuture<Void>> closed = new ArrayList<>();
+    for (LoadConnection connection : connections) {
+      connection.connection().close();
+      closed.add(connection.connection().closed().exceptionally(_ -> null));
+    }
+    try {
+      CompletableFuture.allOf(closed.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      // Whatever has not closed by now is dropped with the HTTP client.
+    }
+  }
+
+  private static void acquire(Semaphore permits) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while opening load connections.", e);
+    }
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while driving load.", e);
+    }
+  }
+
+  /**
+   * One socket and the send times of its commands in flight, oldest first.
+   */
+  private final class LoadConnection implements GameEventHandler {
+    private final User user;
+    private final Queue<Long> inFlight = new ConcurrentLinkedQueue<>();
+    private @Nullable GameConnection connection;
+
+    private LoadConnection(User user) {
+      this.user = user;
+    }
+
+    private LoadConnection opened(GameConnection connection) {
+      this.connection = connection;
+      return this;
+    }
+
+    private GameConnection connection() {
+      if (connection == null) {
+        throw new IllegalStateException("The connection for [" + user.id() + "] is not open.");
+      }
+      return connection;
+    }
+
+    private void start() {
+      for (int i = 0; i < options.pipelineDepth(); i++) {
+        submit();
+      }
+    }
+
+    private void submit() {
+      inFlight.add(System.nanoTime());
+      if (measuring) {
+        commands.increment();
+      }
+      connection().submit(new GetGameState(options.gameId(), user));
+    }
+
+    @Override
+    public void onEvent(PokerEvent event) {
+      switch (event) {
+        case GameSnapshot _ -> answered(false);
+        case UserMessage message when message.severity() == MessageSeverity.ERROR -> answered(true);
+        default -> {
+        }
+      }
+    }
+
+    private void answered(boolean error) {
+      Long sent = inFlight.poll();
+      if (sent == null) {
+        return;
+      }
+      if (measuring) {
+        long nanos = System.nanoTime() - sent;
+        synchronized (latency) {
+          latency.record(nanos);
+        }
+        responses.increment();
+        if (error) {
+          rejected.increment();
+        }
+      }
+      if (running) {
+        submit();
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.homepoker.threading;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeterministicSchedulerTest {
+
+  private static final Instant START = Instant.parse("2026-01-01T19:00:00Z");
+
+  @Test
+  void nothingRunsUntilTimeIsAdvanced() {
+    DeterministicScheduler scheduler = new DeterministicScheduler(START);
+    List<String> ran = new ArrayList<>();
+    scheduler.schedule(() -> ran.add("task"), 5, TimeUnit.SECONDS);
+
+    assertThat(scheduler.advanceBy(Duration.ofSeconds(4))).isZero();
+    assertThat(ran).isEmpty();
+    assertThat(scheduler.nextDeadline()).isEqualTo(START.plusSeconds(5));
+
+    assertThat(scheduler.advanceBy(Duration.ofSeconds(1))).isEqualTo(1);
+    assertThat(ran).containsExactly("task");
+    assertThat(scheduler.clock().instant()).isEqualTo(START.plusSeconds(5));
+  }
+
+  @Test
+  void tasksRunInDeadlineOrderWithTheClockAtTheirDeadline() {
+    DeterministicScheduler scheduler = new DeterministicScheduler(START);
+    List<String> ran = new ArrayList<>();
+    scheduler.schedule(() -> ran.add("late@" + scheduler.clock().instant()), 30, TimeUnit.SECONDS);
+    scheduler.schedule(() -> ran.add("early@" + scheduler.clock().instant()), 10, TimeUnit.SECONDS);
+    scheduler.schedule(() -> ran.add("tie@" + scheduler.clock().instant()), 10, TimeUnit.SECONDS);
+
+    scheduler.advanceBy(Duration.ofMinutes(1));
+
+    assertThat(ran).containsExactly(
+        "early@" + START.plusSeconds(10),
+        "tie@" + START.plusSeconds(10),
+        "late@" + START.plusSeconds(30));
+    assertThat(scheduler.clock().instant()).isEqualTo(START.plusSeconds(60));
+  }
+
+  @Test
+  void fixedRateTasksRunOncePerPeriod() {
+    DeterministicScheduler scheduler = new DeterministicScheduler(START);
+    List<Instant> ticks = new ArrayList<>();
+    ScheduledFuture<?> loop = scheduler.scheduleAtFixedRate(
+        () -> ticks.add(scheduler.clock().instant()), 0, 1, TimeUnit.SECONDS);
+
+    scheduler.advanceBy(Duration.ofHours(4));
+    assertThat(ticks).hasSize(4 * 60 * 60 + 1);
+    assertThat(ticks.getLast()).isEqualTo(START.plus(Duration.ofHours(4)));
+
+    loop.cancel(false);
+    scheduler.advanceBy(Duration.ofSeconds(10));
+    assertThat(ticks).hasSize(4 * 60 * 60 + 1);
+  }
+
+  @Test
+  void tasksScheduledByTasksRunInTheSameAdvance() {
+    DeterministicScheduler scheduler = new DeterministicScheduler(START);
+    List<Instant> ran = new ArrayList<>();
+    scheduler.schedule(() -> {
+      ran.add(scheduler.clock().instant());
+      scheduler.schedule(() -> ran.add(scheduler.clock().instant()), 15, TimeUnit.SECONDS);
+    }, 15, TimeUnit.SECONDS);
+
+    assertThat(scheduler.advanceBy(Duration.ofSeconds(30))).isEqualTo(2);
+    assertThat(ran).containsExactly(START.plusSeconds(15), START.plusSeconds(30));
+  }
+
+  @Test
+  void executedTasksRunWhenDue() {
+    DeterministicScheduler scheduler = new DeterministicScheduler(START);
+    List<String> ran = new ArrayList<>();
+    scheduler.execute(() -> ran.add("now"));
+
+    assertThat(scheduler.runDueTasks()).isEqualTo(1);
+    assertThat(ran).containsExactly("now");
+    assertThat(scheduler.clock().instant()).isEqualTo(START);
+  }
+
+  @Test
+  void clockCannotGoBackwards() {
+    SimulatedClock clock = new SimulatedClock(START);
+
+    assertThatThrownBy(() -> clock.setInstant(START.minusSeconds(1))).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> clock.advance(Duration.ofSeconds(-1))).isInstanceOf(IllegalArgumentException.class);
+    assertThat(clock.withZone(ZoneId.of("America/Los_Angeles")).instant()).isEqualTo(START);
+  }
+}
@@ -1,20 +1,34 @@
 package org.homepoker.user;
 
+import org.bson.Document;
 import org.homepoker.lib.exception.ValidationException;
 import org.homepoker.model.user.User;
+import org.homepoker.model.user.UserCriteria;
 import org.homepoker.model.user.UserInformationUpdate;
+import org.homepoker.model.user.UserPage;
 import org.homepoker.model.user.UserPasswordChangeRequest;
+import org.homepoker.security.AuthenticatedUserCache;
 import org.homepoker.security.SecurityUtilities;
 import org.homepoker.test.TestDataHelper;
 import org.homepoker.test.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ExecutableFindOperation;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class UserManagerTest {
@@ -25,11 +39,15 @@ public class UserManagerTest {
   @Mock
   MongoOperations mongoOperations;
 
+  @Mock
+  AuthenticatedUserCache authenticatedUserCache;
+
   private UserManager userManager;
+  private ExecutableFindOperation.ExecutableFind<User> find;
 
   @BeforeEach
   public void setup() {
-    userManager = new UserManager(userRepository, mongoOperations, securityUtilities);
+    userManager = new UserManager(userRepository, mongoOperations, securityUtilities, authenticatedUserCache);
   }
 
   @Test
@@ -98,6 +116,7 @@ public class UserManagerTest {
         .build();
 
     userManager.updateUserInformation(update);
+    verify(authenticatedUserCache).invalidateUser("fred");
 
     User updatedUser = userManager.getUser("fred");
     assertThat(updatedUser).isNotNull();
@@ -141,4 +160,105 @@ public class UserManagerTest {
     userManager.deleteUser("fred");
     assertThatThrownBy(() -> userManager.getUser("fred")).isInstanceOf(ValidationException.class);
   }
-}
\ No newline at end of file
+
+  @Test
+  void prefixPatternIsAnchoredAndEscaped() {
+    assertThat(UserManager.prefixPattern("fred")).isEqualTo("^fred");
+    assertThat(UserManager.prefixPattern("f.red+1@x")).isEqualTo("^f\\.red\\+1@x");
+    assertThat("f.red+1@x.com").matches(UserManager.prefixPattern("f.red+1@x") + ".*");
+    assertThat("fxred+1@x.com").doesNotMatch(UserManager.prefixPattern("f.red+1@x") + ".*");
+  }
+
+  @Test
+  void pageTokensRoundTripAndAreBoundToTheSortKey() {
+    String token = UserManager.encodePageToken("email", "fred@fred.com");
+    assertThat(UserManager.decodePageToken(token, "email")).isEqualTo("fred@fred.com");
+
+    assertThatThrownBy(() -> UserManager.decodePageToken(token, "id")).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> UserManager.decodePageToken("%%%", "id")).isInstanceOf(ValidationException.class);
+  }
+
+  @Test
+  void findUsersPagesByLoginIdPrefixWithoutPasswords() {
+    ExecutableFindOperation.TerminatingFind<User> results = mockFind();
+    when(results.all()).thenReturn(
+        List.of(listed("frank"), listed("fred"), listed("fritz")),
+        List.of(listed("fritz")));
+
+    UserPage first = userManager.findUsers(new UserCriteria("fr", null, 2, null));
+
+    assertThat(first.users()).extracting(User::id).containsExactly("frank", "fred");
+    assertThat(first.nextPageToken()).isNotNull();
+
+    UserPage second = userManager.findUsers(new UserCriteria("fr", null, 2, first.nextPageToken()));
+
+    assertThat(second.users()).extracting(User::id).containsExactly("fritz");
+    assertThat(second.nextPageToken()).isNull();
+
+    List<Query> queries = capturedQueries(2);
+    Query firstQuery = queries.getFirst();
+    assertThat(firstQuery.getQueryObject().toString()).contains("^fr").doesNotContain("$gt");
+    assertThat(firstQuery.getSortObject()).isEqualTo(new Document("id", 1));
+    // One row beyond the page tells whether there is another page.
+    assertThat(firstQuery.getLimit()).isEqualTo(3);
+    assertThat(firstQuery.getFieldsObject()).isEqualTo(new Document("password", 0));
+
+    // The cursor resumes after the last login ID of the previous page.
+    assertThat(queries.get(1).getQueryObject().toString()).contains("^fr").contains("$gt=fred");
+    assertThat(queries.get(1).getFieldsObject()).isEqualTo(new Document("password", 0));
+  }
+
+  @Test
+  void findUsersByEmailAloneSortsAndPagesByEmail() {
+    ExecutableFindOperation.TerminatingFind<User> results = mockFind();
+    when(results.all()).thenReturn(List.of(listed("fred")));
+
+    UserPage page = userManager.findUsers(new UserCriteria(null, "fred@", null, null));
+
+    assertThat(page.users()).extracting(User::id).containsExactly("fred");
+    assertThat(page.nextPageToken()).isNull();
+    Query query = capturedQueries(1).getFirst();
+    assertThat(query.getQueryObject().toString()).contains("email").contains("^fred@");
+    assertThat(query.getSortObject()).isEqualTo(new Document("email", 1));
+    assertThat(query.getLimit()).isEqualTo(UserManager.DEFAULT_PAGE_SIZE + 1);
+
+    // A token from a login ID search cannot be replayed against an email search.
+    String idToken = UserManager.encodePageToken("id", "fred");
+    assertThatThrownBy(() -> userManager.findUsers(new UserCriteria(null, "fred@", null, idToken)))
+        .isInstanceOf(ValidationException.class);
+  }
+
+  @Test
+  void findUsersClampsThePageSize() {
+    ExecutableFindOperation.TerminatingFind<User> results = mockFind();
+    when(results.all()).thenReturn(List.of());
+
+    userManager.findUsers(new UserCriteria(null, null, 10_000, null));
+    userManager.findUsers(new UserCriteria(null, null, 0, null));
+    userManager.findUsers(null);
+
+    assertThat(capturedQueries(3)).extracting(Query::getLimit)
+        .containsExactly(UserManager.MAX_PAGE_SIZE + 1, 2, UserManager.DEFAULT_PAGE_SIZE + 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ExecutableFindOperation.TerminatingFind<User> mockFind() {
+    ExecutableFindOperation.ExecutableFind<User> find = mock(ExecutableFindOperation.ExecutableFind.class);
+    ExecutableFindOperation.TerminatingFind<User> results = mock(ExecutableFindOperation.TerminatingFind.class);
+    when(mongoOperations.query(User.class)).thenReturn(find);
+    when(find.matching(any(Query.class))).thenReturn(results);
+    this.find = find;
+    return results;
+  }
+
+  private List<Query> capturedQueries(int count) {
+    ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+    verify(find, times(count)).matching(captor.capture());
+    return captor.getAllValues();
+  }
+
+  /** A user as the projection returns it: no password. */
+  private static User listed(String id) {
+    return TestDataHelper.user(id, "password", id).withPassword(null);
+  }
+}
@@ -0,0 +1,88 @@
+package org.homepoker.websocket;
+
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.model.event.table.HandStarted;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.model.user.User;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MultiplexedGameListenerTest {
+
+  private static final User ALICE = User.builder()
+      .id("alice")
+      .password("pass")
+      .email("alice@test.com")
+      .name("Alice")
+      .phone("555-0001")
+      .build();
+
+  private final ObjectMapper mapper = JsonMapper.builder().addModule(PokerEvent.pokerEventModule()).build();
+
+  @Test
+  void tableFilterOnlyNarrowsTableEvents() {
+    MultiplexedGameListener listener = new MultiplexedGameListener(ALICE, "game1", Set.of("table1"),
+        mock(WebSocketSession.class), mapper);
+
+    assertThat(listener.acceptsEvent(handStarted("table1"))).isTrue();
+    assertThat(listener.acceptsEvent(handStarted("table2"))).isFalse();
+    assertThat(listener.acceptsEvent(new GameMessage(Instant.now(), 0L, "game1", "Hello"))).isTrue();
+
+    // Per-user filtering still applies.
+    UserMessage forBob = UserMessage.builder()
+        .timestamp(Instant.now())
+        .userId("bob")
+        .severity(MessageSeverity.INFO)
+        .message("Hi Bob")
+        .build();
+    assertThat(listener.acceptsEvent(forBob)).isFalse();
+  }
+
+  @Test
+  void emptyTableFilterAcceptsEveryTable() {
+    MultiplexedGameListener listener = new MultiplexedGameListener(ALICE, "game1", Set.of(),
+        mock(WebSocketSession.class), mapper);
+
+    assertThat(listener.acceptsEvent(handStarted("table1"))).isTrue();
+    assertThat(listener.acceptsEvent(handStarted("table2"))).isTrue();
+  }
+
+  @Test
+  void eventsAreWrappedInAnEnvelopeTaggedWithTheGame() throws Exception {
+    WebSocketSession session = mock(WebSocketSession.class);
+    MultiplexedGameListener listener = new MultiplexedGameListener(ALICE, "game1", Set.of(), session, mapper);
+
+    listener.onEvent(UserMessage.builder()
+        .timestamp(Instant.now())
+        .userId("alice")
+        .severity(MessageSeverity.INFO)
+        .message("Hi Alice")
+        .build());
+
+    ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+    verify(session).sendMessage(sent.capture());
+    JsonNode envelope = mapper.readTree(sent.getValue().getPayload());
+    assertThat(envelope.get("gameId").asString()).isEqualTo("game1");
+    assertThat(envelope.get("event").get("eventType").asString()).isEqualTo("user-message");
+    assertThat(envelope.get("event").get("message").asString()).isEqualTo("Hi Alice");
+  }
+
+  private static HandStarted handStarted(String tableId) {
+    return new HandStarted(Instant.now(), 0L, "game1", tableId, 1, 0, 1, 2, 5, 10, 10, 10, List.of());
+  }
+}
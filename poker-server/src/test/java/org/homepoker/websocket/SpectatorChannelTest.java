@@ -0,0 +1,145 @@
+package org.homepoker.websocket;
+
+import org.homepoker.game.GameManager;
+import org.homepoker.game.GameServerProperties;
+import org.homepoker.model.MessageSeverity;
+import org.homepoker.model.event.PokerEvent;
+import org.homepoker.model.event.game.GameMessage;
+import org.homepoker.model.event.table.HoleCardsDealt;
+import org.homepoker.model.event.user.UserMessage;
+import org.homepoker.threading.DeterministicScheduler;
+import org.homepoker.threading.VirtualThreadManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpectatorChannelTest {
+
+  private final ObjectMapper mapper = JsonMapper.builder().addModule(PokerEvent.pokerEventModule()).build();
+
+  @Test
+  void publicEventsAreSerializedOnceForAllViewers() throws IOException {
+    SpectatorChannel channel = new SpectatorChannel("game1", mock(GameManager.class), mapper, Duration.ZERO);
+    WebSocketSession first = mock(WebSocketSession.class);
+    WebSocketSession second = mock(WebSocketSession.class);
+    channel.addViewer(first);
+    channel.addViewer(second);
+
+    GameMessage message = new GameMessage(Instant.now(), 1L, "game1", "Final table!");
+    assertThat(channel.acceptsEvent(message)).isTrue();
+    channel.onEvent(message);
+
+    ArgumentCaptor<TextMessage> toFirst = ArgumentCaptor.forClass(TextMessage.class);
+    ArgumentCaptor<TextMessage> toSecond = ArgumentCaptor.forClass(TextMessage.class);
+    verify(first).sendMessage(toFirst.capture());
+    verify(second).sendMessage(toSecond.capture());
+    assertThat(toFirst.getValue()).isSameAs(toSecond.getValue());
+    assertThat(toFirst.getValue().getPayload()).contains("\"eventType\":\"game-message\"");
+  }
+
+  @Test
+  void privateEventsAreNeverBroadcast() {
+    SpectatorChannel channel = new SpectatorChannel("game1", mock(GameManager.class), mapper, Duration.ZERO);
+
+    assertThat(channel.acceptsEvent(new HoleCardsDealt(Instant.now(), 0L, "game1", "table1", "alice", 1,
+        List.of(), List.of()))).isFalse();
+    assertThat(channel.acceptsEvent(UserMessage.builder()
+        .timestamp(Instant.now())
+        .userId("alice")
+        .severity(MessageSeverity.INFO)
+        .message("Hi")
+        .build())).isFalse();
+  }
+
+  @Test
+  void delayedEventsAreReleasedWhenDue() throws IOException {
+    SpectatorChannel channel = new SpectatorChannel("game1", mock(GameManager.class), mapper, Duration.ofSeconds(30));
+    WebSocketSession viewer = mock(WebSocketSession.class);
+    channel.addViewer(viewer);
+
+    Instant timestamp = Instant.parse("2026-01-01T20:00:00Z");
+    channel.onEvent(new GameMessage(timestamp, 1L, "game1", "Hello"));
+
+    channel.flushDue(timestamp.plusSeconds(29));
+    verify(viewer, never()).sendMessage(any());
+
+    channel.flushDue(timestamp.plusSeconds(30));
+    verify(viewer).sendMessage(any());
+  }
+
+  @Test
+  void flusherReleasesDelayedEventsOnTheInjectedClock() throws IOException {
+    Instant start = Instant.parse("2026-01-01T20:00:00Z");
+    DeterministicScheduler scheduler = new DeterministicScheduler(start);
+    VirtualThreadManager threadManager = new VirtualThreadManager(scheduler, new VirtualThreadManager.CurrentThreadExecutor());
+    SpectatorChannels channels = new SpectatorChannels(mapper,
+        new GameServerProperties(GameServerProperties.ThreadModel.SINGLE_THREAD, 0, 0, 30),
+        threadManager, scheduler.clock());
+    GameManager<?> gameManager = mock(GameManager.class);
+    when(gameManager.gameId()).thenReturn("game1");
+    WebSocketSession viewer = mock(WebSocketSession.class);
+    SpectatorChannel channel = channels.join(gameManager, viewer);
+
+    channel.onEvent(new GameMessage(start, 1L, "game1", "Hello"));
+
+    scheduler.advanceBy(Duration.ofSeconds(29));
+    verify(viewer, never()).sendMessage(any());
+
+    scheduler.advanceBy(Duration.ofSeconds(2));
+    verify(viewer).sendMessage(any());
+    channels.shutdown();
+  }
+
+  @Test
+  void brokenViewerIsDropped() throws IOException {
+    SpectatorChannel channel = new SpectatorChannel("game1", mock(GameManager.class), mapper, Duration.ZERO);
+    WebSocketSession broken = mock(WebSocketSession.class);
+    doThrow(new IOException("gone")).when(broken).sendMessage(any());
+    channel.addViewer(broken);
+    channel.addViewer(mock(WebSocketSession.class));
+
+    channel.onEvent(new GameMessage(Instant.now(), 1L, "game1", "Hello"));
+
+    assertThat(channel.viewerCount()).isEqualTo(1);
+    verify(broken).close();
+  }
+
+  @Test
+  void channelIsRegisteredOnceAndRemovedWithTheLastViewer() {
+    GameManager<?> gameManager = mock(GameManager.class);
+    when(gameManager.gameId()).thenReturn("game1");
+    SpectatorChannels channels = new SpectatorChannels(mapper,
+        new GameServerProperties(GameServerProperties.ThreadModel.SINGLE_THREAD, 0, 0, 0),
+        mock(VirtualThreadManager.class), Clock.systemUTC());
+
+    WebSocketSession first = mock(WebSocketSession.class);
+    WebSocketSession second = mock(WebSocketSession.class);
+    SpectatorChannel channel = channels.join(gameManager, first);
+    assertThat(channels.join(gameManager, second)).isSameAs(channel);
+    verify(gameManager).addGameListener(channel);
+
+    channels.leave(channel, first);
+    verify(gameManager, never()).removeGameListener(channel);
+
+    channels.leave(channel, second);
+    verify(gameManager).removeGameListener(channel);
+    assertThat(channels.channel("game1")).isNull();
+  }
+}
@@ -0,0 +1,72 @@
+package org.homepoker.websocket;
+
+import org.homepoker.game.cash.CashGameManager;
+import org.homepoker.game.cash.CashGameService;
+import org.homepoker.model.game.GameStatus;
+import org.homepoker.model.game.GameType;
+import org.homepoker.model.game.cash.CashGame;
+import org.homepoker.model.user.User;
+import org.homepoker.test.BaseIntegrationTest;
+import org.homepoker.test.TestDataHelper;
+import org.homepoker.test.WebSocketLoadDriver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketLoadDriverIntegrationTest extends BaseIntegrationTest {
+
+  private static final int CONNECTIONS = 20;
+
+  @Autowired CashGameService cashGameService;
+
+  @Test
+  void everyPipelinedCommandIsAnsweredOverTheSocket() {
+    User owner = createUser(TestDataHelper.user("admin", "password", "Admin"));
+    String gameId = "ws-load-it-" + System.currentTimeMillis();
+    cashGameRepository.save(CashGame.builder()
+        .id(gameId)
+        .name("WebSocket Load IT")
+        .type(GameType.TEXAS_HOLDEM)
+        .status(GameStatus.SCHEDULED)
+        .startTime(Instant.now().plus(Duration.ofHours(1)))
+        .maxBuyIn(10000)
+        .smallBlind(25)
+        .bigBlind(50)
+        .owner(owner)
+        .build());
+    for (int i = 0; i < CONNECTIONS; i++) {
+      createUser(TestDataHelper.user("ws-load-" + i, "password", "Load " + i));
+    }
+
+    // The test profile disables the scheduled game loop, so tick the game here.
+    CashGameManager manager = cashGameService.getGameManger(gameId);
+    try (ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor()) {
+      ticker.scheduleAtFixedRate(manager::processGameTick, 0, 10, TimeUnit.MILLISECONDS);
+
+      WebSocketLoadDriver.Report report = new WebSocketLoadDriver(WebSocketLoadDriver.Options.builder()
+          .serverUri(URI.create("http://localhost:" + serverPort))
+          .gameId(gameId)
+          .connections(CONNECTIONS)
+          .pipelineDepth(3)
+          .userPrefix("ws-load-")
+          .password("password")
+          .warmup(Duration.ofMillis(250))
+          .duration(Duration.ofSeconds(1))
+          .build()).run();
+
+      assertThat(report.connections()).isEqualTo(CONNECTIONS);
+      assertThat(report.responses()).isPositive();
+      assertThat(report.rejected()).isZero();
+      assertThat(report.gaps()).isZero();
+      assertThat(report.latency().count()).isEqualTo(report.responses());
+    }
+  }
+}